@@ -19,8 +19,11 @@
 package org.apache.causeway.applib.services.filter;
 
 import java.io.Serializable;
+import java.util.Locale;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 
@@ -50,6 +53,75 @@ public static interface Tokens extends Serializable {
          *      The default implementation already handles the empty searchArg case.
          */
         boolean match(@Nullable String searchArg);
+
+        /**
+         * Returns {@link Tokens} that split given texts into words, and match a searchArg,
+         * if each of its words is a (case-insensitive) prefix of any of these words.
+         * <p>
+         * Unlike arbitrary {@link Tokens}, these have well known semantics, which allows viewers
+         * to index the rows of large tables, rather than matching each row on each search edit
+         * (if enabled via {@link CollectionFilterService#tokenIndex(Class)}).
+         *
+         * @see PrefixMatchingTokens
+         */
+        static PrefixMatchingTokens prefixMatching(final @Nullable String... texts) {
+            return PrefixMatchingTokens.of(texts);
+        }
+    }
+
+    /**
+     * {@link Tokens} that match a searchArg, if each of its words is a (case-insensitive) prefix of any
+     * of the words these were created from.
+     * <p>
+     * Words are separated by any character that is neither a letter nor a digit.
+     *
+     * @see Tokens#prefixMatching(String...)
+     */
+    public static final class PrefixMatchingTokens implements Tokens {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+        private final String[] words;
+
+        private PrefixMatchingTokens(final String[] words) {
+            this.words = words;
+        }
+
+        static PrefixMatchingTokens of(final @Nullable String... texts) {
+            return new PrefixMatchingTokens(texts==null
+                    ? new String[0]
+                    : Stream.of(texts)
+                        .flatMap(PrefixMatchingTokens::streamWords)
+                        .distinct()
+                        .toArray(String[]::new));
+        }
+
+        /**
+         * The distinct, lower-cased words, these tokens were created from.
+         */
+        public Stream<String> streamWords() {
+            return Stream.of(words);
+        }
+
+        /**
+         * Splits given (search) text into distinct, lower-cased words.
+         */
+        public static Stream<String> streamWords(final @Nullable String text) {
+            return _Strings.isNullOrEmpty(text)
+                    ? Stream.empty()
+                    : WORD_SEPARATOR.splitAsStream(text.toLowerCase(Locale.ROOT))
+                        .filter(_Strings::isNotEmpty)
+                        .distinct();
+        }
+
+        @Override
+        public boolean match(final @Nullable String searchArg) {
+            return streamWords(searchArg)
+                    .allMatch(searchWord->Stream.of(words).anyMatch(word->word.startsWith(searchWord)));
+        }
+
     }
 
     /**
@@ -99,6 +171,26 @@ default <T> BiPredicate<Tokens, String> tokenFilter(
         };
     }
 
+    // -- TOKEN INDEX
+
+    /**
+     * Whether viewers may index the {@link PrefixMatchingTokens} of the rows of a table
+     * of given {@code domainType}, to narrow down the candidates for the {@link #tokenFilter(Class)}.
+     * <p>
+     * Only rows whose {@link PrefixMatchingTokens} match the searchArg are ever passed to the
+     * {@link #tokenFilter(Class)}, hence this must only be enabled, if that filter
+     * never matches any rows beyond those (as is the case with the default implementation).
+     * <p>
+     * Disabled by default.
+     *
+     * @param domainType - entity or view-model type to be rendered as row in a table
+     * @apiNote guarded by a call to {@link #handles(Class)}
+     */
+    default boolean tokenIndex(
+            final @NonNull Class<?> domainType) {
+        return false;
+    }
+
     // -- SEARCH ARG SANITIZER
 
     /**
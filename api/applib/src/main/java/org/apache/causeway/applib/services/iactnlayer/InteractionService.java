@@ -205,6 +205,39 @@ default Try<Void> runAnonymousAndCatch(
         return callAnonymousAndCatch(runnable.toCallable());
     }
 
+    // -- PROPAGATION
+
+    /**
+     * Returns a {@link Callable} that runs given {@code callable} in its own interaction, using the
+     * {@link InteractionContext} that is current at the time this method is invoked.
+     *
+     * <p>
+     *     Intended for tasks that are forked onto other threads (eg. the subtasks of some structured concurrency
+     *     scope), as {@link InteractionLayer}s are bound to the execution context that opened them and are not
+     *     inherited by child tasks.
+     * </p>
+     *
+     * @param callable (non-null)
+     * @throws IllegalStateException if not {@link #isInInteraction() in an interaction}
+     *
+     * @see #propagateContext(ThrowingRunnable)
+     */
+    default <R> Callable<R> propagateContext(final @NonNull Callable<R> callable) {
+        final InteractionContext interactionContext = currentInteractionLayerElseFail().getInteractionContext();
+        return ()->call(interactionContext, callable);
+    }
+
+    /**
+     * Variant of {@link #propagateContext(Callable)} that takes a runnable.
+     *
+     * @param runnable (non-null)
+     * @throws IllegalStateException if not {@link #isInInteraction() in an interaction}
+     */
+    default Runnable propagateContext(final @NonNull ThrowingRunnable runnable) {
+        final InteractionContext interactionContext = currentInteractionLayerElseFail().getInteractionContext();
+        return ()->run(interactionContext, runnable);
+    }
+
     /**
      * Primarily for testing, closes the current interaction and opens a new one.
      *
@@ -216,10 +216,12 @@ public static <T> Can<T> ofArray(final @Nullable T[] array) {
             return empty();
         }
 
-        var nonNullElements = Stream.of(array)
-                .filter(_NullSafe::isPresent)
-                .collect(_CanFactory.toListWithSizeUpperBound(array.length));
-
+        var nonNullElements = _CanFactory.<T>arrayListWithSizeUpperBound(array.length);
+        for(var element : array) {
+            if(element!=null) {
+                nonNullElements.add(element);
+            }
+        }
         return _CanFactory.ofNonNullElements(nonNullElements);
     }
 
@@ -242,10 +244,12 @@ public static <T> Can<T> ofCollection(final @Nullable Collection<T> collection)
             return empty();
         }
 
-        var nonNullElements = collection.stream()
-                .filter(_NullSafe::isPresent)
-                .collect(_CanFactory.toListWithSizeUpperBound(inputSize));
-
+        var nonNullElements = _CanFactory.<T>arrayListWithSizeUpperBound(inputSize);
+        for(var element : collection) {
+            if(element!=null) {
+                nonNullElements.add(element);
+            }
+        }
         return _CanFactory.ofNonNullElements(nonNullElements);
     }
 
@@ -788,9 +792,10 @@ default boolean isCardinalityMultiple() {
 
     public static <T>
     Collector<T, ?, Can<T>> toCan() {
+        // the collected list is owned by the resulting Can, hence not copied (again)
         return Collectors.collectingAndThen(
-                Collectors.toList(),
-                Can::ofCollection);
+                Collectors.filtering(_NullSafe::isPresent, Collectors.toCollection(ArrayList<T>::new)),
+                _CanFactory::ofNonNullElements);
     }
 
     // -- CONVERSIONS
@@ -23,6 +23,7 @@
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -150,15 +151,32 @@ public Can<T> distinct(@NonNull final BiPredicate<T, T> equality) {
 
     @Override
     public Iterator<T> iterator(final int skip, final int limit) {
-        return Collections.unmodifiableList(elements).stream()
-            .skip(skip)
-            .limit(limit)
-            .iterator();
+        final int from = Math.max(0, skip);
+        final int to = (int) Math.min((long)from + Math.max(0, limit), size());
+        return new IndexedIterator(from, to);
     }
 
     @Override
     public Iterator<T> iterator() {
-        return Collections.unmodifiableList(elements).iterator();
+        return new IndexedIterator(0, size());
+    }
+
+    /**
+     * Read-only iterator over a range of the backing list; as such not wrapped by
+     * {@link Collections#unmodifiableList(List)}, saving allocations on hot paths.
+     */
+    private final class IndexedIterator implements Iterator<T> {
+        private int nextIndex;
+        private final int endExclusive;
+        IndexedIterator(final int startInclusive, final int endExclusive) {
+            this.nextIndex = startInclusive;
+            this.endExclusive = endExclusive;
+        }
+        @Override public boolean hasNext() { return nextIndex<endExclusive; }
+        @Override public T next() {
+            if(!hasNext()) { throw _Exceptions.noSuchElement(); }
+            return elements.get(nextIndex++);
+        }
     }
 
     @Override
@@ -199,16 +217,33 @@ public Can<T> filter(final @Nullable Predicate<? super T> predicate) {
         if(predicate==null) {
             return this; // identity
         }
-        var filteredElements =
-                stream()
-                .filter(predicate)
-                .collect(Collectors.toCollection(ArrayList::new));
+        final int size = size();
+        var filteredElements = _CanFactory.<T>arrayListWithSizeUpperBound(size);
+        for (int i = 0; i < size; i++) {
+            var element = elements.get(i);
+            if(predicate.test(element)) {
+                filteredElements.add(element);
+            }
+        }
 
         // optimization for the case when the filter accepted all
-        if(filteredElements.size()==size()) {
+        if(filteredElements.size()==size) {
             return this; // identity
         }
-        return Can.ofCollection(filteredElements);
+        return _CanFactory.ofNonNullElements(filteredElements);
+    }
+
+    @Override
+    public <R> Can<R> map(final @NonNull Function<? super T, R> mapper) {
+        final int size = size();
+        var mappedElements = new ArrayList<R>(size);
+        for (int i = 0; i < size; i++) {
+            var mapped = mapper.apply(elements.get(i));
+            if(mapped!=null) {
+                mappedElements.add(mapped);
+            }
+        }
+        return _CanFactory.ofNonNullElements(mappedElements);
     }
 
     @Override
@@ -235,9 +270,13 @@ public <R, Z> Stream<R> zipStream(@NonNull final Iterable<Z> zippedIn, final BiF
 
     @Override
     public Can<T> add(final @Nullable T element) {
-        return element!=null
-                ? Can.ofStream(Stream.concat(elements.stream(), Stream.of(element))) // append
-                : this;
+        if(element==null) {
+            return this;
+        }
+        var newElements = new ArrayList<T>(size() + 1);
+        newElements.addAll(elements);
+        newElements.add(element); // append
+        return Can_Multiple.of(newElements);
     }
 
     @Override
@@ -323,7 +362,7 @@ public Can<T> pickByIndex(final @Nullable IntStream intStream) {
 
     @Override
     public Can<T> subCan(final int startInclusive) {
-        return pickByIndex(IntStream.range(startInclusive, size()));
+        return subCan(startInclusive, size());
     }
 
     @Override
@@ -331,10 +370,17 @@ public Can<T> subCan(final int startInclusive, final int endExclusive) {
         final int upperBoundExclusive = endExclusive < 0
                 ? size() + endExclusive
                 : endExclusive;
-        if (startInclusive >= upperBoundExclusive) {
+        // out of bounds indices are ignored
+        final int from = Math.max(0, startInclusive);
+        final int to = Math.min(size(), upperBoundExclusive);
+        if (from >= to) {
             return Can.empty();
         }
-        return pickByIndex(IntStream.range(startInclusive, upperBoundExclusive));
+        if (from == 0
+                && to == size()) {
+            return this; // identity
+        }
+        return _CanFactory.ofNonNullElements(new ArrayList<>(elements.subList(from, to)));
     }
 
     @Override
@@ -446,8 +492,7 @@ public List<T> toArrayList() {
 
     @Override
     public Set<T> toSet() {
-        var set = _Sets.<T>newHashSet(); // serializable
-        set.addAll(elements);
+        var set = new HashSet<T>(elements); // serializable, pre-sized
         return Collections.unmodifiableSet(set); // serializable and immutable
     }
 
@@ -150,6 +150,11 @@ public void forEach(@NonNull final Consumer<? super T> action) {
         action.accept(this.element);
     }
 
+    @Override
+    public <R> Can<R> map(final @NonNull Function<? super T, R> mapper) {
+        return Can.ofNullable(mapper.apply(element));
+    }
+
     @Override
     public Can<T> filter(final @Nullable Predicate<? super T> predicate) {
         if(predicate==null) {
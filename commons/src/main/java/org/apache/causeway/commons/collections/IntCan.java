@@ -0,0 +1,203 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.collections;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.base._NullSafe;
+
+import lombok.NonNull;
+
+/**
+ * Immutable, serializable sequence of primitive {@code int}s, the primitive counterpart of {@link Can},
+ * in support of index heavy code, without boxing.
+ *
+ * @since 2.0 {@index}
+ */
+public final class IntCan implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final IntCan EMPTY = new IntCan(new int[0]);
+
+    private final int[] elements;
+
+    private IntCan(final int[] elements) {
+        this.elements = elements;
+    }
+
+    // -- FACTORIES
+
+    public static IntCan empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns an {@link IntCan} containing a copy of given {@code array}.
+     */
+    public static IntCan of(final @Nullable int... array) {
+        return _NullSafe.size(array)==0
+                ? EMPTY
+                : new IntCan(array.clone());
+    }
+
+    /**
+     * Returns an {@link IntCan} containing the elements of given {@code stream}.
+     * <p>
+     * <b>NOTE:</b> As side-effect, consumes given {@code stream}.
+     */
+    public static IntCan ofStream(final @Nullable IntStream stream) {
+        if(stream==null) {
+            return EMPTY;
+        }
+        var array = stream.toArray(); // owned, hence not copied
+        return array.length==0
+                ? EMPTY
+                : new IntCan(array);
+    }
+
+    // -- QUERIES
+
+    public int size() {
+        return elements.length;
+    }
+
+    public boolean isEmpty() {
+        return elements.length==0;
+    }
+
+    public boolean isNotEmpty() {
+        return elements.length!=0;
+    }
+
+    public OptionalInt get(final int index) {
+        return index>=0
+                && index<elements.length
+                ? OptionalInt.of(elements[index])
+                : OptionalInt.empty();
+    }
+
+    public boolean contains(final int value) {
+        for(int element : elements) {
+            if(element==value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // -- OPERATORS
+
+    public IntCan filter(final @Nullable IntPredicate predicate) {
+        if(predicate==null) {
+            return this; // identity
+        }
+        var filtered = new int[elements.length];
+        int count = 0;
+        for(int element : elements) {
+            if(predicate.test(element)) {
+                filtered[count++] = element;
+            }
+        }
+        return count==elements.length
+                ? this // identity
+                : count==0
+                    ? EMPTY
+                    : new IntCan(Arrays.copyOf(filtered, count));
+    }
+
+    public IntCan sorted() {
+        var sorted = elements.clone();
+        Arrays.sort(sorted);
+        return new IntCan(sorted);
+    }
+
+    /**
+     * Returns a {@link Can} with the elements mapped by given {@code mapper}.
+     * <p>
+     * <b>NOTE:</b> Any mapped elements equal to {@code null} are ignored and will not be contained
+     * in the resulting {@link Can}.
+     */
+    public <R> Can<R> mapToObj(final @NonNull IntFunction<R> mapper) {
+        var mapped = _CanFactory.<R>arrayListWithSizeUpperBound(elements.length);
+        for(int element : elements) {
+            var obj = mapper.apply(element);
+            if(obj!=null) {
+                mapped.add(obj);
+            }
+        }
+        return _CanFactory.ofNonNullElements(mapped);
+    }
+
+    /**
+     * Returns the elements of given {@code can} at the indexes contained in this {@link IntCan},
+     * ignoring out of bounds indexes.
+     */
+    public <T> Can<T> pickFrom(final @NonNull Can<T> can) {
+        return can.pickByIndex(elements);
+    }
+
+    // -- TRAVERSAL
+
+    public void forEach(final @NonNull IntConsumer action) {
+        for(int element : elements) {
+            action.accept(element);
+        }
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(elements);
+    }
+
+    // -- CONVERSIONS
+
+    /**
+     * Returns a copy of the elements as array.
+     */
+    public int[] toArray() {
+        return elements.clone();
+    }
+
+    // -- OBJECT CONTRACT
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof IntCan
+                && Arrays.equals(elements, ((IntCan)obj).elements);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(elements);
+    }
+
+    @Override
+    public String toString() {
+        return "IntCan" + Arrays.toString(elements);
+    }
+
+}
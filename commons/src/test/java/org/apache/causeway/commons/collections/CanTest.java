@@ -20,6 +20,7 @@
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
@@ -571,4 +572,17 @@ private static <T> void assertSetEquals(final Set<T> a, final Set<T> b) {
         assertTrue(_Sets.minus(b, a).isEmpty());
     }
 
+    @Test
+    void subCan_and_rangedIterator_ignoreOutOfBounds() {
+        var can = Can.of(1, 2, 3, 4);
+        assertEquals(Can.of(2, 3), can.subCan(1, 3));
+        assertEquals(Can.of(3, 4), can.subCan(2, 99));
+        assertEquals(Can.of(1, 2, 3), can.subCan(-1, -1));
+        assertEquals(Can.empty(), can.subCan(3, 2));
+        assertEquals(can, can.subCan(0));
+        assertIterableEquals(List.of(2, 3), (Iterable<Integer>) () -> can.iterator(1, 2));
+        assertIterableEquals(List.of(4), (Iterable<Integer>) () -> can.iterator(3, Integer.MAX_VALUE));
+        assertFalse(can.iterator(4, 1).hasNext());
+    }
+
 }
@@ -0,0 +1,76 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.commons.collections;
+
+import java.io.IOException;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.commons.internal.testing._SerializationTester;
+
+class IntCanTest {
+
+    @Test
+    void factories() {
+        assertSame(IntCan.empty(), IntCan.of());
+        assertSame(IntCan.empty(), IntCan.of((int[])null));
+        assertSame(IntCan.empty(), IntCan.ofStream(IntStream.empty()));
+        assertEquals(IntCan.of(0, 1, 2), IntCan.ofStream(IntStream.range(0, 3)));
+    }
+
+    @Test
+    void of_copiesGivenArray() {
+        var array = new int[] {1, 2};
+        var intCan = IntCan.of(array);
+        array[0] = 99;
+        assertArrayEquals(new int[] {1, 2}, intCan.toArray());
+    }
+
+    @Test
+    void queriesAndOperators() {
+        var intCan = IntCan.of(3, 1, 2);
+        assertEquals(3, intCan.size());
+        assertTrue(intCan.contains(1));
+        assertFalse(intCan.contains(4));
+        assertEquals(3, intCan.get(0).getAsInt());
+        assertTrue(intCan.get(3).isEmpty());
+        assertEquals(IntCan.of(1, 2, 3), intCan.sorted());
+        assertEquals(IntCan.of(1), intCan.filter(i->i<2));
+        assertSame(intCan, intCan.filter(i->true));
+        assertEquals(Can.of("3", "1", "2"), intCan.mapToObj(Integer::toString));
+    }
+
+    @Test
+    void pickFrom_ignoresOutOfBounds() {
+        assertEquals(Can.of("c", "a"), IntCan.of(2, 0, 5).pickFrom(Can.of("a", "b", "c")));
+    }
+
+    @Test
+    void serialization() throws ClassNotFoundException, IOException {
+        _SerializationTester.assertEqualsOnRoundtrip(IntCan.of(1, 2, 3));
+    }
+
+}
@@ -107,6 +107,7 @@
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
 
 /**
@@ -204,6 +205,65 @@ public static class Security {
          */
         private boolean actionsWithSafeSemanticsRequireOnlyViewingPermission = false;
 
+        private final Authorization authorization = new Authorization();
+        @Data
+        public static class Authorization {
+
+            private final DecisionCache decisionCache = new DecisionCache();
+            @Data
+            public static class DecisionCache {
+
+                public enum KeyedBy {
+                    /**
+                     * Decisions are cached per user (and its roles).
+                     *
+                     * <p>
+                     *     Safe for any <code>Authorizor</code>, including those that look up the user's
+                     *     permissions by name (secman, the simple realm).
+                     * </p>
+                     */
+                    USER,
+                    /**
+                     * Decisions are shared among all users with the same set of roles.
+                     *
+                     * <p>
+                     *     Only to be used if the configured <code>Authorizor</code> decides solely
+                     *     on the roles of the user.
+                     * </p>
+                     */
+                    ROLES
+                }
+
+                /**
+                 * Whether the <code>AuthorizationManager</code> should cache the decisions of the configured
+                 * <code>Authorizor</code>, across interactions.
+                 *
+                 * <p>
+                 *     Decisions are evaluated for every member on every render, which for some security backends
+                 *     involves building and parsing permission strings.
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * Whether decisions are cached per user or shared among users with the same roles.
+                 */
+                private KeyedBy keyedBy = KeyedBy.USER;
+
+                /**
+                 * Maximum number of decisions held; once exceeded, expired decisions are evicted first, then
+                 * arbitrary ones.
+                 */
+                private int maxSize = 10_000;
+
+                /**
+                 * How long a decision is retained, bounding the staleness after the authorization rules have
+                 * changed without the cache being invalidated explicitly.
+                 */
+                private Duration timeToLive = Duration.ofMinutes(5);
+            }
+        }
+
         private final Shiro shiro = new Shiro();
         @Data
         public static class Shiro {
@@ -1645,6 +1705,11 @@ public IntrospectionPolicy getPolicy() {
                  * Whether to perform metamodel introspection in parallel, intended to speed up bootstrapping.
                  *
                  * <p>
+                 *     If enabled, types are introspected on a dedicated work-stealing thread pool, each type as soon as
+                 *     its supertypes and the mixins contributing to it are introspected.
+                 * </p>
+                 *
+                 * <p>
                  *     For now this is <i>experimental</i>.
                  *     We recommend this is left as disabled (the default).
                  * </p>
@@ -1696,6 +1761,59 @@ public IntrospectionPolicy getPolicy() {
                  */
                 private boolean validateIncrementally = true;
 
+                @ToString.Exclude // not part of the metamodel snapshot's fingerprint
+                private final Snapshot snapshot = new Snapshot();
+                @Data
+                public static class Snapshot {
+
+                    public enum Mode {
+                        /**
+                         * Neither writes nor reads a metamodel snapshot.
+                         */
+                        NONE,
+                        /**
+                         * After a full introspection that passed validation, writes the snapshot to
+                         * {@link Snapshot#getOutputDirectory()}/{@link Snapshot#getLocation()}.
+                         * Intended to be used as part of the build.
+                         */
+                        WRITE,
+                        /**
+                         * Reads the snapshot from the class-path {@link Snapshot#getLocation() location}, and if it
+                         * matches the current types and programming model, skips the eager full introspection
+                         * and the validation on bootstrapping.
+                         */
+                        READ
+                    }
+
+                    /**
+                     * Whether an ahead-of-time metamodel snapshot is written or read (or neither, the default).
+                     *
+                     * <p>
+                     *     The snapshot records all types of a fully introspected and validated metamodel, along with
+                     *     fingerprints of their byte-code and companion resources (such as <code>.layout.xml</code>),
+                     *     of the programming model and of the <code>causeway.applib.annotation</code> and
+                     *     <code>causeway.core.meta-model</code> configuration.  If any of these do not match (or cannot
+                     *     be fingerprinted) on reading, the metamodel is introspected and validated as usual.
+                     * </p>
+                     *
+                     * <p>
+                     *     When restored from a snapshot, types are still introspected (lazily), but not validated.
+                     * </p>
+                     */
+                    private Mode mode = Mode.NONE;
+
+                    /**
+                     * The class-path resource the snapshot is read from, also the path (relative to
+                     * {@link #getOutputDirectory()}) it is written to.
+                     */
+                    private String location = "META-INF/causeway/metamodel.snapshot";
+
+                    /**
+                     * The directory the snapshot is written to, when in {@link Mode#WRITE} mode.
+                     */
+                    private String outputDirectory = "target/classes";
+                }
+
             }
 
             private final Validator validator = new Validator();
@@ -2179,6 +2297,84 @@ public static class EntityChangeTracker {
                  */
                 private boolean enabled = true;
             }
+
+            private final Transaction transaction = new Transaction();
+            @Data
+            public static class Transaction {
+
+                /**
+                 * Whether JDBC <code>javax.sql.DataSource</code>s are wrapped such that a transaction only obtains
+                 * a physical (pooled) connection on first actual persistence access.
+                 *
+                 * <p>
+                 *     Every interaction begins a transaction, even if it only renders a menu or a static page;
+                 *     if enabled, such interactions never borrow a connection from the pool.
+                 * </p>
+                 *
+                 * <p>
+                 *     Implied by <code>causeway.viewer.restfulobjects.read-only-transaction-for-safe-requests</code>.
+                 * </p>
+                 */
+                private boolean lazyConnection = false;
+
+                /**
+                 * Optionally, the bean name of a secondary <code>javax.sql.DataSource</code> (for example a read
+                 * replica), that read-only transactions are routed to.
+                 *
+                 * <p>
+                 *     Implies {@link #isLazyConnection() lazy connections}, as the route can only be decided once the
+                 *     transaction is set up.
+                 * </p>
+                 */
+                private Optional<String> readOnlyDataSource = Optional.empty();
+            }
+        }
+
+        private final Querydsl querydsl = new Querydsl();
+        @Data
+        public static class Querydsl {
+
+            private final AutoCompleteIndex autoCompleteIndex = new AutoCompleteIndex();
+            @Data
+            public static class AutoCompleteIndex {
+
+                /**
+                 * Whether the QueryDSL generated auto-complete (as enabled by
+                 * <code>@Property(queryDslAutoComplete=...)</code>) should be served from an in-memory trigram index,
+                 * rather than issuing a <code>LIKE '%term%'</code> query against the database on every key stroke.
+                 *
+                 * <p>
+                 *     An index is built (per entity type) on startup and kept current using the published entity
+                 *     property changes; hence only entities with
+                 *     <code>@DomainObject(entityChangePublishing=ENABLED)</code> are indexed.
+                 *     Search phrases with wildcards or additional predicates are still served by the database, as is
+                 *     any search until the index is built.
+                 * </p>
+                 *
+                 * <p>
+                 *     Requires {@link #isSingleNode() single-node} to also be set.
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * Confirms that the application runs as a single node and that no writes bypass the framework, as
+                 * required by the {@link #isEnabled() auto-complete index}.
+                 *
+                 * <p>
+                 *     Each node holds its own index, which only learns about the entity changes published on that
+                 *     same node; changes made by any other node (or by writing to the database directly) are not seen,
+                 *     so the index would go stale.  Unless set, the index is not used (a warning is logged if
+                 *     {@link #isEnabled() enabled}).
+                 * </p>
+                 */
+                private boolean singleNode = false;
+
+                /**
+                 * If non-empty, restricts indexing to the entities with given logical type names.
+                 */
+                private List<String> logicalTypeNames = new ArrayList<>();
+            }
         }
 
         private final Schema schema = new Schema();
@@ -2840,6 +3036,21 @@ public static class Authentication {
              */
             private boolean suppressDescribedByLinks = false;
 
+            /**
+             * If set, then <code>GET</code> (and <code>HEAD</code>) requests - which by the RO Spec are safe, that is
+             * property reads, collection renders and the invocation of actions with safe semantics - are executed
+             * within a read-only transaction.
+             *
+             * <p>
+             *     As the interaction has already begun a (read-write) transaction, this implies
+             *     <code>causeway.persistence.commons.transaction.lazy-connection</code>, so that only the read-only
+             *     transaction actually obtains a connection (rather than each request borrowing two). Read-only
+             *     transactions can also be routed to a secondary data source, see
+             *     <code>causeway.persistence.commons.transaction.read-only-data-source</code>.
+             * </p>
+             */
+            private boolean readOnlyTransactionForSafeRequests = false;
+
             /**
              * If set, then - should there be an interaction with an action, property or collection that is disabled -
              * then this will prevent the <code>disabledReason</code> reason from being added to the returned
@@ -2910,6 +3121,107 @@ public static class Authentication {
              */
             @javax.validation.constraints.Pattern(regexp="^http[s]?://[^:]+?(:\\d+)?/([^/]+/)*+$")
             private Optional<String> baseUri = Optional.empty();
+
+            @Getter
+            private final Swagger swagger = new Swagger();
+            @Data
+            public static class Swagger {
+
+                /**
+                 * Whether the generated Swagger (OpenAPI) specs are memoized, per visibility and format.
+                 *
+                 * <p>
+                 *     Only takes effect if the meta-model is fully introspected (as is the default in production),
+                 *     otherwise the spec is regenerated on every request, as it would not be complete.
+                 *     Memoized specs are discarded when the meta-model is reloaded.
+                 * </p>
+                 */
+                private boolean memoize = true;
+
+                /**
+                 * If specs are {@link #isMemoize() memoized}, whether all of them are rendered in the background
+                 * once the meta-model has been loaded, rather than on first request.
+                 */
+                private boolean preRender = true;
+            }
+
+            @Getter
+            private final Batch batch = new Batch();
+            @Data
+            public static class Batch {
+
+                public enum TransactionMode {
+                    /**
+                     * Each item is executed in its own transaction; a failing item is rolled back, while the
+                     * items before and after it take effect.
+                     */
+                    PER_ITEM,
+                    /**
+                     * All items are executed in a single transaction; the first failing item rolls back the
+                     * items before it, and those after it are skipped.
+                     */
+                    ALL_OR_NOTHING
+                }
+
+                /**
+                 * Whether the <code>/batch</code> resource is available, which executes an ordered list of
+                 * property reads, property updates and action invocations within a single HTTP request
+                 * (and interaction).
+                 *
+                 * <p>
+                 *     This is disabled by default.  If enabled, then the resource is non-standard with respect to
+                 *     the RO Spec v1.0.
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * The transaction mode, unless specified by the batch request itself.
+                 */
+                private TransactionMode transactionMode = TransactionMode.PER_ITEM;
+
+                /**
+                 * Maximum number of items accepted per batch request.
+                 */
+                private int maxItems = 1_000;
+            }
+
+            @Getter
+            private final RenderSnapshotCache renderSnapshotCache = new RenderSnapshotCache();
+            @Data
+            public static class RenderSnapshotCache {
+
+                /**
+                 * Whether the member metadata of rendered domain objects (which members are visible, the disabled
+                 * reasons of properties and collections and the representations of actions) is cached, so that
+                 * repeated requests for the same object only need to re-read its property values.
+                 *
+                 * <p>
+                 *     Snapshots are kept per object, entity version, user, roles and locale; hence only entities that
+                 *     have a version are cached. Hide and disable supporting methods that depend on anything other than
+                 *     the state of the object itself (the clock, other objects) should have their types listed as
+                 *     {@link #getNonCacheableLogicalTypeNames() non-cacheable}.
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * Maximum number of snapshots held; once exceeded, expired snapshots are evicted first, then
+                 * arbitrary ones.
+                 */
+                private int maxSize = 10_000;
+
+                /**
+                 * How long a snapshot is retained, bounding the staleness of member metadata that does not depend
+                 * on the state of the object alone.
+                 */
+                private Duration timeToLive = Duration.ofMinutes(5);
+
+                /**
+                 * Logical type names of domain objects, whose member metadata must never be cached.
+                 */
+                private List<String> nonCacheableLogicalTypeNames = new ArrayList<>();
+            }
         }
 
         private final Wicket wicket = new Wicket();
@@ -3372,6 +3684,55 @@ public static class DevelopmentUtilities {
                 private boolean enable = false;
             }
 
+            private final PageSerializer pageSerializer = new PageSerializer();
+            @Data
+            public static class PageSerializer {
+
+                /**
+                 * Whether pages are serialized into the page store using the Causeway specific serializer,
+                 * which writes compact class descriptors for the viewer's models and mementos and de-duplicates
+                 * bookmarks and logical types within a page.
+                 *
+                 * <p>
+                 *     Disabled by default, in which case Wicket's default Java serialization is used.  Either way,
+                 *     pages written by the default serializer can still be read, whereas pages written by the
+                 *     Causeway specific serializer before its known types changed (eg. after a redeploy) are
+                 *     treated as expired.
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * Whether serialized pages of at least {@link #getCompressionThreshold()} bytes
+                 * are additionally compressed, trading CPU for a smaller page store.
+                 */
+                private boolean compress = false;
+
+                /**
+                 * The minimum size (in bytes) of a serialized page for it to be compressed,
+                 * if {@link #isCompress() compression} is enabled.
+                 */
+                private int compressionThreshold = 16 * 1024;
+            }
+
+            private final Select2 select2 = new Select2();
+            @Data
+            public static class Select2 {
+
+                /**
+                 * The number of choices sent to the browser per request, for drop-downs of choices and
+                 * auto-completes; further pages are fetched as the user scrolls down the drop-down.
+                 *
+                 * <p>
+                 *     Auto-complete supporting methods of properties may declare additional
+                 *     <code>int offset, int limit</code> parameters (following the search argument),
+                 *     to only fetch the requested page.
+                 * </p>
+                 */
+                @Min(1)
+                private int pageSize = 50;
+            }
+
             private final RememberMe rememberMe = new RememberMe();
             @Data
             public static class RememberMe {
@@ -3857,6 +4218,61 @@ public enum MultipleExecutionStrategy {
     @Data
     public static class Extensions {
 
+        /**
+         * Retention settings shared by the append-only log extensions (<i>audittrail</i>, <i>commandlog</i>,
+         * <i>executionlog</i> and <i>sessionlog</i>), as used by their respective purge jobs.
+         *
+         * <p>
+         *     Entries older than {@link #getRetainFor() retainFor} are removed using set-based deletes, one
+         *     {@link #getPartition() partition} (time slice) per transaction, oldest first.
+         * </p>
+         */
+        @Data
+        public static class LogRetention {
+
+            /**
+             * Whether the purge job removes anything at all.
+             *
+             * <p>
+             *     Disabled by default, so that entries are retained indefinitely unless explicitly configured otherwise.
+             * </p>
+             */
+            private boolean enabled = false;
+
+            /**
+             * How long entries are retained before they become eligible for removal.
+             */
+            private Duration retainFor = Duration.ofDays(90);
+
+            /**
+             * The width of each time slice that is removed within its own transaction.
+             *
+             * <p>
+             *     Keeping this small bounds the number of rows removed (and archived) per transaction, which in
+             *     turn bounds the size of the database's transaction log.
+             * </p>
+             */
+            private Duration partition = Duration.ofHours(1);
+
+            /**
+             * If set, entries are first archived to this directory (as gzip compressed newline-delimited JSON,
+             * one file per page) before they are removed.
+             */
+            private Optional<String> archiveDirectory = Optional.empty();
+
+            /**
+             * If {@link #getArchiveDirectory() archiving}, the maximum number of entries that are read into memory,
+             * archived and then removed within a single transaction.
+             *
+             * <p>
+             *     Each partition is read in pages of (at most) this size, oldest first, so that a busy partition
+             *     is never loaded in its entirety.  A page is only ever exceeded if more than this many entries
+             *     share the same timestamp.
+             * </p>
+             */
+            private int archivePageSize = 1000;
+        }
+
         private final AuditTrail auditTrail = new AuditTrail();
         @Data
         public static class AuditTrail {
@@ -3874,12 +4290,25 @@ public enum PersistPolicy {
                  * Persist to the audit trail.  This is the default.
                  */
                 ENABLED,
+                /**
+                 * Persist to the audit trail, however rather than persisting each {@code AuditTrailEntry} through the ORM,
+                 * accumulate them for the transaction and write them using batched JDBC inserts just before it
+                 * commits.
+                 *
+                 * <p>
+                 *     Bypasses the ORM's lifecycle and change tracking, so is intended for high-throughput
+                 *     scenarios.  Falls back to {@link #ENABLED} if batching is not possible (for example, if the
+                 *     transaction was not initiated by the framework).
+                 * </p>
+                 */
+                BATCHED,
                 /**
                  * Do <i>NOT</i> persist to the audit trail.
                  */
                 DISABLED;
 
-                public boolean isEnabled() { return this == ENABLED; }
+                public boolean isEnabled() { return this != DISABLED; }
+                public boolean isBatched() { return this == BATCHED; }
                 public boolean isDisabled() { return this == DISABLED; }
             }
 
@@ -3896,6 +4325,11 @@ public enum PersistPolicy {
              * </p>
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
+
+            /**
+             * Retention of {@code AuditTrailEntry}s, as applied by the {@code PurgeAuditTrailJob}.
+             */
+            private final LogRetention retention = new LogRetention();
         }
 
         private final CommandLog commandLog = new CommandLog();
@@ -3938,6 +4372,11 @@ public enum PersistPolicy {
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
 
+            /**
+             * Retention of {@code CommandLogEntry}s, as applied by the {@code PurgeCommandLogJob}.
+             */
+            private final LogRetention retention = new LogRetention();
+
             private final RunBackgroundCommands runBackgroundCommands = new RunBackgroundCommands();
             @Data
             public static class RunBackgroundCommands {
@@ -4176,12 +4615,25 @@ public enum PersistPolicy {
                  * Persist to the execution log.  This is the default.
                  */
                 ENABLED,
+                /**
+                 * Persist to the execution log, however rather than persisting each {@code ExecutionLogEntry} through the ORM,
+                 * accumulate them for the transaction and write them using batched JDBC inserts just before it
+                 * commits.
+                 *
+                 * <p>
+                 *     Bypasses the ORM's lifecycle and change tracking, so is intended for high-throughput
+                 *     scenarios.  Falls back to {@link #ENABLED} if batching is not possible (for example, if the
+                 *     transaction was not initiated by the framework).
+                 * </p>
+                 */
+                BATCHED,
                 /**
                  * Do <i>NOT</i> persist to the execution log.
                  */
                 DISABLED;
 
-                public boolean isEnabled() { return this == ENABLED; }
+                public boolean isEnabled() { return this != DISABLED; }
+                public boolean isBatched() { return this == BATCHED; }
                 public boolean isDisabled() { return this == DISABLED; }
             }
 
@@ -4198,6 +4650,11 @@ public enum PersistPolicy {
              * </p>
              */
             private PersistPolicy persist = PersistPolicy.ENABLED;
+
+            /**
+             * Retention of {@code ExecutionLogEntry}s, as applied by the {@code PurgeExecutionLogJob}.
+             */
+            private final LogRetention retention = new LogRetention();
         }
 
         private final ExecutionOutbox executionOutbox = new ExecutionOutbox();
@@ -4253,6 +4710,151 @@ public enum PersistPolicy {
              */
             private ExecutionOutbox.PersistPolicy persist = ExecutionOutbox.PersistPolicy.ENABLED;
 
+            private final Dispatcher dispatcher = new Dispatcher();
+            @Valid
+            @Data
+            public static class Dispatcher {
+
+                /**
+                 * Whether the in-process dispatcher is enabled, which pushes outbox entries to the configured
+                 * sinks (webhook, NDJSON file, JDBC table or any custom sink), as an alternative to having
+                 * consumers poll the REST API.
+                 *
+                 * <p>
+                 *     Delivery is at-least-once, so sinks (and their consumers) must be idempotent with respect
+                 *     to an entry's <code>(interactionId, sequence)</code>.  The dispatcher should run on a single
+                 *     node only.
+                 * </p>
+                 */
+                private boolean enabled = false;
+
+                /**
+                 * The maximum number of entries read and delivered to a sink in one go.
+                 */
+                @Min(value = 1)
+                @Max(value = 10000)
+                private int batchSize = 100;
+
+                /**
+                 * How often the outbox is read for entries not yet delivered.
+                 */
+                private Duration pollInterval = Duration.ofSeconds(1);
+
+                /**
+                 * Entries younger than this are not yet dispatched.
+                 *
+                 * <p>
+                 *     An entry's timestamp is that of the start of its execution, so an execution committing after
+                 *     a later one would otherwise end up behind a sink's high-water mark.
+                 * </p>
+                 */
+                private Duration settleTime = Duration.ofSeconds(5);
+
+                /**
+                 * How often the {@link #getRescanWindow() rescan window} behind each sink's high-water mark is
+                 * read again, to pick up entries whose transaction took longer than the
+                 * {@link #getSettleTime() settle time} to commit.
+                 *
+                 * <p>
+                 *     Only entries not yet delivered to the sink are delivered, so entries still present
+                 *     (for example, because another sink is backing off) are not delivered again.
+                 * </p>
+                 */
+                private Duration rescanInterval = Duration.ofMinutes(5);
+
+                /**
+                 * How far behind each sink's high-water mark entries are rescanned, hence the longest time
+                 * a transaction may take to commit beyond the {@link #getSettleTime() settle time}, for its
+                 * entry to still be delivered (without a restart).
+                 */
+                private Duration rescanWindow = Duration.ofMinutes(5);
+
+                /**
+                 * The number of consecutive failed attempts to deliver a batch to a sink, after which its
+                 * entries are delivered one by one, with any still failing being dead-lettered.
+                 */
+                @Min(value = 1)
+                private int maxAttempts = 10;
+
+                /**
+                 * The delay before the first retry of a failed delivery, doubling with each subsequent
+                 * attempt up to the {@link #getMaxBackoff() max backoff}.
+                 */
+                private Duration initialBackoff = Duration.ofSeconds(1);
+
+                private Duration maxBackoff = Duration.ofMinutes(5);
+
+                /**
+                 * Whether entries are deleted from the outbox once delivered to (or dead-lettered by) all sinks.
+                 *
+                 * <p>
+                 *     Disable if consumers additionally poll the REST API.
+                 * </p>
+                 */
+                private boolean deleteDelivered = true;
+
+                /**
+                 * Directory to append dead-lettered entries to, as one <code>&lt;sinkName&gt;.dead-letters.ndjson</code>
+                 * file per sink.
+                 *
+                 * <p>
+                 *     Required if the dispatcher is {@link #isEnabled() enabled} and
+                 *     {@link #isDeleteDelivered() deletes delivered} entries, as dead-lettered entries would
+                 *     otherwise be lost.  Entries that could not be written are kept in the outbox.
+                 * </p>
+                 */
+                private String deadLetterDirectory;
+
+                private final Webhook webhook = new Webhook();
+                @Data
+                public static class Webhook {
+                    /**
+                     * URL to <code>POST</code> each batch to, as an <code>InteractionsDto</code> XML document.
+                     * The sink is enabled if set.
+                     */
+                    private String url;
+
+                    private Duration connectTimeout = Duration.ofSeconds(5);
+
+                    private Duration requestTimeout = Duration.ofSeconds(30);
+
+                    /**
+                     * Additional request headers, eg. for authentication.
+                     */
+                    private Map<String, String> headers = new LinkedHashMap<>();
+                }
+
+                private final Ndjson ndjson = new Ndjson();
+                @Data
+                public static class Ndjson {
+                    /**
+                     * File to append each entry to, as a line of JSON.  The sink is enabled if set.
+                     */
+                    private String path;
+
+                    /**
+                     * Whether to force each batch to the storage device before acknowledging it.
+                     */
+                    private boolean fsync = true;
+                }
+
+                private final Jdbc jdbc = new Jdbc();
+                @Data
+                public static class Jdbc {
+                    /**
+                     * (Optionally schema qualified) table to upsert each entry into, using the application's
+                     * <code>DataSource</code>.  The sink is enabled if set.
+                     *
+                     * <p>
+                     *     The table is expected to have the columns <code>interactionId</code>, <code>sequence</code>,
+                     *     <code>executionType</code>, <code>timestamp</code>, <code>username</code>, <code>target</code>,
+                     *     <code>logicalMemberIdentifier</code> and <code>interactionDto</code> (XML).
+                     * </p>
+                     */
+                    private String table;
+                }
+            }
+
         }
 
         private final LayoutLoaders layoutLoaders = new LayoutLoaders();
@@ -4553,6 +5155,11 @@ public enum UserMenuMeActionPolicy {
         @Data
         public static class SessionLog {
             boolean autoLogoutOnRestart = true;
+
+            /**
+             * Retention of {@code SessionLogEntry}s, as applied by the {@code PurgeSessionLogJob}.
+             */
+            private final LogRetention retention = new LogRetention();
         }
 
         private final Titlecache titlecache = new Titlecache();
@@ -112,6 +112,10 @@ public void postEventForAction(
 
         _Assert.assertTypeIsInstanceOf(eventType, ActionDomainEvent.class);
 
+        if(isSkippable(phase, eventType)) {
+            return null;
+        }
+
         try {
             final ActionDomainEvent<S> event;
 
@@ -233,7 +237,7 @@ private static List<Object> asList(final Object[] arguments) {
     }
 
     // -- postEventForProperty, newPropertyInteraction
-    public <S, T> PropertyDomainEvent<S, T> postEventForProperty(
+    public @Nullable <S, T> PropertyDomainEvent<S, T> postEventForProperty(
             final AbstractDomainEvent.Phase phase,
             final Class<? extends PropertyDomainEvent<S, T>> eventType,
             final PropertyDomainEvent<S, T> existingEvent,
@@ -244,6 +248,10 @@ public <S, T> PropertyDomainEvent<S, T> postEventForProperty(
 
         _Assert.assertTypeIsInstanceOf(eventType, PropertyDomainEvent.class);
 
+        if(isSkippable(phase, eventType)) {
+            return null;
+        }
+
         try {
             final PropertyDomainEvent<S, T> event;
 
@@ -333,7 +341,7 @@ static <S,T> PropertyDomainEvent<S,T> newPropertyDomainEvent(
 
     // -- postEventForCollection, newCollectionDomainEvent
 
-    public <S, T> CollectionDomainEvent<S, T> postEventForCollection(
+    public @Nullable <S, T> CollectionDomainEvent<S, T> postEventForCollection(
             final AbstractDomainEvent.Phase phase,
             final Class<? extends CollectionDomainEvent<S, T>> eventType,
             final FacetHolder facetHolder,
@@ -341,6 +349,10 @@ public <S, T> CollectionDomainEvent<S, T> postEventForCollection(
 
         _Assert.assertTypeIsInstanceOf(eventType, CollectionDomainEvent.class);
 
+        if(isSkippable(phase, eventType)) {
+            return null;
+        }
+
         try {
             final CollectionDomainEvent<S, T> event;
 
@@ -410,6 +422,20 @@ <S, T> CollectionDomainEvent<S, T> newCollectionDomainEvent(
         throw new NoSuchMethodException(type.getName()+".<init>(...)");
     }
 
+    // -- HELPER
+
+    /**
+     * For the HIDE, DISABLE and VALIDATE phases, there is no need to even create an event,
+     * if nobody is listening.
+     * (Events of the EXECUTING and EXECUTED phases are always created, as the framework itself relies on them.)
+     */
+    private boolean isSkippable(
+            final AbstractDomainEvent.Phase phase,
+            final Class<?> eventType) {
+        return !phase.isExecutingOrLater()
+                && !metamodelEventService.hasListeners(eventType);
+    }
+
     private static <T> T invokeConstructor(
             final @NonNull Constructor<T> constructor,
             final Object... args){
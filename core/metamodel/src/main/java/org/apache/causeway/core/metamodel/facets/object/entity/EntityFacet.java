@@ -19,6 +19,8 @@
 package org.apache.causeway.core.metamodel.facets.object.entity;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -141,6 +143,21 @@ default Bookmark bookmarkForElseFail(final @Nullable Object pojo) {
      */
     Optional<Object> fetchByBookmark(Bookmark bookmark);
 
+    /**
+     * The entity pojos corresponding to given {@link Bookmark}s, keyed by the latter;
+     * those that could not be found are not contained.
+     * <p>
+     * Persistence stacks are encouraged to override, fetching in bulk;
+     * the default fetches one by one.
+     */
+    default Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+        var pojoByBookmark = new HashMap<Bookmark, Object>(bookmarks.size());
+        bookmarks.forEach(bookmark->
+            fetchByBookmark(bookmark)
+                .ifPresent(pojo->pojoByBookmark.put(bookmark, pojo)));
+        return pojoByBookmark;
+    }
+
     Can<ManagedObject> fetchByQuery(Query<?> query);
 
     void persist(Object pojo);
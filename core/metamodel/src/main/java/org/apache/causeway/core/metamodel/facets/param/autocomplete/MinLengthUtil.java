@@ -35,9 +35,23 @@ public static int determineMinLength(final ResolvedMethod method) {
             return MIN_LENGTH_DEFAULT;
         }
 
-        var lastParam = method.method().getParameters()[method.paramCount()-1];
+        return determineMinLength(method, method.paramCount()-1);
+    }
+
+    /**
+     * Finds the value of the minimum length, from the {@link MinLength} annotation
+     * on the parameter (of the supplied method) with given index.
+     */
+    public static int determineMinLength(final ResolvedMethod method, final int paramIndex) {
+        if(method == null
+                || paramIndex < 0
+                || paramIndex >= method.paramCount()) {
+            return MIN_LENGTH_DEFAULT;
+        }
+
+        var searchParam = method.method().getParameters()[paramIndex];
 
-        for(Annotation annotation: lastParam.getAnnotations()) {
+        for(Annotation annotation: searchParam.getAnnotations()) {
             if(annotation instanceof MinLength) {
                 return ((MinLength) annotation).value();
             }
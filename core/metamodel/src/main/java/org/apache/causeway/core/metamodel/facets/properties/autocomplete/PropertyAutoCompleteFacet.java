@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.core.metamodel.facets.properties.autocomplete;
 
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.collections._Arrays;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.facetapi.Facet;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
@@ -43,8 +46,37 @@ public Object[] autoComplete(
             final ManagedObject inObject,
             final String searchArg,
             final InteractionInitiatedBy interactionInitiatedBy);
+
+    /**
+     * Gets the requested page of available auto-complete choices for this property.
+     *
+     * <p>
+     * Unless the supporting method itself declares <code>offset</code> and <code>limit</code> parameters,
+     * all choices are fetched and then sliced.
+     */
+    public default Object[] autoComplete(
+            final ManagedObject inObject,
+            final String searchArg,
+            final int offset,
+            final int limit,
+            final InteractionInitiatedBy interactionInitiatedBy) {
+        return slice(autoComplete(inObject, searchArg, interactionInitiatedBy), offset, limit);
+    }
+
     /**
      * The minimum number of characters that need to be entered.
      */
     public int getMinLength();
+
+    /**
+     * Returns (at most) {@code limit} choices starting at {@code offset}.
+     */
+    static @Nullable Object[] slice(final @Nullable Object[] choices, final int offset, final int limit) {
+        if(choices == null) {
+            return null;
+        }
+        final int from = Math.min(Math.max(0, offset), choices.length);
+        final int to = (int) Math.min((long)from + Math.max(0, limit), choices.length);
+        return _Arrays.subArray(choices, from, to);
+    }
 }
@@ -18,15 +18,20 @@
  */
 package org.apache.causeway.core.metamodel.facets.properties.autocomplete.method;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiConsumer;
 
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.reflection._GenericResolver.ResolvedMethod;
 import org.apache.causeway.commons.internal.reflection._MethodFacades.MethodFacade;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
 import org.apache.causeway.core.metamodel.facets.ImperativeFacet;
 import org.apache.causeway.core.metamodel.facets.param.autocomplete.MinLengthUtil;
+import org.apache.causeway.core.metamodel.facets.properties.autocomplete.PropertyAutoCompleteFacet;
 import org.apache.causeway.core.metamodel.facets.properties.autocomplete.PropertyAutoCompleteFacetAbstract;
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.object.MmInvokeUtils;
@@ -42,6 +47,7 @@
     @Getter(onMethod_ = {@Override}) private final @NonNull Can<MethodFacade> methods;
     private final Class<?> choicesClass;
     private final int minLength;
+    private final boolean paged;
 
     public PropertyAutoCompleteFacetMethod(
             final ResolvedMethod method,
@@ -50,7 +56,8 @@ public PropertyAutoCompleteFacetMethod(
         super(holder);
         this.methods = ImperativeFacet.singleRegularMethod(method);
         this.choicesClass = choicesClass;
-        this.minLength = MinLengthUtil.determineMinLength(method);
+        this.minLength = MinLengthUtil.determineMinLength(method, 0);
+        this.paged = method.paramCount() == 3;
     }
 
     @Override
@@ -68,9 +75,61 @@ public Object[] autoComplete(
             final ManagedObject owningAdapter,
             final String searchArg,
             final InteractionInitiatedBy interactionInitiatedBy) {
+        return paged
+                ? autoComplete(owningAdapter, searchArg, 0, Integer.MAX_VALUE, interactionInitiatedBy)
+                : visiblePojos(
+                        MmInvokeUtils.invokeWithSingleArgPojo(method(), owningAdapter, searchArg),
+                        interactionInitiatedBy);
+    }
+
+    @Override
+    public Object[] autoComplete(
+            final ManagedObject owningAdapter,
+            final String searchArg,
+            final int offset,
+            final int limit,
+            final InteractionInitiatedBy interactionInitiatedBy) {
+        if(!paged) {
+            return PropertyAutoCompleteFacet.slice(
+                    autoComplete(owningAdapter, searchArg, interactionInitiatedBy), offset, limit);
+        }
+        // offset and limit refer to visible choices, but visibility can only be filtered after invoking the
+        // method; hence keep fetching (from the start) until the requested page is full or the method runs dry
+        final long visibleRequired = (long)offset + limit;
+        final List<Object> visible = new ArrayList<>();
+        int rawOffset = 0;
+        while(visible.size() < visibleRequired) {
+            final int rawLimit = (int) Math.min(visibleRequired - visible.size(), Integer.MAX_VALUE);
+            var rawChoices = MmInvokeUtils.invokeWithPojoArgs(method(), owningAdapter, searchArg, rawOffset, rawLimit);
+            final long rawCount = _NullSafe.streamAutodetect(rawChoices).count();
+            _NullSafe.stream(visiblePojos(rawChoices, interactionInitiatedBy))
+                .forEach(visible::add);
+            if(rawCount < rawLimit) {
+                break; // no more choices
+            }
+            rawOffset += rawLimit;
+        }
+        return PropertyAutoCompleteFacet.slice(visible.toArray(), offset, limit);
+    }
+
+    @Override
+    public void visitAttributes(final BiConsumer<String, Object> visitor) {
+        super.visitAttributes(visitor);
+        ImperativeFacet.visitAttributes(this, visitor);
+        visitor.accept("choicesType", choicesClass);
+        visitor.accept("minLength", minLength);
+        visitor.accept("paged", paged);
+    }
+
+    // -- HELPER
 
-        var method = methods.getFirstElseFail().asMethodElseFail(); // expected regular
-        final Object collectionOrArray = MmInvokeUtils.invokeWithSingleArgPojo(method.method(), owningAdapter, searchArg);
+    private Method method() {
+        return methods.getFirstElseFail().asMethodElseFail().method(); // expected regular
+    }
+
+    private Object[] visiblePojos(
+            final Object collectionOrArray,
+            final InteractionInitiatedBy interactionInitiatedBy) {
         if (collectionOrArray == null) {
             return null;
         }
@@ -83,12 +142,4 @@ public Object[] autoComplete(
         return visiblePojos;
     }
 
-    @Override
-    public void visitAttributes(final BiConsumer<String, Object> visitor) {
-        super.visitAttributes(visitor);
-        ImperativeFacet.visitAttributes(this, visitor);
-        visitor.accept("choicesType", choicesClass);
-        visitor.accept("minLength", minLength);
-    }
-
 }
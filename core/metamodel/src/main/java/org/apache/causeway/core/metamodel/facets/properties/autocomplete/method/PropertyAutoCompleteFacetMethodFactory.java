@@ -18,8 +18,11 @@
  */
 package org.apache.causeway.core.metamodel.facets.properties.autocomplete.method;
 
+import java.util.stream.Stream;
+
 import javax.inject.Inject;
 
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.core.config.progmodel.ProgrammingModelConstants.MemberSupportPrefix;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.core.metamodel.facetapi.FeatureType;
@@ -29,6 +32,8 @@
 public class PropertyAutoCompleteFacetMethodFactory
 extends MemberSupportFacetFactoryAbstract {
 
+    private static final Class<?>[] PAGED_SEARCH_ARGS = new Class<?>[] {String.class, int.class, int.class};
+
     @Inject
     public PropertyAutoCompleteFacetMethodFactory(final MetaModelContext mmc) {
         super(mmc, FeatureType.PROPERTIES_ONLY, MemberSupportPrefix.AUTO_COMPLETE);
@@ -42,10 +47,17 @@ protected void search(
         var getterOrMixinMain = processMethodContext.getMethod();
         var getterType = getterOrMixinMain.getReturnType();
 
-        methodFinder
-        .streamMethodsMatchingSignature(STRING_ARG)
-        .peek(processMethodContext::removeMethod)
-        .forEach(autoCompleteMethod->{
+        // paged variant (String search, int offset, int limit) takes precedence,
+        // but any String-only overload is a supporting method as well, hence must not be left behind
+        var autoCompleteMethods = Stream.concat(
+                methodFinder.streamMethodsMatchingSignature(PAGED_SEARCH_ARGS),
+                methodFinder.streamMethodsMatchingSignature(STRING_ARG))
+        .collect(Can.toCan());
+
+        autoCompleteMethods.forEach(processMethodContext::removeMethod);
+
+        autoCompleteMethods.getFirst()
+        .ifPresent(autoCompleteMethod->{
             addFacet(
                     new PropertyAutoCompleteFacetMethod(
                             autoCompleteMethod, getterType, processMethodContext.getFacetHolder()));
@@ -111,6 +111,10 @@ public static Object invokeWithSingleArgPojo(final Method method, final ManagedO
         return CanonicalInvoker.invoke(method, MmUnwrapUtils.single(adapter), new Object[] {arg0});
     }
 
+    public static Object invokeWithPojoArgs(final Method method, final ManagedObject adapter, final Object... args) {
+        return CanonicalInvoker.invoke(method, MmUnwrapUtils.single(adapter), args);
+    }
+
     public static Object invokeWithArgs(final Method method, final ManagedObject adapter, final Can<ManagedObject> argumentAdapters) {
         return CanonicalInvoker.invoke(method, MmUnwrapUtils.single(adapter), MmUnwrapUtils.multipleAsArray(argumentAdapters));
     }
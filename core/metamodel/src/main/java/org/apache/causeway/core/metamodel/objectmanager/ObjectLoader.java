@@ -22,6 +22,7 @@
 import java.util.Objects;
 import java.util.Optional;
 
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.handler.ChainOfResponsibility;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.commons.internal.ioc._SingletonBeanProvider;
@@ -39,6 +40,14 @@ public interface ObjectLoader {
 
     ManagedObject loadObject(@NonNull ProtoObject objectLoadRequest);
 
+    /**
+     * Hint, that given objects are about to be loaded, allowing implementations to
+     * fetch these in bulk ahead of time. The default does nothing.
+     */
+    default void prefetch(final @NonNull Can<ProtoObject> objectLoadRequests) {
+        // no-op
+    }
+
     // -- HANDLER
 
     static interface Handler
@@ -96,6 +96,47 @@ public default ManagedObject loadObject(final ProtoObject objectLoadRequest) {
         return getObjectLoader().loadObject(objectLoadRequest);
     }
 
+    /**
+     * Hint, that the objects of given {@code bookmarks} are about to be loaded (within the current transaction),
+     * allowing entities to be fetched in bulk (per logical type) ahead of time.
+     * <p>
+     * Supports alias lookup.
+     * @see ObjectLoader#prefetch(Can)
+     */
+    default void prefetch(final @Nullable Iterable<Bookmark> bookmarks) {
+        var specLoader = getMetaModelContext().getSpecificationLoader();
+        var objectLoadRequests = _NullSafe.stream(bookmarks)
+                .map(bookmark->ProtoObject.resolve(specLoader, bookmark))
+                .flatMap(Optional::stream)
+                .collect(Can.toCan());
+        if(objectLoadRequests.isCardinalityMultiple()) {
+            getObjectLoader().prefetch(objectLoadRequests);
+        }
+    }
+
+    /**
+     * Counters of the transaction scoped entity identity map, as populated by {@link #prefetch(Iterable)}.
+     */
+    default PrefetchStatistics getPrefetchStatistics() {
+        return PrefetchStatistics.of(0L, 0L, 0L, 0L);
+    }
+
+    @lombok.Value(staticConstructor = "of")
+    public static class PrefetchStatistics {
+        /** entities fetched in bulk ahead of time */
+        long prefetched;
+        /** prefetched entities that were subsequently loaded */
+        long prefetchHits;
+        /** entity loads served by the identity map */
+        long hits;
+        /** entity loads delegated to the persistence layer */
+        long misses;
+        /** prefetched entities that were not (yet) loaded */
+        public long getWasted() {
+            return prefetched - prefetchHits;
+        }
+    }
+
     /**
      * Recovers an object (graph) from given {@code bookmark}.
      * <p>
@@ -61,7 +61,7 @@ public class ObjectManagerDefault implements ObjectManager {
     @PostConstruct
     public void init() {
         objectCreator = ObjectCreator.createDefault(metaModelContext);
-        objectLoader = ObjectLoader.createDefault(metaModelContext);
+        objectLoader = new _PrefetchingObjectLoader(metaModelContext, ObjectLoader.createDefault(metaModelContext));
         objectBulkLoader = ObjectBulkLoader.createDefault(metaModelContext);
     }
 
@@ -91,7 +91,12 @@ public ManagedObject demementify(final @Nullable ObjectMemento memento) {
              * as the latter can be ambiguous, when shared in a type hierarchy*/
             var elementSpec = getSpecificationLoader().specForLogicalTypeElseFail(logicalType);
 
-            var objects = objectMementoCollection.unwrapList().stream()
+            var mementos = objectMementoCollection.unwrapList();
+            prefetch(mementos.stream()
+                    .map(ObjectMemento::getBookmark)
+                    .collect(Can.toCan()));
+
+            var objects = mementos.stream()
                     .map(this::demementify)
                     .collect(Can.toCan());
 
@@ -106,6 +111,11 @@ public ManagedObject demementify(final @Nullable ObjectMemento memento) {
         throw _Exceptions.unrecoverable("unsupported ObjectMemento type %s", memento.getClass());
     }
 
+    @Override
+    public PrefetchStatistics getPrefetchStatistics() {
+        return ((_PrefetchingObjectLoader)objectLoader).getStatistics();
+    }
+
     // JUnit support
     public static ObjectManager forTesting(final MetaModelContext metaModelContext) {
         var objectManager = new ObjectManagerDefault(metaModelContext);
@@ -0,0 +1,166 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.objectmanager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.causeway.applib.services.xactn.TransactionId;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.context.MetaModelContext;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ProtoObject;
+import org.apache.causeway.core.metamodel.objectmanager.ObjectManager.PrefetchStatistics;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * {@link ObjectLoader} that reads entities through an identity map (bookmark to pojo),
+ * which is populated in bulk using {@link #prefetch(Can)} only,
+ * such that subsequent loads of the same entities within the same transaction
+ * don't hit the persistence layer again.
+ * <p>
+ * The identity map is held by the current interaction, but cleared once the transaction
+ * it was populated in has ended, as are the entities of the persistence context.
+ * Cached pojos are only served while still attached (to the persistence context),
+ * otherwise the load is delegated, as any other miss.
+ */
+@RequiredArgsConstructor
+@Log4j2
+class _PrefetchingObjectLoader implements ObjectLoader {
+
+    private final @NonNull MetaModelContext mmc;
+    private final @NonNull ObjectLoader delegate;
+
+    private final LongAdder prefetched = new LongAdder();
+    private final LongAdder prefetchHits = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Held as attribute of the current interaction, transaction scoped.
+     */
+    static final class IdentityMap {
+        private final Map<Bookmark, Entry> entries = new HashMap<>();
+        /** the transaction, the entries were fetched within */
+        private TransactionId transactionId;
+
+        IdentityMap boundTo(final TransactionId currentTransactionId) {
+            if(!currentTransactionId.equals(transactionId)) {
+                entries.clear(); // the previous transaction has ended
+                transactionId = currentTransactionId;
+            }
+            return this;
+        }
+    }
+
+    private static final class Entry {
+        private final Object pojo;
+        /** whether not yet served */
+        private boolean unused = true;
+        Entry(final Object pojo) {
+            this.pojo = pojo;
+        }
+    }
+
+    @Override
+    public ManagedObject loadObject(final @NonNull ProtoObject objectLoadRequest) {
+        var spec = objectLoadRequest.getObjectSpecification();
+        if(!spec.isEntity()) {
+            return delegate.loadObject(objectLoadRequest);
+        }
+        var identityMap = currentIdentityMap().orElse(null);
+        if(identityMap==null) {
+            return delegate.loadObject(objectLoadRequest);
+        }
+        var bookmark = objectLoadRequest.getBookmark();
+        var entry = identityMap.entries.get(bookmark);
+        if(entry!=null) {
+            if(spec.entityFacetElseFail().getEntityState(entry.pojo).isAttached()) {
+                hits.increment();
+                if(entry.unused) {
+                    entry.unused = false;
+                    prefetchHits.increment();
+                }
+                return ManagedObject.entity(spec, entry.pojo, Optional.of(bookmark));
+            }
+            identityMap.entries.remove(bookmark); // stale
+        }
+        misses.increment();
+        return delegate.loadObject(objectLoadRequest);
+    }
+
+    @Override
+    public void prefetch(final @NonNull Can<ProtoObject> objectLoadRequests) {
+        var identityMap = currentIdentityMap().orElse(null);
+        if(identityMap==null) {
+            return;
+        }
+        objectLoadRequests.stream()
+            .filter(request->request.getObjectSpecification().isEntity())
+            .filter(request->!request.getBookmark().isEmpty())
+            .filter(request->!identityMap.entries.containsKey(request.getBookmark()))
+            .collect(Collectors.groupingBy(ProtoObject::getObjectSpecification,
+                    Collectors.mapping(ProtoObject::getBookmark, Can.toCan())))
+            .forEach((spec, bookmarks)->{
+                var distinctBookmarks = bookmarks.distinct();
+                if(distinctBookmarks.isCardinalityOne()) {
+                    return; // nothing to gain over a regular load
+                }
+                var pojoByBookmark = spec.entityFacetElseFail().fetchByBookmarks(distinctBookmarks);
+                pojoByBookmark.forEach((bookmark, pojo)->
+                    identityMap.entries.put(bookmark, new Entry(pojo)));
+                prefetched.add(pojoByBookmark.size());
+                log.debug("prefetched {} of {} {}", pojoByBookmark.size(), distinctBookmarks.size(),
+                        spec.getLogicalTypeName());
+            });
+    }
+
+    PrefetchStatistics getStatistics() {
+        return PrefetchStatistics.of(
+                prefetched.sum(),
+                prefetchHits.sum(),
+                hits.sum(),
+                misses.sum());
+    }
+
+    // -- HELPER
+
+    private Optional<IdentityMap> currentIdentityMap() {
+        var transactionId = mmc.getServiceRegistry().lookupService(TransactionService.class)
+                .flatMap(TransactionService::currentTransactionId)
+                .orElse(null);
+        if(transactionId==null) {
+            return Optional.empty(); // entities are not attached outside of a transaction
+        }
+        return mmc.getServiceRegistry().lookupService(InteractionLayerTracker.class)
+                .flatMap(InteractionLayerTracker::currentInteraction)
+                .map(interaction->interaction.computeAttributeIfAbsent(IdentityMap.class, __->new IdentityMap()))
+                .map(identityMap->identityMap.boundTo(transactionId));
+    }
+
+}
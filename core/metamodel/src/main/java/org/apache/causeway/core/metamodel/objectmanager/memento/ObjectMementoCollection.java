@@ -18,7 +18,17 @@
  */
 package org.apache.causeway.core.metamodel.objectmanager.memento;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.lang.Nullable;
 
 import org.apache.causeway.applib.id.LogicalType;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
@@ -26,20 +36,47 @@
 
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.Value;
 
 /**
+ * Holds the mementos of a (packed) collection of domain objects.
+ * <p>
+ * When serialized, collections of entities or view-models (all of the same logical type)
+ * are written in columnar form: the element type once, followed by the
+ * {@link PackedBookmarks bookmarks} and titles as arrays.
+ * After de-serialization the individual element mementos are only recreated on first
+ * {@link #unwrapList() access}.
+ *
  * @since 2.0
  */
-@Value(staticConstructor = "of")
 public final class ObjectMementoCollection implements ObjectMemento {
 
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
+
+    // -- FACTORIES
+
+    public static ObjectMementoCollection of(
+            final @NonNull ArrayList<ObjectMemento> container,
+            final @NonNull LogicalType logicalType) {
+        return new ObjectMementoCollection(logicalType, container, null);
+    }
 
-    private final ArrayList<ObjectMemento> container;
+    // -- CONSTRUCTION
 
     @Getter(onMethod_ = {@Override})
-    @NonNull private final LogicalType logicalType;
+    private final @NonNull LogicalType logicalType;
+
+    /** either the element mementos or their columnar form is present */
+    private @Nullable ArrayList<ObjectMemento> container;
+    private @Nullable Columns columns;
+
+    private ObjectMementoCollection(
+            final LogicalType logicalType,
+            final @Nullable ArrayList<ObjectMemento> container,
+            final @Nullable Columns columns) {
+        this.logicalType = logicalType;
+        this.container = container;
+        this.columns = columns;
+    }
 
     @Override
     public String getTitle() {
@@ -52,7 +89,130 @@ public Bookmark getBookmark() {
     }
 
     public ArrayList<ObjectMemento> unwrapList() {
-        return getContainer();
+        if(container==null) {
+            container = columns.unpack();
+            columns = null;
+        }
+        return container;
+    }
+
+    // -- OBJECT CONTRACT
+
+    @Override
+    public boolean equals(final Object obj) {
+        if(this == obj) {
+            return true;
+        }
+        if(!(obj instanceof ObjectMementoCollection)) {
+            return false;
+        }
+        var other = (ObjectMementoCollection) obj;
+        return logicalType.equals(other.logicalType)
+                && unwrapList().equals(other.unwrapList());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(logicalType, unwrapList());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ObjectMementoCollection(logicalType=%s, size=%d)",
+                logicalType, container!=null
+                    ? container.size()
+                    : columns.size());
+    }
+
+    // -- COLUMNAR FORM
+
+    /**
+     * Element mementos that all are looked up by bookmark and share the same logical type.
+     */
+    private static final class Columns implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        static Optional<Columns> pack(final List<ObjectMemento> mementos) {
+            if(mementos.isEmpty()) {
+                return Optional.empty();
+            }
+            var elementType = mementos.get(0).getLogicalType();
+            for(var memento : mementos) {
+                if(!(memento instanceof ObjectMementoForScalar)) {
+                    return Optional.empty();
+                }
+                var scalar = (ObjectMementoForScalar) memento;
+                if(scalar.recreateStrategy != _Recreatable.RecreateStrategy.LOOKUP
+                        || scalar.bookmark == null
+                        || !elementType.equals(scalar.logicalType)) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(new Columns(
+                    elementType,
+                    PackedBookmarks.pack(mementos.stream()
+                            .map(ObjectMemento::getBookmark)
+                            .collect(Collectors.toList())),
+                    mementos.stream()
+                            .map(ObjectMemento::getTitle)
+                            .toArray(String[]::new)));
+        }
+
+        private final @NonNull LogicalType elementType;
+        private final @NonNull PackedBookmarks bookmarks;
+        private final @NonNull String[] titles;
+
+        private Columns(
+                final LogicalType elementType,
+                final PackedBookmarks bookmarks,
+                final String[] titles) {
+            this.elementType = elementType;
+            this.bookmarks = bookmarks;
+            this.titles = titles;
+        }
+
+        int size() {
+            return titles.length;
+        }
+
+        ArrayList<ObjectMemento> unpack() {
+            return IntStream.range(0, size())
+                    .mapToObj(index->(ObjectMemento)ObjectMementoForScalar.createForLookup(
+                            elementType, bookmarks.get(index), titles[index]))
+                    .collect(Collectors.toCollection(ArrayList::new)); // ArrayList is serializable
+        }
+    }
+
+    // -- SERIALIZATION PROXY
+
+    private Object writeReplace() {
+        return new SerializationProxy(this);
+    }
+
+    private void readObject(final ObjectInputStream stream) throws InvalidObjectException {
+        throw new InvalidObjectException("Proxy required");
+    }
+
+    private static class SerializationProxy implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final @NonNull LogicalType logicalType;
+        private final @Nullable ArrayList<ObjectMemento> container;
+        private final @Nullable Columns columns;
+
+        private SerializationProxy(final ObjectMementoCollection collection) {
+            this.logicalType = collection.logicalType;
+            this.columns = collection.columns!=null
+                    ? collection.columns
+                    : Columns.pack(collection.container).orElse(null);
+            this.container = columns!=null
+                    ? null
+                    : collection.container;
+        }
+
+        private Object readResolve() {
+            return new ObjectMementoCollection(logicalType, container, columns);
+        }
     }
 
 }
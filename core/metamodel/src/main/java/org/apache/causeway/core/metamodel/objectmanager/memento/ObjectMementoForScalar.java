@@ -58,6 +58,16 @@ static ObjectMementoForScalar createPersistent(
         return new ObjectMementoForScalar(bookmark, specificationLoader);
     }
 
+    /**
+     * Recreates a memento from its columnar form, as held by {@link ObjectMementoCollection}.
+     */
+    static ObjectMementoForScalar createForLookup(
+            final LogicalType logicalType,
+            final Bookmark bookmark,
+            final String title) {
+        return new ObjectMementoForScalar(logicalType, bookmark, title);
+    }
+
     // --
 
     @Getter(onMethod_ = {@Override}) final LogicalType logicalType;
@@ -90,6 +100,16 @@ private ObjectMementoForScalar(
                 : _Recreatable.RecreateStrategy.LOOKUP;
     }
 
+    private ObjectMementoForScalar(
+            final @NonNull LogicalType logicalType,
+            final @NonNull Bookmark bookmark,
+            final String title) {
+        this.logicalType = logicalType;
+        this.bookmark = bookmark;
+        this.title = title;
+        this.recreateStrategy = _Recreatable.RecreateStrategy.LOOKUP;
+    }
+
     private ObjectMementoForScalar(final @NonNull ManagedObject adapter) {
 
         this.logicalType = adapter.getLogicalType();
@@ -0,0 +1,172 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.objectmanager.memento;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.collections.Can;
+
+import lombok.NonNull;
+
+/**
+ * Columnar, {@link Serializable} representation of a list of {@link Bookmark}s.
+ * <p>
+ * Logical type names are dictionary encoded, so each is written only once,
+ * while identifiers and hint-ids are held in plain arrays. With a single logical type
+ * (the common case for tables) no per element type index is written at all.
+ * Compared to a serialized list of {@link Bookmark}s this saves the per element object overhead,
+ * which adds up for large collections held in (eg. Wicket) page state.
+ *
+ * @since 2.0
+ */
+public final class PackedBookmarks implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // -- FACTORIES
+
+    public static PackedBookmarks pack(final @NonNull Iterable<Bookmark> bookmarks) {
+        var typeIndexByName = new HashMap<String, Integer>();
+        var logicalTypeNames = new ArrayList<String>();
+        var typeIndexes = new ArrayList<Integer>();
+        var identifiers = new ArrayList<String>();
+        var hintIds = new ArrayList<String>();
+        var hasHintIds = false;
+
+        for(var bookmark : bookmarks) {
+            var typeIndex = typeIndexByName.computeIfAbsent(bookmark.getLogicalTypeName(), name->{
+                logicalTypeNames.add(name);
+                return logicalTypeNames.size() - 1;
+            });
+            typeIndexes.add(typeIndex);
+            identifiers.add(bookmark.getIdentifier());
+            hintIds.add(bookmark.getHintId());
+            hasHintIds |= bookmark.getHintId()!=null;
+        }
+
+        return new PackedBookmarks(
+                logicalTypeNames.toArray(new String[0]),
+                logicalTypeNames.size()>1
+                    ? typeIndexes.stream().mapToInt(Integer::intValue).toArray()
+                    : null,
+                identifiers.toArray(new String[0]),
+                hasHintIds
+                    ? hintIds.toArray(new String[0])
+                    : null);
+    }
+
+    // -- CONSTRUCTION
+
+    /** dictionary of distinct logical type names */
+    private final String[] logicalTypeNames;
+    /** per element index into {@link #logicalTypeNames}, or {@code null} if there is only one */
+    private final @Nullable int[] typeIndexes;
+    private final String[] identifiers;
+    /** {@code null} if none of the bookmarks has a hint-id */
+    private final @Nullable String[] hintIds;
+
+    private PackedBookmarks(
+            final String[] logicalTypeNames,
+            final @Nullable int[] typeIndexes,
+            final String[] identifiers,
+            final @Nullable String[] hintIds) {
+        this.logicalTypeNames = logicalTypeNames;
+        this.typeIndexes = typeIndexes;
+        this.identifiers = identifiers;
+        this.hintIds = hintIds;
+    }
+
+    // -- ACCESS
+
+    public int size() {
+        return identifiers.length;
+    }
+
+    public boolean isEmpty() {
+        return identifiers.length == 0;
+    }
+
+    /**
+     * Whether all bookmarks share the same logical type.
+     */
+    public boolean isHomogeneous() {
+        return logicalTypeNames.length <= 1;
+    }
+
+    public Bookmark get(final int index) {
+        var logicalTypeName = logicalTypeNames[typeIndexes!=null
+                ? typeIndexes[index]
+                : 0];
+        var identifier = identifiers[index];
+        var bookmark = identifier!=null
+                ? Bookmark.forLogicalTypeNameAndIdentifier(logicalTypeName, identifier)
+                : Bookmark.emptyForLogicalTypeName(logicalTypeName);
+        return hintIds!=null
+                && hintIds[index]!=null
+                ? bookmark.withHintId(hintIds[index])
+                : bookmark;
+    }
+
+    public Stream<Bookmark> streamBookmarks() {
+        return IntStream.range(0, size())
+                .mapToObj(this::get);
+    }
+
+    public Can<Bookmark> unpack() {
+        return streamBookmarks()
+                .collect(Can.toCan());
+    }
+
+    // -- OBJECT CONTRACT
+
+    @Override
+    public boolean equals(final Object obj) {
+        if(this == obj) {
+            return true;
+        }
+        if(!(obj instanceof PackedBookmarks)) {
+            return false;
+        }
+        var other = (PackedBookmarks) obj;
+        return Arrays.equals(logicalTypeNames, other.logicalTypeNames)
+                && Arrays.equals(typeIndexes, other.typeIndexes)
+                && Arrays.equals(identifiers, other.identifiers)
+                && Arrays.equals(hintIds, other.hintIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(identifiers);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PackedBookmarks[size=%d, logicalTypeNames=%s]",
+                size(), Arrays.toString(logicalTypeNames));
+    }
+
+}
@@ -20,20 +20,14 @@
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.OptionalInt;
-import java.util.SortedMap;
 import java.util.SortedSet;
-import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 
-import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.SemanticsOf;
@@ -44,7 +38,6 @@
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureRepository;
 import org.apache.causeway.applib.services.appfeat.ApplicationFeatureSort;
 import org.apache.causeway.applib.services.appfeat.ApplicationMemberSort;
-import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.metamodel.services.ApplicationFeaturesInitConfiguration;
@@ -62,7 +55,6 @@
 import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
 import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
 
-import lombok.NonNull;
 import lombok.extern.log4j.Log4j2;
 
 /**
@@ -80,16 +72,10 @@
     private final CausewayConfiguration configuration;
     private final SpecificationLoader specificationLoader;
 
-    // -- caches
-    private Map<String, ApplicationFeatureId> featureIdentifiersByName;
-
-    final SortedMap<ApplicationFeatureId, ApplicationFeature> namespaceFeatures = _Maps.newTreeMap();
-    private final SortedMap<ApplicationFeatureId, ApplicationFeature> typeFeatures = _Maps.newTreeMap();
-    private final SortedMap<LogicalType, ApplicationFeatureId> typeFeatureIdByLogicalType = _Maps.newTreeMap();
-    private final SortedMap<ApplicationFeatureId, ApplicationFeature> memberFeatures = _Maps.newTreeMap();
-    private final SortedMap<ApplicationFeatureId, ApplicationFeature> propertyFeatures = _Maps.newTreeMap();
-    private final SortedMap<ApplicationFeatureId, ApplicationFeature> collectionFeatures = _Maps.newTreeMap();
-    private final SortedMap<ApplicationFeatureId, ApplicationFeature> actionFeatures = _Maps.newTreeMap();
+    /**
+     * Built once (see {@link #snapshot()}), then read without locking.
+     */
+    private volatile ApplicationFeatureSnapshot snapshot;
 
     @Inject
     public ApplicationFeatureRepositoryDefault(
@@ -103,7 +89,7 @@ public ApplicationFeatureRepositoryDefault(
     @Override
     public void onMetamodelLoaded() {
         if (isEagerInitialize()) {
-            initializeIfRequired();
+            snapshot();
         }
     }
 
@@ -114,38 +100,37 @@ private boolean isEagerInitialize() {
                 || setting == ApplicationFeaturesInitConfiguration.EAGERLY;
     }
 
-    // -- initializeIfRequired
-
-    enum InitializationState {
-        NOT_INITIALIZED,
-        INITIALIZED
-    }
-    private InitializationState initializationState = InitializationState.NOT_INITIALIZED;
+    // -- SNAPSHOT
 
-    private synchronized void initializeIfRequired() {
-        if(initializationState == InitializationState.INITIALIZED) {
-            return;
+    /**
+     * Returns the feature snapshot, building it on first access.
+     *
+     * <p>
+     * Only the (one-off) build is synchronized; once published, all lookups are lock-free.
+     * </p>
+     */
+    private ApplicationFeatureSnapshot snapshot() {
+        var snapshot = this.snapshot;
+        if(snapshot != null) {
+            return snapshot;
         }
-        initializationState = InitializationState.INITIALIZED;
-
-        for (var spec : specificationLoader.snapshotSpecifications()) {
-            createApplicationFeaturesFor(spec);
+        synchronized(this) {
+            if(this.snapshot == null) {
+                var builder = newSnapshotBuilder();
+                for (var spec : specificationLoader.snapshotSpecifications()) {
+                    createApplicationFeaturesFor(builder, spec);
+                }
+                this.snapshot = builder.build();
+            }
+            return this.snapshot;
         }
-
-        var featuresByName = new HashMap<String, ApplicationFeatureId>();
-        visitFeatureIdentifierByName(namespaceFeatures, featuresByName::put);
-        visitFeatureIdentifierByName(typeFeatures, featuresByName::put);
-        visitFeatureIdentifierByName(memberFeatures, featuresByName::put);
-        this.featureIdentifiersByName = Collections.unmodifiableMap(featuresByName);
     }
 
-    private void visitFeatureIdentifierByName(
-            final Map<ApplicationFeatureId, ApplicationFeature> map,
-            final BiConsumer<String, ApplicationFeatureId> onEntry) {
-        map.forEach((k, v)->onEntry.accept(k.getFullyQualifiedName(), k));
+    ApplicationFeatureSnapshot.Builder newSnapshotBuilder() {
+        return new ApplicationFeatureSnapshot.Builder(this::newApplicationFeature);
     }
 
-    void createApplicationFeaturesFor(final ObjectSpecification spec) {
+    void createApplicationFeaturesFor(final ApplicationFeatureSnapshot.Builder builder, final ObjectSpecification spec) {
 
         if (exclude(spec)) {
             return;
@@ -169,9 +154,7 @@ void createApplicationFeaturesFor(final ObjectSpecification spec) {
         // add class to our map
         // (later on it may get removed if the class turns out to have no features,
         // but we require it in the map for the next bit).
-        final ApplicationFeature typeFeature = newApplicationFeature(typeFeatureId);
-        typeFeatures.put(typeFeatureId, typeFeature);
-        typeFeatureIdByLogicalType.put(logicalType, typeFeatureId);
+        builder.addType(typeFeatureId, logicalType);
 
         // add members
         boolean addedMembers = false;
@@ -180,29 +163,29 @@ void createApplicationFeaturesFor(final ObjectSpecification spec) {
             final Integer maxLength = returnType == String.class ? valueOf(property, MaxLengthFacet.class) : null;
             final Integer typicalLength = returnType == String.class ? valueOf(property, TypicalLengthFacet.class) : null;
             final boolean derived = !property.containsNonFallbackFacet(PropertySetterFacet.class);
-            addedMembers = newProperty(typeFeatureId, property, returnType, maxLength, typicalLength, derived) || addedMembers;
+            addedMembers = newProperty(builder, typeFeatureId, property, returnType, maxLength, typicalLength, derived) || addedMembers;
         }
         for (final ObjectAssociation collection : collections) {
             final boolean derived = false;
             final Class<?> elementType = correspondingClassFor(collection.getElementType());
-            addedMembers = newCollection(typeFeatureId, collection, elementType, derived) || addedMembers;
+            addedMembers = newCollection(builder, typeFeatureId, collection, elementType, derived) || addedMembers;
         }
         for (final ObjectAction action : actions) {
             final Class<?> returnType = correspondingClassFor(action.getReturnType());
             final SemanticsOf actionSemantics = action.getSemantics();
-            addedMembers = newAction(typeFeatureId, action, returnType, actionSemantics) || addedMembers;
+            addedMembers = newAction(builder, typeFeatureId, action, returnType, actionSemantics) || addedMembers;
         }
 
         if (!addedMembers) {
             // remove this class feature, since it turned out to have no members
-            typeFeatures.remove(typeFeatureId);
+            builder.removeType(typeFeatureId);
             return;
         }
 
         // leave the class as is and (as there were indeed members for this class)
         // add all of its parent packages
-        final ApplicationFeatureId classParentPackageId = addClassParent(typeFeatureId);
-        addParents(classParentPackageId);
+        final ApplicationFeatureId classParentPackageId = builder.addClassParent(typeFeatureId);
+        builder.addParents(classParentPackageId);
     }
 
     private static Class<?> correspondingClassFor(final ObjectSpecification objectSpec) {
@@ -216,70 +199,37 @@ private static Integer valueOf(
         return facet != null ? facet.value() : null;
     }
 
-    ApplicationFeatureId addClassParent(final ApplicationFeatureId classFeatureId) {
-        final ApplicationFeatureId parentPackageId = classFeatureId.getParentNamespaceFeatureId();
-        final ApplicationFeatureDefault parentPackage = (ApplicationFeatureDefault)findPackageElseCreate(parentPackageId);
-
-        parentPackage.addToContents(classFeatureId);
-        return parentPackageId;
-    }
-
-    void addParents(final ApplicationFeatureId classOrPackageId) {
-        final ApplicationFeatureId parentPackageId = classOrPackageId.getParentNamespaceFeatureId();
-        if (parentPackageId == null) {
-            return;
-        }
-
-        final ApplicationFeatureDefault parentPackage = (ApplicationFeatureDefault)findPackageElseCreate(parentPackageId);
-
-        // add this feature as part of the contents of its parent
-        parentPackage.addToContents(classOrPackageId);
-
-        // and recurse up
-        addParents(parentPackageId);
-    }
-
-    private ApplicationFeature findPackageElseCreate(final ApplicationFeatureId parentPackageId) {
-        ApplicationFeature parentPackage = findNamespace(parentPackageId);
-        if (parentPackage == null) {
-            parentPackage = newPackage(parentPackageId);
-        }
-        return parentPackage;
-    }
-
-    private ApplicationFeature newPackage(final ApplicationFeatureId packageId) {
-        final ApplicationFeature parentPackage = newApplicationFeature(packageId);
-        namespaceFeatures.put(packageId, parentPackage);
-        return parentPackage;
-    }
-
     private boolean newProperty(
+            final ApplicationFeatureSnapshot.Builder builder,
             final ApplicationFeatureId classFeatureId,
             final ObjectMember objectMember,
             final Class<?> returnType,
             final Integer maxLength,
             final Integer typicalLength,
             final boolean derived) {
-        return newMember(classFeatureId, objectMember, ApplicationMemberSort.PROPERTY, returnType, derived, maxLength, typicalLength, null);
+        return newMember(builder, classFeatureId, objectMember, ApplicationMemberSort.PROPERTY, returnType, derived, maxLength, typicalLength, null);
     }
 
     private boolean newCollection(
+            final ApplicationFeatureSnapshot.Builder builder,
             final ApplicationFeatureId classFeatureId,
             final ObjectMember objectMember,
             final Class<?> returnType,
             final boolean derived) {
-        return newMember(classFeatureId, objectMember, ApplicationMemberSort.COLLECTION, returnType, derived, null, null, null);
+        return newMember(builder, classFeatureId, objectMember, ApplicationMemberSort.COLLECTION, returnType, derived, null, null, null);
     }
 
     private boolean newAction(
+            final ApplicationFeatureSnapshot.Builder builder,
             final ApplicationFeatureId classFeatureId,
             final ObjectMember objectMember,
             final Class<?> returnType,
             final SemanticsOf actionSemantics) {
-        return newMember(classFeatureId, objectMember, ApplicationMemberSort.ACTION, returnType, null, null, null, actionSemantics);
+        return newMember(builder, classFeatureId, objectMember, ApplicationMemberSort.ACTION, returnType, null, null, null, actionSemantics);
     }
 
     private boolean newMember(
+            final ApplicationFeatureSnapshot.Builder builder,
             final ApplicationFeatureId classFeatureId,
             final ObjectMember objectMember,
             final ApplicationMemberSort memberSort,
@@ -291,50 +241,10 @@ private boolean newMember(
         if (objectMember.isAlwaysHidden()) {
             return false;
         }
-        newMember(classFeatureId, objectMember.getId(), memberSort, returnType, derived, maxLength, typicalLength, actionSemantics);
+        builder.addMember(classFeatureId, objectMember.getId(), memberSort, returnType, derived, maxLength, typicalLength, actionSemantics);
         return true;
     }
 
-    private void newMember(
-            final ApplicationFeatureId typeFeatureId,
-            final String memberId,
-            final @NonNull ApplicationMemberSort memberSort,
-            final @Nullable Class<?> returnType,
-            final Boolean derived,
-            final @Nullable Integer maxLength, final @Nullable Integer typicalLength,
-            final @Nullable SemanticsOf actionSemantics) {
-        final ApplicationFeatureId featureId = ApplicationFeatureId.newMember(typeFeatureId.getFullyQualifiedName(), memberId);
-
-        final ApplicationFeatureDefault memberFeature =
-                (ApplicationFeatureDefault)newApplicationFeature(featureId);
-        memberFeature.setMemberSort(Optional.of(memberSort));
-
-        memberFeature.setActionReturnType(Optional.ofNullable(returnType));
-        memberFeature.setActionSemantics(Optional.ofNullable(actionSemantics));
-        memberFeature.setPropertyOrCollectionDerived(Boolean.TRUE.equals(derived));
-        memberFeature.setPropertyMaxLength(maxLength!=null ? OptionalInt.of(maxLength) : OptionalInt.empty());
-        memberFeature.setPropertyTypicalLength(typicalLength!=null ? OptionalInt.of(typicalLength) : OptionalInt.empty());
-
-        memberFeatures.put(featureId, memberFeature);
-
-        // also cache per memberSort
-        featuresMapFor(memberSort).put(featureId, memberFeature);
-
-        final ApplicationFeatureDefault typeFeature = (ApplicationFeatureDefault)findLogicalType(typeFeatureId);
-        typeFeature.addToMembers(featureId, memberSort);
-    }
-
-    private SortedMap<ApplicationFeatureId, ApplicationFeature> featuresMapFor(final ApplicationMemberSort memberSort) {
-        switch (memberSort) {
-        case PROPERTY:
-            return propertyFeatures;
-        case COLLECTION:
-            return collectionFeatures;
-        default: // case ACTION:
-            return actionFeatures;
-        }
-    }
-
     protected boolean exclude(final ObjectSpecification spec) {
 
         var excluded = spec.isMixin()
@@ -378,37 +288,33 @@ public ApplicationFeature newApplicationFeature(final ApplicationFeatureId featI
 
     @Override
     public ApplicationFeature findFeature(final ApplicationFeatureId featureId) {
-        initializeIfRequired();
+        var snapshot = snapshot();
         switch (featureId.getSort()) {
         case NAMESPACE:
-            return findNamespace(featureId);
+            return snapshot.findNamespace(featureId);
         case TYPE:
-            return findLogicalType(featureId);
+            return snapshot.findLogicalType(featureId);
         case MEMBER:
-            return findMember(featureId);
+            return snapshot.findMember(featureId);
         }
         throw _Exceptions.illegalArgument("Feature of unknown sort '%s'", featureId.getSort());
     }
 
     public ApplicationFeature findNamespace(final ApplicationFeatureId featureId) {
-        initializeIfRequired();
-        return namespaceFeatures.get(featureId);
+        return snapshot().findNamespace(featureId);
     }
 
     public ApplicationFeature findLogicalType(final ApplicationFeatureId featureId) {
-        initializeIfRequired();
-        return typeFeatures.get(featureId);
+        return snapshot().findLogicalType(featureId);
     }
 
     public ApplicationFeature findMember(final ApplicationFeatureId featureId) {
-        initializeIfRequired();
-        return memberFeatures.get(featureId);
+        return snapshot().findMember(featureId);
     }
 
     // -- allFeatures, allPackages, allClasses, allMembers
 
     public Collection<ApplicationFeature> allFeatures(final ApplicationFeatureSort featureType) {
-        initializeIfRequired();
         if (featureType == null) {
             return Collections.emptyList();
         }
@@ -425,55 +331,46 @@ public Collection<ApplicationFeature> allFeatures(final ApplicationFeatureSort f
 
     @Override
     public Collection<ApplicationFeature> allNamespaces() {
-        initializeIfRequired();
-        return namespaceFeatures.values();
+        return snapshot().getNamespaces();
     }
 
     @Override
     public Collection<ApplicationFeature> allTypes() {
-        initializeIfRequired();
-        return typeFeatures.values();
+        return snapshot().getTypes();
     }
 
     @Override
     public Collection<ApplicationFeature> allMembers() {
-        initializeIfRequired();
-        return memberFeatures.values();
+        return snapshot().getMembers();
     }
 
     @Override
     public SortedSet<ApplicationFeatureId> propertyIdsFor(final LogicalType logicalType) {
-        initializeIfRequired();
-        ApplicationFeatureId typeFeatureId = typeFeatureIdByLogicalType.get(logicalType);
-        if (typeFeatureId == null) {
+        var typeFeature = snapshot().findLogicalType(logicalType);
+        if (typeFeature == null) {
             return Collections.emptySortedSet();
         }
-        ApplicationFeature applicationFeature = typeFeatures.get(typeFeatureId);
-        return applicationFeature.getProperties();
+        return typeFeature.getProperties();
     }
 
     @Override
     public Collection<ApplicationFeature> allProperties() {
-        initializeIfRequired();
-        return propertyFeatures.values();
+        return snapshot().getProperties();
     }
 
     @Override
     public Collection<ApplicationFeature> allCollections() {
-        initializeIfRequired();
-        return collectionFeatures.values();
+        return snapshot().getCollections();
     }
 
     @Override
     public Collection<ApplicationFeature> allActions() {
-        initializeIfRequired();
-        return actionFeatures.values();
+        return snapshot().getActions();
     }
 
     @Override
     public Map<String, ApplicationFeatureId> getFeatureIdentifiersByName() {
-        initializeIfRequired();
-        return featureIdentifiersByName;
+        return snapshot().getFeatureIdentifiersByName();
     }
 
 }
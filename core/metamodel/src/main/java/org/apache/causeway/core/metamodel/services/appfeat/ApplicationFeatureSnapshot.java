@@ -0,0 +1,225 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services.appfeat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.SortedMap;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.annotation.SemanticsOf;
+import org.apache.causeway.applib.id.LogicalType;
+import org.apache.causeway.applib.services.appfeat.ApplicationFeature;
+import org.apache.causeway.applib.services.appfeat.ApplicationFeatureId;
+import org.apache.causeway.applib.services.appfeat.ApplicationMemberSort;
+import org.apache.causeway.commons.internal.collections._Maps;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Immutable, hash-indexed snapshot of all {@link ApplicationFeature}s, built once by the
+ * {@link ApplicationFeatureRepositoryDefault} and then published for lock-free reads.
+ *
+ * <p>
+ * The collections of features are sorted by {@link ApplicationFeatureId}.
+ * </p>
+ */
+final class ApplicationFeatureSnapshot {
+
+    private final Map<ApplicationFeatureId, ApplicationFeature> namespaceFeaturesById;
+    private final Map<ApplicationFeatureId, ApplicationFeature> typeFeaturesById;
+    private final Map<ApplicationFeatureId, ApplicationFeature> memberFeaturesById;
+    private final Map<LogicalType, ApplicationFeature> typeFeaturesByLogicalType;
+
+    @Getter private final Collection<ApplicationFeature> namespaces;
+    @Getter private final Collection<ApplicationFeature> types;
+    @Getter private final Collection<ApplicationFeature> members;
+    @Getter private final Collection<ApplicationFeature> properties;
+    @Getter private final Collection<ApplicationFeature> collections;
+    @Getter private final Collection<ApplicationFeature> actions;
+
+    @Getter private final Map<String, ApplicationFeatureId> featureIdentifiersByName;
+
+    private ApplicationFeatureSnapshot(final Builder builder) {
+        this.namespaceFeaturesById = new HashMap<>(builder.namespaceFeatures);
+        this.typeFeaturesById = new HashMap<>(builder.typeFeatures);
+        this.memberFeaturesById = new HashMap<>(builder.memberFeatures);
+
+        var typeFeaturesByLogicalType = new HashMap<LogicalType, ApplicationFeature>();
+        builder.typeFeatureIdByLogicalType.forEach((logicalType, typeFeatureId)->{
+            var typeFeature = builder.typeFeatures.get(typeFeatureId);
+            if(typeFeature != null) { // types without members were removed
+                typeFeaturesByLogicalType.put(logicalType, typeFeature);
+            }
+        });
+        this.typeFeaturesByLogicalType = typeFeaturesByLogicalType;
+
+        this.namespaces = sortedValues(builder.namespaceFeatures);
+        this.types = sortedValues(builder.typeFeatures);
+        this.members = sortedValues(builder.memberFeatures);
+        this.properties = sortedValues(builder.propertyFeatures);
+        this.collections = sortedValues(builder.collectionFeatures);
+        this.actions = sortedValues(builder.actionFeatures);
+
+        var featureIdentifiersByName = new HashMap<String, ApplicationFeatureId>();
+        builder.namespaceFeatures.keySet().forEach(id->featureIdentifiersByName.put(id.getFullyQualifiedName(), id));
+        builder.typeFeatures.keySet().forEach(id->featureIdentifiersByName.put(id.getFullyQualifiedName(), id));
+        builder.memberFeatures.keySet().forEach(id->featureIdentifiersByName.put(id.getFullyQualifiedName(), id));
+        this.featureIdentifiersByName = Collections.unmodifiableMap(featureIdentifiersByName);
+    }
+
+    @Nullable ApplicationFeature findNamespace(final ApplicationFeatureId featureId) {
+        return namespaceFeaturesById.get(featureId);
+    }
+
+    @Nullable ApplicationFeature findLogicalType(final ApplicationFeatureId featureId) {
+        return typeFeaturesById.get(featureId);
+    }
+
+    @Nullable ApplicationFeature findMember(final ApplicationFeatureId featureId) {
+        return memberFeaturesById.get(featureId);
+    }
+
+    @Nullable ApplicationFeature findLogicalType(final LogicalType logicalType) {
+        return typeFeaturesByLogicalType.get(logicalType);
+    }
+
+    private static Collection<ApplicationFeature> sortedValues(
+            final SortedMap<ApplicationFeatureId, ApplicationFeature> featuresById) {
+        return Collections.unmodifiableList(new ArrayList<>(featuresById.values()));
+    }
+
+    // -- BUILDER
+
+    /**
+     * Not thread-safe; collects the features, linking each to its parent namespace (as part of the latter's
+     * {@link ApplicationFeature#getContents() contents}) and each member to its type.
+     */
+    static final class Builder {
+
+        private final Function<ApplicationFeatureId, ApplicationFeature> featureFactory;
+
+        final SortedMap<ApplicationFeatureId, ApplicationFeature> namespaceFeatures = _Maps.newTreeMap();
+        private final SortedMap<ApplicationFeatureId, ApplicationFeature> typeFeatures = _Maps.newTreeMap();
+        private final SortedMap<LogicalType, ApplicationFeatureId> typeFeatureIdByLogicalType = _Maps.newTreeMap();
+        private final SortedMap<ApplicationFeatureId, ApplicationFeature> memberFeatures = _Maps.newTreeMap();
+        private final SortedMap<ApplicationFeatureId, ApplicationFeature> propertyFeatures = _Maps.newTreeMap();
+        private final SortedMap<ApplicationFeatureId, ApplicationFeature> collectionFeatures = _Maps.newTreeMap();
+        private final SortedMap<ApplicationFeatureId, ApplicationFeature> actionFeatures = _Maps.newTreeMap();
+
+        Builder(final @NonNull Function<ApplicationFeatureId, ApplicationFeature> featureFactory) {
+            this.featureFactory = featureFactory;
+        }
+
+        ApplicationFeatureSnapshot build() {
+            return new ApplicationFeatureSnapshot(this);
+        }
+
+        void addType(final ApplicationFeatureId typeFeatureId, final LogicalType logicalType) {
+            typeFeatures.put(typeFeatureId, featureFactory.apply(typeFeatureId));
+            typeFeatureIdByLogicalType.put(logicalType, typeFeatureId);
+        }
+
+        void removeType(final ApplicationFeatureId typeFeatureId) {
+            typeFeatures.remove(typeFeatureId);
+        }
+
+        void addMember(
+                final ApplicationFeatureId typeFeatureId,
+                final String memberId,
+                final @NonNull ApplicationMemberSort memberSort,
+                final @Nullable Class<?> returnType,
+                final Boolean derived,
+                final @Nullable Integer maxLength, final @Nullable Integer typicalLength,
+                final @Nullable SemanticsOf actionSemantics) {
+            final ApplicationFeatureId featureId = ApplicationFeatureId.newMember(typeFeatureId.getFullyQualifiedName(), memberId);
+
+            final ApplicationFeatureDefault memberFeature =
+                    (ApplicationFeatureDefault)featureFactory.apply(featureId);
+            memberFeature.setMemberSort(Optional.of(memberSort));
+
+            memberFeature.setActionReturnType(Optional.ofNullable(returnType));
+            memberFeature.setActionSemantics(Optional.ofNullable(actionSemantics));
+            memberFeature.setPropertyOrCollectionDerived(Boolean.TRUE.equals(derived));
+            memberFeature.setPropertyMaxLength(maxLength!=null ? OptionalInt.of(maxLength) : OptionalInt.empty());
+            memberFeature.setPropertyTypicalLength(typicalLength!=null ? OptionalInt.of(typicalLength) : OptionalInt.empty());
+
+            memberFeatures.put(featureId, memberFeature);
+
+            // also cache per memberSort
+            featuresMapFor(memberSort).put(featureId, memberFeature);
+
+            final ApplicationFeatureDefault typeFeature = (ApplicationFeatureDefault)typeFeatures.get(typeFeatureId);
+            typeFeature.addToMembers(featureId, memberSort);
+        }
+
+        ApplicationFeatureId addClassParent(final ApplicationFeatureId classFeatureId) {
+            final ApplicationFeatureId parentPackageId = classFeatureId.getParentNamespaceFeatureId();
+            final ApplicationFeatureDefault parentPackage = (ApplicationFeatureDefault)findPackageElseCreate(parentPackageId);
+
+            parentPackage.addToContents(classFeatureId);
+            return parentPackageId;
+        }
+
+        void addParents(final ApplicationFeatureId classOrPackageId) {
+            final ApplicationFeatureId parentPackageId = classOrPackageId.getParentNamespaceFeatureId();
+            if (parentPackageId == null) {
+                return;
+            }
+
+            final ApplicationFeatureDefault parentPackage = (ApplicationFeatureDefault)findPackageElseCreate(parentPackageId);
+
+            // add this feature as part of the contents of its parent
+            parentPackage.addToContents(classOrPackageId);
+
+            // and recurse up
+            addParents(parentPackageId);
+        }
+
+        private ApplicationFeature findPackageElseCreate(final ApplicationFeatureId parentPackageId) {
+            ApplicationFeature parentPackage = namespaceFeatures.get(parentPackageId);
+            if (parentPackage == null) {
+                parentPackage = featureFactory.apply(parentPackageId);
+                namespaceFeatures.put(parentPackageId, parentPackage);
+            }
+            return parentPackage;
+        }
+
+        private SortedMap<ApplicationFeatureId, ApplicationFeature> featuresMapFor(final ApplicationMemberSort memberSort) {
+            switch (memberSort) {
+            case PROPERTY:
+                return propertyFeatures;
+            case COLLECTION:
+                return collectionFeatures;
+            default: // case ACTION:
+                return actionFeatures;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services.events;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.collections._Maps;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Per event type, holds the {@link ApplicationListener}s that Spring would deliver a (payload) event of that type to,
+ * such that
+ * <ul>
+ * <li>callers can ask whether there are any listeners at all, to skip event construction if not, and</li>
+ * <li>an event with a single listener is delivered to that listener directly, bypassing Spring's multicaster.</li>
+ * </ul>
+ * <p>
+ * The table is populated lazily; it is discarded whenever the number of listeners registered with the
+ * {@link ApplicationContext} changes.
+ *
+ * @implNote matches listeners the same way Spring's {@code AbstractApplicationEventMulticaster} does,
+ * that is using {@link GenericApplicationListener#supportsEventType(ResolvableType)} and
+ * {@link GenericApplicationListener#supportsSourceType(Class)} against the {@link PayloadApplicationEvent}
+ * that {@link ApplicationContext#publishEvent(Object)} would create
+ */
+@RequiredArgsConstructor(staticName = "of")
+final class DomainEventDispatchTable {
+
+    /**
+     * Returns a table for given {@link ApplicationContext}, or {@code null} if events published to it can not be
+     * dispatched by such a table (eg. because the context has a parent, that would also receive the events).
+     */
+    static @Nullable DomainEventDispatchTable forApplicationContext(final @Nullable ApplicationContext applicationContext) {
+        if(!(applicationContext instanceof AbstractApplicationContext)
+                || applicationContext.getParent() != null) {
+            return null;
+        }
+        var context = (AbstractApplicationContext) applicationContext;
+        // if not customized, Spring's default multicaster is used, which has neither a task executor nor an error handler;
+        // only then can we safely invoke a listener directly
+        var isDirectInvocationAllowed = !context.getBeanFactory()
+                .containsBeanDefinition(AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME);
+        return of(context, isDirectInvocationAllowed);
+    }
+
+    private final @NonNull AbstractApplicationContext applicationContext;
+    private final boolean isDirectInvocationAllowed;
+
+    private final Map<Class<?>, Can<ApplicationListener<?>>> listenersByEventType = _Maps.newConcurrentHashMap();
+    private volatile int listenerCount = -1;
+    private volatile Can<ApplicationListener<?>> listenerBeans;
+
+    /**
+     * Whether there is at least one listener for events of given type.
+     */
+    boolean hasListeners(final @NonNull Class<?> eventType) {
+        return listenersFor(eventType).isNotEmpty();
+    }
+
+    /**
+     * Delivers given event to its listeners; if there are none, does nothing, if there are multiple,
+     * publishes the event via the {@link ApplicationContext}.
+     */
+    void dispatch(final @NonNull Object event) {
+        var listeners = listenersFor(event.getClass());
+        if(listeners.isEmpty()) {
+            return;
+        }
+        if(isDirectInvocationAllowed
+                && listeners.isCardinalityOne()) {
+            final ApplicationListener<PayloadApplicationEvent<Object>> listener =
+                    _Casts.uncheckedCast(listeners.getFirstElseFail());
+            listener.onApplicationEvent(new PayloadApplicationEvent<>(applicationContext, event));
+            return;
+        }
+        applicationContext.publishEvent(event);
+    }
+
+    // -- HELPER
+
+    private Can<ApplicationListener<?>> listenersFor(final Class<?> eventType) {
+        var registeredListeners = applicationContext.getApplicationListeners();
+        if(listenerCount != registeredListeners.size()) {
+            synchronized(this) {
+                if(listenerCount != registeredListeners.size()) {
+                    listenersByEventType.clear();
+                    listenerBeans = lookupListenerBeans();
+                    listenerCount = registeredListeners.size();
+                }
+            }
+        }
+        return listenersByEventType.computeIfAbsent(eventType, __->
+            resolveListeners(eventType, registeredListeners));
+    }
+
+    private Can<ApplicationListener<?>> resolveListeners(
+            final Class<?> eventType,
+            final Collection<ApplicationListener<?>> registeredListeners) {
+        var payloadEventType = ResolvableType.forClassWithGenerics(PayloadApplicationEvent.class, eventType);
+        var sourceType = applicationContext.getClass();
+        var listeners = new ArrayList<ApplicationListener<?>>();
+        registeredListeners.forEach(listener->collectIfSupports(listeners, listener, payloadEventType, sourceType));
+        listenerBeans.forEach(listener->collectIfSupports(listeners, listener, payloadEventType, sourceType));
+        return Can.ofCollection(listeners);
+    }
+
+    private static void collectIfSupports(
+            final List<ApplicationListener<?>> listeners,
+            final ApplicationListener<?> listener,
+            final ResolvableType payloadEventType,
+            final Class<?> sourceType) {
+        var smartListener = listener instanceof GenericApplicationListener
+                ? (GenericApplicationListener) listener
+                : new GenericApplicationListenerAdapter(listener);
+        if(smartListener.supportsEventType(payloadEventType)
+                && smartListener.supportsSourceType(sourceType)
+                && !listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    private Can<ApplicationListener<?>> lookupListenerBeans() {
+        return Can.ofCollection(applicationContext.getBeansOfType(ApplicationListener.class, false, false).values())
+                .map(_Casts::uncheckedCast);
+    }
+
+}
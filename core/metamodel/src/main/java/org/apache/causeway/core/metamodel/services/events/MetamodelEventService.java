@@ -18,12 +18,18 @@
  */
 package org.apache.causeway.core.metamodel.services.events;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
@@ -37,11 +43,15 @@
 import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
 
 import lombok.Builder;
+import lombok.NonNull;
 
 /**
  *
  * @since 2.0
  *
+ * @implNote once the {@link ApplicationContext} is refreshed, domain events are dispatched via a
+ * {@link DomainEventDispatchTable}, which skips events that have no listeners
+ * and delivers events that have a single listener directly to that listener.
  */
 @Service
 @Named(CausewayModuleCoreMetamodel.NAMESPACE + ".MetamodelEventService")
@@ -51,6 +61,32 @@
 public class MetamodelEventService {
 
     @Inject private ApplicationEventPublisher publisher;
+    @Inject private @Nullable ApplicationContext applicationContext; // null when used with JUnit tests
+
+    private final AtomicReference<DomainEventDispatchTable> dispatchTableRef = new AtomicReference<>();
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void onContextRefreshed(final ContextRefreshedEvent event) {
+        if(event.getApplicationContext() != applicationContext) {
+            return; // ignore refresh of child contexts
+        }
+        dispatchTableRef.set(DomainEventDispatchTable.forApplicationContext(applicationContext));
+    }
+
+    // -- DOMAIN EVENT LISTENER SUPPORT
+
+    /**
+     * Whether there is any listener for domain events of given type;
+     * as long as this cannot be decided (eg. while bootstrapping), conservatively returns {@code true}.
+     *
+     * <p>
+     * Allows callers to skip event construction altogether, if there is nobody listening.
+     */
+    public boolean hasListeners(final @NonNull Class<?> eventType) {
+        var dispatchTable = dispatchTableRef.get();
+        return dispatchTable == null
+                || dispatchTable.hasListeners(eventType);
+    }
 
     // -- METAMODEL UI EVENTS
 
@@ -71,15 +107,26 @@ public void fireTitleUiEvent(TitleUiEvent<Object> event) {
     }
 
     public void fireActionDomainEvent(ActionDomainEvent<?> event) {
-        publisher.publishEvent(event);
+        dispatchDomainEvent(event);
     }
 
     public void firePropertyDomainEvent(PropertyDomainEvent<?, ?> event) {
-        publisher.publishEvent(event);
+        dispatchDomainEvent(event);
     }
 
     public void fireCollectionDomainEvent(CollectionDomainEvent<?, ?> event) {
-        publisher.publishEvent(event);
+        dispatchDomainEvent(event);
+    }
+
+    // -- HELPER
+
+    private void dispatchDomainEvent(final Object event) {
+        var dispatchTable = dispatchTableRef.get();
+        if(dispatchTable != null) {
+            dispatchTable.dispatch(event);
+        } else {
+            publisher.publishEvent(event);
+        }
     }
 
 }
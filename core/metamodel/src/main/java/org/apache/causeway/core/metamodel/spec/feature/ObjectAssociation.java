@@ -112,6 +112,19 @@ public Can<ManagedObject> getAutoComplete(
             String searchArg,
             InteractionInitiatedBy interactionInitiatedBy);
 
+    /**
+     * Returns the requested page of {@link #getAutoComplete(ManagedObject, String, InteractionInitiatedBy)}.
+     */
+    public default Can<ManagedObject> getAutoComplete(
+            final ManagedObject object,
+            final String searchArg,
+            final int offset,
+            final int limit,
+            final InteractionInitiatedBy interactionInitiatedBy) {
+        var choices = getAutoComplete(object, searchArg, interactionInitiatedBy);
+        return choices.subCan(offset, (int) Math.min((long)offset + limit, choices.size()));
+    }
+
     int getAutoCompleteMinLength();
 
     /**
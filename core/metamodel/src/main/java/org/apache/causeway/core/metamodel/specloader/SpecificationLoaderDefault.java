@@ -18,6 +18,9 @@
  */
 package org.apache.causeway.core.metamodel.specloader;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -50,7 +53,7 @@
 import org.apache.causeway.applib.value.semantics.ValueSemanticsResolver;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
-import org.apache.causeway.commons.internal.base._Blackhole;
+import org.apache.causeway.commons.internal.context._Context;
 import org.apache.causeway.commons.internal.base._Lazy;
 import org.apache.causeway.commons.internal.base._Timing;
 import org.apache.causeway.commons.internal.collections._Lists;
@@ -283,44 +286,68 @@ public void createMetaModel() {
 
         });
 
-        //XXX[CAUSEWAY-2382] when parallel introspecting, make sure we have the mixins before their holders
-        // (observation by experiment, no real understanding as to why)
+        var metamodelSnapshot = restoreMetamodelSnapshot();
 
         _LogUtil.logBefore(log, cache, knownSpecs);
 
-        log.info(" - introspecting {} type hierarchies", knownSpecs.size());
-        introspect(Can.ofCollection(knownSpecs), IntrospectionState.TYPE_INTROSPECTED);
-
-        log.info(" - introspecting {} value types", valueTypeSpecs.size());
-        introspect(Can.ofCollection(valueTypeSpecs.values()), IntrospectionState.FULLY_INTROSPECTED);
-
-        log.info(" - introspecting {} mixins", causewayBeanTypeRegistry.getMixinTypes().size());
-        introspect(Can.ofCollection(mixinSpecs), IntrospectionState.FULLY_INTROSPECTED);
-
-        log.info(" - introspecting {} managed beans contributing (domain services)",
-                causewayBeanTypeRegistry.getManagedBeansContributing().size());
-
-        log.info(" - introspecting {} entities ({})",
-                causewayBeanTypeRegistry.getEntityTypes().size(),
-                causewayBeanTypeRegistry.determineCurrentPersistenceStack().name());
-
-        log.info(" - introspecting {} view models", causewayBeanTypeRegistry.getViewModelTypes().size());
-
-        serviceRegistry.lookupServiceElseFail(MenuBarsService.class).menuBars();
-
-        introspect(Can.ofCollection(domainObjectSpecs), IntrospectionState.FULLY_INTROSPECTED);
-
-        _LogUtil.logAfter(log, cache, knownSpecs);
+        try(var scheduler = isParallelIntrospect()
+                ? _IntrospectionScheduler.create()
+                : null) {
+
+            log.info(" - introspecting {} type hierarchies", knownSpecs.size());
+            introspect("type hierarchies", scheduler,
+                    Can.ofCollection(knownSpecs), IntrospectionState.TYPE_INTROSPECTED);
+
+            log.info(" - introspecting {} value types", valueTypeSpecs.size());
+            log.info(" - introspecting {} mixins", causewayBeanTypeRegistry.getMixinTypes().size());
+            log.info(" - introspecting {} managed beans contributing (domain services)",
+                    causewayBeanTypeRegistry.getManagedBeansContributing().size());
+            log.info(" - introspecting {} entities ({})",
+                    causewayBeanTypeRegistry.getEntityTypes().size(),
+                    causewayBeanTypeRegistry.determineCurrentPersistenceStack().name());
+            log.info(" - introspecting {} view models", causewayBeanTypeRegistry.getViewModelTypes().size());
+
+            // mixins are introspected before their holders (CAUSEWAY-2382)
+            introspect("value types and mixins", scheduler,
+                    Can.ofCollection(valueTypeSpecs.values())
+                        .addAll(Can.ofCollection(mixinSpecs))
+                        .distinct(),
+                    IntrospectionState.FULLY_INTROSPECTED);
+
+            serviceRegistry.lookupServiceElseFail(MenuBarsService.class).menuBars();
+
+            introspect("domain objects", scheduler,
+                    Can.ofCollection(domainObjectSpecs),
+                    IntrospectionState.FULLY_INTROSPECTED);
+
+            _LogUtil.logAfter(log, cache, knownSpecs);
+
+            if(metamodelSnapshot.isEmpty()
+                    && isFullIntrospect()) {
+                var snapshot = cache.snapshotSpecs();
+                log.info(" - introspecting all {} types eagerly (FullIntrospect=true)", snapshot.size());
+                introspect("all types", scheduler, snapshot, IntrospectionState.FULLY_INTROSPECTED);
+            }
+        }
 
-        if(isFullIntrospect()) {
-            var snapshot = cache.snapshotSpecs();
-            log.info(" - introspecting all {} types eagerly (FullIntrospect=true)", snapshot.size());
-            introspect(snapshot.filter(x->x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
-            introspect(snapshot.filter(x->!x.getBeanSort().isMixin()), IntrospectionState.FULLY_INTROSPECTED);
+        if(metamodelSnapshot.isPresent()) {
+            var snapshotTypeCount = metamodelSnapshot.get().streamClasses()
+                .peek(cls->loadSpecification(cls, IntrospectionState.NOT_INTROSPECTED))
+                .count();
+            log.info(" - restored {} types from metamodel snapshot, "
+                    + "skipping eager introspection and validation", snapshotTypeCount);
+            validationResult.set(validationFailures);
         }
 
         log.info(" - running remaining validators");
-        _Blackhole.consume(getOrAssessValidationResult()); // as a side effect memoizes the validation result
+        var validationStopWatch = _Timing.now();
+        var validationOutcome = getOrAssessValidationResult(); // as a side effect memoizes the validation result
+        validationStopWatch.stop();
+        log.info(" - validated in {} ms", validationStopWatch.getMillis());
+
+        if(metamodelSnapshot.isEmpty()) {
+            writeMetamodelSnapshot(validationOutcome);
+        }
 
         stopWatch.stop();
         log.info("Metamodel created in " + stopWatch.getMillis() + " ms.");
@@ -380,6 +407,79 @@ private boolean isFullIntrospect() {
         return IntrospectionMode.isFullIntrospect(causewayConfiguration, causewaySystemEnvironment);
     }
 
+    // -- METAMODEL SNAPSHOT
+
+    private CausewayConfiguration.Core.MetaModel.Introspector.Snapshot snapshotConfig() {
+        return causewayConfiguration.getCore().getMetaModel().getIntrospector().getSnapshot();
+    }
+
+    /**
+     * Returns the metamodel snapshot, if in {@code READ} mode and the snapshot matches the current
+     * programming model and types.
+     */
+    private Optional<_MetamodelSnapshot> restoreMetamodelSnapshot() {
+        var config = snapshotConfig();
+        if(config.getMode() != CausewayConfiguration.Core.MetaModel.Introspector.Snapshot.Mode.READ) {
+            return Optional.empty();
+        }
+        var resource = _Context.getDefaultClassLoader().getResourceAsStream(config.getLocation());
+        if(resource==null) {
+            log.warn(" - no metamodel snapshot found at class-path resource '{}'", config.getLocation());
+            return Optional.empty();
+        }
+        try(resource) {
+            var snapshot = _MetamodelSnapshot.read(resource).orElse(null);
+            if(snapshot==null) {
+                log.warn(" - metamodel snapshot '{}' has an unsupported format", config.getLocation());
+                return Optional.empty();
+            }
+            var mismatch = snapshot.mismatch(
+                    _MetamodelSnapshot.programmingModelFingerprint(programmingModel, causewayConfiguration),
+                    Can.ofStream(causewayBeanTypeRegistry.streamIntrospectableTypes()));
+            if(mismatch.isPresent()) {
+                log.info(" - metamodel snapshot '{}' is stale ({}), introspecting as usual",
+                        config.getLocation(), mismatch.get());
+                return Optional.empty();
+            }
+            return Optional.of(snapshot);
+        } catch (IOException e) {
+            log.warn(" - failed to read metamodel snapshot '{}'", config.getLocation(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * If in {@code WRITE} mode, writes the metamodel snapshot, provided the metamodel was fully introspected
+     * and passed validation.
+     */
+    private void writeMetamodelSnapshot(final ValidationFailures validationFailures) {
+        var config = snapshotConfig();
+        if(config.getMode() != CausewayConfiguration.Core.MetaModel.Introspector.Snapshot.Mode.WRITE) {
+            return;
+        }
+        if(!isFullIntrospect()) {
+            log.warn(" - not writing metamodel snapshot, as requires full introspection");
+            return;
+        }
+        if(validationFailures.hasFailures()) {
+            log.warn(" - not writing metamodel snapshot, as metamodel validation failed");
+            return;
+        }
+        var snapshot = _MetamodelSnapshot.of(
+                _MetamodelSnapshot.programmingModelFingerprint(programmingModel, causewayConfiguration),
+                cache.snapshotSpecs());
+        var file = Path.of(config.getOutputDirectory(), config.getLocation());
+        try {
+            Files.createDirectories(file.getParent());
+            try(var out = Files.newOutputStream(file)) {
+                snapshot.write(out);
+            }
+            log.info(" - written metamodel snapshot of {} types to {}", snapshot.getEntries().size(), file);
+        } catch (IOException e) {
+            log.warn(" - failed to write metamodel snapshot to {}", file, e);
+        }
+    }
+
     // -- SPEC LOADING
 
     @Override
@@ -641,34 +741,35 @@ private ObjectSpecification createSpecification(final CausewayBeanMetaData typeM
     private void introspectSequential(
             final Can<ObjectSpecification> specs,
             final IntrospectionState upTo) {
-        for (var spec : specs) {
+        // mixins before their holders
+        for (var spec : specs.filter(x->x.getBeanSort().isMixin())) {
+            spec.introspectUpTo(upTo);
+        }
+        for (var spec : specs.filter(x->!x.getBeanSort().isMixin())) {
             spec.introspectUpTo(upTo);
         }
     }
 
-    private void introspectParallel(
-            final Can<ObjectSpecification> specs,
-            final IntrospectionState upTo) {
-        specs.parallelStream()
-        .forEach(spec -> {
-            try {
-                spec.introspectUpTo(upTo);
-            } catch (Throwable ex) {
-                log.error(ex);
-                throw ex;
-            }
-        });
-    }
-
+    /**
+     * @param scheduler - if {@code null} introspects sequentially
+     */
     private void introspect(
+            final String phase,
+            final @Nullable _IntrospectionScheduler scheduler,
             final Can<ObjectSpecification> specs,
             final IntrospectionState upTo) {
-        var isConcurrentFromConfig = causewayConfiguration.getCore().getMetaModel().getIntrospector().isParallelize();
-        if(isConcurrentFromConfig) {
-            introspectParallel(specs, upTo);
+        var stopWatch = _Timing.now();
+        if(scheduler!=null) {
+            scheduler.introspect(specs, upTo);
         } else {
             introspectSequential(specs, upTo);
         }
+        stopWatch.stop();
+        log.info(" - introspected {} {} in {} ms", specs.size(), phase, stopWatch.getMillis());
+    }
+
+    private boolean isParallelIntrospect() {
+        return causewayConfiguration.getCore().getMetaModel().getIntrospector().isParallelize();
     }
 
     private void invalidateCache(final Class<?> cls) {
@@ -0,0 +1,234 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.facets.object.mixin.MixinFacet;
+import org.apache.causeway.core.metamodel.spec.IntrospectionState;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Introspects a batch of {@link ObjectSpecification}s on a dedicated work-stealing {@link ForkJoinPool},
+ * each as soon as its prerequisites within the batch are introspected:
+ * <ul>
+ * <li>a type's supertypes (super-class and interfaces) before the type itself</li>
+ * <li>mixins before their holders (as far as already known from the mixin's type introspection)</li>
+ * </ul>
+ * Without prerequisites, concurrently introspected specs would otherwise block on each other's
+ * (synchronized) introspection.
+ */
+@Log4j2
+@RequiredArgsConstructor
+final class _IntrospectionScheduler implements AutoCloseable {
+
+    private final @NonNull ForkJoinPool pool;
+
+    static _IntrospectionScheduler create() {
+        var threadCount = new AtomicInteger();
+        return new _IntrospectionScheduler(new ForkJoinPool(
+                Runtime.getRuntime().availableProcessors(),
+                pool->{
+                    var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName("causeway-introspector-" + threadCount.incrementAndGet());
+                    return thread;
+                },
+                null,
+                false));
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Blocks until all given specs are introspected up to given state, re-throws the first failure (if any).
+     */
+    @SneakyThrows
+    void introspect(
+            final @NonNull Can<ObjectSpecification> specs,
+            final @NonNull IntrospectionState upTo) {
+
+        if(specs.isEmpty()) {
+            return;
+        }
+
+        var prerequisites = prerequisites(specs);
+        var nodes = new IdentityHashMap<ObjectSpecification, Node>();
+        specs.forEach(spec->nodes.put(spec, new Node(spec)));
+        prerequisites.forEach((spec, prereqs)->{
+            var node = nodes.get(spec);
+            node.pending.set(prereqs.size());
+            prereqs.forEach(prereq->nodes.get(prereq).dependents.add(node));
+        });
+
+        var run = new Run(upTo, new CountDownLatch(nodes.size()));
+        nodes.values().stream()
+            .filter(node->node.pending.get()==0)
+            .collect(Collectors.toList())
+            .forEach(node->pool.execute(new IntrospectTask(run, node)));
+
+        run.remaining.await();
+
+        var failure = run.failure.get();
+        if(failure!=null) {
+            throw failure;
+        }
+    }
+
+    // -- DEPENDENCY GRAPH
+
+    /**
+     * Returns, per spec, those specs of the same batch that need to be introspected before.
+     * <p>
+     * Guaranteed to be acyclic, any specs taking part in a cycle have their prerequisites dropped.
+     */
+    static Map<ObjectSpecification, Set<ObjectSpecification>> prerequisites(
+            final @NonNull Can<ObjectSpecification> specs) {
+
+        var specsByClass = new HashMap<Class<?>, ObjectSpecification>();
+        specs.forEach(spec->specsByClass.put(spec.getCorrespondingClass(), spec));
+
+        var mixinFacets = new ArrayList<Map.Entry<ObjectSpecification, MixinFacet>>();
+        specs.forEach(spec->{
+            if(spec.getBeanSort().isMixin()) {
+                spec.lookupFacet(MixinFacet.class)
+                .ifPresent(mixinFacet->mixinFacets.add(Map.entry(spec, mixinFacet)));
+            }
+        });
+
+        var prerequisites = new IdentityHashMap<ObjectSpecification, Set<ObjectSpecification>>();
+        specs.forEach(spec->{
+            var cls = spec.getCorrespondingClass();
+            var prereqs = new LinkedHashSet<ObjectSpecification>();
+            Stream.concat(Stream.ofNullable(cls.getSuperclass()), Stream.of(cls.getInterfaces()))
+                .map(specsByClass::get)
+                .filter(prereq->prereq!=null && prereq!=spec)
+                .forEach(prereqs::add);
+            if(!spec.getBeanSort().isMixin()) {
+                mixinFacets.stream()
+                    .filter(entry->entry.getValue().isMixinFor(cls))
+                    .map(Map.Entry::getKey)
+                    .filter(mixinSpec->mixinSpec!=spec)
+                    .forEach(prereqs::add);
+            }
+            prerequisites.put(spec, prereqs);
+        });
+
+        breakCycles(prerequisites);
+        return prerequisites;
+    }
+
+    // -- HELPER
+
+    private static class Node {
+        final ObjectSpecification spec;
+        final AtomicInteger pending = new AtomicInteger();
+        final List<Node> dependents = new ArrayList<>();
+        Node(final ObjectSpecification spec) {
+            this.spec = spec;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Run {
+        final IntrospectionState upTo;
+        final CountDownLatch remaining;
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+    }
+
+    @RequiredArgsConstructor
+    private static class IntrospectTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Run run;
+        private final transient Node node;
+
+        @Override
+        protected void compute() {
+            try {
+                if(run.failure.get()==null) {
+                    node.spec.introspectUpTo(run.upTo);
+                }
+            } catch (Throwable ex) {
+                log.error(ex);
+                run.failure.compareAndSet(null, ex);
+            } finally {
+                // forked onto this worker's own deque, idle workers steal from there
+                for(var dependent : node.dependents) {
+                    if(dependent.pending.decrementAndGet()==0) {
+                        new IntrospectTask(run, dependent).fork();
+                    }
+                }
+                run.remaining.countDown();
+            }
+        }
+    }
+
+    /**
+     * Kahn's algorithm, any specs not reached take part in a cycle (or depend on one).
+     */
+    private static void breakCycles(final Map<ObjectSpecification, Set<ObjectSpecification>> prerequisites) {
+        var pending = new IdentityHashMap<ObjectSpecification, Integer>();
+        var dependents = new IdentityHashMap<ObjectSpecification, List<ObjectSpecification>>();
+        var ready = new ArrayDeque<ObjectSpecification>();
+        prerequisites.forEach((spec, prereqs)->{
+            pending.put(spec, prereqs.size());
+            prereqs.forEach(prereq->dependents.computeIfAbsent(prereq, __->new ArrayList<>()).add(spec));
+            if(prereqs.isEmpty()) {
+                ready.add(spec);
+            }
+        });
+        while(!ready.isEmpty()) {
+            var spec = ready.poll();
+            pending.remove(spec);
+            dependents.getOrDefault(spec, List.of()).forEach(dependent->{
+                if(pending.merge(dependent, -1, Integer::sum)==0) {
+                    ready.add(dependent);
+                }
+            });
+        }
+        pending.keySet().forEach(spec->{
+            log.debug("dropping introspection prerequisites of {}, as part of a cycle", spec);
+            prerequisites.get(spec).clear();
+        });
+    }
+
+}
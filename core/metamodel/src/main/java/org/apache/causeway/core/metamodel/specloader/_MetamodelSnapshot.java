@@ -0,0 +1,366 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.services.metamodel.BeanSort;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.context._Context;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.beans.CausewayBeanMetaData;
+import org.apache.causeway.core.metamodel.commons.ClassUtil;
+import org.apache.causeway.core.metamodel.progmodel.ProgrammingModel;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+/**
+ * Ahead-of-time record of a fully introspected and validated metamodel.
+ * <p>
+ * Facets hold references to methods and lambdas, hence are not persisted; instead the snapshot
+ * records the set of types that made up the metamodel, along with fingerprints of
+ * their byte-code and companion resources and of the programming model. If all of these still match
+ * on bootstrapping, the validation outcome recorded with the snapshot (no failures) still applies.
+ * A fingerprint that cannot be computed never matches.
+ */
+@RequiredArgsConstructor
+final class _MetamodelSnapshot {
+
+    private static final int MAGIC = 0x434d4d53; // "CMMS"
+    private static final int FORMAT_VERSION = 2;
+
+    @Value
+    static class Entry {
+        final @NonNull String className;
+        final @NonNull String logicalTypeName;
+        final @NonNull BeanSort beanSort;
+        final long typeFingerprint;
+    }
+
+    @Getter private final long programmingModelFingerprint;
+    @Getter private final @NonNull List<Entry> entries;
+
+    // -- FACTORIES
+
+    static _MetamodelSnapshot of(
+            final long programmingModelFingerprint,
+            final @NonNull Can<ObjectSpecification> specs) {
+        var companionResources = new CompanionResources();
+        var entries = specs.stream()
+                .filter(spec->isRecordable(spec.getCorrespondingClass()))
+                .map(spec->new Entry(
+                        spec.getCorrespondingClass().getName(),
+                        spec.getLogicalTypeName(),
+                        spec.getBeanSort(),
+                        typeFingerprint(spec.getCorrespondingClass(), companionResources)))
+                .collect(Collectors.toList());
+        return new _MetamodelSnapshot(programmingModelFingerprint, entries);
+    }
+
+    // -- FINGERPRINTS
+
+    /**
+     * Fingerprint of a class or resource that is not available (as a class-path resource), in which case
+     * the snapshot does not apply.
+     */
+    static final long UNAVAILABLE = -1L;
+
+    /**
+     * Fingerprint of the programming model (facet factories, validators and post-processors,
+     * including their byte-code) and of the configuration that affects introspection and validation,
+     * that is {@code causeway.applib.annotation.*} and {@code causeway.core.meta-model.*}
+     * (except for the snapshot settings themselves).
+     * <p>
+     * {@link #UNAVAILABLE} if the byte-code of any of these is not available.
+     */
+    static long programmingModelFingerprint(
+            final @NonNull ProgrammingModel programmingModel,
+            final @NonNull CausewayConfiguration configuration) {
+        var crc = new CRC32();
+        var classes = Stream.of(
+                programmingModel.streamFactories(),
+                programmingModel.streamValidators(),
+                programmingModel.streamPostProcessors())
+        .flatMap(s->s)
+        .map(Object::getClass)
+        .collect(Collectors.toList());
+        for(var cls : classes) {
+            var classFingerprint = classFingerprint(cls);
+            if(classFingerprint==UNAVAILABLE) {
+                return UNAVAILABLE;
+            }
+            update(crc, cls.getName());
+            update(crc, Long.toHexString(classFingerprint));
+        }
+        update(crc, String.valueOf(configuration.getApplib().getAnnotation()));
+        update(crc, String.valueOf(configuration.getCore().getMetaModel()));
+        return crc.getValue();
+    }
+
+    /**
+     * CRC32 of the given type's byte-code, or {@link #UNAVAILABLE} if not available as a class-path resource.
+     */
+    static long classFingerprint(final @NonNull Class<?> cls) {
+        var resourceName = "/" + cls.getName().replace('.', '/') + ".class";
+        try(var in = cls.getResourceAsStream(resourceName)) {
+            if(in==null) {
+                return UNAVAILABLE;
+            }
+            var crc = new CRC32();
+            update(crc, in);
+            return crc.getValue();
+        } catch (IOException e) {
+            return UNAVAILABLE;
+        }
+    }
+
+    /**
+     * CRC32 of the given type's byte-code and of its companion resources, as found by
+     * {@link CompanionResources#of(Class)}, or {@link #UNAVAILABLE} if any of these is not available.
+     */
+    static long typeFingerprint(
+            final @NonNull Class<?> cls,
+            final @NonNull CompanionResources companionResources) {
+        var classFingerprint = classFingerprint(cls);
+        if(classFingerprint==UNAVAILABLE) {
+            return UNAVAILABLE;
+        }
+        var crc = new CRC32();
+        update(crc, Long.toHexString(classFingerprint));
+        try {
+            for(var resource : companionResources.of(cls)) {
+                update(crc, resource.getFilename());
+                try(var in = resource.getInputStream()) {
+                    update(crc, in);
+                }
+                crc.update(0);
+            }
+        } catch (IOException e) {
+            return UNAVAILABLE;
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Looks up the class-path resources that accompany a type in its package and are named after it,
+     * such as {@code Customer.layout.xml}, {@code Customer-detail.layout.xml} or
+     * {@code Customer#orders.columnOrder.txt}.
+     * <p>
+     * Each package is scanned once only.
+     */
+    static class CompanionResources {
+
+        private final ResourcePatternResolver resolver =
+                new PathMatchingResourcePatternResolver(_Context.getDefaultClassLoader());
+        private final Map<String, List<Resource>> resourcesByPackage = new HashMap<>();
+
+        List<Resource> of(final @NonNull Class<?> cls) throws IOException {
+            var simpleName = cls.getSimpleName();
+            if(cls.getClassLoader()==null
+                    || simpleName.isEmpty()) {
+                return List.of(); // JDK or anonymous types
+            }
+            var packagePath = cls.getPackageName().replace('.', '/');
+            var resources = resourcesByPackage.get(packagePath);
+            if(resources==null) {
+                resources = List.of(resolver.getResources(packagePath.isEmpty()
+                        ? "classpath*:*"
+                        : "classpath*:" + packagePath + "/*"));
+                resourcesByPackage.put(packagePath, resources);
+            }
+            return resources.stream()
+                    .filter(resource->isCompanionOf(simpleName, resource.getFilename()))
+                    // sorted by name and content, so independent of class-path order and location
+                    .sorted(Comparator.comparing(Resource::getFilename)
+                            .thenComparingLong(CompanionResources::contentFingerprint))
+                    .collect(Collectors.toList());
+        }
+
+        private static boolean isCompanionOf(final String simpleName, final @Nullable String fileName) {
+            return fileName!=null
+                    && fileName.length()>simpleName.length()
+                    && fileName.startsWith(simpleName)
+                    && ".-#".indexOf(fileName.charAt(simpleName.length()))>=0
+                    && !fileName.endsWith(".class");
+        }
+
+        private static long contentFingerprint(final Resource resource) {
+            try(var in = resource.getInputStream()) {
+                var crc = new CRC32();
+                update(crc, in);
+                return crc.getValue();
+            } catch (IOException e) {
+                return UNAVAILABLE;
+            }
+        }
+    }
+
+    // -- VERIFICATION
+
+    /**
+     * Returns the reason why this snapshot does not apply to the current metamodel, or empty if it does.
+     *
+     * @param programmingModelFingerprint - of the current programming model
+     * @param introspectableTypes - as discovered by the current class-path scan
+     */
+    Optional<String> mismatch(
+            final long programmingModelFingerprint,
+            final @NonNull Can<CausewayBeanMetaData> introspectableTypes) {
+
+        if(programmingModelFingerprint == UNAVAILABLE) {
+            return Optional.of("programming model cannot be fingerprinted");
+        }
+        if(this.programmingModelFingerprint != programmingModelFingerprint) {
+            return Optional.of("programming model has changed");
+        }
+
+        var companionResources = new CompanionResources();
+        var entriesByClassName = new HashMap<String, Entry>();
+        for(var entry : entries) {
+            var cls = ClassUtil.forNameElseNull(entry.getClassName());
+            if(cls==null) {
+                return Optional.of(String.format("type %s no longer exists", entry.getClassName()));
+            }
+            var typeFingerprint = typeFingerprint(cls, companionResources);
+            if(typeFingerprint == UNAVAILABLE) {
+                return Optional.of(String.format("type %s cannot be fingerprinted", entry.getClassName()));
+            }
+            if(typeFingerprint != entry.getTypeFingerprint()) {
+                return Optional.of(String.format("type %s has changed", entry.getClassName()));
+            }
+            entriesByClassName.put(entry.getClassName(), entry);
+        }
+
+        for(var typeMeta : introspectableTypes) {
+            var entry = entriesByClassName.get(typeMeta.getCorrespondingClass().getName());
+            if(entry==null) {
+                return Optional.of(String.format("type %s is new", typeMeta.getCorrespondingClass().getName()));
+            }
+            if(entry.getBeanSort() != typeMeta.getBeanSort()
+                    || !entry.getLogicalTypeName().equals(typeMeta.getLogicalType().getLogicalTypeName())) {
+                return Optional.of(String.format("type %s has been re-classified", entry.getClassName()));
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Resolves the recorded types, as required by {@link #mismatch(long, Can)} to have succeeded.
+     */
+    Stream<Class<?>> streamClasses() {
+        return entries.stream()
+                .map(Entry::getClassName)
+                .<Class<?>>map(ClassUtil::forNameElseNull)
+                .filter(cls->cls!=null);
+    }
+
+    // -- SERIALIZATION
+
+    void write(final @NonNull OutputStream out) throws IOException {
+        var gzip = new GZIPOutputStream(out);
+        var data = new DataOutputStream(gzip);
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeLong(programmingModelFingerprint);
+        data.writeInt(entries.size());
+        for(var entry : entries) {
+            data.writeUTF(entry.getClassName());
+            data.writeUTF(entry.getLogicalTypeName());
+            data.writeUTF(entry.getBeanSort().name());
+            data.writeLong(entry.getTypeFingerprint());
+        }
+        data.flush();
+        gzip.finish();
+    }
+
+    /**
+     * Returns empty, if the stream does not hold a snapshot of the current format.
+     */
+    static Optional<_MetamodelSnapshot> read(final @NonNull InputStream in) throws IOException {
+        var data = new DataInputStream(new GZIPInputStream(in));
+        if(data.readInt() != MAGIC
+                || data.readInt() != FORMAT_VERSION) {
+            return Optional.empty();
+        }
+        var programmingModelFingerprint = data.readLong();
+        var size = data.readInt();
+        var entries = new ArrayList<Entry>(size);
+        var sortsByName = Stream.of(BeanSort.values())
+                .collect(Collectors.toMap(BeanSort::name, sort->sort));
+        for(int i = 0; i < size; i++) {
+            var className = data.readUTF();
+            var logicalTypeName = data.readUTF();
+            var beanSort = sortsByName.get(data.readUTF());
+            var typeFingerprint = data.readLong();
+            if(beanSort==null) {
+                return Optional.empty();
+            }
+            entries.add(new Entry(className, logicalTypeName, beanSort, typeFingerprint));
+        }
+        return Optional.of(new _MetamodelSnapshot(programmingModelFingerprint, entries));
+    }
+
+    // -- HELPER
+
+    private static boolean isRecordable(final @Nullable Class<?> cls) {
+        return cls!=null
+                && !cls.isPrimitive()
+                && !cls.isArray();
+    }
+
+    private static void update(final CRC32 crc, final String string) {
+        crc.update(string.getBytes(StandardCharsets.UTF_8));
+        crc.update(0);
+    }
+
+    private static void update(final CRC32 crc, final InputStream in) throws IOException {
+        var buffer = new byte[8192];
+        int n;
+        while((n = in.read(buffer))>0) {
+            crc.update(buffer, 0, n);
+        }
+    }
+
+}
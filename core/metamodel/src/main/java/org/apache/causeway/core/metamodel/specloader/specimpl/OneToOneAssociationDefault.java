@@ -295,10 +295,22 @@ public Can<ManagedObject> getAutoComplete(
         final Object[] pojoOptions = propertyAutoCompleteFacet
                 .autoComplete(ownerAdapter, searchArg, interactionInitiatedBy);
 
-        var adapters = _NullSafe.stream(pojoOptions)
-                .map(getObjectManager()::adapt)
-                .collect(Can.toCan());
-        return adapters;
+        return adapt(pojoOptions);
+    }
+
+    @Override
+    public Can<ManagedObject> getAutoComplete(
+            final ManagedObject ownerAdapter,
+            final String searchArg,
+            final int offset,
+            final int limit,
+            final InteractionInitiatedBy interactionInitiatedBy) {
+
+        final PropertyAutoCompleteFacet propertyAutoCompleteFacet = getFacet(PropertyAutoCompleteFacet.class);
+        final Object[] pojoOptions = propertyAutoCompleteFacet
+                .autoComplete(ownerAdapter, searchArg, offset, limit, interactionInitiatedBy);
+
+        return adapt(pojoOptions);
     }
 
     @Override
@@ -336,6 +348,12 @@ public String toString() {
 
     // -- HELPER
 
+    private Can<ManagedObject> adapt(final Object[] pojoOptions) {
+        return _NullSafe.stream(pojoOptions)
+                .map(getObjectManager()::adapt)
+                .collect(Can.toCan());
+    }
+
     private boolean calculateIsExplicitlyAnnotated() {
         var methodFacade = getFacetedMethod().getMethod();
         return methodFacade.synthesize(Property.class).isPresent()
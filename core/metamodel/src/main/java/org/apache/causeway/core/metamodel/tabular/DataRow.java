@@ -65,4 +65,12 @@ public interface DataRow {
     Can<ManagedObject> getCellElementsForColumn(@NonNull String columnId);
     Optional<Tokens> getFilterTokens();
 
+    /**
+     * Title, icon-name and CSS-class of this row's element.
+     * <p>
+     * Each is evaluated lazily and memoized per bookmark for the duration of the current interaction;
+     * re-attaching the element is cheap, if its page of rows was decorated via {@link DataTableInteractive#decorate(Can)}.
+     */
+    DataRowDecoration getDecoration();
+
 }
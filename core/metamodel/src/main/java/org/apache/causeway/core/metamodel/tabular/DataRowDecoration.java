@@ -0,0 +1,164 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ManagedObjects;
+import org.apache.causeway.core.metamodel.object.MmTitleUtils;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Title, icon-name and CSS-class of a table row's element,
+ * as evaluated by the batched row-decoration stage.
+ * <p>
+ * Each is evaluated lazily, only once actually asked for, and memoized per bookmark for the duration
+ * of the current interaction (or rather transaction), so render paths that only need the CSS-class
+ * (say) don't pay for the title and icon.
+ *
+ * @see DataTableInteractive#decorate(Can)
+ * @see DataRow#getDecoration()
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class DataRowDecoration {
+
+    private final @Nullable ManagedObject element;
+
+    /**
+     * The (untranslated) title of the row's element.
+     */
+    @Getter(lazy = true)
+    private final @NonNull String title = memoized(element, "titleOf", "", MmTitleUtils::titleOf);
+
+    /**
+     * May be <code>null</code> if no icon is specified.
+     */
+    @Getter(lazy = true)
+    private final @Nullable String iconName = memoized(element, "iconNameOf", null,
+            adapter->adapter.getSpecification().getIconName(adapter));
+
+    /**
+     * May be <code>null</code> if no CSS-class is specified.
+     */
+    @Getter(lazy = true)
+    private final @Nullable String cssClass = memoized(element, "cssClassOf", null,
+            adapter->adapter.getSpecification().getCssClass(adapter));
+
+    // -- FACTORIES
+
+    /**
+     * Decorates given elements (usually a page of rows) in one go.
+     * <p>
+     * Fetches the page's detached entities in bulk, one query per entity type, and decorates the
+     * fetched (attached) pojos instead, such that evaluating any of the decorations does not have
+     * to re-fetch each row on its own.
+     */
+    public static Can<DataRowDecoration> decorate(final @NonNull Can<ManagedObject> elements) {
+        var fetchedPojos = fetchDetachedEntities(elements);
+        return elements
+                .map(element->fetchedPojos.isEmpty()
+                        ? element
+                        : reattached(element, fetchedPojos))
+                .map(DataRowDecoration::decorationOf);
+    }
+
+    /**
+     * Decorates a single element.
+     */
+    public static DataRowDecoration decorationOf(final @Nullable ManagedObject element) {
+        return new DataRowDecoration(element);
+    }
+
+    // -- HELPER
+
+    private static <T> T memoized(
+            final @Nullable ManagedObject element,
+            final String aspect,
+            final @Nullable T valueIfEmpty,
+            final Function<ManagedObject, T> evaluator) {
+        if(ManagedObjects.isNullOrUnspecifiedOrEmpty(element)) {
+            return valueIfEmpty;
+        }
+        if(!element.getSpecification().isEntityOrViewModel()
+                || !element.getInteractionService().isInInteraction()) {
+            return evaluator.apply(element);
+        }
+        var bookmark = element.getBookmark().orElse(null);
+        if(bookmark==null) {
+            return evaluator.apply(element);
+        }
+        return element.lookupServiceElseFail(QueryResultsCache.class)
+                .execute(()->evaluator.apply(element), DataRowDecoration.class, aspect, bookmark);
+    }
+
+    /**
+     * @return the fetched pojos by bookmark (of detached entities only)
+     */
+    private static Map<Bookmark, Object> fetchDetachedEntities(final Can<ManagedObject> elements) {
+        var fetchedPojos = new HashMap<Bookmark, Object>();
+        elements.stream()
+            .filter(element->!ManagedObjects.isNullOrUnspecifiedOrEmpty(element))
+            .filter(element->element.getSpecification().isEntity())
+            .filter(element->!element.getEntityState().isAttached())
+            .collect(Collectors.groupingBy(
+                    ManagedObject::getSpecification,
+                    LinkedHashMap<ObjectSpecification, Can<Bookmark>>::new,
+                    Collectors.mapping(element->element.getBookmark().orElse(null), Can.toCan())))
+            .forEach((spec, bookmarks)->{
+                var distinctBookmarks = bookmarks.distinct();
+                if(distinctBookmarks.isCardinalityMultiple()) {
+                    fetchedPojos.putAll(spec.entityFacetElseFail().fetchByBookmarks(distinctBookmarks));
+                }
+            });
+        return fetchedPojos;
+    }
+
+    private static ManagedObject reattached(
+            final @Nullable ManagedObject element,
+            final Map<Bookmark, Object> fetchedPojos) {
+        if(ManagedObjects.isNullOrUnspecifiedOrEmpty(element)
+                || !element.getSpecification().isEntity()) {
+            return element;
+        }
+        var bookmark = element.getBookmark().orElse(null);
+        var fetchedPojo = bookmark!=null
+                ? fetchedPojos.get(bookmark)
+                : null;
+        return fetchedPojo!=null
+                ? ManagedObject.entity(element.getSpecification(), fetchedPojo, Optional.of(bookmark))
+                : element;
+    }
+
+}
@@ -114,6 +114,16 @@ public Optional<Comparator<ManagedObject>> asComparator(final Can<? extends Data
 
     int getPageSize(int pageSizeDefault);
 
+    // -- DECORATION
+
+    /**
+     * Decorates given (page of) rows in one go, fetching their detached entities in bulk;
+     * title, icon-name and CSS-class are then evaluated lazily, only as required.
+     *
+     * @see DataRow#getDecoration()
+     */
+    Can<DataRowDecoration> decorate(Can<DataRow> dataRows);
+
     // -- SORTING
 
     Bindable<ColumnSort> getColumnSort();
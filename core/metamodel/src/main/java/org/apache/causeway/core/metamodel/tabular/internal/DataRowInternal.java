@@ -35,6 +35,7 @@
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
 import org.apache.causeway.core.metamodel.tabular.DataColumn;
 import org.apache.causeway.core.metamodel.tabular.DataRow;
+import org.apache.causeway.core.metamodel.tabular.DataRowDecoration;
 
 import lombok.Getter;
 import lombok.NonNull;
@@ -107,4 +108,9 @@ public Can<ManagedObject> getCellElementsForColumn(final @NonNull String columnI
                 .orElseGet(Can::empty);
     }
 
+    @Override
+    public DataRowDecoration getDecoration() {
+        return DataRowDecoration.decorationOf(getRowElement());
+    }
+
 }
@@ -34,7 +34,9 @@
 import org.apache.causeway.applib.services.filter.CollectionFilterService;
 import org.apache.causeway.commons.binding.Bindable;
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.collections.IntCan;
 import org.apache.causeway.commons.functional.IndexedFunction;
+import org.apache.causeway.commons.internal.base._Strings;
 import org.apache.causeway.commons.internal.binding._BindableAbstract;
 import org.apache.causeway.commons.internal.binding._Bindables;
 import org.apache.causeway.commons.internal.binding._Observables;
@@ -52,6 +54,7 @@
 import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
 import org.apache.causeway.core.metamodel.tabular.DataColumn;
 import org.apache.causeway.core.metamodel.tabular.DataRow;
+import org.apache.causeway.core.metamodel.tabular.DataRowDecoration;
 import org.apache.causeway.core.metamodel.tabular.DataTableInteractive;
 import org.apache.causeway.core.metamodel.tabular.DataTableMemento;
 import org.apache.causeway.core.metamodel.tabular.internal._FilterUtils.FilterHandler;
@@ -106,6 +109,7 @@ public static DataTableInternal forAction(
     @Getter private final @NonNull _BindableAbstract<String> searchArgument; // filter the data rows
 
     @Getter private final @NonNull LazyObservable<Can<DataRow>> dataRows;
+    private final @NonNull LazyObservable<Can<DataRow>> dataRowsSorted;
     @Getter private final @NonNull LazyObservable<Can<DataRow>> dataRowsFilteredAndSorted;
     @Getter private final @NonNull LazyObservable<Can<DataRow>> dataRowsSelected;
     @Getter private final _BindableAbstract<Boolean> selectAllToggle;
@@ -116,6 +120,12 @@ public static DataTableInternal forAction(
 
     private final Optional<FilterHandler> filterHandler;
 
+    /**
+     * Lazily built on first search, within the calling thread (as the rows' tokens are derived from their
+     * domain objects, which must not be accessed outside of the current interaction).
+     */
+    private Optional<_TokenIndex> tokenIndex;
+
     /**
      * On data row selection changes (originating from UI),
      * the framework updates this {@link Bindable},
@@ -149,13 +159,18 @@ private DataTableInternal(
                 .map(IndexedFunction.zeroBased((rowIndex, element)->new DataRowInternal(rowIndex, this, element, tokens(element))))
                 .collect(Can.toCan()));
 
-        this.dataRowsFilteredAndSorted = _Observables.lazy(()->
+        // sorting is independent of the search argument, hence is not repeated on each search edit
+        this.dataRowsSorted = _Observables.lazy(()->
             dataRows.getValue().stream()
-                .filter(adaptSearchPredicate())
                 .sorted(sortingComparator()
                         .orElseGet(()->(a, b)->0)) // else don't sort (no-op comparator for streams)
                 .collect(Can.toCan()));
 
+        this.dataRowsFilteredAndSorted = _Observables.lazy(()->
+            dataRowsSorted.getValue().stream()
+                .filter(adaptSearchPredicate())
+                .collect(Can.toCan()));
+
         this.dataRowsSelected = _Observables.lazy(()->
             dataRows.getValue().stream()
                 .filter(dataRow->dataRow.getSelectToggle().getValue().booleanValue())
@@ -177,6 +192,7 @@ private DataTableInternal(
         });
 
         this.columnSort.addListener((e,o,n)->{
+            dataRowsSorted.invalidate();
             dataRowsFilteredAndSorted.invalidate();
         });
 
@@ -203,6 +219,11 @@ public int getPageSize(final int pageSizeDefault) {
         return getMetaModel().getPageSize().orElse(pageSizeDefault);
     }
 
+    @Override
+    public Can<DataRowDecoration> decorate(final Can<DataRow> dataRows) {
+        return DataRowDecoration.decorate(dataRows.map(DataRow::getRowElement));
+    }
+
     @Override
     public Optional<TableDecorator> getTableDecoratorIfAny() {
         return getMetaModel().getTableDecorator();
@@ -247,10 +268,36 @@ public String getSearchPromptPlaceholderText() {
     }
 
     private Predicate<DataRow> adaptSearchPredicate() {
-        return filterHandler.isEmpty()
-                ? dataRow->true
-                : dataRow->filterHandler.get().getDataRowFilter()
-                    .test(dataRow, searchArgument.getValue());
+        if(filterHandler.isEmpty()) {
+            return dataRow->true;
+        }
+        var searchArg = searchArgument.getValue();
+        var dataRowFilter = filterHandler.get().getDataRowFilter();
+        // the index narrows down the candidates, the filter remains authoritative
+        return lookupTokenIndex()
+                .flatMap(index->index.search(searchArg))
+                .<Predicate<DataRow>>map(candidates->dataRow->
+                    candidates.get(dataRow.getRowIndex())
+                        && dataRowFilter.test(dataRow, searchArg))
+                .orElseGet(()->dataRow->dataRowFilter.test(dataRow, searchArg));
+    }
+
+    /**
+     * Returns the {@link _TokenIndex} for this table, provided the {@link CollectionFilterService}
+     * opted in and the rows' tokens are indexable.
+     */
+    private Optional<_TokenIndex> lookupTokenIndex() {
+        if(filterHandler.isEmpty()
+                || !filterHandler.get().tokenIndex) {
+            return Optional.empty(); // the tokenFilter might match rows, the index would rule out
+        }
+        if(_Strings.isNullOrEmpty(searchArgument.getValue())) {
+            return Optional.empty(); // don't bother building an index, until actually searched for
+        }
+        if(tokenIndex==null) {
+            tokenIndex = _TokenIndex.tryBuild(dataRows.getValue());
+        }
+        return tokenIndex;
     }
 
     @Nullable
@@ -350,6 +397,15 @@ public Set<Integer> getSelectedRowIndexes() {
             .collect(Collectors.toSet());
     }
 
+    /**
+     * Unboxed variant of {@link #getSelectedRowIndexes()}, as held by the {@link Memento}.
+     */
+    private IntCan selectedRowIndexes() {
+        return IntCan.ofStream(dataRowsSelected.getValue()
+            .stream()
+            .mapToInt(DataRow::getRowIndex));
+    }
+
     @Override
     public ActionInteraction startAssociatedActionInteraction(final String actionId, final Where where) {
         var featureId = managedMember.getIdentifier();
@@ -416,7 +472,7 @@ static Memento create(
                     tableInteractive.where,
                     tableInteractive.exportAll(),
                     tableInteractive.searchArgument.getValue(),
-                    tableInteractive.getSelectedRowIndexes(),
+                    tableInteractive.selectedRowIndexes(),
                     tableInteractive.getColumnSort().getValue());
         }
 
@@ -425,7 +481,7 @@ static Memento create(
         private final @NonNull DataTable dataTable;
 
         private @Nullable String searchArgument;
-        private @NonNull Set<Integer> selectedRowIndexes;
+        private @NonNull IntCan selectedRowIndexes;
         private @Nullable DataTableInteractive.ColumnSort columnSort;
 
         @Override
@@ -459,8 +515,8 @@ public DataTableInternal getDataTableModel(final ManagedObject owner) {
             }
             dataTableInteractive.searchArgument.setValue(searchArgument);
             dataTableInteractive.doProgrammaticToggle(()->{
-                dataTableInteractive.dataRows.getValue().stream()
-                    .filter(dataRow->selectedRowIndexes.contains(dataRow.getRowIndex()))
+                // row indexes coincide with the positions within dataRows
+                selectedRowIndexes.pickFrom(dataTableInteractive.dataRows.getValue())
                     .forEach(dataRow->dataRow.getSelectToggle().setValue(true));
             });
             return dataTableInteractive;
@@ -472,7 +528,7 @@ public void setupBindings(final DataTableInteractive tableInteractive) {
                 this.searchArgument = searchArg;
             });
             ((DataTableInternal)tableInteractive).selectionChanges.addListener((e, o, n)->{
-                this.selectedRowIndexes = tableInteractive.getSelectedRowIndexes();
+                this.selectedRowIndexes = ((DataTableInternal)tableInteractive).selectedRowIndexes();
             });
         }
 
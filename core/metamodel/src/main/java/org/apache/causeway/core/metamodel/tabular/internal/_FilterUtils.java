@@ -43,6 +43,10 @@ static class FilterHandler {
         @NonNull final Function<Object, Tokens> tokenizer;
         @NonNull final BiPredicate<Tokens, String> tokenFilter;
         @NonNull final String searchPromptPlaceholderText;
+        /**
+         * Whether the {@link #tokenFilter} allows the rows to be pre-narrowed by a {@link _TokenIndex}.
+         */
+        final boolean tokenIndex;
 
         @NonNull final BiPredicate<DataRow, String> getDataRowFilter() {
             return (dataRow, searchArg) ->
@@ -84,7 +88,8 @@ Optional<FilterHandler> createFilterHandler(final @NonNull ObjectSpecification e
         return Optional.of(new FilterHandler(
                 _Casts.uncheckedCast(tokenizer),
                 tokenFilter,
-                searchPromptPlaceholderText));
+                searchPromptPlaceholderText,
+                collectionFilterService.tokenIndex(elementType.getCorrespondingClass())));
     }
 
 }
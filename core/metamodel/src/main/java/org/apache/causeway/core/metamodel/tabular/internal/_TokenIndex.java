@@ -0,0 +1,162 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular.internal;
+
+import java.util.BitSet;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.services.filter.CollectionFilterService.PrefixMatchingTokens;
+import org.apache.causeway.applib.services.filter.CollectionFilterService.Tokens;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.tabular.DataRow;
+
+/**
+ * Inverted index over the {@link PrefixMatchingTokens} of a table's data rows,
+ * mapping each word to the (zero-based) indexes of the rows it occurs in.
+ * <p>
+ * Remembers the last search, such that a search that just extends the previous one
+ * (as is the case when typing) only needs to narrow down the previous matches.
+ */
+final class _TokenIndex {
+
+    private final NavigableMap<String, BitSet> rowsByWord = new TreeMap<>();
+    private final String[][] wordsByRow;
+
+    private String[] lastSearchWords;
+    private BitSet lastMatches;
+
+    private _TokenIndex(final String[][] wordsByRow) {
+        this.wordsByRow = wordsByRow;
+        for (int rowIndex = 0; rowIndex < wordsByRow.length; rowIndex++) {
+            for(var word : wordsByRow[rowIndex]) {
+                rowsByWord.computeIfAbsent(word, __->new BitSet()).set(rowIndex);
+            }
+        }
+    }
+
+    /**
+     * Returns an index for given data rows, provided all their tokens (if any) are {@link PrefixMatchingTokens}.
+     */
+    static Optional<_TokenIndex> tryBuild(final Can<DataRow> dataRows) {
+        var wordsByRow = new String[dataRows.size()][];
+        for(var dataRow : dataRows) {
+            var tokens = dataRow.getFilterTokens().orElse(null);
+            if(tokens!=null
+                    && !(tokens instanceof PrefixMatchingTokens)) {
+                return Optional.empty(); // unknown semantics, cannot index
+            }
+            wordsByRow[dataRow.getRowIndex()] = words(tokens);
+        }
+        return Optional.of(new _TokenIndex(wordsByRow));
+    }
+
+    /**
+     * Returns the indexes of the rows matching given searchArg,
+     * or {@link Optional#empty()} if the searchArg has no words (which is left to the caller).
+     */
+    synchronized Optional<BitSet> search(final @Nullable String searchArg) {
+        var searchWords = PrefixMatchingTokens.streamWords(searchArg).toArray(String[]::new);
+        if(searchWords.length==0) {
+            return Optional.empty();
+        }
+        var matches = lastMatches!=null
+                && extendsWords(searchWords, lastSearchWords)
+                ? narrow(lastMatches, searchWords)
+                : lookup(searchWords);
+        this.lastSearchWords = searchWords;
+        this.lastMatches = matches;
+        return Optional.of((BitSet)matches.clone());
+    }
+
+    // -- HELPER
+
+    private BitSet lookup(final String[] searchWords) {
+        BitSet matches = null;
+        for(var searchWord : searchWords) {
+            var rows = new BitSet();
+            rowsByWord.subMap(searchWord, true, searchWord + Character.MAX_VALUE, false)
+                .values()
+                .forEach(rows::or);
+            if(matches==null) {
+                matches = rows;
+            } else {
+                matches.and(rows);
+            }
+            if(matches.isEmpty()) {
+                break;
+            }
+        }
+        return matches;
+    }
+
+    private BitSet narrow(final BitSet previousMatches, final String[] searchWords) {
+        var matches = new BitSet();
+        previousMatches.stream()
+            .filter(rowIndex->matches(wordsByRow[rowIndex], searchWords))
+            .forEach(matches::set);
+        return matches;
+    }
+
+    /**
+     * Whether each of the previous search words is a prefix of some of the current ones,
+     * that is, whether the current search can only narrow down the previous matches.
+     */
+    private static boolean extendsWords(final String[] searchWords, final String[] previousSearchWords) {
+        for(var previous : previousSearchWords) {
+            var extended = false;
+            for(var current : searchWords) {
+                if(current.startsWith(previous)) {
+                    extended = true;
+                    break;
+                }
+            }
+            if(!extended) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(final String[] words, final String[] searchWords) {
+        for(var searchWord : searchWords) {
+            var found = false;
+            for(var word : words) {
+                if(word.startsWith(searchWord)) {
+                    found = true;
+                    break;
+                }
+            }
+            if(!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String[] words(final @Nullable Tokens tokens) {
+        return tokens==null
+                ? new String[0]
+                : ((PrefixMatchingTokens)tokens).streamWords().toArray(String[]::new);
+    }
+
+}
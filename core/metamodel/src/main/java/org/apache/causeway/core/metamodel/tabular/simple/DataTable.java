@@ -29,7 +29,6 @@
 
 import org.apache.causeway.applib.annotation.Where;
 import org.apache.causeway.applib.query.Query;
-import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.value.Blob;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.assertions._Assert;
@@ -42,6 +41,7 @@
 import org.apache.causeway.core.metamodel.object.ManagedObject;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectBulkLoader;
 import org.apache.causeway.core.metamodel.objectmanager.ObjectManager;
+import org.apache.causeway.core.metamodel.objectmanager.memento.PackedBookmarks;
 import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
 import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
@@ -326,18 +326,18 @@ private void readObject(final ObjectInputStream stream) throws InvalidObjectExce
     }
 
     private static class SerializationProxy implements Serializable {
-        private static final long serialVersionUID = 1L;
+        private static final long serialVersionUID = 2L;
 
         private final @NonNull Class<?> elementTypeClass;
-        private final @NonNull Can<Bookmark> rowElementBookmarks;
+        private final @NonNull PackedBookmarks rowElementBookmarks;
         private final @Nullable String tableFriendlyName;
         private final @NonNull Can<String> columnIds;
 
         private SerializationProxy(final DataTable dataTable) {
             this.elementTypeClass = dataTable.getElementType().getCorrespondingClass();
-            this.rowElementBookmarks = dataTable.streamDataElements()
+            this.rowElementBookmarks = PackedBookmarks.pack(dataTable.streamDataElements()
                     .map(ManagedObject::getBookmarkElseFail)
-                    .collect(Can.toCan());
+                    .collect(Can.toCan()));
             this.tableFriendlyName = dataTable.getTableFriendlyName();
             this.columnIds = dataTable.getDataColumns().map(DataColumn::getColumnId);
         }
@@ -347,7 +347,9 @@ private Object readResolve() {
             var elementType = MetaModelContext.instanceElseFail().specForTypeElseFail(elementTypeClass);
             var dataTable = new DataTable(elementType, columnIds
                     .map(columnId->elementType.getAssociationElseFail(columnId, MixedIn.INCLUDED)));
-            var rowElements = rowElementBookmarks.map(objectManager::loadObjectElseFail);
+            var bookmarks = rowElementBookmarks.unpack();
+            objectManager.prefetch(bookmarks); // fetch in bulk, rather than one by one
+            var rowElements = bookmarks.map(objectManager::loadObjectElseFail);
             dataTable.setDataElements(rowElements);
             dataTable.tableFriendlyName = tableFriendlyName;
             return dataTable;
@@ -214,6 +214,35 @@ class Customer {
         });
     }
 
+    @Test
+    void pagedAutoCompleteFacetFoundAndMethodRemoved() {
+        var facetFactory = new PropertyAutoCompleteFacetMethodFactory(getMetaModelContext());
+        @SuppressWarnings("unused")
+        class Customer {
+            public String getFirstName() { return null; }
+            public String[] autoCompleteFirstName(final String searchArg, final int offset, final int limit) { return null; }
+            public String[] autoCompleteFirstName(final String searchArg) { return null; }
+        }
+
+        final ResolvedMethod propertyAutoCompleteMethod = findMethodExactOrFail(Customer.class, "autoCompleteFirstName",
+                new Class[]{String.class, int.class, int.class});
+        final ResolvedMethod stringOnlyAutoCompleteMethod = findMethodExactOrFail(Customer.class, "autoCompleteFirstName",
+                new Class[]{String.class});
+
+        propertyScenario(Customer.class, "firstName", (processMethodContext, facetHolder, facetedMethod)->{
+            // when
+            facetFactory.process(processMethodContext);
+            // then
+            final Facet facet = facetedMethod.getFacet(PropertyAutoCompleteFacet.class);
+            assertNotNull(facet);
+            assertTrue(facet instanceof PropertyAutoCompleteFacetMethod);
+            var propertyAutoCompleteFacet = (PropertyAutoCompleteFacetMethod) facet;
+            assertMethodEqualsFirstIn(propertyAutoCompleteMethod, propertyAutoCompleteFacet);
+            assertMethodWasRemoved(propertyAutoCompleteMethod);
+            assertMethodWasRemoved(stringOnlyAutoCompleteMethod);
+        });
+    }
+
     @Test
     void defaultFacetFoundAndMethodRemoved() {
         var facetFactory = new PropertyDefaultFacetViaMethodFactory(getMetaModelContext());
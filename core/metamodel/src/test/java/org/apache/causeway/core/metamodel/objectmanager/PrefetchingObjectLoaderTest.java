@@ -0,0 +1,185 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.objectmanager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactn.Interaction;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.repository.EntityState;
+import org.apache.causeway.applib.services.xactn.TransactionId;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.ProtoObject;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+
+class PrefetchingObjectLoaderTest {
+
+    static class Customer {}
+
+    private final Map<Bookmark, Object> database = new HashMap<>();
+    private final AtomicInteger singleFetches = new AtomicInteger();
+    private final AtomicInteger bulkFetches = new AtomicInteger();
+
+    private ObjectSpecification spec;
+    private _PrefetchingObjectLoader loader;
+    private TransactionId transactionId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 3; i++) {
+            database.put(bookmark(i), new Customer());
+        }
+
+        var entityFacet = mock(EntityFacet.class);
+        when(entityFacet.getEntityState(any())).thenReturn(EntityState.ATTACHED);
+        when(entityFacet.validateBookmark(any())).thenAnswer(invocation->invocation.getArgument(0));
+        when(entityFacet.fetchByBookmarks(any())).thenAnswer(invocation->{
+            bulkFetches.incrementAndGet();
+            Can<Bookmark> bookmarks = invocation.getArgument(0);
+            var result = new HashMap<Bookmark, Object>();
+            bookmarks.forEach(bookmark->result.put(bookmark, database.get(bookmark)));
+            return result;
+        });
+
+        spec = mock(ObjectSpecification.class);
+        when(spec.isEntity()).thenReturn(true);
+        when(spec.entityFacetElseFail()).thenReturn(entityFacet);
+        var specLoader = mock(SpecificationLoader.class);
+        when(specLoader.specForType(Customer.class)).thenReturn(Optional.of(spec));
+        when(spec.getSpecificationLoader()).thenReturn(specLoader);
+
+        var interaction = mock(Interaction.class);
+        var attributes = new HashMap<Class<?>, Object>();
+        when(interaction.computeAttributeIfAbsent(any(), any())).thenAnswer(invocation->{
+            Class<?> type = invocation.getArgument(0);
+            Function<Class<?>, ?> factory = invocation.getArgument(1);
+            return attributes.computeIfAbsent(type, factory);
+        });
+        var interactionService = mock(InteractionService.class);
+        when(interactionService.currentInteraction()).thenReturn(Optional.of(interaction));
+        transactionId = TransactionId.of(UUID.randomUUID(), 0, "jdo");
+        var transactionService = mock(TransactionService.class);
+        when(transactionService.currentTransactionId()).thenAnswer(__->Optional.ofNullable(transactionId));
+        var mmc = MetaModelContext_forTesting.builder()
+                .interactionService(interactionService)
+                .transactionService(transactionService)
+                .build();
+
+        ObjectLoader delegate = request->{
+            singleFetches.incrementAndGet();
+            var pojo = database.get(request.getBookmark());
+            var managedObject = mock(ManagedObject.class);
+            when(managedObject.getPojo()).thenReturn(pojo);
+            return managedObject;
+        };
+        loader = new _PrefetchingObjectLoader(mmc, delegate);
+    }
+
+    @Test
+    void prefetchedEntities_areServedWithoutFurtherFetches() {
+        loader.prefetch(Can.of(request(1), request(2), request(3)));
+        assertEquals(1, bulkFetches.get());
+
+        loader.loadObject(request(1));
+        loader.loadObject(request(2));
+        loader.loadObject(request(1));
+        assertEquals(0, singleFetches.get());
+
+        var statistics = loader.getStatistics();
+        assertEquals(3, statistics.getPrefetched());
+        assertEquals(2, statistics.getPrefetchHits());
+        assertEquals(3, statistics.getHits());
+        assertEquals(0, statistics.getMisses());
+        assertEquals(1, statistics.getWasted());
+    }
+
+    @Test
+    void loadedEntities_areNotRemembered() {
+        var first = loader.loadObject(request(1));
+        assertSame(database.get(bookmark(1)), first.getPojo());
+        loader.loadObject(request(1));
+        assertEquals(2, singleFetches.get());
+        assertEquals(2, loader.getStatistics().getMisses());
+        assertEquals(0, loader.getStatistics().getHits());
+    }
+
+    @Test
+    void prefetchedEntities_areForgotten_onceTransactionEnded() {
+        loader.prefetch(Can.of(request(1), request(2)));
+        loader.loadObject(request(1));
+        assertEquals(0, singleFetches.get());
+
+        transactionId = TransactionId.of(transactionId.getInteractionId(), 1, "jdo");
+        loader.loadObject(request(2));
+        assertEquals(1, singleFetches.get());
+
+        // prefetched again within the new transaction
+        loader.prefetch(Can.of(request(1), request(2)));
+        assertEquals(2, bulkFetches.get());
+    }
+
+    @Test
+    void outsideOfTransaction_nothingIsPrefetched() {
+        transactionId = null;
+        loader.prefetch(Can.of(request(1), request(2)));
+        assertEquals(0, bulkFetches.get());
+        loader.loadObject(request(1));
+        assertEquals(1, singleFetches.get());
+    }
+
+    @Test
+    void detachedEntities_areReloaded() {
+        loader.prefetch(Can.of(request(1), request(2)));
+        when(spec.entityFacetElseFail().getEntityState(any())).thenReturn(EntityState.DETACHED);
+        loader.loadObject(request(1));
+        assertEquals(1, singleFetches.get());
+        assertEquals(0, loader.getStatistics().getPrefetchHits());
+    }
+
+    // -- HELPER
+
+    private static Bookmark bookmark(final int id) {
+        return Bookmark.forLogicalTypeNameAndIdentifier("demo.Customer", "" + id);
+    }
+
+    private ProtoObject request(final int id) {
+        return ProtoObject.of(spec, bookmark(id));
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.objectmanager.memento;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.id.LogicalType;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.internal.resources._Serializables;
+import org.apache.causeway.commons.internal.testing._SerializationTester;
+
+class ObjectMementoCollectionTest {
+
+    static class Customer {}
+    static class Order {}
+
+    final LogicalType customerType = LogicalType.eager(Customer.class, "test.Customer");
+
+    @Test
+    void packedBookmarks_roundtrip_homogeneous() {
+        var bookmarks = List.of(
+                Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "1"),
+                Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "2").withHintId("hint"));
+
+        var packed = PackedBookmarks.pack(bookmarks);
+
+        assertTrue(packed.isHomogeneous());
+        assertEquals(2, packed.size());
+        assertEquals("hint", packed.get(1).getHintId());
+        assertEquals(bookmarks, packed.unpack().toList());
+        _SerializationTester.assertEqualsOnRoundtrip(packed);
+    }
+
+    @Test
+    void packedBookmarks_roundtrip_heterogeneous() {
+        var bookmarks = List.of(
+                Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "1"),
+                Bookmark.forLogicalTypeNameAndIdentifier("test.Order", "1"),
+                Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "2"));
+
+        var packed = PackedBookmarks.pack(bookmarks);
+
+        assertEquals(false, packed.isHomogeneous());
+        assertEquals(bookmarks, _SerializationTester.roundtrip(packed).unpack().toList());
+    }
+
+    @Test
+    void collection_roundtrip_usesColumnarForm() {
+        var mementos = new ArrayList<ObjectMemento>();
+        for(int i=0; i<1000; ++i) {
+            mementos.add(ObjectMementoForScalar.createForLookup(
+                    customerType,
+                    Bookmark.forLogicalTypeAndIdentifier(customerType, "" + i),
+                    "Customer " + i));
+        }
+        var collection = ObjectMementoCollection.of(mementos, customerType);
+
+        var afterRoundtrip = _SerializationTester.roundtrip(collection);
+
+        assertNotSame(collection, afterRoundtrip);
+        assertEquals(collection, afterRoundtrip);
+        var unwrapped = afterRoundtrip.unwrapList();
+        assertEquals(1000, unwrapped.size());
+        assertEquals("Customer 42", unwrapped.get(42).getTitle());
+        assertEquals(mementos.get(42).getBookmark(), unwrapped.get(42).getBookmark());
+
+        // columnar form is considerably smaller than the element-wise one
+        var columnarSize = _Serializables.write(collection).length;
+        var elementWiseSize = _Serializables.write(mementos).length;
+        assertTrue(columnarSize < elementWiseSize / 2,
+                () -> String.format("columnar %d vs element-wise %d", columnarSize, elementWiseSize));
+    }
+
+    @Test
+    void collection_roundtrip_empty() {
+        var collection = ObjectMementoCollection.of(new ArrayList<>(), customerType);
+        assertEquals(collection, _SerializationTester.roundtrip(collection));
+    }
+
+}
@@ -91,13 +91,14 @@ public void parentAlreadyEncountered() throws Exception {
             // given
             final ApplicationFeatureId packageId = ApplicationFeatureId.newNamespace("com.mycompany");
             final ApplicationFeature pkg = newApplicationFeature(packageId);
-            applicationFeatureRepository.namespaceFeatures.put(packageId, pkg);
+            final ApplicationFeatureSnapshot.Builder builder = applicationFeatureRepository.newSnapshotBuilder();
+            builder.namespaceFeatures.put(packageId, pkg);
 
             final ApplicationFeatureId classFeatureId = ApplicationFeatureId.newType("com.mycompany.Bar");
 
             // when
             final ApplicationFeatureId applicationFeatureId =
-                    applicationFeatureRepository.addClassParent(classFeatureId);
+                    builder.addClassParent(classFeatureId);
 
             // then
             assertThat(applicationFeatureId, is(equalTo(packageId)));
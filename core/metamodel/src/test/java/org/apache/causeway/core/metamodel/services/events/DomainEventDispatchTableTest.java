@@ -0,0 +1,111 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.services.events;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.EventListener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DomainEventDispatchTableTest {
+
+    static class ListenedEvent {}
+    static class ListenedSubEvent extends ListenedEvent {}
+    static class UnlistenedEvent {}
+
+    static class Subscriber {
+        final List<Object> received = new ArrayList<>();
+        @EventListener(ListenedEvent.class)
+        public void on(final ListenedEvent event) {
+            received.add(event);
+        }
+    }
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private Subscriber subscriber;
+    private DomainEventDispatchTable dispatchTable;
+
+    @BeforeEach
+    void setUp() {
+        applicationContext = new AnnotationConfigApplicationContext(Subscriber.class);
+        subscriber = applicationContext.getBean(Subscriber.class);
+        dispatchTable = DomainEventDispatchTable.forApplicationContext(applicationContext);
+        assertNotNull(dispatchTable);
+    }
+
+    @AfterEach
+    void tearDown() {
+        applicationContext.close();
+    }
+
+    @Test
+    void hasListeners() {
+        assertTrue(dispatchTable.hasListeners(ListenedEvent.class));
+        assertTrue(dispatchTable.hasListeners(ListenedSubEvent.class));
+        assertFalse(dispatchTable.hasListeners(UnlistenedEvent.class));
+    }
+
+    @Test
+    void dispatch_toSingleListener() {
+        var event = new ListenedSubEvent();
+        dispatchTable.dispatch(event);
+        dispatchTable.dispatch(new UnlistenedEvent());
+
+        assertEquals(List.of(event), subscriber.received);
+    }
+
+    @Test
+    void dispatch_whenListenerAddedLater() {
+        var received = new ArrayList<Object>();
+        assertFalse(dispatchTable.hasListeners(UnlistenedEvent.class));
+
+        applicationContext.addApplicationListener((ApplicationListener<PayloadApplicationEvent<UnlistenedEvent>>)
+                payloadEvent->received.add(payloadEvent.getPayload()));
+
+        assertTrue(dispatchTable.hasListeners(UnlistenedEvent.class));
+        var event = new UnlistenedEvent();
+        dispatchTable.dispatch(event);
+        assertEquals(List.of(event), received);
+    }
+
+    @Test
+    void dispatch_toMultipleListeners() {
+        var received = new ArrayList<Object>();
+        applicationContext.addApplicationListener((ApplicationListener<PayloadApplicationEvent<ListenedEvent>>)
+                payloadEvent->received.add(payloadEvent.getPayload()));
+
+        var event = new ListenedEvent();
+        dispatchTable.dispatch(event);
+
+        assertEquals(List.of(event), subscriber.received);
+        assertEquals(List.of(event), received);
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.metamodel.BeanSort;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.facets.object.mixin.MixinFacet;
+import org.apache.causeway.core.metamodel.spec.IntrospectionState;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+class IntrospectionSchedulerTest {
+
+    interface Named {}
+    static class Base implements Named {}
+    static class Customer extends Base {}
+    static class Customer_mixin {}
+
+    private final List<ObjectSpecification> introspected = new CopyOnWriteArrayList<>();
+
+    @Test
+    void prerequisites() {
+        var named = spec(Named.class, BeanSort.ABSTRACT);
+        var base = spec(Base.class, BeanSort.ABSTRACT);
+        var customer = spec(Customer.class, BeanSort.VIEW_MODEL);
+        var mixin = mixinSpec(Customer_mixin.class, Customer.class);
+
+        var prerequisites = _IntrospectionScheduler.prerequisites(Can.of(customer, mixin, base, named));
+
+        assertEquals(List.of(base, mixin), List.copyOf(prerequisites.get(customer)));
+        assertEquals(List.of(named), List.copyOf(prerequisites.get(base)));
+        assertTrue(prerequisites.get(named).isEmpty());
+        assertTrue(prerequisites.get(mixin).isEmpty());
+    }
+
+    @Test
+    void introspect_respectsPrerequisites() {
+        var named = spec(Named.class, BeanSort.ABSTRACT);
+        var base = spec(Base.class, BeanSort.ABSTRACT);
+        var customer = spec(Customer.class, BeanSort.VIEW_MODEL);
+        var mixin = mixinSpec(Customer_mixin.class, Customer.class);
+
+        try(var scheduler = _IntrospectionScheduler.create()) {
+            scheduler.introspect(Can.of(customer, base, mixin, named), IntrospectionState.FULLY_INTROSPECTED);
+        }
+
+        assertEquals(4, introspected.size());
+        assertTrue(introspected.indexOf(named) < introspected.indexOf(base));
+        assertTrue(introspected.indexOf(base) < introspected.indexOf(customer));
+        assertTrue(introspected.indexOf(mixin) < introspected.indexOf(customer));
+    }
+
+    @Test
+    void introspect_rethrowsFailure() {
+        var base = spec(Base.class, BeanSort.ABSTRACT);
+        Mockito.doThrow(new IllegalStateException("boom"))
+            .when(base).introspectUpTo(IntrospectionState.FULLY_INTROSPECTED);
+
+        try(var scheduler = _IntrospectionScheduler.create()) {
+            assertThrows(IllegalStateException.class, ()->
+                scheduler.introspect(Can.of(base), IntrospectionState.FULLY_INTROSPECTED));
+        }
+    }
+
+    // -- HELPER
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private ObjectSpecification spec(final Class<?> cls, final BeanSort beanSort) {
+        var spec = Mockito.mock(ObjectSpecification.class);
+        Mockito.when(spec.getCorrespondingClass()).thenReturn((Class)cls);
+        Mockito.when(spec.getBeanSort()).thenReturn(beanSort);
+        Mockito.doAnswer(__->introspected.add(spec))
+            .when(spec).introspectUpTo(Mockito.any());
+        return spec;
+    }
+
+    private ObjectSpecification mixinSpec(final Class<?> cls, final Class<?> holderType) {
+        var spec = spec(cls, BeanSort.MIXIN);
+        var mixinFacet = Mockito.mock(MixinFacet.class);
+        Mockito.when(mixinFacet.isMixinFor(Mockito.any()))
+            .thenAnswer(invocation->holderType.isAssignableFrom(invocation.getArgument(0)));
+        Mockito.when(spec.lookupFacet(MixinFacet.class)).thenReturn(Optional.of(mixinFacet));
+        return spec;
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.specloader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.core.io.Resource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.metamodel.BeanSort;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+
+class MetamodelSnapshotTest {
+
+    static class Customer {}
+    static class Invoice {}
+
+    ObjectSpecification customerSpec;
+    ObjectSpecification intSpec;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @BeforeEach
+    void setUp() {
+        customerSpec = Mockito.mock(ObjectSpecification.class);
+        Mockito.when(customerSpec.getCorrespondingClass()).thenReturn((Class)Customer.class);
+        Mockito.when(customerSpec.getLogicalTypeName()).thenReturn("test.Customer");
+        Mockito.when(customerSpec.getBeanSort()).thenReturn(BeanSort.VIEW_MODEL);
+
+        intSpec = Mockito.mock(ObjectSpecification.class);
+        Mockito.when(intSpec.getCorrespondingClass()).thenReturn((Class)int.class);
+    }
+
+    @Test
+    void roundtrip() throws IOException {
+        var snapshot = _MetamodelSnapshot.of(42L, Can.of(customerSpec, intSpec));
+        assertEquals(1, snapshot.getEntries().size(), "primitives are not recorded");
+
+        var bytes = new ByteArrayOutputStream();
+        snapshot.write(bytes);
+        var restored = _MetamodelSnapshot.read(new ByteArrayInputStream(bytes.toByteArray()))
+                .orElseThrow();
+
+        assertEquals(42L, restored.getProgrammingModelFingerprint());
+        assertEquals(snapshot.getEntries(), restored.getEntries());
+        assertFalse(restored.mismatch(42L, Can.empty()).isPresent());
+        assertEquals(Can.of(Customer.class), Can.ofStream(restored.streamClasses()));
+    }
+
+    @Test
+    void mismatch_whenProgrammingModelChanged() {
+        var snapshot = _MetamodelSnapshot.of(42L, Can.of(customerSpec));
+        assertTrue(snapshot.mismatch(43L, Can.empty()).isPresent());
+    }
+
+    @Test
+    void mismatch_whenTypeChanged() {
+        var snapshot = _MetamodelSnapshot.of(42L, Can.of(customerSpec));
+        var stale = new _MetamodelSnapshot(42L, snapshot.getEntries().stream().map(entry->
+                new _MetamodelSnapshot.Entry(
+                        entry.getClassName(),
+                        entry.getLogicalTypeName(),
+                        entry.getBeanSort(),
+                        entry.getTypeFingerprint() + 1))
+                .collect(Collectors.toList()));
+        assertTrue(stale.mismatch(42L, Can.empty()).isPresent());
+    }
+
+    @Test
+    void classFingerprint_isStable() {
+        assertEquals(
+                _MetamodelSnapshot.classFingerprint(Customer.class),
+                _MetamodelSnapshot.classFingerprint(Customer.class));
+        assertTrue(_MetamodelSnapshot.classFingerprint(Customer.class) != _MetamodelSnapshot.UNAVAILABLE);
+    }
+
+    @Test
+    void classFingerprint_isUnavailable_forTypesWithoutByteCodeResource() {
+        Runnable lambda = ()->{};
+        assertEquals(_MetamodelSnapshot.UNAVAILABLE, _MetamodelSnapshot.classFingerprint(lambda.getClass()));
+    }
+
+    @Test
+    void mismatch_whenProgrammingModelCannotBeFingerprinted() {
+        var snapshot = _MetamodelSnapshot.of(_MetamodelSnapshot.UNAVAILABLE, Can.of(customerSpec));
+        assertTrue(snapshot.mismatch(_MetamodelSnapshot.UNAVAILABLE, Can.empty()).isPresent());
+    }
+
+    @Test
+    void companionResources_areNamedAfterTheType() throws IOException {
+        var companionResources = new _MetamodelSnapshot.CompanionResources();
+        assertEquals(
+                List.of("Invoice.layout.xml"),
+                companionResources.of(Invoice.class).stream()
+                    .map(Resource::getFilename)
+                    .collect(Collectors.toList()));
+        assertTrue(companionResources.of(Customer.class).isEmpty());
+    }
+
+    @Test
+    void typeFingerprint_includesCompanionResources() {
+        var companionResources = new _MetamodelSnapshot.CompanionResources();
+        var noCompanionResources = new _MetamodelSnapshot.CompanionResources() {
+            @Override List<Resource> of(final Class<?> cls) { return List.of(); }
+        };
+        assertEquals(
+                _MetamodelSnapshot.typeFingerprint(Customer.class, noCompanionResources),
+                _MetamodelSnapshot.typeFingerprint(Customer.class, companionResources));
+        assertNotEquals(
+                _MetamodelSnapshot.typeFingerprint(Invoice.class, noCompanionResources),
+                _MetamodelSnapshot.typeFingerprint(Invoice.class, companionResources));
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.inject.ServiceInjector;
+import org.apache.causeway.applib.services.queryresultscache.QueryResultsCache;
+import org.apache.causeway.applib.services.repository.EntityState;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel._testing.MetaModelContext_forTesting;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+
+class DataRowDecorationTest {
+
+    static class Customer {
+        final String name;
+        Customer(final String name) { this.name = name; }
+    }
+
+    private final Map<Bookmark, Customer> database = new HashMap<>();
+    private final AtomicInteger bulkFetches = new AtomicInteger();
+    private final AtomicInteger cssClassEvaluations = new AtomicInteger();
+
+    private ObjectSpecification spec;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 3; i++) {
+            database.put(bookmark(i), new Customer("fetched-" + i));
+        }
+
+        var entityFacet = mock(EntityFacet.class);
+        when(entityFacet.getEntityState(any())).thenReturn(EntityState.ATTACHED);
+        when(entityFacet.validateBookmark(any())).thenAnswer(invocation->invocation.getArgument(0));
+        when(entityFacet.fetchByBookmarks(any())).thenAnswer(invocation->{
+            bulkFetches.incrementAndGet();
+            Can<Bookmark> bookmarks = invocation.getArgument(0);
+            var result = new HashMap<Bookmark, Object>();
+            bookmarks.forEach(bookmark->result.put(bookmark, database.get(bookmark)));
+            return result;
+        });
+
+        spec = mock(ObjectSpecification.class);
+        when(spec.isEntity()).thenReturn(true);
+        when(spec.isEntityOrViewModel()).thenReturn(true);
+        when(spec.entityFacetElseFail()).thenReturn(entityFacet);
+        doReturn(Customer.class).when(spec).getCorrespondingClass();
+        var specLoader = mock(SpecificationLoader.class);
+        when(specLoader.specForType(Customer.class)).thenReturn(Optional.of(spec));
+        when(spec.getSpecificationLoader()).thenReturn(specLoader);
+        when(spec.getCssClass(any())).thenAnswer(invocation->{
+            cssClassEvaluations.incrementAndGet();
+            ManagedObject adapter = invocation.getArgument(0);
+            return ((Customer)adapter.getPojo()).name;
+        });
+
+        var interactionService = mock(InteractionService.class);
+        when(interactionService.isInInteraction()).thenReturn(true);
+        MetaModelContext_forTesting.builder()
+                .interactionService(interactionService)
+                .serviceInjector(mock(ServiceInjector.class))
+                .singleton(new QueryResultsCache())
+                .build();
+    }
+
+    @Test
+    void decorations_areEvaluatedLazily_andMemoizedPerBookmark() {
+        var first = DataRowDecoration.decorationOf(attached(1));
+        var second = DataRowDecoration.decorationOf(attached(1));
+        assertEquals(0, cssClassEvaluations.get());
+
+        assertEquals("attached-1", first.getCssClass());
+        assertEquals("attached-1", second.getCssClass());
+        assertEquals("attached-1", first.getCssClass());
+        assertEquals(1, cssClassEvaluations.get());
+
+        assertEquals("attached-2", DataRowDecoration.decorationOf(attached(2)).getCssClass());
+        assertEquals(2, cssClassEvaluations.get());
+    }
+
+    @Test
+    void detachedEntities_areFetchedInBulk_andDecoratedFromTheFetchedPojos() {
+        var decorations = DataRowDecoration.decorate(Can.of(detached(1), detached(2), attached(3)));
+        assertEquals(1, bulkFetches.get());
+
+        assertEquals(
+                Can.of("fetched-1", "fetched-2", "attached-3"),
+                decorations.map(DataRowDecoration::getCssClass));
+    }
+
+    @Test
+    void singleDetachedEntity_isNotFetchedInBulk() {
+        var decorations = DataRowDecoration.decorate(Can.of(detached(1), attached(2)));
+        assertEquals(0, bulkFetches.get());
+        assertEquals("detached-1", decorations.getFirstElseFail().getCssClass());
+    }
+
+    // -- HELPER
+
+    private static Bookmark bookmark(final int id) {
+        return Bookmark.forLogicalTypeNameAndIdentifier("demo.Customer", "" + id);
+    }
+
+    private ManagedObject attached(final int id) {
+        return element(id, new Customer("attached-" + id), EntityState.ATTACHED);
+    }
+
+    private ManagedObject detached(final int id) {
+        return element(id, new Customer("detached-" + id), EntityState.DETACHED);
+    }
+
+    private ManagedObject element(final int id, final Customer pojo, final EntityState entityState) {
+        var element = mock(ManagedObject.class);
+        when(element.getSpecialization()).thenReturn(ManagedObject.Specialization.ENTITY);
+        when(element.getSpecification()).thenReturn(spec);
+        when(element.getBookmark()).thenReturn(Optional.of(bookmark(id)));
+        when(element.getEntityState()).thenReturn(entityState);
+        when(element.getPojo()).thenReturn(pojo);
+        when(element.getInteractionService()).thenCallRealMethod();
+        when(element.lookupServiceElseFail(any())).thenCallRealMethod();
+        when(element.getMetaModelContext()).thenCallRealMethod();
+        return element;
+    }
+
+}
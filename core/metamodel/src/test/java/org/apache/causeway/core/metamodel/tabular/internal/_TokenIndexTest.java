@@ -0,0 +1,87 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.metamodel.tabular.internal;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.filter.CollectionFilterService.Tokens;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.metamodel.tabular.DataRow;
+
+class _TokenIndexTest {
+
+    @Test
+    void prefixMatchingTokens_matchAllSearchWordsAsPrefixes() {
+        var tokens = Tokens.prefixMatching("John O'Brien", "Dublin");
+        assertTrue(tokens.match("jo"));
+        assertTrue(tokens.match("o'br DUB"));
+        assertTrue(tokens.match("  "));
+        assertFalse(tokens.match("john smith"));
+    }
+
+    @Test
+    void search_matchesLikeTokens() {
+        var index = _TokenIndex.tryBuild(rows(
+                Tokens.prefixMatching("John Smith"),
+                Tokens.prefixMatching("Jane Smithers"),
+                null,
+                Tokens.prefixMatching("Tom Jones"))).orElseThrow();
+
+        assertEquals(List.of(0, 1, 3), search(index, "j"));
+        assertEquals(List.of(0, 1), search(index, "j smi"));    // narrows previous
+        assertEquals(List.of(1), search(index, "j smithe"));    // narrows further
+        assertEquals(List.of(3), search(index, "jones"));       // unrelated, uses lookup
+        assertEquals(List.of(), search(index, "x"));
+        assertTrue(index.search(" ").isEmpty());
+    }
+
+    @Test
+    void tryBuild_whenTokensOfUnknownSemantics_isEmpty() {
+        Tokens opaque = searchArg->true;
+        assertTrue(_TokenIndex.tryBuild(rows(Tokens.prefixMatching("a"), opaque)).isEmpty());
+    }
+
+    // -- HELPER
+
+    private static List<Integer> search(final _TokenIndex index, final String searchArg) {
+        return index.search(searchArg).orElseThrow().stream().boxed().collect(Collectors.toList());
+    }
+
+    private static Can<DataRow> rows(final Tokens... tokens) {
+        var rows = new DataRow[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            var row = mock(DataRow.class);
+            when(row.getRowIndex()).thenReturn(i);
+            when(row.getFilterTokens()).thenReturn(Optional.ofNullable(tokens[i]));
+            rows[i] = row;
+        }
+        return Can.ofArray(rows);
+    }
+
+}
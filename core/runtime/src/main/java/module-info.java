@@ -18,12 +18,16 @@
  */
 module org.apache.causeway.core.runtime {
     exports org.apache.causeway.core.runtime;
+    exports org.apache.causeway.core.runtime.batchinsert;
+    exports org.apache.causeway.core.runtime.changetrackingmgmt;
     exports org.apache.causeway.core.runtime.flushmgmt;
     exports org.apache.causeway.core.runtime.events;
+    exports org.apache.causeway.core.runtime.retention;
 
     requires java.annotation;
     requires java.desktop;
     requires java.inject;
+    requires java.sql;
     requires lombok;
     requires org.apache.causeway.applib;
     requires org.apache.causeway.commons;
@@ -33,6 +37,7 @@
     requires org.apache.causeway.core.transaction;
     requires org.apache.causeway.security.api;
     requires org.apache.causeway.valuetypes.jodatime.integration;
+    requires org.apache.logging.log4j;
     requires spring.beans;
     requires spring.context;
     requires spring.core;
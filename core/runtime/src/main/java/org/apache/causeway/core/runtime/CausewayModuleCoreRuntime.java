@@ -23,6 +23,7 @@
 
 import org.apache.causeway.core.interaction.CausewayModuleCoreInteraction;
 import org.apache.causeway.core.metamodel.CausewayModuleCoreMetamodel;
+import org.apache.causeway.core.runtime.batchinsert.EntityBatchInsertQueue;
 import org.apache.causeway.core.runtime.events.MetamodelEventService;
 import org.apache.causeway.core.transaction.CausewayModuleCoreTransaction;
 import org.apache.causeway.valuetypes.jodatime.integration.CausewayModuleValJodatimeIntegration;
@@ -39,6 +40,7 @@
 
         // @Service's
         MetamodelEventService.class,
+        EntityBatchInsertQueue.class,
 
         // @Configuration's
 
@@ -0,0 +1,165 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtime.batchinsert;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.annotation.Programmatic;
+import org.apache.causeway.applib.annotation.TransactionScope;
+import org.apache.causeway.applib.services.registry.ServiceRegistry;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.runtime.CausewayModuleCoreRuntime;
+
+import lombok.NonNull;
+
+/**
+ * Accumulates new entities for the current transaction, to be written with a single batched JDBC insert per
+ * entity type by an {@link EntityBatchInserter}, just before the transaction commits.
+ *
+ * <p>
+ * The service is {@link TransactionScope transaction-scope}d and implements Spring's
+ * {@link TransactionSynchronization} interface.  It is {@link Ordered ordered} to be called late, so that
+ * entities offered by other synchronizations (such as audit trail entries created when entity property changes
+ * are published) are still included.
+ * </p>
+ *
+ * <p>
+ * Entities are only accepted if this service takes part in the current transaction's synchronization and if
+ * there is an {@link EntityBatchInserter} for their type; otherwise the caller is expected to persist them
+ * through the ORM as usual.
+ * </p>
+ *
+ * @since 2.x {@index}
+ */
+@Service
+@TransactionScope
+@Named(CausewayModuleCoreRuntime.NAMESPACE + ".EntityBatchInsertQueue")
+@Qualifier("Default")
+public class EntityBatchInsertQueue
+implements
+    TransactionSynchronization,
+    Ordered {
+
+    @Inject private ServiceRegistry serviceRegistry;
+
+    private final Map<Class<?>, List<Object>> queuedEntitiesByType = new LinkedHashMap<>();
+    private final Map<Class<?>, List<Object>> insertedEntitiesByType = new LinkedHashMap<>();
+    private final Map<Class<?>, Optional<EntityBatchInserter>> inserterByType = new HashMap<>();
+    private Boolean synchronizedWithTransaction; // lazily determined
+    private boolean drained;
+
+    @Programmatic
+    @Override
+    public int getOrder() {
+        return PriorityPrecedence.LATE;
+    }
+
+    /**
+     * Queues given new entity to be inserted just before the current transaction commits.
+     *
+     * @return whether the entity was queued; if not, the caller must persist the entity itself
+     */
+    @Programmatic
+    public <E> boolean offer(final @NonNull Class<E> entityClass, final @NonNull E entity) {
+        if(drained
+                || !isSynchronizedWithTransaction()
+                || inserterFor(entityClass).isEmpty()) {
+            return false;
+        }
+        queuedEntitiesByType.computeIfAbsent(entityClass, __->new ArrayList<>()).add(entity);
+        return true;
+    }
+
+    /**
+     * Inserts any queued entities immediately, for example so that they are visible to a subsequent query within
+     * the current transaction.
+     */
+    @Programmatic
+    public void flush() {
+        if(queuedEntitiesByType.isEmpty()) {
+            return;
+        }
+        queuedEntitiesByType.forEach((entityClass, entities)->{
+            inserterFor(entityClass)
+                .orElseThrow()
+                .insertAll(entityClass, _Casts.uncheckedCast(entities));
+            insertedEntitiesByType.computeIfAbsent(entityClass, __->new ArrayList<>()).addAll(entities);
+        });
+        queuedEntitiesByType.clear();
+    }
+
+    @Override
+    public void beforeCommit(final boolean readOnly) {
+        drained = true;
+        flush();
+    }
+
+    @Override
+    public void afterCompletion(final int status) {
+        if(status == STATUS_COMMITTED) {
+            insertedEntitiesByType.forEach((entityClass, entities)->
+                inserterFor(entityClass)
+                    .orElseThrow()
+                    .afterCommit(entityClass, _Casts.uncheckedCast(entities)));
+        }
+        queuedEntitiesByType.clear();
+        insertedEntitiesByType.clear();
+    }
+
+    // -- HELPER
+
+    /**
+     * Only if (a proxy of) this service was registered with the transaction (as is done for transactions initiated
+     * by the framework's {@code TransactionService}), will {@link #beforeCommit(boolean)} be called.
+     */
+    private boolean isSynchronizedWithTransaction() {
+        if(synchronizedWithTransaction == null) {
+            synchronizedWithTransaction = TransactionSynchronizationManager.isSynchronizationActive()
+                    && TransactionSynchronizationManager.getSynchronizations().stream()
+                        .anyMatch(EntityBatchInsertQueue.class::isInstance);
+        }
+        return synchronizedWithTransaction;
+    }
+
+    /**
+     * Resolved once per entity type (and transaction), as inserters might need to inspect the ORM's metadata.
+     */
+    private Optional<EntityBatchInserter> inserterFor(final Class<?> entityClass) {
+        return inserterByType.computeIfAbsent(entityClass, __->
+            serviceRegistry.select(EntityBatchInserter.class).stream()
+                .filter(inserter->inserter.isSupported(entityClass))
+                .findFirst());
+    }
+
+}
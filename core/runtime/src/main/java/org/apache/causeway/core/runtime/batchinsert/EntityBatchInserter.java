@@ -0,0 +1,64 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtime.batchinsert;
+
+import java.util.List;
+
+/**
+ * SPI to insert entities of append-only tables (such as audit trail or execution log entries) into the database
+ * using batched JDBC inserts, bypassing the ORM's lifecycle and change tracking.
+ *
+ * <p>
+ * Implementations are provided by the persistence modules; entities are usually offered to the
+ * {@link EntityBatchInsertQueue}, rather than being passed to an inserter directly.
+ * </p>
+ *
+ * @see EntityBatchInsertQueue
+ * @since 2.x {@index}
+ */
+public interface EntityBatchInserter {
+
+    /**
+     * Whether this inserter is able to insert entities of given type.
+     */
+    boolean isSupported(Class<?> entityClass);
+
+    /**
+     * Inserts given entities, which must be new (not yet persisted) instances of given entity type,
+     * using the JDBC connection of the current transaction.
+     *
+     * <p>
+     * Where supported by the ORM, the entities are attached to the current persistence context afterwards, so that
+     * subsequent queries within the transaction return these same instances.
+     * </p>
+     */
+    <E> void insertAll(Class<E> entityClass, List<E> entities);
+
+    /**
+     * Called once the transaction, that given entities were {@link #insertAll(Class, List) inserted} with, has
+     * committed, so that the ORM's shared cache (if any) can be made aware of them, same as if these had been
+     * persisted through the ORM.
+     *
+     * <p>
+     * Does nothing by default.
+     * </p>
+     */
+    default <E> void afterCommit(final Class<E> entityClass, final List<E> entities) {}
+
+}
@@ -0,0 +1,46 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtime.changetrackingmgmt;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Allows entity change tracking (and hence entity change and entity property change publishing)
+ * to be suppressed for the current thread, eg. when bulk loading reference data.
+ */
+@UtilityClass
+public class ChangeTrackingMgmt {
+
+    private static final ThreadLocal<Boolean> changeTrackingSuppressed = ThreadLocal.withInitial(() -> false);
+    public static boolean isChangeTrackingSuppressed() {
+        return changeTrackingSuppressed.get();
+    }
+    public static void suppressChangeTracking(final Runnable runnable) {
+        final boolean onEntry = changeTrackingSuppressed.get();
+        try {
+            changeTrackingSuppressed.set(true);
+            runnable.run();
+        } finally {
+            if(!onEntry) {
+                changeTrackingSuppressed.remove();
+            }
+        }
+    }
+
+}
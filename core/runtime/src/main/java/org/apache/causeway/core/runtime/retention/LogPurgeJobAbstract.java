@@ -0,0 +1,318 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtime.retention;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import javax.inject.Inject;
+
+import org.apache.causeway.applib.services.clock.ClockService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.commons.io.JsonUtils;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Extensions.LogRetention;
+
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Removes all entries of a log that are older than its configured {@link LogRetention retention} period.
+ *
+ * <p>
+ *     Entries are removed oldest first, one {@link LogRetention#getPartition() partition} (time slice) at a time,
+ *     using a set-based delete within its own interaction (and hence its own transaction).  This bounds the
+ *     amount of work per transaction, and means that a failure only rolls back the current partition.  Each
+ *     partition starts at the oldest remaining entry, so gaps in the log do not result in empty partitions.
+ * </p>
+ *
+ * <p>
+ *     If an {@link LogRetention#getArchiveDirectory() archive directory} is configured, then each partition is
+ *     instead read a {@link LogRetention#getArchivePageSize() page} at a time (oldest first, each page starting
+ *     at the timestamp of the first entry not yet archived), and each page is written to a gzip compressed
+ *     newline-delimited JSON file and then removed within its own interaction; if writing the file fails then
+ *     nothing more is removed.  Entries that share a timestamp are never split across pages.
+ * </p>
+ *
+ * <p>
+ *     Subclasses provide the {@link #getRepository() repository}, {@link #getRetention(CausewayConfiguration)
+ *     configuration} and {@link #getMetrics() metrics} of a particular log, and are typically also a Quartz job
+ *     that simply calls {@link #purge()}.
+ * </p>
+ *
+ * @param <E> - the (applib) type of log entry
+ *
+ * @see LogPurgeJobMetrics
+ *
+ * @since 2.x {@index}
+ */
+@Log4j2
+public abstract class LogPurgeJobAbstract<E> {
+
+    // nanosecond precision, as pages (unlike partitions) may well start within the same second
+    private static final DateTimeFormatter ARCHIVE_FILE_TIMESTAMP_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss.SSSSSSSSS'Z'").withZone(ZoneOffset.UTC);
+
+    @Inject InteractionService interactionService;
+    @Inject ClockService clockService;
+    @Inject CausewayConfiguration causewayConfiguration;
+
+    private final String logName;
+    private final String archiveFilePrefix;
+
+    /**
+     * @param logName - used in log messages, eg &quot;command log&quot;
+     * @param archiveFilePrefix - prefix of the name of each archive file, eg &quot;commandlog&quot;
+     */
+    protected LogPurgeJobAbstract(
+            final @NonNull String logName,
+            final @NonNull String archiveFilePrefix) {
+        this.logName = logName;
+        this.archiveFilePrefix = archiveFilePrefix;
+    }
+
+    protected abstract LogRetention getRetention(CausewayConfiguration causewayConfiguration);
+
+    protected abstract LogRetentionRepository<? extends E> getRepository();
+
+    protected abstract LogPurgeJobMetrics getMetrics();
+
+    /**
+     * The timestamp of the entry, as used by the {@link LogRetentionRepository repository} to select by interval.
+     */
+    protected abstract Timestamp timestampOf(E entry);
+
+    /**
+     * The representation of the entry as written to the archive file, one JSON object per line.
+     */
+    protected abstract Map<String, Object> asArchiveRecord(E entry);
+
+    public void purge() {
+
+        var retention = getRetention(causewayConfiguration);
+        if (!retention.isEnabled()) {
+            log.debug("{} retention not enabled", logName);
+            return;
+        }
+        if (retention.getPartition().isZero() || retention.getPartition().isNegative()) {
+            log.warn("{} retention partition must be positive, got {}", logName, retention.getPartition());
+            return;
+        }
+
+        var userMemento = UserMemento.ofNameAndRoleNames("scheduler_user", "admin_role");
+        var interactionContext = InteractionContext.builder().user(userMemento).build();
+
+        var now = clockService.getClock().nowAsInstant();
+        var cutoff = now.minus(retention.getRetainFor());
+        var metrics = getMetrics();
+
+        metrics.onRunStarted(now);
+
+        Instant purgedUpTo = null;
+        Optional<Instant> fromIfAny;
+        while ((fromIfAny = nextPartitionStart(interactionContext, purgedUpTo, cutoff)).isPresent()) {
+            var from = fromIfAny.get();
+            var to = min(from.plus(retention.getPartition()), cutoff);
+            var purged = purgePartition(interactionContext, retention, from, to);
+            if (!purged) {
+                // leave the remainder for the next run, so that entries are always removed oldest first
+                break;
+            }
+            purgedUpTo = to;
+        }
+
+        metrics.onRunCompleted(clockService.getClock().nowAsInstant());
+    }
+
+    /**
+     * The timestamp of the oldest remaining entry (but no earlier than the end of the previously purged
+     * partition), provided it is before the cutoff.
+     */
+    private Optional<Instant> nextPartitionStart(
+            final InteractionContext interactionContext,
+            final Instant purgedUpTo,
+            final Instant cutoff) {
+        return interactionService.call(interactionContext, getRepository()::findOldestTimestamp)
+                .map(Timestamp::toInstant)
+                .map(oldest -> purgedUpTo != null && oldest.isBefore(purgedUpTo) ? purgedUpTo : oldest)
+                .filter(oldest -> oldest.isBefore(cutoff));
+    }
+
+    private boolean purgePartition(
+            final InteractionContext interactionContext,
+            final LogRetention retention,
+            final Instant from,
+            final Instant to) {
+
+        var purged = retention.getArchiveDirectory()
+                .map(archiveDirectory -> archiveAndRemovePartition(
+                        interactionContext, new File(archiveDirectory), Math.max(1, retention.getArchivePageSize()),
+                        from, to))
+                .orElseGet(() -> removePartition(interactionContext, from, to));
+        if (purged) {
+            getMetrics().onPartitionPurged();
+        }
+        return purged;
+    }
+
+    private boolean removePartition(
+            final InteractionContext interactionContext,
+            final Instant from,
+            final Instant to) {
+
+        var repository = getRepository();
+        var metrics = getMetrics();
+
+        return interactionService.callAndCatch(interactionContext, () -> {
+                    var removed = repository.removeByTimestampInterval(Timestamp.from(from), Timestamp.from(to));
+                    metrics.onEntriesPurged(to, 0, removed);
+                    log.debug("purged {} {} entries in [{}, {})", removed, logName, from, to);
+                    return removed;
+                })
+                .ifFailure(throwable -> onFailure(from, to, throwable))
+                .isSuccess();
+    }
+
+    private boolean archiveAndRemovePartition(
+            final InteractionContext interactionContext,
+            final File archiveDirectory,
+            final int pageSize,
+            final Instant from,
+            final Instant to) {
+
+        var pageFrom = from;
+        while (pageFrom.isBefore(to)) {
+            var currentPageFrom = pageFrom;
+            var pageToIfAny = interactionService.callAndCatch(interactionContext,
+                            () -> archiveAndRemovePage(archiveDirectory, pageSize, currentPageFrom, to))
+                    .ifFailure(throwable -> onFailure(currentPageFrom, to, throwable))
+                    .getValue();
+            if (pageToIfAny.isEmpty()) {
+                return false;
+            }
+            pageFrom = pageToIfAny.get();
+        }
+        return true;
+    }
+
+    /**
+     * Archives and then removes the oldest page of entries within <code>[from, to)</code>.
+     *
+     * @return the (exclusive) upper bound of the page, from which the next page starts
+     */
+    private Instant archiveAndRemovePage(
+            final File archiveDirectory,
+            final int pageSize,
+            final Instant from,
+            final Instant to) throws IOException {
+
+        var repository = getRepository();
+        var fromTs = Timestamp.from(from);
+
+        List<? extends E> page;
+        Instant pageTo;
+        var limit = pageSize;
+        while (true) {
+            // read one more than required, to find out where the next page starts
+            var entries = repository.findByTimestampInterval(fromTs, Timestamp.from(to), limit + 1);
+            if (entries.size() <= limit) {
+                page = entries;
+                pageTo = to;
+                break;
+            }
+            pageTo = timestampOf(entries.get(limit)).toInstant();
+            page = entriesBefore(entries, pageTo);
+            if (!page.isEmpty()) {
+                break;
+            }
+            // more entries share a single timestamp than fit on a page; they cannot be split, so read them all
+            limit = Math.multiplyExact(limit, 2);
+        }
+
+        archive(archiveDirectory, from, pageTo, page);
+        var removed = repository.removeByTimestampInterval(fromTs, Timestamp.from(pageTo));
+        getMetrics().onEntriesPurged(pageTo, page.size(), removed);
+        log.debug("archived {} and purged {} {} entries in [{}, {})", page.size(), removed, logName, from, pageTo);
+        return pageTo;
+    }
+
+    /**
+     * The leading entries (which are oldest first) whose timestamp is strictly before the given instant.
+     */
+    private List<? extends E> entriesBefore(final List<? extends E> entries, final Instant instant) {
+        var count = 0;
+        while (count < entries.size() && timestampOf(entries.get(count)).toInstant().isBefore(instant)) {
+            count++;
+        }
+        return entries.subList(0, count);
+    }
+
+    private void onFailure(final Instant from, final Instant to, final Throwable throwable) {
+        getMetrics().onPartitionFailed();
+        log.error("failed to purge {} entries in [{}, {})", logName, from, to, throwable);
+    }
+
+    private void archive(
+            final File archiveDirectory,
+            final Instant from,
+            final Instant to,
+            final List<? extends E> entries) throws IOException {
+
+        if (entries.isEmpty()) {
+            return;
+        }
+        archiveDirectory.mkdirs();
+        var archiveFile = new File(archiveDirectory, String.format("%s-%s-%s.ndjson.gz",
+                archiveFilePrefix,
+                ARCHIVE_FILE_TIMESTAMP_FORMAT.format(from),
+                ARCHIVE_FILE_TIMESTAMP_FORMAT.format(to)));
+
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(new FileOutputStream(archiveFile)), StandardCharsets.UTF_8))) {
+            for (var entry : entries) {
+                writer.write(JsonUtils.toStringUtf8(asArchiveRecord(entry)));
+                writer.write('\n');
+            }
+        }
+    }
+
+    protected static String toIsoString(final Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant().toString() : null;
+    }
+
+    private static Instant min(final Instant a, final Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtime.retention;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.causeway.applib.annotation.Programmatic;
+
+import lombok.Getter;
+
+/**
+ * Progress metrics of a {@link LogPurgeJobAbstract purge job}, accumulated since application start.
+ *
+ * <p>
+ *     Each extension that provides a purge job also provides a subclass of this class as a service, so that
+ *     the metrics of each log can be looked up independently.  A typical way to leverage these would be to
+ *     render them on an admin-only dashboard, or to export them to a monitoring system.
+ * </p>
+ *
+ * @see LogPurgeJobAbstract
+ *
+ * @since 2.x {@index}
+ */
+public abstract class LogPurgeJobMetrics {
+
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong partitionsPurged = new AtomicLong();
+    private final AtomicLong entriesArchived = new AtomicLong();
+    private final AtomicLong entriesRemoved = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    /**
+     * When the most recent run started, or {@code null} if the job has not yet run.
+     */
+    @Getter private volatile Instant lastRunStartedAt;
+
+    /**
+     * When the most recent run completed, or {@code null} if it is still in progress (or has not yet run).
+     */
+    @Getter private volatile Instant lastRunCompletedAt;
+
+    /**
+     * The (exclusive) upper bound of the most recently purged partition (or page thereof, if archiving); every
+     * entry older than this has been removed.
+     */
+    @Getter private volatile Instant purgedUpTo;
+
+    @Programmatic public long getRuns() { return runs.get(); }
+    @Programmatic public long getPartitionsPurged() { return partitionsPurged.get(); }
+    @Programmatic public long getEntriesArchived() { return entriesArchived.get(); }
+    @Programmatic public long getEntriesRemoved() { return entriesRemoved.get(); }
+    @Programmatic public long getFailures() { return failures.get(); }
+
+    // -- UPDATED BY JOB
+
+    void onRunStarted(final Instant now) {
+        runs.incrementAndGet();
+        lastRunStartedAt = now;
+        lastRunCompletedAt = null;
+    }
+
+    void onEntriesPurged(final Instant upTo, final long archived, final long removed) {
+        entriesArchived.addAndGet(archived);
+        entriesRemoved.addAndGet(removed);
+        purgedUpTo = upTo;
+    }
+
+    void onPartitionPurged() {
+        partitionsPurged.incrementAndGet();
+    }
+
+    void onPartitionFailed() {
+        failures.incrementAndGet();
+    }
+
+    void onRunCompleted(final Instant now) {
+        lastRunCompletedAt = now;
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtime.retention;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The queries that a {@link LogPurgeJobAbstract} requires of the repository of the log entries it purges.
+ *
+ * @param <E> - the (applib) type of log entry
+ *
+ * @since 2.x {@index}
+ */
+public interface LogRetentionRepository<E> {
+
+    /**
+     * The timestamp of the oldest entry, if any.
+     *
+     * <p>
+     *     Used by the {@link LogPurgeJobAbstract purge job} to determine the next (non-empty) partition to purge.
+     * </p>
+     */
+    Optional<Timestamp> findOldestTimestamp();
+
+    /**
+     * Returns (at most) the first <code>limit</code> entries whose timestamp is within the half-open interval
+     * <code>[from, to)</code>, oldest first.
+     *
+     * <p>
+     *     Used by the {@link LogPurgeJobAbstract purge job} to read a partition a page at a time, the next page
+     *     starting at the timestamp of the first entry not yet archived.
+     * </p>
+     */
+    List<E> findByTimestampInterval(final Timestamp from, final Timestamp to, final int limit);
+
+    /**
+     * Removes all entries whose timestamp is within the half-open interval <code>[from, to)</code>, using a
+     * single set-based delete rather than removing each entry individually.
+     *
+     * <p>
+     *     Entries are removed directly in the database, bypassing the entity lifecycle (and hence also
+     *     any entity change tracking).
+     * </p>
+     *
+     * @return the number of entries removed
+     */
+    long removeByTimestampInterval(final Timestamp from, final Timestamp to);
+
+}
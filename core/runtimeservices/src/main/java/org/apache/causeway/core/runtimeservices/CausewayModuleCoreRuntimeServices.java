@@ -61,6 +61,7 @@
 import org.apache.causeway.core.runtimeservices.scratchpad.ScratchpadDefault;
 import org.apache.causeway.core.runtimeservices.serializing.SerializingAdapterDefault;
 import org.apache.causeway.core.runtimeservices.session.InteractionIdGeneratorDefault;
+import org.apache.causeway.core.runtimeservices.session.InteractionLayerCarrierDefault;
 import org.apache.causeway.core.runtimeservices.session.InteractionServiceDefault;
 import org.apache.causeway.core.runtimeservices.sitemap.SitemapServiceDefault;
 import org.apache.causeway.core.runtimeservices.spring.SpringBeansService;
@@ -96,6 +97,7 @@
         ImpersonateMenuAdvisorDefault.class,
         InteractionDtoFactoryDefault.class,
         InteractionIdGeneratorDefault.class,
+        InteractionLayerCarrierDefault.class,
         InteractionServiceDefault.class,
         JaxbServiceDefault.class,
         LanguageProviderDefault.class,
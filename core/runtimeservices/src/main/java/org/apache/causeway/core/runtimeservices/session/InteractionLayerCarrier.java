@@ -0,0 +1,50 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.session;
+
+/**
+ * Carries the {@link InteractionLayerStack} of the current execution context, as used by
+ * {@link InteractionServiceDefault}.
+ *
+ * <p>
+ * The default implementation ({@link InteractionLayerCarrierDefault}) is thread-local, which is appropriate for
+ * platform threads. Runtimes that prefer some other notion of execution context (eg. a {@code ScopedValue}
+ * on JDK 21+, for virtual threads) can provide their own implementation as a bean with higher precedence.
+ * </p>
+ *
+ * <p>
+ * Interaction layers are not propagated to child tasks; a child task is expected to open its own interaction,
+ * see {@link org.apache.causeway.applib.services.iactnlayer.InteractionService#propagateContext(java.util.concurrent.Callable)}.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+public interface InteractionLayerCarrier {
+
+    /**
+     * The stack of the current execution context, created if required.
+     */
+    InteractionLayerStack stack();
+
+    /**
+     * Discards the stack of the current execution context (if any).
+     */
+    void remove();
+
+}
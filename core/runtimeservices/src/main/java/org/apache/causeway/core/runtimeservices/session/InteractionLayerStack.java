@@ -0,0 +1,88 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.session;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayer;
+
+/**
+ * Stack of {@link InteractionLayer}s, as held by an {@link InteractionLayerCarrier}.
+ *
+ * <p>
+ * Unlike {@link java.util.Stack} (a synchronized {@link java.util.Vector}), this stack is unsynchronized:
+ * any instance is confined to the single execution context that carries it, so there is nothing to guard.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+public final class InteractionLayerStack {
+
+    private final ArrayList<InteractionLayer> layers = new ArrayList<>(4);
+
+    public int size() {
+        return layers.size();
+    }
+
+    public boolean isEmpty() {
+        return layers.isEmpty();
+    }
+
+    public void push(final InteractionLayer interactionLayer) {
+        layers.add(interactionLayer);
+    }
+
+    /**
+     * @throws NoSuchElementException if empty
+     */
+    public InteractionLayer pop() {
+        return layers.remove(indexOfTopElseFail());
+    }
+
+    /**
+     * @return the top-most layer
+     * @throws NoSuchElementException if empty
+     */
+    public InteractionLayer peek() {
+        return layers.get(indexOfTopElseFail());
+    }
+
+    /**
+     * @return the bottom-most layer, that is, the one which opened the top-level interaction
+     * @throws NoSuchElementException if empty
+     */
+    public InteractionLayer first() {
+        if(layers.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return layers.get(0);
+    }
+
+    // -- HELPER
+
+    private int indexOfTopElseFail() {
+        final int index = layers.size() - 1;
+        if(index < 0) {
+            throw new NoSuchElementException();
+        }
+        return index;
+    }
+
+}
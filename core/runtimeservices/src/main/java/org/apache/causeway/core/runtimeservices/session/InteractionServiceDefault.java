@@ -21,7 +21,6 @@
 import java.io.File;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Stack;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 
@@ -74,7 +73,7 @@
 /**
  * Default implementation of {@link InteractionService}, keeping track of the current {@link Interaction}
  *
- * @implNote holds a reference to the current session using a thread-local
+ * @implNote holds a reference to the current session using an {@link InteractionLayerCarrier}
  *
  * @since 2.0 {@index}
  */
@@ -88,10 +87,11 @@
     InteractionService,
     InteractionLayerTracker {
 
-    // TODO: reading the javadoc for TransactionSynchronizationManager and looking at the implementations
-    //  of TransactionSynchronization (in particular SpringSessionSynchronization), I suspect that this
-    //  ThreadLocal would be considered bad practice and instead should be managed using the TransactionSynchronization mechanism.
-    final ThreadLocal<Stack<InteractionLayer>> interactionLayerStack = ThreadLocal.withInitial(Stack::new);
+    /**
+     * Carries the {@link InteractionLayerStack} of the current execution context,
+     * by default thread-local (see {@link InteractionLayerCarrierDefault}).
+     */
+    final InteractionLayerCarrier interactionLayerCarrier;
 
     final MetamodelEventService runtimeEventService;
     final SpecificationLoader specificationLoader;
@@ -115,7 +115,8 @@ public InteractionServiceDefault(
             final ClockService clockService,
             final Provider<CommandPublisher> commandPublisherProvider,
             final ConfigurableBeanFactory beanFactory,
-            final InteractionIdGenerator interactionIdGenerator) {
+            final InteractionIdGenerator interactionIdGenerator,
+            final InteractionLayerCarrier interactionLayerCarrier) {
         this.runtimeEventService = runtimeEventService;
         this.specificationLoader = specificationLoader;
         this.serviceInjector = serviceInjector;
@@ -124,6 +125,7 @@ public InteractionServiceDefault(
         this.commandPublisherProvider = commandPublisherProvider;
         this.beanFactory = beanFactory;
         this.interactionIdGenerator = interactionIdGenerator;
+        this.interactionLayerCarrier = interactionLayerCarrier;
 
         this.interactionScopeLifecycleHandler = InteractionScopeBeanFactoryPostProcessor.lookupScope(beanFactory);
     }
@@ -166,7 +168,7 @@ public void init(final ContextRefreshedEvent event) {
 
     @Override
     public int getInteractionLayerCount() {
-        return interactionLayerStack.get().size();
+        return interactionLayerCarrier.stack().size();
     }
 
     @Override
@@ -191,12 +193,12 @@ public InteractionLayer openInteraction(
 
         if(reuseCurrentLayer) {
             // we are done, just return the stack's top
-            return interactionLayerStack.get().peek();
+            return interactionLayerCarrier.stack().peek();
         }
 
         var interactionLayer = new InteractionLayer(causewayInteraction, interactionContextToUse);
 
-        interactionLayerStack.get().push(interactionLayer);
+        interactionLayerCarrier.stack().push(interactionLayer);
 
         if(isAtTopLevel()) {
             transactionServiceSpring.onOpen(causewayInteraction);
@@ -206,12 +208,12 @@ public InteractionLayer openInteraction(
         if(log.isDebugEnabled()) {
             log.debug("new interaction layer created (interactionId={}, total-layers-on-stack={}, {})",
                     currentInteraction().map(Interaction::getInteractionId).orElse(null),
-                    interactionLayerStack.get().size(),
+                    interactionLayerCarrier.stack().size(),
                     _Probe.currentThreadId());
         }
 
         if(XrayUi.isXrayEnabled()) {
-            _Xray.newInteractionLayer(interactionLayerStack.get());
+            _Xray.newInteractionLayer(interactionLayerCarrier.stack());
         }
 
         return interactionLayer;
@@ -219,17 +221,17 @@ public InteractionLayer openInteraction(
 
     private CausewayInteraction getOrCreateCausewayInteraction() {
 
-        final Stack<InteractionLayer> interactionLayers = interactionLayerStack.get();
+        final InteractionLayerStack interactionLayers = interactionLayerCarrier.stack();
         return interactionLayers.isEmpty()
     			? new CausewayInteraction(interactionIdGenerator.interactionId())
-				: _Casts.uncheckedCast(interactionLayers.firstElement().getInteraction());
+				: _Casts.uncheckedCast(interactionLayers.first().getInteraction());
     }
 
     @Override
     public void closeInteractionLayers() {
         log.debug("about to close the interaction stack (interactionId={}, total-layers-on-stack={}, {})",
                 currentInteraction().map(Interaction::getInteractionId).orElse(null),
-                interactionLayerStack.get().size(),
+                interactionLayerCarrier.stack().size(),
                 _Probe.currentThreadId());
 
         //
@@ -241,15 +243,15 @@ public void closeInteractionLayers() {
 
 	@Override
     public Optional<InteractionLayer> currentInteractionLayer() {
-    	var stack = interactionLayerStack.get();
+    	var stack = interactionLayerCarrier.stack();
     	return stack.isEmpty()
     	        ? Optional.empty()
-                : Optional.of(stack.lastElement());
+                : Optional.of(stack.peek());
     }
 
     @Override
     public boolean isInInteraction() {
-        return !interactionLayerStack.get().isEmpty();
+        return !interactionLayerCarrier.stack().isEmpty();
     }
 
     // -- AUTHENTICATED EXECUTION
@@ -260,7 +262,7 @@ public <R> R call(
             final @NonNull InteractionContext interactionContext,
             final @NonNull Callable<R> callable) {
 
-        final int stackSizeWhenEntering = interactionLayerStack.get().size();
+        final int stackSizeWhenEntering = interactionLayerCarrier.stack().size();
         openInteraction(interactionContext);
         try {
             return callInternal(callable);
@@ -281,7 +283,7 @@ public void run(
             final @NonNull InteractionContext interactionContext,
             final @NonNull ThrowingRunnable runnable) {
 
-        final int stackSizeWhenEntering = interactionLayerStack.get().size();
+        final int stackSizeWhenEntering = interactionLayerCarrier.stack().size();
         openInteraction(interactionContext);
         try {
             runInternal(runnable);
@@ -353,7 +355,7 @@ private void runInternal(final @NonNull ThrowingRunnable runnable) {
     }
 
     private void requestRollback(final Throwable cause) {
-        var stack = interactionLayerStack.get();
+        var stack = interactionLayerCarrier.stack();
         if(stack.isEmpty()) {
             // seeing this code-path, when the corresponding runnable/callable
             // by itself causes the interaction stack to be closed
@@ -363,12 +365,12 @@ private void requestRollback(final Throwable cause) {
                     cause.getMessage());
             return;
         }
-        var interaction = _Casts.<CausewayInteraction>uncheckedCast(stack.get(0).getInteraction());
+        var interaction = _Casts.<CausewayInteraction>uncheckedCast(stack.first().getInteraction());
         transactionServiceSpring.requestRollback(interaction);
     }
 
     private boolean isAtTopLevel() {
-    	return interactionLayerStack.get().size()==1;
+    	return interactionLayerCarrier.stack().size()==1;
     }
 
     @SneakyThrows
@@ -437,10 +439,10 @@ private void closeInteractionLayerStackDownToStackSize(final int downToStackSize
         log.debug("about to close interaction stack down to size {} (interactionId={}, total-layers-on-stack={}, {})",
                 downToStackSize,
                 currentInteraction().map(Interaction::getInteractionId).orElse(null),
-                interactionLayerStack.get().size(),
+                interactionLayerCarrier.stack().size(),
                 _Probe.currentThreadId());
 
-        var stack = interactionLayerStack.get();
+        var stack = interactionLayerCarrier.stack();
         try {
             while(stack.size()>downToStackSize) {
                 if(isAtTopLevel()) {
@@ -452,11 +454,11 @@ private void closeInteractionLayerStackDownToStackSize(final int downToStackSize
                 stack.pop();
             }
         } finally {
-            // preInteractionClosed above could conceivably throw an exception, so we'll tidy up our threadlocal
+            // preInteractionClosed above could conceivably throw an exception, so we'll tidy up our carrier
             // here to ensure everything is cleaned up
             if(downToStackSize == 0) {
-                // cleanup thread-local
-                interactionLayerStack.remove();
+                // cleanup carrier (thread-local by default)
+                interactionLayerCarrier.remove();
             }
         }
     }
@@ -18,9 +18,6 @@
  */
 package org.apache.causeway.core.runtimeservices.session;
 
-import java.util.Stack;
-
-import org.apache.causeway.applib.services.iactnlayer.InteractionLayer;
 import org.apache.causeway.commons.internal.debug._XrayEvent;
 import org.apache.causeway.commons.internal.debug.xray.XrayDataModel;
 import org.apache.causeway.commons.internal.debug.xray.XrayModel.ThreadMemento;
@@ -30,7 +27,7 @@
 //@Log4j2
 final class _Xray {
 
-    static void newInteractionLayer(final Stack<InteractionLayer> afterEnter) {
+    static void newInteractionLayer(final InteractionLayerStack afterEnter) {
 
         if(!XrayUi.isXrayEnabled()) {
             return;
@@ -86,7 +83,7 @@ static void newInteractionLayer(final Stack<InteractionLayer> afterEnter) {
 
     }
 
-    public static void closeInteractionLayer(final Stack<InteractionLayer> beforeClose) {
+    public static void closeInteractionLayer(final InteractionLayerStack beforeClose) {
 
         if(!XrayUi.isXrayEnabled()) {
             return;
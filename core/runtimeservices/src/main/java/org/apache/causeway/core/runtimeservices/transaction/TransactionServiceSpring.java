@@ -348,6 +348,11 @@ private Throwable translateExceptionIfPossible(final Throwable ex, final Platfor
      * For use only by {@link org.apache.causeway.core.runtimeservices.session.InteractionServiceDefault}, sets up
      * the initial transaction automatically against all available {@link PlatformTransactionManager}s.
      *
+     * <p>
+     * Beginning a transaction does not necessarily borrow a connection,
+     * see <code>causeway.persistence.commons.transaction.lazy-connection</code>.
+     * </p>
+     *
      * @param interaction The {@link CausewayInteraction} object representing the current interaction.
      */
     public void onOpen(final @NonNull CausewayInteraction interaction) {
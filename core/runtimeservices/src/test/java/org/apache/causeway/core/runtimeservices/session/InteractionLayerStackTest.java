@@ -0,0 +1,78 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.runtimeservices.session;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayer;
+
+class InteractionLayerStackTest {
+
+    @Test
+    void lifo() {
+        var stack = new InteractionLayerStack();
+        var bottom = new InteractionLayer(null, null);
+        var top = new InteractionLayer(null, null);
+
+        stack.push(bottom);
+        stack.push(top);
+
+        assertEquals(2, stack.size());
+        assertSame(top, stack.peek());
+        assertSame(bottom, stack.first());
+
+        assertSame(top, stack.pop());
+        assertSame(bottom, stack.peek());
+        assertSame(bottom, stack.pop());
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    void whenEmpty_shouldFail() {
+        var stack = new InteractionLayerStack();
+        assertThrows(NoSuchElementException.class, stack::peek);
+        assertThrows(NoSuchElementException.class, stack::pop);
+        assertThrows(NoSuchElementException.class, stack::first);
+    }
+
+    @Test
+    void defaultCarrier_isConfinedToThread() throws Exception {
+        var carrier = new InteractionLayerCarrierDefault();
+        carrier.stack().push(new InteractionLayer(null, null));
+
+        var otherThreadsStack = CompletableFuture.supplyAsync(carrier::stack).get();
+
+        assertNotSame(carrier.stack(), otherThreadsStack);
+        assertTrue(otherThreadsStack.isEmpty());
+        assertEquals(1, carrier.stack().size());
+
+        carrier.remove();
+        assertTrue(carrier.stack().isEmpty());
+    }
+
+}
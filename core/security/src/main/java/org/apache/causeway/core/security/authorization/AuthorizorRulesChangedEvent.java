@@ -0,0 +1,61 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.security.authorization;
+
+import java.util.Optional;
+
+import org.springframework.lang.Nullable;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * To be published (as a Spring application event) by {@link Authorizor}s (or the services that maintain their rules),
+ * whenever these rules have changed, so that any cached authorization decisions get invalidated.
+ *
+ * @see org.apache.causeway.core.security.authorization.manager.AuthorizationManager
+ * @since 2.x {@index}
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AuthorizorRulesChangedEvent {
+
+    private final @Nullable String userName;
+
+    /**
+     * The rules have changed for all users.
+     */
+    public static AuthorizorRulesChangedEvent forAllUsers() {
+        return new AuthorizorRulesChangedEvent(null);
+    }
+
+    /**
+     * The rules have changed for the given user only.
+     */
+    public static AuthorizorRulesChangedEvent forUser(final @Nullable String userName) {
+        return new AuthorizorRulesChangedEvent(userName);
+    }
+
+    /**
+     * The user affected, if not all users.
+     */
+    public Optional<String> getUserName() {
+        return Optional.ofNullable(userName);
+    }
+
+}
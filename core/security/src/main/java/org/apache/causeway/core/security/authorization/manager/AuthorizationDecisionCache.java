@@ -0,0 +1,210 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.security.authorization.manager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.core.config.CausewayConfiguration.Security.Authorization.DecisionCache.KeyedBy;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Bounded, time-to-live cache of {@link org.apache.causeway.core.security.authorization.Authorizor} decisions,
+ * as used by the {@link AuthorizationManager}.
+ *
+ * @since 2.x {@index}
+ */
+public final class AuthorizationDecisionCache {
+
+    public enum Mode {
+        VISIBLE,
+        USABLE
+    }
+
+    @Value(staticConstructor = "of")
+    public static class Statistics {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+
+        public double getHitRate() {
+            final long lookups = hits + misses;
+            return lookups > 0
+                    ? (double)hits / lookups
+                    : 0.;
+        }
+    }
+
+    private final KeyedBy keyedBy;
+    private final int maxSize;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+
+    private final Map<Key, Decision> decisions = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public static AuthorizationDecisionCache create(
+            final @NonNull KeyedBy keyedBy,
+            final int maxSize,
+            final @NonNull Duration timeToLive) {
+        return new AuthorizationDecisionCache(keyedBy, maxSize, timeToLive, System::nanoTime);
+    }
+
+    // package private, for testing
+    AuthorizationDecisionCache(
+            final KeyedBy keyedBy,
+            final int maxSize,
+            final Duration timeToLive,
+            final LongSupplier nanoClock) {
+        this.keyedBy = keyedBy;
+        this.maxSize = Math.max(1, maxSize);
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns the cached decision for given user, identifier and mode, else the outcome of the given
+     * {@code decider}, which then is cached.
+     */
+    public boolean computeIfAbsent(
+            final @Nullable UserMemento user,
+            final @NonNull Identifier identifier,
+            final @NonNull Mode mode,
+            final @NonNull BooleanSupplier decider) {
+        if(user==null) {
+            return decider.getAsBoolean();
+        }
+        final var key = keyFor(user, identifier, mode);
+        final long now = nanoClock.getAsLong();
+        final var decision = decisions.get(key);
+        if(decision!=null
+                && !decision.isExpired(now)) {
+            hits.increment();
+            return decision.isGranted();
+        }
+        misses.increment();
+        final boolean granted = decider.getAsBoolean();
+        decisions.put(key, new Decision(granted, now + timeToLiveNanos));
+        if(decisions.size() > maxSize) {
+            evict(now);
+        }
+        return granted;
+    }
+
+    /**
+     * Discards all cached decisions.
+     */
+    public void invalidateAll() {
+        decisions.clear();
+    }
+
+    /**
+     * Discards the cached decisions for given user.
+     *
+     * <p>
+     * If decisions are shared among users with the same roles, discards all cached decisions.
+     * </p>
+     */
+    public void invalidate(final @Nullable String userName) {
+        if(keyedBy == KeyedBy.ROLES) {
+            invalidateAll();
+            return;
+        }
+        decisions.keySet().removeIf(key->Objects.equals(key.getUserName(), userName));
+    }
+
+    public Statistics getStatistics() {
+        return Statistics.of(hits.sum(), misses.sum(), evictions.sum(), decisions.size());
+    }
+
+    // -- HELPER
+
+    @Value
+    private static class Key {
+        private final @Nullable String userName;
+        /** sorted once when the key is created, so is independent of the order the roles are listed in */
+        private final List<String> roleNames;
+        private final Identifier identifier;
+        private final Mode mode;
+    }
+
+    @Value
+    private static class Decision {
+        private final boolean granted;
+        private final long expiresAt;
+        boolean isExpired(final long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    private Key keyFor(final UserMemento user, final Identifier identifier, final Mode mode) {
+        return new Key(
+                keyedBy == KeyedBy.USER
+                    ? user.getName()
+                    : null,
+                user.streamRoleNames()
+                    .sorted()
+                    .collect(Collectors.toUnmodifiableList()),
+                identifier,
+                mode);
+    }
+
+    /**
+     * Evicts expired decisions first, then arbitrary ones, until 90% of capacity is reached.
+     * Only one thread at a time does the eviction, others just carry on.
+     */
+    private void evict(final long now) {
+        if(!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            final int sizeBefore = decisions.size();
+            decisions.values().removeIf(decision->decision.isExpired(now));
+            final int target = maxSize - maxSize / 10;
+            final var iterator = decisions.keySet().iterator();
+            while(decisions.size() > target
+                    && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+            evictions.add(Math.max(0, sizeBefore - decisions.size()));
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+}
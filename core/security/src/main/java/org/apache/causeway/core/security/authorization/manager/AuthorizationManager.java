@@ -26,6 +26,7 @@
 import javax.inject.Named;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
@@ -39,6 +40,8 @@
 import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.security.CausewayModuleCoreSecurity;
 import org.apache.causeway.core.security.authorization.Authorizor;
+import org.apache.causeway.core.security.authorization.AuthorizorRulesChangedEvent;
+import org.apache.causeway.core.security.authorization.manager.AuthorizationDecisionCache.Mode;
 
 /**
  * Authorizes the user in the current session view and use members of an object.
@@ -56,6 +59,7 @@ public class AuthorizationManager {
     private final Authorizor authorizor;
     private final ActionSemanticsResolver actionSemanticsResolver;
     private final boolean actionsWithSafeSemanticsRequireOnlyViewingPermission;
+    private final Optional<AuthorizationDecisionCache> decisionCache;
 
     @Inject
     public AuthorizationManager(
@@ -77,6 +81,14 @@ public AuthorizationManager(
             authorizorChooserIfAny
             .map(authorizorChooser->authorizorChooser.chooseFrom(authorizors))
             .orElseGet(()->authorizors.get(0));
+
+        var decisionCacheConfig = config.getSecurity().getAuthorization().getDecisionCache();
+        this.decisionCache = decisionCacheConfig.isEnabled()
+                ? Optional.of(AuthorizationDecisionCache.create(
+                        decisionCacheConfig.getKeyedBy(),
+                        decisionCacheConfig.getMaxSize(),
+                        decisionCacheConfig.getTimeToLive()))
+                : Optional.empty();
     }
 
     /**
@@ -96,7 +108,7 @@ public boolean isUsable(
         if(containsSudoSuperuserRole(authentication)) {
             return true;
         }
-        if (authorizor.isUsable(authentication, identifier)) {
+        if (decide(authentication, identifier, Mode.USABLE)) {
             return true;
         }
         if (actionsWithSafeSemanticsRequireOnlyViewingPermission
@@ -128,14 +140,53 @@ public boolean isVisible(
         if(containsSudoSuperuserRole(authentication)) {
             return true;
         }
-        if (authorizor.isVisible(authentication, identifier)) {
+        if (decide(authentication, identifier, Mode.VISIBLE)) {
             return true;
         }
         return false;
     }
 
+    // -- DECISION CACHE
+
+    /**
+     * Statistics of the decision cache, if
+     * {@link CausewayConfiguration.Security.Authorization.DecisionCache#isEnabled() enabled}.
+     */
+    public Optional<AuthorizationDecisionCache.Statistics> getDecisionCacheStatistics() {
+        return decisionCache.map(AuthorizationDecisionCache::getStatistics);
+    }
+
+    /**
+     * Discards all cached decisions, or those of a specific user only.
+     */
+    @EventListener(AuthorizorRulesChangedEvent.class)
+    public void onAuthorizorRulesChanged(final AuthorizorRulesChangedEvent event) {
+        decisionCache.ifPresent(cache->
+            event.getUserName()
+            .ifPresentOrElse(cache::invalidate, cache::invalidateAll));
+    }
+
     // -- HELPER
 
+    private boolean decide(
+            final InteractionContext authentication,
+            final Identifier identifier,
+            final Mode mode) {
+        return decisionCache.isPresent()
+                ? decisionCache.get().computeIfAbsent(authentication.getUser(), identifier, mode,
+                        ()->decideUncached(authentication, identifier, mode))
+                : decideUncached(authentication, identifier, mode);
+    }
+
+    private boolean decideUncached(
+            final InteractionContext authentication,
+            final Identifier identifier,
+            final Mode mode) {
+        return mode == Mode.VISIBLE
+                ? authorizor.isVisible(authentication, identifier)
+                : authorizor.isUsable(authentication, identifier);
+    }
+
     private static boolean containsSudoSuperuserRole(
             final @Nullable InteractionContext session) {
         if(session==null || session.getUser()==null) {
@@ -0,0 +1,119 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.core.security.authorization.manager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.id.LogicalType;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.core.config.CausewayConfiguration.Security.Authorization.DecisionCache.KeyedBy;
+import org.apache.causeway.core.security.authorization.manager.AuthorizationDecisionCache.Mode;
+
+class AuthorizationDecisionCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger decisionCount = new AtomicInteger();
+
+    private final Identifier identifier = Identifier.propertyIdentifier(
+            LogicalType.fqcn(AuthorizationDecisionCacheTest.class), "name");
+
+    @Test
+    void cachesDecisions_untilExpired() {
+        var cache = new AuthorizationDecisionCache(KeyedBy.USER, 10, Duration.ofNanos(100), clock::get);
+        var user = UserMemento.ofNameAndRoleNames("sven", "admin");
+
+        assertTrue(decide(cache, user, Mode.VISIBLE));
+        assertTrue(decide(cache, user, Mode.VISIBLE));
+        assertEquals(1, decisionCount.get());
+
+        assertTrue(decide(cache, user, Mode.USABLE));
+        assertEquals(2, decisionCount.get());
+
+        clock.set(100);
+        assertTrue(decide(cache, user, Mode.VISIBLE));
+        assertEquals(3, decisionCount.get());
+
+        var statistics = cache.getStatistics();
+        assertEquals(1, statistics.getHits());
+        assertEquals(3, statistics.getMisses());
+    }
+
+    @Test
+    void keyedByUser_doesNotShareAmongUsers() {
+        var cache = new AuthorizationDecisionCache(KeyedBy.USER, 10, Duration.ofMinutes(1), clock::get);
+
+        decide(cache, UserMemento.ofNameAndRoleNames("sven", "admin", "user"), Mode.VISIBLE);
+        decide(cache, UserMemento.ofNameAndRoleNames("dick", "user", "admin"), Mode.VISIBLE);
+        assertEquals(2, decisionCount.get());
+
+        cache.invalidate("sven");
+        assertEquals(1, cache.getStatistics().getSize());
+    }
+
+    @Test
+    void keyedByRoles_sharesAmongUsersWithSameRoles() {
+        var cache = new AuthorizationDecisionCache(KeyedBy.ROLES, 10, Duration.ofMinutes(1), clock::get);
+
+        decide(cache, UserMemento.ofNameAndRoleNames("sven", "admin", "user"), Mode.VISIBLE);
+        decide(cache, UserMemento.ofNameAndRoleNames("dick", "user", "admin"), Mode.VISIBLE);
+        assertEquals(1, decisionCount.get());
+
+        decide(cache, UserMemento.ofNameAndRoleNames("bob", "user"), Mode.VISIBLE);
+        assertEquals(2, decisionCount.get());
+    }
+
+    @Test
+    void isBounded() {
+        var cache = new AuthorizationDecisionCache(KeyedBy.USER, 10, Duration.ofMinutes(1), clock::get);
+
+        for (int i = 0; i < 100; i++) {
+            decide(cache, UserMemento.ofName("user-" + i), Mode.VISIBLE);
+        }
+        var statistics = cache.getStatistics();
+        assertTrue(statistics.getSize() <= 10);
+        assertEquals(100, statistics.getSize() + statistics.getEvictions());
+    }
+
+    @Test
+    void bypassed_whenNoUser() {
+        var cache = new AuthorizationDecisionCache(KeyedBy.USER, 10, Duration.ofMinutes(1), clock::get);
+
+        assertFalse(cache.computeIfAbsent(null, identifier, Mode.VISIBLE, ()->false));
+        assertEquals(0, cache.getStatistics().getSize());
+    }
+
+    // -- HELPER
+
+    private boolean decide(final AuthorizationDecisionCache cache, final UserMemento user, final Mode mode) {
+        return cache.computeIfAbsent(user, identifier, mode, ()->{
+            decisionCount.incrementAndGet();
+            return true;
+        });
+    }
+
+}
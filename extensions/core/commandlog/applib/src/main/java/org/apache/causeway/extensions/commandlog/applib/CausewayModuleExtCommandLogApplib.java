@@ -35,6 +35,8 @@
 import org.apache.causeway.extensions.commandlog.applib.dom.mixins.CommandLogEntry_siblingCommands;
 import org.apache.causeway.extensions.commandlog.applib.fakescheduler.FakeScheduler;
 import org.apache.causeway.extensions.commandlog.applib.job.BackgroundCommandsJobControl;
+import org.apache.causeway.extensions.commandlog.applib.job.PurgeCommandLogJob;
+import org.apache.causeway.extensions.commandlog.applib.job.PurgeCommandLogJobMetrics;
 import org.apache.causeway.extensions.commandlog.applib.job.RunBackgroundCommandsJob;
 import org.apache.causeway.extensions.commandlog.applib.subscriber.CommandSubscriberForCommandLog;
 
@@ -54,12 +56,14 @@
         // @Component's
         RunBackgroundCommandsJob.class,
         RunBackgroundCommandsJobListener.Noop.class,
+        PurgeCommandLogJob.class,
 
         // @Service's
         CommandSubscriberForCommandLog.class,
         CommandLogEntry.TableColumnOrderDefault.class,
 
         BackgroundCommandsJobControl.class,
+        PurgeCommandLogJobMetrics.class,
 
         BackgroundService.class,
         BackgroundService.PersistCommandExecutorService.class,
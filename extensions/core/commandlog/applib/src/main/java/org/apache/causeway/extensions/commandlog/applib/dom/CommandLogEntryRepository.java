@@ -28,6 +28,7 @@
 import org.apache.causeway.applib.exceptions.RecoverableException;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.command.Command;
+import org.apache.causeway.core.runtime.retention.LogRetentionRepository;
 import org.apache.causeway.schema.cmd.v2.CommandDto;
 import org.apache.causeway.schema.cmd.v2.CommandsDto;
 
@@ -38,7 +39,8 @@
  *
  * @since 2.0 {@index}
  */
-public interface CommandLogEntryRepository {
+public interface CommandLogEntryRepository
+extends LogRetentionRepository<CommandLogEntry> {
 
     class NotFoundException extends RecoverableException {
         private static final long serialVersionUID = 1L;
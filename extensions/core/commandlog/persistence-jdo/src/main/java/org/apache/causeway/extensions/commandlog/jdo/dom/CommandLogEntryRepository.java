@@ -18,7 +18,15 @@
  */
 package org.apache.causeway.extensions.commandlog.jdo.dom;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.inject.Inject;
 import javax.inject.Named;
+import javax.jdo.Query;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -26,6 +34,7 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.commandlog.jdo.CausewayModuleExtCommandLogPersistenceJdo;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -40,10 +49,60 @@
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogPersistenceJdo.NAMESPACE + ".CommandLogEntryRepository";
 
+    @Inject JdoSupportService jdoSupportService;
+
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    // -- RETENTION
+
+    @Override
+    public Optional<Timestamp> findOldestTimestamp() {
+        final Query<CommandLogEntry> query = jdoSupportService.getPersistenceManager().newQuery(CommandLogEntry.class);
+        try {
+            query.setResult("min(timestamp)");
+            return Optional.ofNullable(query.executeResultUnique(Timestamp.class));
+        } finally {
+            query.closeAll();
+        }
+    }
+
+    @Override
+    public List<org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry> findByTimestampInterval(
+            final Timestamp from, final Timestamp to, final int limit) {
+        final Query<CommandLogEntry> query = newTimestampIntervalQuery(from, to);
+        try {
+            query.setOrdering("timestamp ascending");
+            query.setRange(0, limit);
+            return new ArrayList<>(query.executeList());
+        } finally {
+            query.closeAll();
+        }
+    }
+
+    @Override
+    public long removeByTimestampInterval(final Timestamp from, final Timestamp to) {
+        // a JDOQL bulk delete is executed as a single DELETE statement, whereas deletePersistentAll() on a
+        // candidate query would load and then delete each entry in turn
+        final Query<?> query = jdoSupportService.getPersistenceManager()
+                .newQuery("DELETE FROM " + CommandLogEntry.class.getName()
+                        + " WHERE timestamp >= :from && timestamp < :to");
+        try {
+            query.addExtension("datanucleus.query.jdoql.allowall", "true"); // bulk update/delete is a DN extension
+            return ((Number) query.executeWithMap(Map.of("from", from, "to", to))).longValue();
+        } finally {
+            query.closeAll();
+        }
+    }
+
+    private Query<CommandLogEntry> newTimestampIntervalQuery(final Timestamp from, final Timestamp to) {
+        final Query<CommandLogEntry> query = jdoSupportService.getPersistenceManager()
+                .newQuery(CommandLogEntry.class, "timestamp >= :from && timestamp < :to");
+        query.setNamedParameters(Map.of("from", from, "to", to));
+        return query;
+    }
+
     /**
      * The DN annotation processor (from artifact {@literal org.datanucleus:datanucleus-jdo-query})
      * should  generate Q classes under 'target/generated-sources/annotations'.
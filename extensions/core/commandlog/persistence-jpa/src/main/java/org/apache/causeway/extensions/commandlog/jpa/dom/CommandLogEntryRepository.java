@@ -18,14 +18,22 @@
  */
 package org.apache.causeway.extensions.commandlog.jpa.dom;
 
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import javax.inject.Inject;
 import javax.inject.Named;
+import javax.persistence.EntityManager;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.commandlog.jpa.CausewayModuleExtCommandLogPersistenceJpa;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -40,8 +48,51 @@
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtCommandLogPersistenceJpa.NAMESPACE + ".CommandLogEntryRepository";
 
+    @Inject JpaSupportService jpaSupportService;
+
     public CommandLogEntryRepository() {
         super(CommandLogEntry.class);
     }
 
+    // -- RETENTION
+
+    @Override
+    public Optional<Timestamp> findOldestTimestamp() {
+        return Optional.ofNullable(
+                entityManager()
+                    .createQuery("SELECT MIN(cl.timestamp) FROM CommandLogEntry cl", Timestamp.class)
+                    .getSingleResult());
+    }
+
+    @Override
+    public List<org.apache.causeway.extensions.commandlog.applib.dom.CommandLogEntry> findByTimestampInterval(
+            final Timestamp from, final Timestamp to, final int limit) {
+        return _Casts.uncheckedCast(
+                entityManager()
+                    .createQuery("SELECT cl "
+                            + "  FROM CommandLogEntry cl "
+                            + " WHERE cl.timestamp >= :from "
+                            + "   AND cl.timestamp <  :to "
+                            + " ORDER BY cl.timestamp ASC", CommandLogEntry.class)
+                    .setParameter("from", from)
+                    .setParameter("to", to)
+                    .setMaxResults(limit)
+                    .getResultList());
+    }
+
+    @Override
+    public long removeByTimestampInterval(final Timestamp from, final Timestamp to) {
+        return entityManager()
+                .createQuery("DELETE FROM CommandLogEntry cl "
+                        + " WHERE cl.timestamp >= :from "
+                        + "   AND cl.timestamp <  :to")
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .executeUpdate();
+    }
+
+    private EntityManager entityManager() {
+        return jpaSupportService.getEntityManagerElseFail(CommandLogEntry.class);
+    }
+
 }
@@ -27,6 +27,8 @@
 import org.apache.causeway.extensions.executionlog.applib.contributions.Object_recentExecutions;
 import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntry;
 import org.apache.causeway.extensions.executionlog.applib.dom.mixins.ExecutionLogEntry_siblingExecutions;
+import org.apache.causeway.extensions.executionlog.applib.job.PurgeExecutionLogJob;
+import org.apache.causeway.extensions.executionlog.applib.job.PurgeExecutionLogJobMetrics;
 import org.apache.causeway.extensions.executionlog.applib.spiimpl.ExecutionSubscriberForExecutionLog;
 import org.apache.causeway.testing.fixtures.applib.modules.ModuleWithFixtures;
 
@@ -46,6 +48,8 @@
 
         // @Service's
         ExecutionSubscriberForExecutionLog.class,
+        PurgeExecutionLogJob.class,
+        PurgeExecutionLogJobMetrics.class,
         ExecutionLogEntry.TableColumnOrderDefault.class,
 })
 public class CausewayModuleExtExecutionLogApplib
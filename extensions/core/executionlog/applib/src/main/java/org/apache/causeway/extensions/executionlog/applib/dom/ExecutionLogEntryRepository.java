@@ -29,6 +29,7 @@
 import org.apache.causeway.applib.exceptions.RecoverableException;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.iactn.Execution;
+import org.apache.causeway.core.runtime.retention.LogRetentionRepository;
 
 import lombok.Getter;
 
@@ -38,7 +39,8 @@
  *
  * @since 2.0 {@index}
  */
-public interface ExecutionLogEntryRepository {
+public interface ExecutionLogEntryRepository
+extends LogRetentionRepository<ExecutionLogEntry> {
 
     class NotFoundException extends RecoverableException {
         private static final long serialVersionUID = 1L;
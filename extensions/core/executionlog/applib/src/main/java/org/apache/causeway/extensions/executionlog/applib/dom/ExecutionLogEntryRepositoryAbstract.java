@@ -37,7 +37,9 @@
 import org.apache.causeway.applib.services.iactn.Execution;
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
+import org.apache.causeway.core.runtime.batchinsert.EntityBatchInsertQueue;
 
 /**
  * Provides supporting functionality for querying and persisting
@@ -52,6 +54,8 @@
     @Inject Provider<RepositoryService> repositoryServiceProvider;
     @Inject FactoryService factoryService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
+    @Inject CausewayConfiguration causewayConfiguration;
+    @Inject Provider<EntityBatchInsertQueue> entityBatchInsertQueueProvider;
 
     protected ExecutionLogEntryRepositoryAbstract(final Class<E> executionLogEntryClass) {
         this.executionLogEntryClass = executionLogEntryClass;
@@ -70,9 +74,19 @@ protected ExecutionLogEntryRepositoryAbstract(final Class<E> executionLogEntryCl
         this.factoryService = factoryService;
     }
 
+    /**
+     * If {@link CausewayConfiguration.Extensions.ExecutionLog#getPersist() configured} as
+     * {@link CausewayConfiguration.Extensions.ExecutionLog.PersistPolicy#BATCHED batched}, the entry is queued
+     * to be written with a batched JDBC insert just before the transaction commits (and the returned entry
+     * remains detached).
+     */
     public E createEntryAndPersist(final Execution execution) {
         E e = factoryService.detachedEntity(executionLogEntryClass);
         e.init(execution);
+        if(isBatched()
+                && entityBatchInsertQueueProvider.get().offer(executionLogEntryClass, e)) {
+            return e;
+        }
         persist(e);
         return e;
     }
@@ -229,11 +243,22 @@ public List<ExecutionLogEntry> findRecentByTarget(final Bookmark target) {
         );
     }
 
+    private boolean isBatched() {
+        return causewayConfiguration != null // null when unit testing
+                && causewayConfiguration.getExtensions().getExecutionLog().getPersist().isBatched();
+    }
+
     private void persist(final E commandLogEntry) {
-        repositoryService().persist(commandLogEntry);
+        repositoryServiceProvider.get().persist(commandLogEntry);
     }
 
+    /**
+     * Also writes any entries still queued for batched insertion, so that these are visible to queries.
+     */
     private RepositoryService repositoryService() {
+        if(isBatched()) {
+            entityBatchInsertQueueProvider.get().flush();
+        }
         return repositoryServiceProvider.get();
     }
 
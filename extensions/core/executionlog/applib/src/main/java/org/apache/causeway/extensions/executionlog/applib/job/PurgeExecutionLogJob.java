@@ -0,0 +1,115 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.executionlog.applib.job;
+
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.inject.Inject;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+
+import org.springframework.stereotype.Component;
+
+import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Extensions.LogRetention;
+import org.apache.causeway.core.runtime.retention.LogPurgeJobAbstract;
+import org.apache.causeway.core.runtime.retention.LogPurgeJobMetrics;
+import org.apache.causeway.core.runtime.retention.LogRetentionRepository;
+import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntry;
+import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntryRepository;
+
+/**
+ * An implementation of a Quartz {@link Job} that removes all {@link ExecutionLogEntry}s older than the configured
+ * {@link CausewayConfiguration.Extensions.ExecutionLog#getRetention() retention} period.
+ *
+ * <p>
+ *     The partitioning, archiving and removal is as per {@link LogPurgeJobAbstract}.
+ * </p>
+ *
+ * <p>
+ *     Note that although this is a component, a new instance is created for each run.  Progress is therefore
+ *     tracked by the injected {@link PurgeExecutionLogJobMetrics}.
+ * </p>
+ *
+ * @see PurgeExecutionLogJobMetrics
+ *
+ * @since 2.0 {@index}
+ */
+@Component
+@DisallowConcurrentExecution
+public class PurgeExecutionLogJob
+extends LogPurgeJobAbstract<ExecutionLogEntry>
+implements Job {
+
+    @Inject ExecutionLogEntryRepository executionLogEntryRepository;
+    @Inject PurgeExecutionLogJobMetrics metrics;
+
+    public PurgeExecutionLogJob() {
+        super("execution log", "executionlog");
+    }
+
+    @Override
+    public void execute(final JobExecutionContext quartzContext) {
+        purge();
+    }
+
+    @Override
+    protected LogRetention getRetention(final CausewayConfiguration causewayConfiguration) {
+        return causewayConfiguration.getExtensions().getExecutionLog().getRetention();
+    }
+
+    @Override
+    protected LogRetentionRepository<ExecutionLogEntry> getRepository() {
+        return executionLogEntryRepository;
+    }
+
+    @Override
+    protected LogPurgeJobMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    protected Timestamp timestampOf(final ExecutionLogEntry entry) {
+        return entry.getTimestamp();
+    }
+
+    @Override
+    protected Map<String, Object> asArchiveRecord(final ExecutionLogEntry entry) {
+        var record = new LinkedHashMap<String, Object>();
+        record.put("interactionId", entry.getInteractionId());
+        record.put("sequence", entry.getSequence());
+        record.put("executionType", entry.getExecutionType());
+        record.put("timestamp", toIsoString(entry.getTimestamp()));
+        record.put("username", entry.getUsername());
+        record.put("target", entry.getTarget() != null ? entry.getTarget().stringify() : null);
+        record.put("logicalMemberIdentifier", entry.getLogicalMemberIdentifier());
+        record.put("startedAt", toIsoString(entry.getStartedAt()));
+        record.put("completedAt", toIsoString(entry.getCompletedAt()));
+        record.put("interactionDto", entry.getInteractionDto() != null
+                ? InteractionDtoUtils.dtoMapper().toString(entry.getInteractionDto())
+                : null);
+        return record;
+    }
+
+}
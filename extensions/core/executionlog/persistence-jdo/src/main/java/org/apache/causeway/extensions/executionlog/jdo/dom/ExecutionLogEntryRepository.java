@@ -18,8 +18,16 @@
  */
 package org.apache.causeway.extensions.executionlog.jdo.dom;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
+import javax.jdo.Query;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -29,6 +37,7 @@
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.executionlog.jdo.CausewayModuleExtExecutionLogPersistenceJdo;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 import lombok.Builder;
 
@@ -41,6 +50,8 @@
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionLogPersistenceJdo.NAMESPACE + ".ExecutionLogEntryRepository";
 
+    @Inject JdoSupportService jdoSupportService;
+
     public ExecutionLogEntryRepository() {
         super(ExecutionLogEntry.class);
     }
@@ -56,4 +67,52 @@ public ExecutionLogEntryRepository() {
         super(executionLogEntryClass, repositoryServiceProvider, factoryService);
     }
 
+    // -- RETENTION
+
+    @Override
+    public Optional<Timestamp> findOldestTimestamp() {
+        final Query<ExecutionLogEntry> query = jdoSupportService.getPersistenceManager().newQuery(ExecutionLogEntry.class);
+        try {
+            query.setResult("min(timestamp)");
+            return Optional.ofNullable(query.executeResultUnique(Timestamp.class));
+        } finally {
+            query.closeAll();
+        }
+    }
+
+    @Override
+    public List<org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntry> findByTimestampInterval(
+            final Timestamp from, final Timestamp to, final int limit) {
+        final Query<ExecutionLogEntry> query = newTimestampIntervalQuery(from, to);
+        try {
+            query.setOrdering("timestamp ascending");
+            query.setRange(0, limit);
+            return new ArrayList<>(query.executeList());
+        } finally {
+            query.closeAll();
+        }
+    }
+
+    @Override
+    public long removeByTimestampInterval(final Timestamp from, final Timestamp to) {
+        // a JDOQL bulk delete is executed as a single DELETE statement, whereas deletePersistentAll() on a
+        // candidate query would load and then delete each entry in turn
+        final Query<?> query = jdoSupportService.getPersistenceManager()
+                .newQuery("DELETE FROM " + ExecutionLogEntry.class.getName()
+                        + " WHERE timestamp >= :from && timestamp < :to");
+        try {
+            query.addExtension("datanucleus.query.jdoql.allowall", "true"); // bulk update/delete is a DN extension
+            return ((Number) query.executeWithMap(Map.of("from", from, "to", to))).longValue();
+        } finally {
+            query.closeAll();
+        }
+    }
+
+    private Query<ExecutionLogEntry> newTimestampIntervalQuery(final Timestamp from, final Timestamp to) {
+        final Query<ExecutionLogEntry> query = jdoSupportService.getPersistenceManager()
+                .newQuery(ExecutionLogEntry.class, "timestamp >= :from && timestamp < :to");
+        query.setNamedParameters(Map.of("from", from, "to", to));
+        return query;
+    }
+
 }
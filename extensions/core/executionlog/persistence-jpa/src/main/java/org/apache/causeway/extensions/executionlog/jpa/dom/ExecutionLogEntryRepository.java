@@ -18,8 +18,14 @@
  */
 package org.apache.causeway.extensions.executionlog.jpa.dom;
 
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
+import javax.persistence.EntityManager;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -27,8 +33,10 @@
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
 import org.apache.causeway.applib.services.factory.FactoryService;
 import org.apache.causeway.applib.services.repository.RepositoryService;
+import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntryRepositoryAbstract;
 import org.apache.causeway.extensions.executionlog.jpa.CausewayModuleExtExecutionLogPersistenceJpa;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 import lombok.Builder;
 
@@ -41,6 +49,8 @@
 
     public static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionLogPersistenceJpa.NAMESPACE + ".ExecutionLogEntryRepository";
 
+    @Inject JpaSupportService jpaSupportService;
+
     public ExecutionLogEntryRepository() {
         super(ExecutionLogEntry.class);
     }
@@ -56,4 +66,45 @@ public ExecutionLogEntryRepository() {
         super(executionLogEntryClass, repositoryServiceProvider, factoryService);
     }
 
+    // -- RETENTION
+
+    @Override
+    public Optional<Timestamp> findOldestTimestamp() {
+        return Optional.ofNullable(
+                entityManager()
+                    .createQuery("SELECT MIN(ele.timestamp) FROM ExecutionLogEntry ele", Timestamp.class)
+                    .getSingleResult());
+    }
+
+    @Override
+    public List<org.apache.causeway.extensions.executionlog.applib.dom.ExecutionLogEntry> findByTimestampInterval(
+            final Timestamp from, final Timestamp to, final int limit) {
+        return _Casts.uncheckedCast(
+                entityManager()
+                    .createQuery("SELECT ele "
+                            + "  FROM ExecutionLogEntry ele "
+                            + " WHERE ele.timestamp >= :from "
+                            + "   AND ele.timestamp <  :to "
+                            + " ORDER BY ele.timestamp ASC", ExecutionLogEntry.class)
+                    .setParameter("from", from)
+                    .setParameter("to", to)
+                    .setMaxResults(limit)
+                    .getResultList());
+    }
+
+    @Override
+    public long removeByTimestampInterval(final Timestamp from, final Timestamp to) {
+        return entityManager()
+                .createQuery("DELETE FROM ExecutionLogEntry ele "
+                        + " WHERE ele.timestamp >= :from "
+                        + "   AND ele.timestamp <  :to")
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .executeUpdate();
+    }
+
+    private EntityManager entityManager() {
+        return jpaSupportService.getEntityManagerElseFail(ExecutionLogEntry.class);
+    }
+
 }
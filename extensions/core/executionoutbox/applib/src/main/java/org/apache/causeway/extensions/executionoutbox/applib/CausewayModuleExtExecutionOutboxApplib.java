@@ -22,6 +22,10 @@
 import org.springframework.context.annotation.Import;
 
 import org.apache.causeway.extensions.executionoutbox.applib.app.ExecutionOutboxMenu;
+import org.apache.causeway.extensions.executionoutbox.applib.dispatch.ExecutionOutboxDispatcher;
+import org.apache.causeway.extensions.executionoutbox.applib.dispatch.ExecutionOutboxSinkForJdbc;
+import org.apache.causeway.extensions.executionoutbox.applib.dispatch.ExecutionOutboxSinkForNdjson;
+import org.apache.causeway.extensions.executionoutbox.applib.dispatch.ExecutionOutboxSinkForWebhook;
 import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
 import org.apache.causeway.extensions.executionoutbox.applib.restapi.OutboxRestApi;
 import org.apache.causeway.extensions.executionoutbox.applib.spiimpl.ContentMappingServiceForOutboxEvents;
@@ -40,7 +44,12 @@
 
         ExecutionSubscriberForExecutionOutbox.class,
         ExecutionOutboxEntry.TableColumnOrderDefault.class,
-        ContentMappingServiceForOutboxEvents.class
+        ContentMappingServiceForOutboxEvents.class,
+
+        ExecutionOutboxDispatcher.class,
+        ExecutionOutboxSinkForWebhook.class,
+        ExecutionOutboxSinkForNdjson.class,
+        ExecutionOutboxSinkForJdbc.class
 })
 public class CausewayModuleExtExecutionOutboxApplib {
 
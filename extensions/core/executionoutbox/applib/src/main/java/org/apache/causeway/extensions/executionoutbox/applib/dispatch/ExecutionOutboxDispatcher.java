@@ -0,0 +1,529 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.executionoutbox.applib.dispatch;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Pushes {@link ExecutionOutboxEntry outbox entries} to all enabled {@link ExecutionOutboxSink sinks},
+ * as an alternative to having consumers poll the
+ * {@link org.apache.causeway.extensions.executionoutbox.applib.restapi.OutboxRestApi REST API}.
+ *
+ * <p>
+ *     Each sink has its own high-water mark, so that the outbox is read from there onwards (a range scan of
+ *     the <code>timestamp</code> index) in batches, and a slow or failing sink does not hold up the others.
+ *     A failed delivery is retried with exponential backoff; once the maximum number of attempts is reached,
+ *     the batch's entries are delivered one by one, and those still failing are dead-lettered.
+ * </p>
+ *
+ * <p>
+ *     Entries delivered to (or dead-lettered by) all sinks are deleted from the outbox.  High-water marks are
+ *     held in memory only; the outbox itself is the durable state, so after a restart any entries not yet
+ *     deleted are delivered again (at-least-once).
+ * </p>
+ *
+ * @see CausewayConfiguration.Extensions.ExecutionOutbox.Dispatcher
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(ExecutionOutboxDispatcher.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class ExecutionOutboxDispatcher {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionOutboxApplib.NAMESPACE + ".ExecutionOutboxDispatcher";
+
+    private final InteractionService interactionService;
+    private final TransactionService transactionService;
+    private final ExecutionOutboxEntryRepository executionOutboxEntryRepository;
+    private final CausewayConfiguration.Extensions.ExecutionOutbox.Dispatcher config;
+    private final List<SinkState> sinkStates;
+    private final Clock clock;
+
+    private ScheduledExecutorService scheduler;
+
+    @Inject
+    public ExecutionOutboxDispatcher(
+            final InteractionService interactionService,
+            final TransactionService transactionService,
+            final ExecutionOutboxEntryRepository executionOutboxEntryRepository,
+            final List<ExecutionOutboxSink> sinks,
+            final CausewayConfiguration causewayConfiguration) {
+        this(interactionService, transactionService, executionOutboxEntryRepository, sinks,
+                causewayConfiguration.getExtensions().getExecutionOutbox().getDispatcher(), Clock.systemUTC());
+    }
+
+    // JUnit support
+    ExecutionOutboxDispatcher(
+            final InteractionService interactionService,
+            final TransactionService transactionService,
+            final ExecutionOutboxEntryRepository executionOutboxEntryRepository,
+            final List<ExecutionOutboxSink> sinks,
+            final CausewayConfiguration.Extensions.ExecutionOutbox.Dispatcher config,
+            final Clock clock) {
+        this.interactionService = interactionService;
+        this.transactionService = transactionService;
+        this.executionOutboxEntryRepository = executionOutboxEntryRepository;
+        this.config = config;
+        this.clock = clock;
+        this.sinkStates = sinks.stream()
+                .filter(ExecutionOutboxSink::isEnabled)
+                .map(SinkState::new)
+                .collect(Collectors.toList());
+    }
+
+    @PostConstruct
+    public void init() {
+        if(!config.isEnabled()) {
+            return;
+        }
+        if(sinkStates.isEmpty()) {
+            log.warn("dispatcher is enabled, but there are no sinks configured");
+            return;
+        }
+        if(config.isDeleteDelivered()
+                && _Strings.isNullOrEmpty(config.getDeadLetterDirectory())) {
+            throw new IllegalStateException(
+                    "dispatcher is enabled and deletes delivered entries, hence requires "
+                    + "causeway.extensions.execution-outbox.dispatcher.dead-letter-directory to be set");
+        }
+        log.info("dispatching to sinks {}", sinkStates.stream()
+                .map(sinkState->sinkState.getSink().getName())
+                .collect(Collectors.toList()));
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable->{
+            var thread = new Thread(runnable, "causeway-executionoutbox-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        var intervalMillis = config.getPollInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::dispatchQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if(scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs a single dispatch round, delivering to each sink (unless backing off) the next batch
+     * of entries beyond its high-water mark.
+     *
+     * @return the number of entries delivered, summed up over all sinks
+     */
+    public int dispatch() {
+        return interactionService.callAnonymous(this::dispatchRound);
+    }
+
+    public List<SinkStatistics> getStatistics() {
+        return sinkStates.stream()
+                .map(SinkState::statistics)
+                .collect(Collectors.toList());
+    }
+
+    @Value
+    public static class SinkStatistics {
+        String sinkName;
+        /** timestamp of the most recent entry delivered (or dead-lettered) */
+        Timestamp highWaterMark;
+        long delivered;
+        long failedAttempts;
+        long deadLettered;
+        /** if backing off, when the next attempt is due */
+        @Nullable Instant retryAt;
+    }
+
+    // -- HELPER
+
+    private void dispatchQuietly() {
+        try {
+            dispatch();
+        } catch (Exception e) {
+            log.error("dispatch round failed", e);
+        }
+    }
+
+    private int dispatchRound() {
+        var now = clock.instant();
+        var settledBefore = Timestamp.from(now.minus(config.getSettleTime()));
+        var entriesRead = new LinkedHashMap<EntryKey, ExecutionOutboxEntry>();
+        int delivered = 0;
+
+        for(var sinkState : sinkStates) {
+            if(sinkState.isBackingOff(now)) {
+                continue;
+            }
+            if(sinkState.isRescanDue(now, config.getRescanInterval())) {
+                var missed = missedEntries(sinkState, settledBefore, entriesRead);
+                if(!missed.isEmpty()) {
+                    delivered += deliver(sinkState, missed, now);
+                    if(sinkState.isBackingOff(now)) {
+                        continue; // rescan again, once no longer backing off
+                    }
+                }
+                if(missed.size() < config.getBatchSize()) {
+                    sinkState.onRescanned(now);
+                }
+            }
+            var batch = nextBatch(sinkState.getHighWaterMark(), settledBefore);
+            if(batch.isEmpty()) {
+                continue;
+            }
+            batch.forEach(entry->entriesRead.put(EntryKey.of(entry), entry));
+            delivered += deliver(sinkState, batch, now);
+        }
+
+        if(config.isDeleteDelivered()) {
+            deleteDeliveredToAllSinks(entriesRead.values());
+        }
+        return delivered;
+    }
+
+    private List<ExecutionOutboxEntry> nextBatch(final HighWaterMark highWaterMark, final Timestamp settledBefore) {
+        // entries at the mark's timestamp that were already delivered are read again, hence the extra
+        final int limit = config.getBatchSize() + highWaterMark.getKeysAtTimestamp().size();
+        return transactionService.callTransactional(Propagation.REQUIRED, ()->{
+                    var batch = executionOutboxEntryRepository.findSince(highWaterMark.getTimestamp(), limit).stream()
+                            .filter(entry->entry.getTimestamp().before(settledBefore))
+                            .filter(entry->!highWaterMark.hasPassed(entry))
+                            .limit(config.getBatchSize())
+                            .collect(Collectors.toList());
+                    // have any lazily fetched state loaded, while still within the transaction
+                    batch.forEach(ExecutionOutboxEntry::getInteractionDto);
+                    return batch;
+                })
+                .ifFailureFail()
+                .getValue()
+                .orElseGet(List::of);
+    }
+
+    /**
+     * Entries behind the sink's high-water mark (within the rescan window), that the sink has not seen yet,
+     * as these were committed only after the mark had passed their timestamp.
+     * <p>
+     * All entries read are also collected, such that any delivered to all sinks (but still present,
+     * because deleting these failed) are deleted.
+     */
+    private List<ExecutionOutboxEntry> missedEntries(
+            final SinkState sinkState,
+            final Timestamp settledBefore,
+            final Map<EntryKey, ExecutionOutboxEntry> entriesRead) {
+        var highWaterMark = sinkState.getHighWaterMark();
+        if(highWaterMark == HighWaterMark.HEAD) {
+            return List.of(); // nothing passed yet
+        }
+        var missed = new ArrayList<ExecutionOutboxEntry>();
+        var cursor = HighWaterMark.at(sinkState.rescanWindowStart(config.getRescanWindow()));
+        while(missed.size() < config.getBatchSize()) {
+            var batch = nextBatch(cursor, settledBefore);
+            if(batch.isEmpty()) {
+                break;
+            }
+            for(var entry : batch) {
+                if(!highWaterMark.hasPassed(entry)) {
+                    return missed; // reached the high-water mark
+                }
+                entriesRead.put(EntryKey.of(entry), entry);
+                if(!sinkState.hasSeen(entry)) {
+                    missed.add(entry);
+                    if(missed.size() == config.getBatchSize()) {
+                        return missed;
+                    }
+                }
+            }
+            cursor = cursor.advancedPast(batch);
+        }
+        return missed;
+    }
+
+    private int deliver(final SinkState sinkState, final List<ExecutionOutboxEntry> batch, final Instant now) {
+        var sink = sinkState.getSink();
+        try {
+            sink.deliver(batch);
+            sinkState.onDelivered(batch, batch, batch.size(), config.getRescanWindow());
+            return batch.size();
+        } catch (Exception e) {
+            var attempts = sinkState.onFailure(now, config.getInitialBackoff(), config.getMaxBackoff());
+            if(attempts < config.getMaxAttempts()) {
+                log.warn("failed to deliver {} entries to sink '{}' (attempt {} of {}), retrying at {}",
+                        batch.size(), sink.getName(), attempts, config.getMaxAttempts(), sinkState.getRetryAt(), e);
+                return 0;
+            }
+            log.warn("failed to deliver {} entries to sink '{}' after {} attempts, now delivering one by one",
+                    batch.size(), sink.getName(), attempts, e);
+            return deliverOneByOne(sinkState, batch);
+        }
+    }
+
+    private int deliverOneByOne(final SinkState sinkState, final List<ExecutionOutboxEntry> batch) {
+        int delivered = 0;
+        var handled = new ArrayList<ExecutionOutboxEntry>();
+        for(var entry : batch) {
+            try {
+                sinkState.getSink().deliver(List.of(entry));
+                delivered++;
+                handled.add(entry);
+            } catch (Exception e) {
+                if(deadLetter(sinkState, entry, e)) {
+                    handled.add(entry);
+                }
+            }
+        }
+        sinkState.onDelivered(batch, handled, delivered, config.getRescanWindow());
+        return delivered;
+    }
+
+    /**
+     * @return whether the entry may be removed from the outbox, as far as this sink is concerned,
+     *      that is, if it was durably recorded as dead letter (or is not deleted from the outbox anyway);
+     *      otherwise it remains in the outbox, to be retried once rescanned
+     */
+    private boolean deadLetter(final SinkState sinkState, final ExecutionOutboxEntry entry, final Exception cause) {
+        sinkState.deadLettered.increment();
+        var sinkName = sinkState.getSink().getName();
+        var line = NdjsonLines.toLine(entry, cause);
+        var deadLetterDirectory = config.getDeadLetterDirectory();
+        if(_Strings.isNullOrEmpty(deadLetterDirectory)) {
+            log.error("dead-lettered entry for sink '{}': {}", sinkName, line, cause);
+            return !config.isDeleteDelivered();
+        }
+        var file = Paths.get(deadLetterDirectory).resolve(sinkName + ".dead-letters.ndjson");
+        try {
+            NdjsonLines.append(file, List.of(line), true);
+            log.error("dead-lettered entry {} for sink '{}' to {}", EntryKey.of(entry), sinkName, file, cause);
+            return true;
+        } catch (IOException e) {
+            log.error("failed to write dead-lettered entry for sink '{}' to {}, keeping it in the outbox: {}",
+                    sinkName, file, line, e);
+            return false;
+        }
+    }
+
+    /**
+     * Only entries that each sink has either delivered (or dead-lettered), or that are behind its rescan window
+     * (hence never delivered to it again), are deleted.
+     */
+    private void deleteDeliveredToAllSinks(final Collection<ExecutionOutboxEntry> entries) {
+        var deletable = entries.stream()
+                .filter(entry->sinkStates.stream()
+                        .allMatch(sinkState->sinkState.isDone(entry, config.getRescanWindow())))
+                .map(EntryKey::of)
+                .collect(Collectors.toList());
+        if(deletable.isEmpty()) {
+            return;
+        }
+        transactionService.callTransactional(Propagation.REQUIRED, ()->{
+                    deletable.forEach(key->
+                        executionOutboxEntryRepository.deleteByInteractionIdAndSequence(key.getInteractionId(), key.getSequence()));
+                    return null;
+                })
+                .ifFailure(failure->
+                    // remain in the outbox, to be deleted once rescanned (or delivered again after a restart)
+                    log.warn("failed to delete {} delivered entries", deletable.size(), failure));
+    }
+
+    // -- STATE
+
+    @Value(staticConstructor = "of")
+    static class EntryKey {
+        UUID interactionId;
+        int sequence;
+
+        static EntryKey of(final ExecutionOutboxEntry entry) {
+            return of(entry.getInteractionId(), entry.getSequence());
+        }
+    }
+
+    /**
+     * The most recent timestamp delivered to a sink, along with the entries delivered at exactly that
+     * timestamp (as there may be more of those than fit into one batch).
+     */
+    @Value
+    static class HighWaterMark {
+        static final HighWaterMark HEAD = at(new Timestamp(0L));
+
+        static HighWaterMark at(final Timestamp timestamp) {
+            return new HighWaterMark(timestamp, Set.of());
+        }
+
+        Timestamp timestamp;
+        Set<EntryKey> keysAtTimestamp;
+
+        boolean hasPassed(final ExecutionOutboxEntry entry) {
+            var comparison = entry.getTimestamp().compareTo(timestamp);
+            return comparison < 0
+                    || (comparison == 0
+                            && keysAtTimestamp.contains(EntryKey.of(entry)));
+        }
+
+        /**
+         * @param batch - ordered by timestamp
+         */
+        HighWaterMark advancedPast(final List<ExecutionOutboxEntry> batch) {
+            var latest = batch.get(batch.size() - 1).getTimestamp();
+            var keys = latest.equals(timestamp)
+                    ? new HashSet<>(keysAtTimestamp)
+                    : new HashSet<EntryKey>();
+            batch.stream()
+                .filter(entry->entry.getTimestamp().equals(latest))
+                .map(EntryKey::of)
+                .forEach(keys::add);
+            return new HighWaterMark(latest, keys);
+        }
+    }
+
+    @RequiredArgsConstructor
+    static class SinkState {
+        @Getter private final ExecutionOutboxSink sink;
+        @Getter private volatile HighWaterMark highWaterMark = HighWaterMark.HEAD;
+        @Getter private volatile Instant retryAt;
+        private int attempts;
+        private Instant rescannedAt;
+        /** entries delivered (or dead-lettered) within the rescan window behind the high-water mark */
+        private final Map<EntryKey, Timestamp> seen = new HashMap<>();
+
+        final LongAdder delivered = new LongAdder();
+        final LongAdder failedAttempts = new LongAdder();
+        final LongAdder deadLettered = new LongAdder();
+
+        boolean isBackingOff(final Instant now) {
+            return retryAt != null
+                    && now.isBefore(retryAt);
+        }
+
+        boolean isRescanDue(final Instant now, final Duration rescanInterval) {
+            return rescannedAt == null
+                    || !now.isBefore(rescannedAt.plus(rescanInterval));
+        }
+
+        void onRescanned(final Instant now) {
+            rescannedAt = now;
+        }
+
+        Timestamp rescanWindowStart(final Duration rescanWindow) {
+            return new Timestamp(Math.max(0L, highWaterMark.getTimestamp().getTime() - rescanWindow.toMillis()));
+        }
+
+        boolean hasSeen(final ExecutionOutboxEntry entry) {
+            return seen.containsKey(EntryKey.of(entry));
+        }
+
+        /**
+         * Whether given entry was delivered (or dead-lettered) to this sink, or is behind the rescan window,
+         * hence won't ever be delivered to this sink (until a restart).
+         */
+        boolean isDone(final ExecutionOutboxEntry entry, final Duration rescanWindow) {
+            return hasSeen(entry)
+                    || (highWaterMark.hasPassed(entry)
+                            && entry.getTimestamp().before(rescanWindowStart(rescanWindow)));
+        }
+
+        /**
+         * @param batch - ordered by timestamp, possibly (missed) entries behind the high-water mark
+         * @param handled - those of the batch delivered or durably dead-lettered
+         */
+        void onDelivered(
+                final List<ExecutionOutboxEntry> batch,
+                final List<ExecutionOutboxEntry> handled,
+                final int deliveredCount,
+                final Duration rescanWindow) {
+            var beyondMark = batch.stream()
+                    .filter(entry->!highWaterMark.hasPassed(entry))
+                    .collect(Collectors.toList());
+            if(!beyondMark.isEmpty()) {
+                highWaterMark = highWaterMark.advancedPast(beyondMark);
+            }
+            handled.forEach(entry->seen.put(EntryKey.of(entry), entry.getTimestamp()));
+            var windowStart = rescanWindowStart(rescanWindow);
+            seen.values().removeIf(timestamp->timestamp.before(windowStart));
+            delivered.add(deliveredCount);
+            attempts = 0;
+            retryAt = null;
+        }
+
+        /**
+         * @return the number of consecutive failed attempts
+         */
+        int onFailure(final Instant now, final Duration initialBackoff, final Duration maxBackoff) {
+            failedAttempts.increment();
+            attempts++;
+            retryAt = now.plus(backoff(attempts, initialBackoff, maxBackoff));
+            return attempts;
+        }
+
+        SinkStatistics statistics() {
+            return new SinkStatistics(sink.getName(), highWaterMark.getTimestamp(),
+                    delivered.sum(), failedAttempts.sum(), deadLettered.sum(), retryAt);
+        }
+
+        static Duration backoff(final int attempts, final Duration initialBackoff, final Duration maxBackoff) {
+            var backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+            return backoff.compareTo(maxBackoff) > 0
+                    ? maxBackoff
+                    : backoff;
+        }
+    }
+
+}
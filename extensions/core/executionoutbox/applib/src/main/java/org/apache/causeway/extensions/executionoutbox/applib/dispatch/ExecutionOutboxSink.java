@@ -0,0 +1,64 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.executionoutbox.applib.dispatch;
+
+import java.util.List;
+
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
+
+/**
+ * SPI for the {@link ExecutionOutboxDispatcher} to push {@link ExecutionOutboxEntry outbox entries} to.
+ *
+ * <p>
+ *     The framework provides sinks for a {@link ExecutionOutboxSinkForWebhook webhook}, an
+ *     {@link ExecutionOutboxSinkForNdjson NDJSON file} and a {@link ExecutionOutboxSinkForJdbc JDBC table};
+ *     any further implementations registered as Spring beans are picked up as well.
+ * </p>
+ *
+ * <p>
+ *     Delivery is at-least-once: the same entry may be delivered more than once (eg. after a failed attempt
+ *     or a restart), so implementations must be idempotent with respect to the entry's
+ *     <code>(interactionId, sequence)</code>.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+public interface ExecutionOutboxSink {
+
+    /**
+     * Unique name of this sink, as used for logging, statistics and dead-letter files.
+     */
+    String getName();
+
+    /**
+     * Whether this sink is configured to receive entries; disabled sinks are ignored by the dispatcher.
+     */
+    boolean isEnabled();
+
+    /**
+     * Delivers given batch of entries, ordered oldest first.
+     *
+     * <p>
+     *     Returning normally acknowledges the entire batch; throwing has the batch retried (with backoff)
+     *     and eventually its entries delivered one by one, with those still failing being dead-lettered.
+     * </p>
+     */
+    void deliver(List<ExecutionOutboxEntry> entries) throws Exception;
+
+}
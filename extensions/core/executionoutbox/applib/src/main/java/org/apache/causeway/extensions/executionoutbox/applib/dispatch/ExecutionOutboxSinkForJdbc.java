@@ -0,0 +1,140 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.executionoutbox.applib.dispatch;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link ExecutionOutboxSink} that upserts each entry into a table of the application's {@link DataSource},
+ * for consumers that share the database (eg. change data capture).
+ *
+ * <p>
+ *     Each batch is written in a single JDBC transaction, deleting any previously delivered row of an entry
+ *     before inserting it, which keeps redeliveries idempotent without relying on vendor specific
+ *     upsert syntax.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(ExecutionOutboxSinkForJdbc.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Jdbc")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class ExecutionOutboxSinkForJdbc implements ExecutionOutboxSink {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionOutboxApplib.NAMESPACE + ".ExecutionOutboxSinkForJdbc";
+
+    // the table name is interpolated into the SQL, so only allow (optionally schema qualified) identifiers
+    private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+    final CausewayConfiguration causewayConfiguration;
+    final ObjectProvider<DataSource> dataSourceProvider;
+
+    @Override
+    public String getName() {
+        return "jdbc";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !_Strings.isNullOrEmpty(table());
+    }
+
+    @Override
+    public void deliver(final List<ExecutionOutboxEntry> entries) throws SQLException {
+        var table = table();
+        if(!TABLE_NAME.matcher(table).matches()) {
+            throw new IllegalStateException(String.format("invalid table name '%s'", table));
+        }
+        try(var connection = dataSourceProvider.getObject().getConnection()) {
+            var autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                upsert(connection, table, entries);
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    // -- HELPER
+
+    private static void upsert(
+            final Connection connection,
+            final String table,
+            final List<ExecutionOutboxEntry> entries) throws SQLException {
+        try(var delete = connection.prepareStatement(
+                    "DELETE FROM " + table + " WHERE interactionId = ? AND sequence = ?");
+            var insert = connection.prepareStatement(
+                    "INSERT INTO " + table
+                    + " (interactionId, sequence, executionType, timestamp, username, target, logicalMemberIdentifier, interactionDto)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for(var entry : entries) {
+                delete.setString(1, String.valueOf(entry.getInteractionId()));
+                delete.setInt(2, entry.getSequence());
+                delete.addBatch();
+
+                insert.setString(1, String.valueOf(entry.getInteractionId()));
+                insert.setInt(2, entry.getSequence());
+                insert.setString(3, entry.getExecutionType() != null ? entry.getExecutionType().name() : null);
+                insert.setTimestamp(4, entry.getTimestamp());
+                insert.setString(5, entry.getUsername());
+                insert.setString(6, entry.getTarget() != null ? entry.getTarget().stringify() : null);
+                insert.setString(7, entry.getLogicalMemberIdentifier());
+                insert.setString(8, entry.getInteractionDto() != null
+                        ? InteractionDtoUtils.dtoMapper().toString(entry.getInteractionDto())
+                        : null);
+                insert.addBatch();
+            }
+            delete.executeBatch();
+            insert.executeBatch();
+        }
+    }
+
+    private String table() {
+        return causewayConfiguration.getExtensions().getExecutionOutbox().getDispatcher().getJdbc().getTable();
+    }
+
+}
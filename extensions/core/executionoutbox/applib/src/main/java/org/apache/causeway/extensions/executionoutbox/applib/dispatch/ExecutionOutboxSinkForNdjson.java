@@ -0,0 +1,83 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.executionoutbox.applib.dispatch;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link ExecutionOutboxSink} that appends each entry to a local file, as a line of JSON
+ * (<a href="https://github.com/ndjson/ndjson-spec">NDJSON</a>), with the entry's
+ * <code>InteractionDto</code> embedded as XML string.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(ExecutionOutboxSinkForNdjson.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Ndjson")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class ExecutionOutboxSinkForNdjson implements ExecutionOutboxSink {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionOutboxApplib.NAMESPACE + ".ExecutionOutboxSinkForNdjson";
+
+    final CausewayConfiguration causewayConfiguration;
+
+    @Override
+    public String getName() {
+        return "ndjson";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !_Strings.isNullOrEmpty(config().getPath());
+    }
+
+    @Override
+    public void deliver(final List<ExecutionOutboxEntry> entries) throws IOException {
+        var lines = entries.stream()
+                .map(entry->NdjsonLines.toLine(entry, null))
+                .collect(Collectors.toList());
+        NdjsonLines.append(Paths.get(config().getPath()), lines, config().isFsync());
+    }
+
+    // -- HELPER
+
+    private CausewayConfiguration.Extensions.ExecutionOutbox.Dispatcher.Ndjson config() {
+        return causewayConfiguration.getExtensions().getExecutionOutbox().getDispatcher().getNdjson();
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.executionoutbox.applib.dispatch;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.util.schema.InteractionsDtoUtils;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.executionoutbox.applib.CausewayModuleExtExecutionOutboxApplib;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
+import org.apache.causeway.schema.ixn.v2.InteractionsDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link ExecutionOutboxSink} that <code>POST</code>s each batch to a webhook, as an {@link InteractionsDto}
+ * XML document (the same format as returned by the REST API's <code>pending</code> action);
+ * any non-<code>2xx</code> response has the batch retried.
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(ExecutionOutboxSinkForWebhook.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Webhook")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+public class ExecutionOutboxSinkForWebhook implements ExecutionOutboxSink {
+
+    static final String LOGICAL_TYPE_NAME = CausewayModuleExtExecutionOutboxApplib.NAMESPACE + ".ExecutionOutboxSinkForWebhook";
+
+    final CausewayConfiguration causewayConfiguration;
+
+    private HttpClient httpClient;
+
+    @Override
+    public String getName() {
+        return "webhook";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !_Strings.isNullOrEmpty(config().getUrl());
+    }
+
+    @Override
+    public void deliver(final List<ExecutionOutboxEntry> entries) throws IOException, InterruptedException {
+        var dto = new InteractionsDto();
+        entries.stream()
+                .map(ExecutionOutboxEntry::getInteractionDto)
+                .filter(Objects::nonNull)
+                .forEach(dto.getInteractionDto()::add);
+
+        var requestBuilder = HttpRequest.newBuilder(URI.create(config().getUrl()))
+                .timeout(config().getRequestTimeout())
+                .header("Content-Type", "application/xml")
+                .POST(HttpRequest.BodyPublishers.ofString(InteractionsDtoUtils.dtoMapper().toString(dto)));
+        config().getHeaders().forEach(requestBuilder::header);
+
+        var response = httpClient().send(requestBuilder.build(), HttpResponse.BodyHandlers.discarding());
+        if(response.statusCode() / 100 != 2) {
+            throw new IOException(String.format("webhook %s responded with status %d",
+                    config().getUrl(), response.statusCode()));
+        }
+    }
+
+    // -- HELPER
+
+    private CausewayConfiguration.Extensions.ExecutionOutbox.Dispatcher.Webhook config() {
+        return causewayConfiguration.getExtensions().getExecutionOutbox().getDispatcher().getWebhook();
+    }
+
+    private synchronized HttpClient httpClient() {
+        if(httpClient == null) {
+            httpClient = HttpClient.newBuilder()
+                    .connectTimeout(config().getConnectTimeout())
+                    .build();
+        }
+        return httpClient;
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.executionoutbox.applib.dispatch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.util.schema.InteractionDtoUtils;
+import org.apache.causeway.commons.io.JsonUtils;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Renders {@link ExecutionOutboxEntry outbox entries} as lines of JSON, as used for both the
+ * {@link ExecutionOutboxSinkForNdjson NDJSON sink} and dead letters.
+ */
+@UtilityClass
+class NdjsonLines {
+
+    String toLine(final ExecutionOutboxEntry entry, final @Nullable Throwable error) {
+        var line = new LinkedHashMap<String, Object>();
+        line.put("interactionId", String.valueOf(entry.getInteractionId()));
+        line.put("sequence", entry.getSequence());
+        line.put("executionType", entry.getExecutionType() != null ? entry.getExecutionType().name() : null);
+        line.put("timestamp", entry.getTimestamp() != null ? entry.getTimestamp().toInstant().toString() : null);
+        line.put("username", entry.getUsername());
+        line.put("target", entry.getTarget() != null ? entry.getTarget().stringify() : null);
+        line.put("logicalMemberIdentifier", entry.getLogicalMemberIdentifier());
+        line.put("interactionDto", entry.getInteractionDto() != null
+                ? InteractionDtoUtils.dtoMapper().toString(entry.getInteractionDto())
+                : null);
+        if(error != null) {
+            line.put("error", error.toString());
+        }
+        return JsonUtils.toStringUtf8(line);
+    }
+
+    /**
+     * Appends given lines to given file (creating it and its parent directories if required).
+     * @param fsync - whether to force the appended lines to the storage device before returning
+     */
+    void append(final Path file, final List<String> lines, final boolean fsync) throws IOException {
+        var parent = file.toAbsolutePath().getParent();
+        if(parent != null) {
+            Files.createDirectories(parent);
+        }
+        var buffer = ByteBuffer.wrap(
+                (String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8));
+        try(var channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while(buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if(fsync) {
+                channel.force(false);
+            }
+        }
+    }
+
+}
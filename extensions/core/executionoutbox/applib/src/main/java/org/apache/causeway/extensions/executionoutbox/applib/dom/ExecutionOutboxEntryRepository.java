@@ -57,6 +57,18 @@ public NotFoundException(final UUID interactionId) {
 
     List<ExecutionOutboxEntry> findOldest();
 
+    /**
+     * Returns up to {@code limit} entries whose {@link ExecutionOutboxEntry#getTimestamp() timestamp} is
+     * at or after the given one, oldest first.
+     *
+     * <p>
+     *     Used by the {@link org.apache.causeway.extensions.executionoutbox.applib.dispatch.ExecutionOutboxDispatcher dispatcher}
+     *     to read the outbox in batches from a high-water mark onwards, which is a range scan of the
+     *     <code>timestamp</code> index (rather than a re-read of the head of the table).
+     * </p>
+     */
+    List<ExecutionOutboxEntry> findSince(final Timestamp timestamp, final int limit);
+
     ExecutionOutboxEntry upsert(
             final UUID interactionId,
             final int sequence,
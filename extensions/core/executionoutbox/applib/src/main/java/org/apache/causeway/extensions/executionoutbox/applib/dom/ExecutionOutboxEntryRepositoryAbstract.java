@@ -113,6 +113,16 @@ public List<ExecutionOutboxEntry> findOldest() {
         );
     }
 
+    public List<ExecutionOutboxEntry> findSince(final Timestamp timestamp, final int limit) {
+        return _Casts.uncheckedCast(
+                repositoryService().allMatches(
+                Query.named(executionOutboxEntryClass, ExecutionOutboxEntry.Nq.FIND_SINCE)
+                        .withParameter("timestamp", timestamp)
+                        .withLimit(limit)
+                )
+        );
+    }
+
     public ExecutionOutboxEntry upsert(
             final UUID interactionId,
             final int sequence,
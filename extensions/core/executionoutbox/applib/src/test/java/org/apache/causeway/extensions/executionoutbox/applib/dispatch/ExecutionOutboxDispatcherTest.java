@@ -0,0 +1,307 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.executionoutbox.applib.dispatch;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.annotation.Propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntry;
+import org.apache.causeway.extensions.executionoutbox.applib.dom.ExecutionOutboxEntryRepository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+class ExecutionOutboxDispatcherTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T12:00:00Z");
+
+    private final List<ExecutionOutboxEntry> outbox = new ArrayList<>();
+    private CausewayConfiguration.Extensions.ExecutionOutbox.Dispatcher config;
+    private ExecutionOutboxEntryRepository repository;
+    private InteractionService interactionService;
+    private TransactionService transactionService;
+
+    @TempDir
+    Path deadLetterDirectory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        config = new CausewayConfiguration.Extensions.ExecutionOutbox.Dispatcher();
+        config.setEnabled(true);
+        config.setDeadLetterDirectory(deadLetterDirectory.toString());
+        config.setBatchSize(2);
+        config.setSettleTime(Duration.ofSeconds(5));
+        config.setMaxAttempts(2);
+
+        repository = mock(ExecutionOutboxEntryRepository.class);
+        when(repository.findSince(any(Timestamp.class), anyInt())).thenAnswer(invocation->{
+            Timestamp since = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return outbox.stream()
+                    .filter(entry->!entry.getTimestamp().before(since))
+                    .sorted(Comparator.comparing(ExecutionOutboxEntry::getTimestamp))
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        });
+        when(repository.deleteByInteractionIdAndSequence(any(UUID.class), anyInt())).thenAnswer(invocation->
+            outbox.removeIf(entry->entry.getInteractionId().equals(invocation.getArgument(0))
+                    && entry.getSequence() == (int) invocation.getArgument(1)));
+
+        interactionService = mock(InteractionService.class);
+        when(interactionService.callAnonymous(any())).thenAnswer(invocation->
+            ((Callable<?>) invocation.getArgument(0)).call());
+
+        transactionService = mock(TransactionService.class);
+        when(transactionService.callTransactional(any(Propagation.class), any())).thenAnswer(invocation->
+            Try.call((Callable<?>) invocation.getArgument(1)));
+    }
+
+    @Test
+    void deliversInBatches_andDeletesOnceDeliveredToAllSinks() {
+        var e1 = entry(0, 30);
+        var e2 = entry(0, 20);
+        var e3 = entry(1, 20); // same timestamp as e2, straddling the first batch
+        var young = entry(2, 2); // not yet settled
+        var sinkA = new RecordingSink("a");
+        var sinkB = new RecordingSink("b");
+        var dispatcher = dispatcher(sinkA, sinkB);
+
+        assertEquals(4, dispatcher.dispatch());
+        assertEquals(List.of(e1, e2), sinkA.getDelivered());
+        assertEquals(List.of(e1, e2), sinkB.getDelivered());
+        assertEquals(List.of(e3, young), outbox);
+
+        assertEquals(2, dispatcher.dispatch());
+        assertEquals(List.of(e1, e2, e3), sinkA.getDelivered());
+        assertEquals(List.of(young), outbox);
+
+        assertEquals(0, dispatcher.dispatch());
+    }
+
+    @Test
+    void whenSinkFails_retriesWithBackoff_thenDeadLetters() {
+        var e1 = entry(0, 10);
+        var healthy = new RecordingSink("healthy");
+        var failing = new RecordingSink("failing");
+        failing.setFailing(true);
+        var clock = new MutableClock(NOW);
+        var dispatcher = dispatcher(clock, healthy, failing);
+
+        assertEquals(1, dispatcher.dispatch());
+        assertEquals(List.of(e1), healthy.getDelivered());
+        assertEquals(List.of(e1), outbox); // not yet passed by the failing sink
+
+        var statistics = dispatcher.getStatistics().get(1);
+        assertEquals(1, statistics.getFailedAttempts());
+        assertEquals(NOW.plus(config.getInitialBackoff()), statistics.getRetryAt());
+
+        // still backing off
+        assertEquals(0, dispatcher.dispatch());
+        assertEquals(1, dispatcher.getStatistics().get(1).getFailedAttempts());
+
+        // second (and last) attempt, dead-lettered
+        clock.setInstant(NOW.plus(config.getInitialBackoff()));
+        assertEquals(0, dispatcher.dispatch());
+        statistics = dispatcher.getStatistics().get(1);
+        assertEquals(2, statistics.getFailedAttempts());
+        assertEquals(1, statistics.getDeadLettered());
+        assertNull(statistics.getRetryAt());
+        assertTrue(outbox.isEmpty());
+        assertTrue(Files.exists(deadLetterDirectory.resolve("failing.dead-letters.ndjson")));
+    }
+
+    @Test
+    void whenDeadLetterCannotBeRecorded_entryIsKept() {
+        config.setDeadLetterDirectory(null);
+        var e1 = entry(0, 10);
+        var failing = new RecordingSink("failing");
+        failing.setFailing(true);
+        var clock = new MutableClock(NOW);
+        var dispatcher = dispatcher(clock, failing);
+
+        dispatcher.dispatch();
+        clock.setInstant(NOW.plus(config.getInitialBackoff()));
+        dispatcher.dispatch();
+        assertEquals(1, dispatcher.getStatistics().get(0).getDeadLettered());
+        assertEquals(List.of(e1), outbox);
+    }
+
+    @Test
+    void init_requiresDeadLetterDirectory_whenDeletingDelivered() {
+        config.setDeadLetterDirectory(null);
+        var dispatcher = dispatcher(new RecordingSink("a"));
+        assertThrows(IllegalStateException.class, dispatcher::init);
+    }
+
+    @Test
+    void rescan_deliversLateEntries_withoutDeliveringOthersAgain() {
+        config.setMaxAttempts(100);
+        var e1 = entry(0, 30);
+        var healthy = new RecordingSink("healthy");
+        var lagging = new RecordingSink("lagging");
+        lagging.setFailing(true);
+        var clock = new MutableClock(NOW);
+        var dispatcher = dispatcher(clock, healthy, lagging);
+
+        assertEquals(1, dispatcher.dispatch());
+        assertEquals(List.of(e1), healthy.getDelivered());
+
+        // committed only after the healthy sink's high-water mark passed its timestamp
+        var late = entry(1, 40);
+
+        // not yet due for a rescan
+        assertEquals(0, dispatcher.dispatch());
+
+        clock.setInstant(NOW.plus(config.getRescanInterval()));
+        assertEquals(1, dispatcher.dispatch());
+        assertEquals(List.of(e1, late), healthy.getDelivered()); // e1 not delivered again
+        assertEquals(2, outbox.size()); // still not passed by the lagging sink
+    }
+
+    @Test
+    void lateEntry_isOnlyDeleted_onceDeliveredToAllSinks() {
+        var e1 = entry(0, 30);
+        var sinkA = new RecordingSink("a");
+        var sinkB = new RecordingSink("b");
+        var clock = new MutableClock(NOW);
+        var dispatcher = dispatcher(clock, sinkA, sinkB);
+
+        assertEquals(2, dispatcher.dispatch());
+        assertTrue(outbox.isEmpty());
+
+        // committed only after both high-water marks passed its timestamp
+        var late = entry(1, 40);
+        sinkA.setFailing(true);
+
+        var rescanAt = NOW.plus(config.getRescanInterval());
+        clock.setInstant(rescanAt);
+        assertEquals(1, dispatcher.dispatch());
+        assertEquals(List.of(e1, late), sinkB.getDelivered());
+        assertEquals(List.of(late), outbox); // not yet delivered to sink A
+
+        sinkA.setFailing(false);
+        clock.setInstant(rescanAt.plus(config.getInitialBackoff()));
+        assertEquals(1, dispatcher.dispatch());
+        assertEquals(List.of(e1, late), sinkA.getDelivered());
+        assertTrue(outbox.isEmpty());
+    }
+
+    @Test
+    void backoff_doublesUpToMax() {
+        var initial = Duration.ofSeconds(1);
+        var max = Duration.ofSeconds(5);
+        assertEquals(Duration.ofSeconds(1), ExecutionOutboxDispatcher.SinkState.backoff(1, initial, max));
+        assertEquals(Duration.ofSeconds(4), ExecutionOutboxDispatcher.SinkState.backoff(3, initial, max));
+        assertEquals(max, ExecutionOutboxDispatcher.SinkState.backoff(4, initial, max));
+        assertEquals(max, ExecutionOutboxDispatcher.SinkState.backoff(100, initial, max));
+    }
+
+    // -- HELPER
+
+    private ExecutionOutboxDispatcher dispatcher(final ExecutionOutboxSink... sinks) {
+        return dispatcher(new MutableClock(NOW), sinks);
+    }
+
+    private ExecutionOutboxDispatcher dispatcher(final Clock clock, final ExecutionOutboxSink... sinks) {
+        return new ExecutionOutboxDispatcher(interactionService, transactionService, repository,
+                List.of(sinks), config, clock);
+    }
+
+    /**
+     * @param sequence - within a new interaction
+     * @param secondsAgo - age of the entry
+     */
+    private ExecutionOutboxEntry entry(final int sequence, final int secondsAgo) {
+        var entry = mock(ExecutionOutboxEntry.class);
+        var interactionId = UUID.randomUUID();
+        var timestamp = Timestamp.from(NOW.minusSeconds(secondsAgo));
+        when(entry.getInteractionId()).thenReturn(interactionId);
+        when(entry.getSequence()).thenReturn(sequence);
+        when(entry.getTimestamp()).thenReturn(timestamp);
+        outbox.add(entry);
+        return entry;
+    }
+
+    @RequiredArgsConstructor
+    private static class RecordingSink implements ExecutionOutboxSink {
+        @Getter private final String name;
+        @Getter private final List<ExecutionOutboxEntry> delivered = new ArrayList<>();
+        private boolean failing;
+
+        void setFailing(final boolean failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public void deliver(final List<ExecutionOutboxEntry> entries) {
+            if(failing) {
+                throw new IllegalStateException("sink unavailable");
+            }
+            delivered.addAll(entries);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+        MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+        void setInstant(final Instant instant) {
+            this.instant = instant;
+        }
+        @Override public Instant instant() { return instant; }
+        @Override public ZoneOffset getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(final java.time.ZoneId zone) { return this; }
+    }
+
+}
@@ -28,13 +28,15 @@
 import org.apache.causeway.applib.services.bookmark.Bookmark;
 import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.runtime.retention.LogRetentionRepository;
 
 /**
  * Provides supporting functionality for querying {@link AuditTrailEntry audit trail entry} entities.
  *
  * @since 2.0 {@index}
  */
-public interface AuditTrailEntryRepository {
+public interface AuditTrailEntryRepository
+extends LogRetentionRepository<AuditTrailEntry> {
 
     AuditTrailEntry createFor(final EntityPropertyChange change);
 
@@ -27,6 +27,7 @@
 import java.util.UUID;
 
 import javax.inject.Inject;
+import javax.inject.Provider;
 
 import org.apache.causeway.applib.query.Query;
 import org.apache.causeway.applib.services.bookmark.Bookmark;
@@ -35,7 +36,9 @@
 import org.apache.causeway.applib.services.repository.RepositoryService;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
+import org.apache.causeway.core.runtime.batchinsert.EntityBatchInsertQueue;
 
 /**
  * Provides supporting functionality for querying {@link AuditTrailEntry audit trail entry} entities.
@@ -48,6 +51,8 @@
     @Inject RepositoryService repositoryService;
     @Inject FactoryService factoryService;
     @Inject CausewaySystemEnvironment causewaySystemEnvironment;
+    @Inject CausewayConfiguration causewayConfiguration;
+    @Inject Provider<EntityBatchInsertQueue> entityBatchInsertQueueProvider;
 
     private final Class<E> auditTrailEntryClass;
 
@@ -59,18 +64,40 @@ public Class<E> getEntityClass() {
         return auditTrailEntryClass;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     *     If {@link CausewayConfiguration.Extensions.AuditTrail#getPersist() configured} as
+     *     {@link CausewayConfiguration.Extensions.AuditTrail.PersistPolicy#BATCHED batched}, the entry is queued
+     *     to be written with a batched JDBC insert just before the transaction commits (and the returned entry
+     *     remains detached).
+     * </p>
+     */
     @Override
     public AuditTrailEntry createFor(final EntityPropertyChange change) {
         E entry = factoryService.detachedEntity(auditTrailEntryClass);
         entry.init(change);
+        if(isBatched()
+                && entityBatchInsertQueueProvider.get().offer(auditTrailEntryClass, entry)) {
+            return entry;
+        }
         return repositoryService.persistAndFlush(entry);
     }
 
     @Override
     public Can<AuditTrailEntry> createFor(Can<EntityPropertyChange> entityPropertyChanges) {
+        if(isBatched()) {
+            return entityPropertyChanges.map(this::createFor);
+        }
         return Can.ofCollection(repositoryService.execInBulk(() -> entityPropertyChanges.map(this::createFor).toList()));
     }
 
+    private boolean isBatched() {
+        return causewayConfiguration != null // null when unit testing
+                && causewayConfiguration.getExtensions().getAuditTrail().getPersist().isBatched();
+    }
+
     public Optional<AuditTrailEntry> findFirstByTarget(final Bookmark target) {
         return _Casts.uncheckedCast(
                 repositoryService.firstMatch(
@@ -19,14 +19,75 @@
  */
 package org.apache.causeway.extensions.audittrail.jdo.dom;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.inject.Inject;
+import javax.jdo.Query;
+
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 @Service
 public class AuditTrailEntryRepository extends AuditTrailEntryRepositoryAbstract<AuditTrailEntry> {
 
+    @Inject JdoSupportService jdoSupportService;
+
     public AuditTrailEntryRepository() {
         super(AuditTrailEntry.class);
     }
+
+    // -- RETENTION
+
+    @Override
+    public Optional<Timestamp> findOldestTimestamp() {
+        final Query<AuditTrailEntry> query = jdoSupportService.getPersistenceManager().newQuery(AuditTrailEntry.class);
+        try {
+            query.setResult("min(timestamp)");
+            return Optional.ofNullable(query.executeResultUnique(Timestamp.class));
+        } finally {
+            query.closeAll();
+        }
+    }
+
+    @Override
+    public List<org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntry> findByTimestampInterval(
+            final Timestamp from, final Timestamp to, final int limit) {
+        final Query<AuditTrailEntry> query = newTimestampIntervalQuery(from, to);
+        try {
+            query.setOrdering("timestamp ascending");
+            query.setRange(0, limit);
+            return new ArrayList<>(query.executeList());
+        } finally {
+            query.closeAll();
+        }
+    }
+
+    @Override
+    public long removeByTimestampInterval(final Timestamp from, final Timestamp to) {
+        // a JDOQL bulk delete is executed as a single DELETE statement, whereas deletePersistentAll() on a
+        // candidate query would load and then delete each entry in turn
+        final Query<?> query = jdoSupportService.getPersistenceManager()
+                .newQuery("DELETE FROM " + AuditTrailEntry.class.getName()
+                        + " WHERE timestamp >= :from && timestamp < :to");
+        try {
+            query.addExtension("datanucleus.query.jdoql.allowall", "true"); // bulk update/delete is a DN extension
+            return ((Number) query.executeWithMap(Map.of("from", from, "to", to))).longValue();
+        } finally {
+            query.closeAll();
+        }
+    }
+
+    private Query<AuditTrailEntry> newTimestampIntervalQuery(final Timestamp from, final Timestamp to) {
+        final Query<AuditTrailEntry> query = jdoSupportService.getPersistenceManager()
+                .newQuery(AuditTrailEntry.class, "timestamp >= :from && timestamp < :to");
+        query.setNamedParameters(Map.of("from", from, "to", to));
+        return query;
+    }
+
 }
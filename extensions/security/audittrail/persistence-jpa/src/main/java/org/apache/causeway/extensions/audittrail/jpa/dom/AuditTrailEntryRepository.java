@@ -19,14 +19,67 @@
  */
 package org.apache.causeway.extensions.audittrail.jpa.dom;
 
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+
 import org.springframework.stereotype.Service;
 
+import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 @Service
 public class AuditTrailEntryRepository extends AuditTrailEntryRepositoryAbstract<AuditTrailEntry> {
 
+    @Inject JpaSupportService jpaSupportService;
+
     public AuditTrailEntryRepository() {
         super(AuditTrailEntry.class);
     }
+
+    // -- RETENTION
+
+    @Override
+    public Optional<Timestamp> findOldestTimestamp() {
+        return Optional.ofNullable(
+                entityManager()
+                    .createQuery("SELECT MIN(e.timestamp) FROM AuditTrailEntry e", Timestamp.class)
+                    .getSingleResult());
+    }
+
+    @Override
+    public List<org.apache.causeway.extensions.audittrail.applib.dom.AuditTrailEntry> findByTimestampInterval(
+            final Timestamp from, final Timestamp to, final int limit) {
+        return _Casts.uncheckedCast(
+                entityManager()
+                    .createQuery("SELECT e "
+                            + "  FROM AuditTrailEntry e "
+                            + " WHERE e.timestamp >= :from "
+                            + "   AND e.timestamp <  :to "
+                            + " ORDER BY e.timestamp ASC", AuditTrailEntry.class)
+                    .setParameter("from", from)
+                    .setParameter("to", to)
+                    .setMaxResults(limit)
+                    .getResultList());
+    }
+
+    @Override
+    public long removeByTimestampInterval(final Timestamp from, final Timestamp to) {
+        return entityManager()
+                .createQuery("DELETE FROM AuditTrailEntry e "
+                        + " WHERE e.timestamp >= :from "
+                        + "   AND e.timestamp <  :to")
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .executeUpdate();
+    }
+
+    private EntityManager entityManager() {
+        return jpaSupportService.getEntityManagerElseFail(AuditTrailEntry.class);
+    }
+
 }
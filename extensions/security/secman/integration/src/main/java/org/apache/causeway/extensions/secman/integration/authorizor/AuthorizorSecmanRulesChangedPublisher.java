@@ -0,0 +1,87 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.secman.integration.authorizor;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.events.lifecycle.ObjectPersistedEvent;
+import org.apache.causeway.applib.events.lifecycle.ObjectRemovingEvent;
+import org.apache.causeway.applib.events.lifecycle.ObjectUpdatedEvent;
+import org.apache.causeway.core.security.authorization.AuthorizorRulesChangedEvent;
+import org.apache.causeway.extensions.secman.applib.CausewayModuleExtSecmanApplib;
+import org.apache.causeway.extensions.secman.applib.permission.dom.ApplicationPermission;
+import org.apache.causeway.extensions.secman.applib.role.dom.ApplicationRole;
+import org.apache.causeway.extensions.secman.applib.user.dom.ApplicationUser;
+
+/**
+ * Publishes an {@link AuthorizorRulesChangedEvent} whenever the rules that {@link AuthorizorSecman} evaluates
+ * have changed, so that any authorization decisions cached by the framework are discarded.
+ *
+ * <p>
+ * Changes are detected from the lifecycle events of {@link ApplicationPermission}s and {@link ApplicationRole}s
+ * (affecting all users), and of {@link ApplicationUser}s, including their role memberships (affecting that
+ * user only).  The event is only published once the transaction has committed, so that no decision based on the
+ * previous rules can be cached in between.
+ * </p>
+ *
+ * @since 2.x {@index}
+ */
+@Service
+@Named(CausewayModuleExtSecmanApplib.NAMESPACE + ".AuthorizorSecmanRulesChangedPublisher")
+@javax.annotation.Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Secman")
+public class AuthorizorSecmanRulesChangedPublisher {
+
+    @Inject ApplicationEventPublisher eventPublisher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPersisted(final ObjectPersistedEvent<?> event) {
+        onChanged(event.getSource());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUpdated(final ObjectUpdatedEvent<?> event) {
+        onChanged(event.getSource());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRemoving(final ObjectRemovingEvent<?> event) {
+        onChanged(event.getSource());
+    }
+
+    // -- HELPER
+
+    private void onChanged(final Object entity) {
+        if(entity instanceof ApplicationPermission
+                || entity instanceof ApplicationRole) {
+            eventPublisher.publishEvent(AuthorizorRulesChangedEvent.forAllUsers());
+        } else if(entity instanceof ApplicationUser) {
+            eventPublisher.publishEvent(AuthorizorRulesChangedEvent.forUser(((ApplicationUser) entity).getUsername()));
+        }
+    }
+
+}
@@ -24,6 +24,8 @@
 import org.springframework.context.annotation.Import;
 
 import org.apache.causeway.extensions.sessionlog.applib.app.SessionLogMenu;
+import org.apache.causeway.extensions.sessionlog.applib.job.PurgeSessionLogJob;
+import org.apache.causeway.extensions.sessionlog.applib.job.PurgeSessionLogJobMetrics;
 import org.apache.causeway.extensions.sessionlog.applib.spiimpl.SessionLogServiceInitializer;
 import org.apache.causeway.extensions.sessionlog.applib.spiimpl.SessionSubscriberForSessionLog;
 
@@ -31,7 +33,9 @@
 @Import({
         SessionLogMenu.class,
         SessionLogServiceInitializer.class,
-        SessionSubscriberForSessionLog.class
+        SessionSubscriberForSessionLog.class,
+        PurgeSessionLogJob.class,
+        PurgeSessionLogJobMetrics.class
 })
 public class CausewayModuleExtSessionLogApplib {
 
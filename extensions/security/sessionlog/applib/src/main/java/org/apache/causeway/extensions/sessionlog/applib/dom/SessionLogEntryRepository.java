@@ -27,13 +27,19 @@
 import java.util.UUID;
 
 import org.apache.causeway.applib.services.session.SessionSubscriber;
+import org.apache.causeway.core.runtime.retention.LogRetentionRepository;
 
 /**
  * Provides supporting functionality for querying {@link SessionLogEntry session log entry} entities.
  *
+ * <p>
+ *     For the purpose of {@link LogRetentionRepository retention}, the timestamp of an entry is its login timestamp.
+ * </p>
+ *
  * @since 2.0 {@index}
  */
-public interface SessionLogEntryRepository {
+public interface SessionLogEntryRepository
+extends LogRetentionRepository<SessionLogEntry> {
 
     void logoutAllSessions(final Timestamp logoutTimestamp);
 
@@ -0,0 +1,108 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.sessionlog.applib.job;
+
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.inject.Inject;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+
+import org.springframework.stereotype.Component;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.config.CausewayConfiguration.Extensions.LogRetention;
+import org.apache.causeway.core.runtime.retention.LogPurgeJobAbstract;
+import org.apache.causeway.core.runtime.retention.LogPurgeJobMetrics;
+import org.apache.causeway.core.runtime.retention.LogRetentionRepository;
+import org.apache.causeway.extensions.sessionlog.applib.dom.SessionLogEntry;
+import org.apache.causeway.extensions.sessionlog.applib.dom.SessionLogEntryRepository;
+
+/**
+ * An implementation of a Quartz {@link Job} that removes all {@link SessionLogEntry}s older than the configured
+ * {@link CausewayConfiguration.Extensions.SessionLog#getRetention() retention} period.
+ *
+ * <p>
+ *     The partitioning, archiving and removal is as per {@link LogPurgeJobAbstract}.
+ * </p>
+ *
+ * <p>
+ *     Note that although this is a component, a new instance is created for each run.  Progress is therefore
+ *     tracked by the injected {@link PurgeSessionLogJobMetrics}.
+ * </p>
+ *
+ * @see PurgeSessionLogJobMetrics
+ *
+ * @since 2.0 {@index}
+ */
+@Component
+@DisallowConcurrentExecution
+public class PurgeSessionLogJob
+extends LogPurgeJobAbstract<SessionLogEntry>
+implements Job {
+
+    @Inject SessionLogEntryRepository sessionLogEntryRepository;
+    @Inject PurgeSessionLogJobMetrics metrics;
+
+    public PurgeSessionLogJob() {
+        super("session log", "sessionlog");
+    }
+
+    @Override
+    public void execute(final JobExecutionContext quartzContext) {
+        purge();
+    }
+
+    @Override
+    protected LogRetention getRetention(final CausewayConfiguration causewayConfiguration) {
+        return causewayConfiguration.getExtensions().getSessionLog().getRetention();
+    }
+
+    @Override
+    protected LogRetentionRepository<SessionLogEntry> getRepository() {
+        return sessionLogEntryRepository;
+    }
+
+    @Override
+    protected LogPurgeJobMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    protected Timestamp timestampOf(final SessionLogEntry entry) {
+        return entry.getLoginTimestamp();
+    }
+
+    @Override
+    protected Map<String, Object> asArchiveRecord(final SessionLogEntry entry) {
+        var record = new LinkedHashMap<String, Object>();
+        record.put("sessionGuid", entry.getSessionGuid());
+        record.put("httpSessionId", entry.getHttpSessionId());
+        record.put("username", entry.getUsername());
+        record.put("loginTimestamp", toIsoString(entry.getLoginTimestamp()));
+        record.put("logoutTimestamp", toIsoString(entry.getLogoutTimestamp()));
+        record.put("causedBy", entry.getCausedBy());
+        return record;
+    }
+
+}
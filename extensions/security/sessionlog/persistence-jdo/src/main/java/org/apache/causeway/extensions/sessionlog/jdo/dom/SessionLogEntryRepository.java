@@ -20,14 +20,75 @@
 
 package org.apache.causeway.extensions.sessionlog.jdo.dom;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.inject.Inject;
+import javax.jdo.Query;
+
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.extensions.sessionlog.applib.dom.SessionLogEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
 
 @Service
 public class SessionLogEntryRepository extends SessionLogEntryRepositoryAbstract<SessionLogEntry> {
 
+    @Inject JdoSupportService jdoSupportService;
+
     public SessionLogEntryRepository() {
         super(SessionLogEntry.class);
     }
+
+    // -- RETENTION
+
+    @Override
+    public Optional<Timestamp> findOldestTimestamp() {
+        final Query<SessionLogEntry> query = jdoSupportService.getPersistenceManager().newQuery(SessionLogEntry.class);
+        try {
+            query.setResult("min(loginTimestamp)");
+            return Optional.ofNullable(query.executeResultUnique(Timestamp.class));
+        } finally {
+            query.closeAll();
+        }
+    }
+
+    @Override
+    public List<org.apache.causeway.extensions.sessionlog.applib.dom.SessionLogEntry> findByTimestampInterval(
+            final Timestamp from, final Timestamp to, final int limit) {
+        final Query<SessionLogEntry> query = newTimestampIntervalQuery(from, to);
+        try {
+            query.setOrdering("loginTimestamp ascending");
+            query.setRange(0, limit);
+            return new ArrayList<>(query.executeList());
+        } finally {
+            query.closeAll();
+        }
+    }
+
+    @Override
+    public long removeByTimestampInterval(final Timestamp from, final Timestamp to) {
+        // a JDOQL bulk delete is executed as a single DELETE statement, whereas deletePersistentAll() on a
+        // candidate query would load and then delete each entry in turn
+        final Query<?> query = jdoSupportService.getPersistenceManager()
+                .newQuery("DELETE FROM " + SessionLogEntry.class.getName()
+                        + " WHERE loginTimestamp >= :from && loginTimestamp < :to");
+        try {
+            query.addExtension("datanucleus.query.jdoql.allowall", "true"); // bulk update/delete is a DN extension
+            return ((Number) query.executeWithMap(Map.of("from", from, "to", to))).longValue();
+        } finally {
+            query.closeAll();
+        }
+    }
+
+    private Query<SessionLogEntry> newTimestampIntervalQuery(final Timestamp from, final Timestamp to) {
+        final Query<SessionLogEntry> query = jdoSupportService.getPersistenceManager()
+                .newQuery(SessionLogEntry.class, "loginTimestamp >= :from && loginTimestamp < :to");
+        query.setNamedParameters(Map.of("from", from, "to", to));
+        return query;
+    }
+
 }
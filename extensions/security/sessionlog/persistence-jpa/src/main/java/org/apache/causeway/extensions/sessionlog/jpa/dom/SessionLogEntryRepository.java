@@ -20,14 +20,67 @@
 
 package org.apache.causeway.extensions.sessionlog.jpa.dom;
 
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+
 import org.springframework.stereotype.Service;
 
+import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.extensions.sessionlog.applib.dom.SessionLogEntryRepositoryAbstract;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
 
 @Service
 public class SessionLogEntryRepository extends SessionLogEntryRepositoryAbstract<SessionLogEntry> {
 
+    @Inject JpaSupportService jpaSupportService;
+
     public SessionLogEntryRepository() {
         super(SessionLogEntry.class);
     }
+
+    // -- RETENTION
+
+    @Override
+    public Optional<Timestamp> findOldestTimestamp() {
+        return Optional.ofNullable(
+                entityManager()
+                    .createQuery("SELECT MIN(e.loginTimestamp) FROM SessionLogEntry e", Timestamp.class)
+                    .getSingleResult());
+    }
+
+    @Override
+    public List<org.apache.causeway.extensions.sessionlog.applib.dom.SessionLogEntry> findByTimestampInterval(
+            final Timestamp from, final Timestamp to, final int limit) {
+        return _Casts.uncheckedCast(
+                entityManager()
+                    .createQuery("SELECT e "
+                            + "  FROM SessionLogEntry e "
+                            + " WHERE e.loginTimestamp >= :from "
+                            + "   AND e.loginTimestamp <  :to "
+                            + " ORDER BY e.loginTimestamp ASC", SessionLogEntry.class)
+                    .setParameter("from", from)
+                    .setParameter("to", to)
+                    .setMaxResults(limit)
+                    .getResultList());
+    }
+
+    @Override
+    public long removeByTimestampInterval(final Timestamp from, final Timestamp to) {
+        return entityManager()
+                .createQuery("DELETE FROM SessionLogEntry e "
+                        + " WHERE e.loginTimestamp >= :from "
+                        + "   AND e.loginTimestamp <  :to")
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .executeUpdate();
+    }
+
+    private EntityManager entityManager() {
+        return jpaSupportService.getEntityManagerElseFail(SessionLogEntry.class);
+    }
+
 }
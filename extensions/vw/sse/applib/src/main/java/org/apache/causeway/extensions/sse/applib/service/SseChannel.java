@@ -43,4 +43,17 @@ public interface SseChannel {
 
     void awaitClose() throws InterruptedException;
 
+    /**
+     * Non-blocking alternative to {@link #awaitClose()}: registers a callback to be run once this channel
+     * is closed, or immediately if already closed.
+     * <p>
+     * Optional, as it cannot be implemented in terms of the other methods without blocking a thread; the channels
+     * of the default {@link SseService} do support it.
+     *
+     * @throws UnsupportedOperationException if not supported by this channel (the default)
+     */
+    default void whenClosed(final Runnable callback) {
+        throw new UnsupportedOperationException("whenClosed is not supported by " + getClass().getName());
+    }
+
 }
@@ -24,6 +24,7 @@
 import org.apache.causeway.extensions.sse.metamodel.CausewayModuleExtSseMetaModel;
 import org.apache.causeway.extensions.sse.wicket.markup.ListeningMarkupPanelFactoriesForWicket;
 import org.apache.causeway.extensions.sse.wicket.services.SseServiceDefault;
+import org.apache.causeway.extensions.sse.wicket.webmodule.ServerSentEventsBroadcaster;
 import org.apache.causeway.extensions.sse.wicket.webmodule.WebModuleServerSentEvents;
 
 /**
@@ -40,6 +41,7 @@
 
         // @Service's
         SseServiceDefault.class,
+        ServerSentEventsBroadcaster.class,
         WebModuleServerSentEvents.class
 })
 public class CausewayModuleExtSseWicket {
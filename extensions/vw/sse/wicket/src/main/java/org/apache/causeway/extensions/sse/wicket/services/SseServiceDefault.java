@@ -28,9 +28,14 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
+import javax.annotation.PreDestroy;
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -74,6 +79,22 @@ public class SseServiceDefault implements SseService {
 
     private final EventStreamPool eventStreamPool = new EventStreamPool();
 
+    private static final int MAX_SOURCE_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * {@link SseSource} tasks typically run for as long as there is progress to report, hence these get their own
+     * threads, rather than blocking the (JVM wide) {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     * <p>
+     * At most {@link #MAX_SOURCE_THREADS} tasks run concurrently, any further ones are queued until a thread
+     * becomes available.
+     */
+    private final ExecutorService executor = newSseSourceExecutorService();
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow(); // interrupts any still running tasks
+    }
+
     @Override
     public Optional<SseChannel> lookupByType(Class<?> sourceType) {
         return eventStreamPool.lookupByType(sourceType);
@@ -85,8 +106,6 @@ public void submit(SseSource task, ExecutionBehavior executionBehavior) {
         Objects.requireNonNull(task);
         Objects.requireNonNull(executionBehavior);
 
-        var executor = ForkJoinPool.commonPool();
-
         switch(executionBehavior) {
         case SIMPLE:
             CompletableFuture.runAsync(()->run(task), executor);
@@ -134,6 +153,21 @@ private void run(SseSource task) {
         }
     }
 
+    private static ExecutorService newSseSourceExecutorService() {
+        var threadCounter = new AtomicInteger();
+        var executor = new ThreadPoolExecutor(
+                MAX_SOURCE_THREADS, MAX_SOURCE_THREADS,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable->{
+                    var thread = new Thread(runnable, "causeway-sse-source-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true); // idle threads are not kept around
+        return executor;
+    }
+
     private static class EventStreamPool {
 
         private final Map<Class<?>,  EventStreamLifecycle> eventStreamsByType = new ConcurrentHashMap<>();
@@ -201,6 +235,7 @@ private static class EventStreamDefault implements SseChannel {
 
         private final CountDownLatch latch = new CountDownLatch(1);
         private final Queue<Predicate<SseSource>> listeners = new ConcurrentLinkedQueue<>();
+        private final Queue<Runnable> closeCallbacks = new ConcurrentLinkedQueue<>();
 
         @Override
         public void fire(SseSource source) {
@@ -246,9 +281,33 @@ public void listenWhile(Predicate<SseSource> listener) {
 
         @Override
         public void close() {
+            final List<Runnable> callbacksToRun;
             synchronized ($LOCK) {
                 listeners.clear();
                 latch.countDown();
+                callbacksToRun = _Lists.newArrayList(closeCallbacks);
+                closeCallbacks.clear();
+            }
+            callbacksToRun.forEach(EventStreamDefault::runCloseCallback);
+        }
+
+        @Override
+        public void whenClosed(Runnable callback) {
+            Objects.requireNonNull(callback);
+            synchronized ($LOCK) {
+                if(isActive()) {
+                    closeCallbacks.add(callback);
+                    return;
+                }
+            }
+            runCloseCallback(callback);
+        }
+
+        private static void runCloseCallback(Runnable callback) {
+            try {
+                callback.run();
+            } catch (Exception e) {
+                log.warn("failed to run close callback", e);
             }
         }
 
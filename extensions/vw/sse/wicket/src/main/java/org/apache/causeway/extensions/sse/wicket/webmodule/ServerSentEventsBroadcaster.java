@@ -0,0 +1,442 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.extensions.sse.wicket.webmodule;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Priority;
+import javax.inject.Named;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.value.Markup;
+import org.apache.causeway.extensions.sse.applib.annotations.SseSource;
+import org.apache.causeway.extensions.sse.applib.service.SseChannel;
+import org.apache.causeway.extensions.sse.wicket.CausewayModuleExtSseWicket;
+
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Pushes the events of {@link SseChannel}s to the connected (browser) clients, without holding on to a thread
+ * per client.
+ *
+ * <p>
+ * Per channel a single listener is registered, that marshals each event once and offers it to each client's
+ * bounded buffer. The clients are written to using the servlet container's non-blocking I/O
+ * (see {@link WriteListener}), so a slow client only ever delays itself: once its buffer is full, intermediate
+ * events that were not yet written are coalesced, that is, dropped in favor of the more recent ones (as each
+ * event carries the complete markup to be rendered).
+ * </p>
+ *
+ * <p>
+ * Idle connections are kept alive by sending periodic heartbeat comments, which also detects clients that
+ * have gone away.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named(ServerSentEventsBroadcaster.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@Log4j2
+public class ServerSentEventsBroadcaster {
+
+    public static final String LOGICAL_TYPE_NAME = CausewayModuleExtSseWicket.NAMESPACE + ".ServerSentEventsBroadcaster";
+
+    /**
+     * Maximum number of events buffered per client, before intermediate events are coalesced.
+     */
+    static final int CLIENT_BUFFER_CAPACITY = 8;
+
+    /**
+     * Idle connections are sent a heartbeat comment at this rate.
+     */
+    static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
+    private static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final Map<UUID, StreamBroadcast> broadcastsByStreamId = new ConcurrentHashMap<>();
+    private final Markup.JaxbToStringAdapter marshaller = new Markup.JaxbToStringAdapter();
+    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable->{
+        var thread = new Thread(runnable, "causeway-sse-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LongAdder eventsBroadcast = new LongAdder();
+    private final LongAdder eventsCoalesced = new LongAdder();
+    private final LongAdder heartbeatsSent = new LongAdder();
+    private final LongAdder clientsDisconnected = new LongAdder();
+
+    private volatile boolean shutdown;
+
+    @PostConstruct
+    public void init() {
+        var intervalMillis = HEARTBEAT_INTERVAL.toMillis();
+        heartbeatScheduler.scheduleAtFixedRate(this::heartbeat, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shutdown = true;
+        heartbeatScheduler.shutdownNow();
+        broadcastsByStreamId.values().forEach(StreamBroadcast::close);
+    }
+
+    /**
+     * Subscribes the client of given (already {@link javax.servlet.ServletRequest#startAsync() async}) request
+     * to the events of given channel; returns immediately.
+     *
+     * <p>
+     * The request is {@link AsyncContext#complete() completed}, once either the channel is closed or the client
+     * disconnects.
+     * </p>
+     */
+    public void register(final AsyncContext asyncContext, final SseChannel channel) throws IOException {
+        asyncContext.setTimeout(0); // connection lifecycle is managed by the broadcaster (see heartbeat)
+        var client = new Client(asyncContext, asyncContext.getResponse().getOutputStream());
+        asyncContext.addListener(client);
+
+        while(true) {
+            var broadcast = broadcastsByStreamId.computeIfAbsent(channel.getId(), __->new StreamBroadcast(channel));
+            if(broadcast.addClient(client)) {
+                client.broadcast = broadcast;
+                broadcast.startIfRequired();
+                break;
+            }
+            // lost the race against the channel being closed; if still closed, the next broadcast will
+            // complete the client right away
+            broadcastsByStreamId.remove(channel.getId(), broadcast);
+        }
+
+        // the container will call Client.onWritePossible() once ready
+        client.out.setWriteListener(client);
+    }
+
+    /**
+     * Snapshot of the broadcaster's connection and queue metrics.
+     */
+    public Metrics getMetrics() {
+        int clients = 0;
+        int queuedEvents = 0;
+        for(var broadcast : broadcastsByStreamId.values()) {
+            for(var client : broadcast.clients) {
+                clients++;
+                queuedEvents += client.queuedEvents();
+            }
+        }
+        return new Metrics(
+                broadcastsByStreamId.size(),
+                clients,
+                queuedEvents,
+                eventsBroadcast.sum(),
+                eventsCoalesced.sum(),
+                heartbeatsSent.sum(),
+                clientsDisconnected.sum());
+    }
+
+    @Value
+    public static class Metrics {
+        /** number of channels that currently have clients */
+        int streams;
+        /** number of currently connected clients */
+        int clients;
+        /** number of events currently buffered, not yet written to their clients */
+        int queuedEvents;
+        /** number of events broadcast, since startup */
+        long eventsBroadcast;
+        /** number of buffered events that were dropped in favor of more recent ones, since startup */
+        long eventsCoalesced;
+        /** number of heartbeat comments sent, since startup */
+        long heartbeatsSent;
+        /** number of clients that disconnected (or were completed), since startup */
+        long clientsDisconnected;
+    }
+
+    // -- HELPER
+
+    private void heartbeat() {
+        try {
+            var idleSinceNanos = System.nanoTime() - HEARTBEAT_INTERVAL.toNanos();
+            broadcastsByStreamId.values().forEach(broadcast->
+                broadcast.clients.forEach(client->client.heartbeatIfIdleSince(idleSinceNanos)));
+            if(log.isDebugEnabled()) {
+                log.debug("{}", getMetrics());
+            }
+        } catch (Exception e) {
+            // must not propagate, as that would cancel any further heartbeats
+            log.warn("failed to send heartbeats", e);
+        }
+    }
+
+    private byte[] toEvent(final SseSource source) throws Exception {
+        var payload = marshaller.marshal(Markup.valueOf(source.getPayload()));
+        return ("data: " + payload + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The clients that listen to a single {@link SseChannel}, sharing a single listener registered with the channel.
+     */
+    private final class StreamBroadcast {
+
+        private final SseChannel channel;
+        private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+        private boolean started; // guarded by this
+        private boolean closed; // guarded by this
+
+        StreamBroadcast(final SseChannel channel) {
+            this.channel = channel;
+        }
+
+        synchronized boolean addClient(final Client client) {
+            if(closed) {
+                return false;
+            }
+            clients.add(client);
+            return true;
+        }
+
+        void removeClient(final Client client) {
+            clients.remove(client);
+        }
+
+        void startIfRequired() {
+            synchronized(this) {
+                if(started) {
+                    return;
+                }
+                started = true;
+            }
+            channel.listenWhile(this::broadcast);
+            try {
+                channel.whenClosed(this::close);
+            } catch (UnsupportedOperationException e) {
+                // rather than blocking a thread per channel, its clients are completed once they disconnect
+                log.warn("channel {} does not support close notification, "
+                        + "its clients remain connected until they disconnect", channel.getId());
+            }
+        }
+
+        /**
+         * Runs on the thread that fires the event: marshals the event once, then hands it over to each client's
+         * buffer; does not block on any I/O.
+         */
+        private boolean broadcast(final SseSource source) {
+            if(shutdown) {
+                return false; // stop listening
+            }
+            try {
+                var event = toEvent(source);
+                clients.forEach(client->client.offer(event));
+                eventsBroadcast.increment();
+            } catch (Exception e) {
+                log.warn("failed to broadcast event of channel {}", channel.getId(), e);
+            }
+            return true; // continue listening
+        }
+
+        void close() {
+            synchronized(this) {
+                if(closed) {
+                    return;
+                }
+                closed = true;
+            }
+            broadcastsByStreamId.remove(channel.getId(), this);
+            clients.forEach(Client::completeWhenDrained);
+        }
+
+    }
+
+    /**
+     * A single connected client, written to using non-blocking I/O.
+     */
+    private final class Client implements WriteListener, AsyncListener {
+
+        private final AsyncContext asyncContext;
+        private final ServletOutputStream out;
+        private StreamBroadcast broadcast; // set once registered
+
+        // guarded by this
+        private final Deque<byte[]> buffer = new ArrayDeque<>(CLIENT_BUFFER_CAPACITY);
+        private boolean containerReady;
+        private boolean flushRequired;
+        private boolean completeWhenDrained;
+        private boolean completed;
+        private long lastWriteNanos = System.nanoTime();
+
+        Client(final AsyncContext asyncContext, final ServletOutputStream out) {
+            this.asyncContext = asyncContext;
+            this.out = out;
+        }
+
+        synchronized int queuedEvents() {
+            return buffer.size();
+        }
+
+        void offer(final byte[] event) {
+            synchronized(this) {
+                if(completed) {
+                    return;
+                }
+                while(buffer.size() >= CLIENT_BUFFER_CAPACITY) {
+                    buffer.pollFirst();
+                    eventsCoalesced.increment();
+                }
+                buffer.addLast(event);
+            }
+            drain();
+        }
+
+        void heartbeatIfIdleSince(final long idleSinceNanos) {
+            synchronized(this) {
+                if(completed
+                        || !buffer.isEmpty()
+                        || lastWriteNanos - idleSinceNanos > 0) {
+                    return;
+                }
+                buffer.addLast(HEARTBEAT);
+                heartbeatsSent.increment();
+            }
+            drain();
+        }
+
+        void completeWhenDrained() {
+            synchronized(this) {
+                completeWhenDrained = true;
+            }
+            drain();
+        }
+
+        /**
+         * Writes buffered events for as long as the container accepts these without blocking. Otherwise
+         * returns, relying on the container to call {@link #onWritePossible()} once ready again.
+         */
+        private synchronized void drain() {
+            if(completed
+                    || !containerReady) {
+                return;
+            }
+            try {
+                while(out.isReady()) {
+                    var event = buffer.pollFirst();
+                    if(event != null) {
+                        out.write(event);
+                        flushRequired = true;
+                        lastWriteNanos = System.nanoTime();
+                    } else if(flushRequired) {
+                        out.flush();
+                        flushRequired = false;
+                    } else {
+                        if(completeWhenDrained) {
+                            complete();
+                        }
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                onError(e);
+            }
+        }
+
+        private void complete() {
+            synchronized(this) {
+                if(completed) {
+                    return;
+                }
+                completed = true;
+                buffer.clear();
+            }
+            if(broadcast != null) {
+                broadcast.removeClient(this);
+            }
+            clientsDisconnected.increment();
+            try {
+                // Completes the asynchronous operation that was started on the request
+                // that was used to initialize this AsyncContext.
+                asyncContext.complete();
+            } catch (IllegalStateException e) {
+                // already completed by the container
+            }
+        }
+
+        // -- WRITE LISTENER
+
+        @Override
+        public void onWritePossible() {
+            synchronized(this) {
+                containerReady = true;
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            log.debug("client of channel {} went away", broadcast!=null ? broadcast.channel.getId() : null, t);
+            complete();
+        }
+
+        // -- ASYNC LISTENER
+
+        @Override
+        public void onComplete(final AsyncEvent event) {
+            complete();
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent event) {
+            complete();
+        }
+
+        @Override
+        public void onError(final AsyncEvent event) {
+            onError(event.getThrowable());
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+            // no-op
+        }
+
+    }
+
+}
@@ -41,6 +41,7 @@
     requires spring.beans;
     requires spring.context;
     requires spring.core;
+    requires spring.jdbc;
     requires spring.tx;
     requires spring.boot.autoconfigure;
 }
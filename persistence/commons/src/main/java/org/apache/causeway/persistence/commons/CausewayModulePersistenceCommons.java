@@ -26,6 +26,7 @@
 import org.apache.causeway.core.runtime.CausewayModuleCoreRuntime;
 import org.apache.causeway.persistence.commons.integration.changetracking.EntityChangeTrackerDefault;
 import org.apache.causeway.persistence.commons.integration.changetracking.PreAndPostValueEvaluatorServiceDefault;
+import org.apache.causeway.persistence.commons.integration.datasource.DataSourcePostProcessorForLazyConnection;
 import org.apache.causeway.persistence.commons.integration.repository.RepositoryServiceDefault;
 
 @Configuration
@@ -39,6 +40,7 @@
 
         // @Component's
         DeadlockRecognizerDefault.class,
+        DataSourcePostProcessorForLazyConnection.class,
 
         // @Repository's
         RepositoryServiceDefault.class,
@@ -19,10 +19,7 @@
  */
 package org.apache.causeway.persistence.commons.integration.changetracking;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -33,6 +30,7 @@
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.Priority;
 import javax.inject.Inject;
@@ -70,6 +68,7 @@
 import org.apache.causeway.applib.services.xactn.TransactionId;
 import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.base._Lazy;
+import org.apache.causeway.commons.internal.base._Refs;
 import org.apache.causeway.commons.internal.collections._Maps;
 import org.apache.causeway.commons.internal.collections._Sets;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
@@ -82,6 +81,7 @@
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PreAndPostValue;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecordId;
+import org.apache.causeway.core.runtime.changetrackingmgmt.ChangeTrackingMgmt;
 import org.apache.causeway.core.runtime.flushmgmt.FlushMgmt;
 import org.apache.causeway.core.transaction.changetracking.EntityChangeTracker;
 import org.apache.causeway.core.transaction.changetracking.EntityChangesPublisher;
@@ -154,23 +154,22 @@ public int getOrder() {
 
     /**
      * Contains a record for every objectId/propertyId that was changed.
-     * @implNote access to this {@link Map} must be thread-safe and the map also should preserve insertion order. We
-     *           cannot use <code>newConcurrentHashMap</code> as this doesn't preserve insertion order; instead we
-     *           make sure that it is only ever accessed within a <code>synchronized</code> block.
+     * @implNote access must be thread-safe and must preserve insertion order; the {@link _EnlistmentLog}
+     *           provides both without locking, and can be iterated while further records are being enlisted.
      */
-    private final Map<PropertyChangeRecordId, PropertyChangeRecord> enlistedPropertyChangeRecordsById = _Maps.newLinkedHashMap();
+    private final _EnlistmentLog<PropertyChangeRecordId, PropertyChangeRecord> enlistedPropertyChangeRecordsById = new _EnlistmentLog<>();
 
     /**
      * As used when {@link #enlistCreated(ManagedObject)} or {@link #enlistUpdating(ManagedObject, Function)}
      */
     private void addPropertyChangeRecordIfAbsent(PropertyChangeRecordId pcrId, PropertyChangeRecord pcr) {
-        enlistedPropertyChangeRecordsById.computeIfAbsent(pcrId, id -> pcr);
+        enlistedPropertyChangeRecordsById.putIfAbsent(pcrId, id -> pcr);
     }
     /**
      * As used when {@link #enlistDeleting(ManagedObject)}.
      */
     private void addPropertyChangeRecordIfAbsent(PropertyChangeRecordId pcrId, Function<PropertyChangeRecordId, PropertyChangeRecord> func) {
-        enlistedPropertyChangeRecordsById.computeIfAbsent(pcrId, func);
+        enlistedPropertyChangeRecordsById.putIfAbsent(pcrId, func);
     }
 
     private Changes evaluateChanges() {
@@ -179,8 +178,7 @@ private Changes evaluateChanges() {
         var isCountersAndDetail = causewayConfiguration.getApplib().getService().getMetricsService().getLevel().isCountersAndDetail();
         Set<Bookmark> loadedBookmarks =
                 isCountersAndDetail
-                        ? enlistedPropertyChangeRecordsById.keySet()
-                                .stream()
+                        ? enlistedPropertyChangeRecordsById.streamKeys()
                                 .map(PropertyChangeRecordId::getBookmark)
                                 .collect(Collectors.<Bookmark>toSet())
                         : Collections.emptySet();
@@ -199,21 +197,7 @@ private Changes evaluateChanges() {
     }
 
     private Set<PropertyChangeRecord> evaluateChangedProperties() {
-        Set<PropertyChangeRecord> dirtiedProperties;
-        try {
-            dirtiedProperties = changedRecords(enlistedPropertyChangeRecordsById.values());
-        } catch (ConcurrentModificationException ex) {
-            log.warn(
-                    "A concurrent modification exception, one of these properties seemed to change as we looked at it :\n" +
-                            enlistedPropertyChangeRecordsById.keySet()
-                                    .stream()
-                                    .map(PropertyChangeRecordId::toString)
-                                    .collect(Collectors.joining("\n"))
-            );
-            // instead, we take a copy
-            dirtiedProperties = changedRecords(new ArrayList<>(enlistedPropertyChangeRecordsById.values()));
-        }
-        return dirtiedProperties;
+        return changedRecords(enlistedPropertyChangeRecordsById.streamValues());
     }
 
     @RequiredArgsConstructor
@@ -229,12 +213,11 @@ static class Changes {
     private final _Lazy<Changes> changes = _Lazy.of(this::evaluateChanges);
 
     /**
-     * when iterating over the original value set, if any of the properties causes the entity to change state as it is
-     * evaluated then a ConcurrentModificationException will be thrown because an enlist will occur.
+     * If any of the properties causes the entity to change state as it is evaluated, further records may get enlisted
+     * while we iterate; the {@link _EnlistmentLog} is weakly consistent, so this is safe.
      */
-    private Set<PropertyChangeRecord> changedRecords(Collection<PropertyChangeRecord> propertyChangeRecords)
-            throws ConcurrentModificationException {
-        return propertyChangeRecords.stream()
+    private Set<PropertyChangeRecord> changedRecords(Stream<PropertyChangeRecord> propertyChangeRecords) {
+        return propertyChangeRecords
                 // set post values, which have been left empty up to now
                 .peek(rec -> {
                     if (MmEntityUtils.getEntityState(rec.getEntity()).isTransientOrRemoved()) {
@@ -252,9 +235,10 @@ private Changes memoizeChangesIfRequired() {
     }
 
     /**
-     * @implNote access to this {@link Map} must be thread-safe (insertion order preservation is not required)
+     * @implNote access to this {@link Map} must be thread-safe (insertion order preservation is not required);
+     *           state transitions are applied atomically per bookmark, see {@link #enlistForChangeKindPublishing(ManagedObject, EntityChangeKind)}
      */
-    private final Map<Bookmark, EntityChangeKind> changeKindByEnlistedAdapter = _Maps.newHashMap();
+    private final Map<Bookmark, EntityChangeKind> changeKindByEnlistedAdapter = _Maps.newConcurrentHashMap();
 
     private final LongAdder numberEntitiesLoaded = new LongAdder();
     private final LongAdder entityChangeEventCount = new LongAdder();
@@ -283,13 +267,9 @@ private void clearAndReset() {
     }
 
     /**
-     * @implNote sets a lock on the {@code enlistedPropertyChangeRecordsById} {@link Map}
-     *      until given {@code runnable} completes<p>
-     *      Note: Java supports reentrant locks,
-     *      which allow a thread to acquire the same lock multiple times without deadlocking itself.
-     *      Reentrant locks maintain a count of the number of times a thread has acquired the lock
-     *      and ensure that the lock is released only when the thread exits the synchronized block
-     *      or method the same number of times it entered it.
+     * @implNote no lock is held while given {@code runnable} executes; enlistment into
+     *      {@code enlistedPropertyChangeRecordsById} and {@code changeKindByEnlistedAdapter} is lock-free,
+     *      so re-entrant enlistment (eg. triggered by an entity load) cannot deadlock.
      */
     private void suppressAutoFlushIfRequired(final Runnable runnable) {
         if (configuration.isSuppressAutoFlush()) {
@@ -309,6 +289,10 @@ private boolean isEntityExcludedForChangePublishing(final ManagedObject entity)
             return true;
         }
 
+        if (ChangeTrackingMgmt.isChangeTrackingSuppressed()) {
+            return true; // eg. bulk loading of fixtures
+        }
+
         if(!EntityChangePublishingFacet.isPublishingEnabled(entity.getSpecification())) {
             return true; // ignore entities that are not enabled for entity change publishing
         }
@@ -487,35 +471,40 @@ private boolean enlistForChangeKindPublishing(
 
         var bookmark = ManagedObjects.bookmarkElseFail(entity);
 
-        var previousChangeKind = changeKindByEnlistedAdapter.get(bookmark);
+        var enlisted = _Refs.booleanRef(false);
+        changeKindByEnlistedAdapter.compute(bookmark, (__, previousChangeKind)->{
+            var nextChangeKind = nextChangeKind(previousChangeKind, changeKind);
+            enlisted.setValue(nextChangeKind != null
+                    && nextChangeKind != previousChangeKind);
+            return nextChangeKind;
+        });
+        return enlisted.isTrue();
+    }
+
+    /**
+     * @return the change kind to record, or <code>null</code> if the bookmark is no longer to be enlisted
+     *      (eg. delete of an entity that was created earlier in the transaction)
+     */
+    @Nullable
+    static EntityChangeKind nextChangeKind(
+            final @Nullable EntityChangeKind previousChangeKind,
+            final @NonNull EntityChangeKind changeKind) {
         if(previousChangeKind == null) {
-            changeKindByEnlistedAdapter.put(bookmark, changeKind);
-            return true;
+            return changeKind;
         }
         switch (previousChangeKind) {
         case CREATE:
-            switch (changeKind) {
-            case DELETE:
-                changeKindByEnlistedAdapter.remove(bookmark);
-            case CREATE:
-            case UPDATE:
-                return false;
-            }
-            break;
+            return changeKind == EntityChangeKind.DELETE
+                    ? null
+                    : previousChangeKind;
         case UPDATE:
-            switch (changeKind) {
-            case DELETE:
-                changeKindByEnlistedAdapter.put(bookmark, changeKind);
-                return true;
-            case CREATE:
-            case UPDATE:
-                return false;
-            }
-            break;
+            return changeKind == EntityChangeKind.DELETE
+                    ? changeKind
+                    : previousChangeKind;
         case DELETE:
-            return false;
+        default:
+            return previousChangeKind;
         }
-        return false;
     }
 
     // side-effect free, used by XRay
@@ -0,0 +1,105 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.changetracking;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.apache.causeway.commons.internal.collections._Maps;
+
+import lombok.NonNull;
+
+/**
+ * Insertion-ordered, thread-safe <i>put-if-absent</i> registry, as used by {@link EntityChangeTrackerDefault}
+ * to enlist {@link org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyChangeRecord}s.
+ *
+ * <p>
+ * Each key that wins its enlistment claims a number from a monotonic sequence and is appended to a
+ * sequence-ordered log; a concurrent index (keyed by the enlisted key) guarantees that each key is
+ * enlisted at most once. Neither structure requires a lock, and iteration over the log is weakly consistent,
+ * so values enlisted while the log is being iterated (eg. as a side effect of evaluating post values)
+ * never cause a {@link java.util.ConcurrentModificationException}.
+ * </p>
+ *
+ * @param <K> key type, must implement {@code equals} and {@code hashCode}
+ * @param <V> value type
+ */
+final class _EnlistmentLog<K, V> {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentHashMap<K, Long> sequenceByKey = _Maps.newConcurrentHashMap();
+    private final ConcurrentSkipListMap<Long, Map.Entry<K, V>> entriesBySequence = new ConcurrentSkipListMap<>();
+
+    /**
+     * Enlists the value provided by given {@code valueFactory}, unless given {@code key} is already enlisted.
+     *
+     * @implNote the {@code valueFactory} is deliberately invoked outside of any map's compute function,
+     *      as it may re-enter the enlistment (eg. by triggering an entity load); in case of a race
+     *      between threads enlisting the same key, the value of the loser is simply discarded.
+     * @return whether given {@code key} was newly enlisted
+     */
+    public boolean putIfAbsent(final @NonNull K key, final @NonNull Function<K, V> valueFactory) {
+        if(sequenceByKey.containsKey(key)) {
+            return false;
+        }
+        final V value = valueFactory.apply(key);
+        final long seq = sequence.getAndIncrement();
+        if(sequenceByKey.putIfAbsent(key, seq) != null) {
+            return false; // lost the race
+        }
+        entriesBySequence.put(seq, Map.entry(key, value));
+        return true;
+    }
+
+    public boolean containsKey(final @NonNull K key) {
+        return sequenceByKey.containsKey(key);
+    }
+
+    /**
+     * Enlisted keys in order of enlistment (weakly consistent).
+     */
+    public Stream<K> streamKeys() {
+        return entriesBySequence.values().stream().map(Map.Entry::getKey);
+    }
+
+    /**
+     * Enlisted values in order of enlistment (weakly consistent).
+     */
+    public Stream<V> streamValues() {
+        return entriesBySequence.values().stream().map(Map.Entry::getValue);
+    }
+
+    public int size() {
+        return sequenceByKey.size();
+    }
+
+    public boolean isEmpty() {
+        return sequenceByKey.isEmpty();
+    }
+
+    public void clear() {
+        sequenceByKey.clear();
+        entriesBySequence.clear();
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.datasource;
+
+import java.util.Map;
+
+import javax.inject.Inject;
+import javax.sql.DataSource;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.jdbc.datasource.lookup.BeanFactoryDataSourceLookup;
+import org.springframework.stereotype.Component;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Depending on configuration, wraps {@link DataSource} beans, such that transactions obtain a physical connection
+ * only on first actual persistence access, and optionally routes read-only transactions to a secondary
+ * {@link DataSource}.
+ * <p>
+ * Connections are also obtained lazily if the RestfulObjects viewer runs safe requests within a (nested) read-only
+ * transaction, see <code>causeway.viewer.restfulobjects.read-only-transaction-for-safe-requests</code>.
+ *
+ * @see CausewayConfiguration.Persistence.Commons.Transaction
+ * @since 2.x
+ */
+@Component
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
+public class DataSourcePostProcessorForLazyConnection implements BeanPostProcessor {
+
+    // resolved lazily, as bean post processors are instantiated early
+    private final ObjectProvider<CausewayConfiguration> causewayConfigurationProvider;
+    private final BeanFactory beanFactory;
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) throws BeansException {
+        if(!(bean instanceof DataSource)
+                || bean instanceof LazyConnectionDataSourceProxy
+                || bean instanceof AbstractRoutingDataSource) {
+            return bean;
+        }
+        var causewayConfiguration = causewayConfigurationProvider.getObject();
+        var transactionConfig = causewayConfiguration.getPersistence().getCommons().getTransaction();
+        var readOnlyDataSourceName = transactionConfig.getReadOnlyDataSource().orElse(null);
+        if(beanName.equals(readOnlyDataSourceName)) {
+            return bean; // the secondary itself
+        }
+        var lazyConnection = transactionConfig.isLazyConnection()
+                // the nested read-only transaction of safe requests would otherwise borrow a second connection
+                || causewayConfiguration.getViewer().getRestfulobjects().isReadOnlyTransactionForSafeRequests();
+        if(!lazyConnection
+                && readOnlyDataSourceName==null) {
+            return bean;
+        }
+
+        var targetDataSource = (DataSource) bean;
+
+        if(readOnlyDataSourceName!=null) {
+            var routingDataSource = new ReadOnlyRoutingDataSource();
+            routingDataSource.setDataSourceLookup(new BeanFactoryDataSourceLookup(beanFactory));
+            routingDataSource.setDefaultTargetDataSource(targetDataSource);
+            routingDataSource.setTargetDataSources(Map.of(
+                    ReadOnlyRoutingDataSource.Route.READ_WRITE, targetDataSource,
+                    ReadOnlyRoutingDataSource.Route.READ_ONLY, readOnlyDataSourceName));
+            routingDataSource.afterPropertiesSet();
+            targetDataSource = routingDataSource;
+            log.info("routing read-only transactions of DataSource '{}' to '{}'", beanName, readOnlyDataSourceName);
+        }
+
+        log.info("DataSource '{}' obtains connections lazily", beanName);
+        return new LazyConnectionDataSourceProxy(targetDataSource);
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes connections of read-only transactions to a secondary data source.
+ * <p>
+ * The route is decided when a physical connection is obtained, hence is to be wrapped by a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, such that this only happens on first
+ * actual persistence access, that is, after the transaction's read-only flag has been set up.
+ *
+ * @since 2.x
+ */
+class ReadOnlyRoutingDataSource
+extends AbstractRoutingDataSource {
+
+    enum Route {
+        READ_WRITE,
+        READ_ONLY
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? Route.READ_ONLY
+                : Route.READ_WRITE;
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.changetracking;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.annotation.EntityChangeKind;
+
+class EnlistmentLogTest {
+
+    @Test
+    void putIfAbsent_preservesInsertionOrder_andIgnoresDuplicates() {
+        var log = new _EnlistmentLog<String, Integer>();
+
+        assertTrue(log.putIfAbsent("c", k -> 1));
+        assertTrue(log.putIfAbsent("a", k -> 2));
+        assertFalse(log.putIfAbsent("c", k -> 3));
+        assertTrue(log.putIfAbsent("b", k -> 4));
+
+        assertEquals(List.of("c", "a", "b"), log.streamKeys().collect(Collectors.toList()));
+        assertEquals(List.of(1, 2, 4), log.streamValues().collect(Collectors.toList()));
+        assertEquals(3, log.size());
+
+        log.clear();
+        assertTrue(log.isEmpty());
+        assertEquals(0L, log.streamValues().count());
+    }
+
+    @Test
+    void enlistingWhileIterating_doesNotFail() {
+        var log = new _EnlistmentLog<Integer, Integer>();
+        IntStream.range(0, 100).forEach(i -> log.putIfAbsent(i, k -> k));
+
+        // mimics post-value evaluation that triggers further enlistment
+        var seen = log.streamValues()
+                .peek(v -> {
+                    if(v < 100) {
+                        log.putIfAbsent(1000 + v, k -> k);
+                    }
+                })
+                .count();
+
+        assertTrue(seen >= 100 && seen <= 200);
+        assertEquals(200, log.size());
+    }
+
+    @Test
+    void valueFactory_mayReenter() {
+        var log = new _EnlistmentLog<String, String>();
+
+        log.putIfAbsent("outer", k -> {
+            log.putIfAbsent("inner", k2 -> k2);
+            return k;
+        });
+
+        assertEquals(List.of("inner", "outer"), log.streamKeys().collect(Collectors.toList()));
+    }
+
+    @Test
+    void stress_concurrentEnlistment() throws Exception {
+        final int threadCount = 8;
+        final int keysPerThread = 5_000;
+        final int sharedKeys = 1_000;
+
+        var log = new _EnlistmentLog<String, String>();
+        var factoryCalls = new AtomicInteger();
+        var startGate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            var futures = IntStream.range(0, threadCount)
+                    .mapToObj(t -> executor.submit(() -> {
+                        startGate.await();
+                        for (int i = 0; i < keysPerThread; i++) {
+                            // keys private to this thread, enlisted in ascending order
+                            var ownKey = "t" + t + ":" + i;
+                            log.putIfAbsent(ownKey, k -> { factoryCalls.incrementAndGet(); return k; });
+                            // keys contended by all threads
+                            var sharedKey = "shared:" + (i % sharedKeys);
+                            log.putIfAbsent(sharedKey, k -> { factoryCalls.incrementAndGet(); return k; });
+                        }
+                        return null;
+                    }))
+                    .collect(Collectors.<Future<Object>>toList());
+
+            startGate.countDown();
+            for (var future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        var keys = log.streamKeys().collect(Collectors.toList());
+
+        // uniqueness: every key enlisted exactly once
+        final int expectedSize = threadCount * keysPerThread + sharedKeys;
+        assertEquals(expectedSize, keys.size());
+        assertEquals(expectedSize, new HashSet<>(keys).size());
+        assertEquals(expectedSize, log.size());
+        assertTrue(factoryCalls.get() >= expectedSize);
+
+        // ordering: per thread, keys appear in the order they were enlisted
+        for (int t = 0; t < threadCount; t++) {
+            var prefix = "t" + t + ":";
+            var ownIndices = keys.stream()
+                    .filter(k -> k.startsWith(prefix))
+                    .map(k -> Integer.parseInt(k.substring(prefix.length())))
+                    .collect(Collectors.toList());
+            assertEquals(
+                    IntStream.range(0, keysPerThread).boxed().collect(Collectors.toList()),
+                    ownIndices);
+        }
+
+        // values agree with keys
+        assertEquals(keys, log.streamValues().collect(Collectors.toList()));
+    }
+
+    @Test
+    void nextChangeKind_transitions() {
+        assertEquals(EntityChangeKind.CREATE, EntityChangeTrackerDefault.nextChangeKind(null, EntityChangeKind.CREATE));
+        assertEquals(EntityChangeKind.UPDATE, EntityChangeTrackerDefault.nextChangeKind(null, EntityChangeKind.UPDATE));
+        assertEquals(EntityChangeKind.DELETE, EntityChangeTrackerDefault.nextChangeKind(null, EntityChangeKind.DELETE));
+
+        assertEquals(EntityChangeKind.CREATE, EntityChangeTrackerDefault.nextChangeKind(EntityChangeKind.CREATE, EntityChangeKind.UPDATE));
+        assertNull(EntityChangeTrackerDefault.nextChangeKind(EntityChangeKind.CREATE, EntityChangeKind.DELETE));
+
+        assertEquals(EntityChangeKind.UPDATE, EntityChangeTrackerDefault.nextChangeKind(EntityChangeKind.UPDATE, EntityChangeKind.UPDATE));
+        assertEquals(EntityChangeKind.DELETE, EntityChangeTrackerDefault.nextChangeKind(EntityChangeKind.UPDATE, EntityChangeKind.DELETE));
+
+        assertEquals(EntityChangeKind.DELETE, EntityChangeTrackerDefault.nextChangeKind(EntityChangeKind.DELETE, EntityChangeKind.UPDATE));
+    }
+
+}
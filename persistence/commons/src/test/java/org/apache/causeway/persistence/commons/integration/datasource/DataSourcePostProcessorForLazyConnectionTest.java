@@ -0,0 +1,126 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.commons.integration.datasource;
+
+import java.sql.Connection;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.core.config.CausewayConfiguration;
+
+import lombok.SneakyThrows;
+
+class DataSourcePostProcessorForLazyConnectionTest {
+
+    private CausewayConfiguration causewayConfiguration;
+    private StaticListableBeanFactory beanFactory;
+    private DataSourcePostProcessorForLazyConnection postProcessor;
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        causewayConfiguration = new CausewayConfiguration(null, Optional.empty());
+        beanFactory = new StaticListableBeanFactory();
+        @SuppressWarnings("unchecked")
+        ObjectProvider<CausewayConfiguration> configProvider = Mockito.mock(ObjectProvider.class);
+        Mockito.when(configProvider.getObject()).thenReturn(causewayConfiguration);
+        postProcessor = new DataSourcePostProcessorForLazyConnection(configProvider, beanFactory);
+
+        primary = mockDataSource();
+        replica = mockDataSource();
+        beanFactory.addBean("replica", replica);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void passesThrough_whenNotConfigured() {
+        assertSame(primary, postProcessor.postProcessAfterInitialization(primary, "dataSource"));
+    }
+
+    @Test
+    void obtainsConnectionLazily_whenReadOnlyTransactionForSafeRequests() {
+        causewayConfiguration.getViewer().getRestfulobjects().setReadOnlyTransactionForSafeRequests(true);
+
+        var dataSource = (DataSource) postProcessor.postProcessAfterInitialization(primary, "dataSource");
+        assertTrue(dataSource instanceof LazyConnectionDataSourceProxy);
+    }
+
+    @Test
+    void obtainsConnectionLazily() throws Exception {
+        causewayConfiguration.getPersistence().getCommons().getTransaction().setLazyConnection(true);
+
+        var dataSource = (DataSource) postProcessor.postProcessAfterInitialization(primary, "dataSource");
+        assertTrue(dataSource instanceof LazyConnectionDataSourceProxy);
+        Mockito.clearInvocations(primary);
+
+        var connection = dataSource.getConnection();
+        Mockito.verify(primary, Mockito.never()).getConnection();
+
+        connection.createStatement();
+        Mockito.verify(primary).getConnection();
+    }
+
+    @Test
+    void routesReadOnlyTransactions() throws Exception {
+        causewayConfiguration.getPersistence().getCommons().getTransaction()
+            .setReadOnlyDataSource(Optional.of("replica"));
+
+        assertSame(replica, postProcessor.postProcessAfterInitialization(replica, "replica"));
+        var dataSource = (DataSource) postProcessor.postProcessAfterInitialization(primary, "dataSource");
+        Mockito.clearInvocations(primary, replica);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        dataSource.getConnection().createStatement();
+        Mockito.verify(replica).getConnection();
+        Mockito.verify(primary, Mockito.never()).getConnection();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        dataSource.getConnection().createStatement();
+        Mockito.verify(primary).getConnection();
+    }
+
+    // -- HELPER
+
+    @SneakyThrows
+    private static DataSource mockDataSource() {
+        var dataSource = Mockito.mock(DataSource.class);
+        Mockito.when(dataSource.getConnection()).thenAnswer(__->Mockito.mock(Connection.class));
+        return dataSource;
+    }
+
+}
@@ -44,6 +44,7 @@
 import org.apache.causeway.core.config.beans.aoppatch.TransactionInterceptorFactory;
 import org.apache.causeway.core.metamodel.context.MetaModelContext;
 import org.apache.causeway.core.metamodel.services.objectlifecycle.ObjectLifecyclePublisher;
+import org.apache.causeway.persistence.jdo.datanucleus.batchinsert.DataNucleusEntityBatchInserter;
 import org.apache.causeway.persistence.jdo.datanucleus.changetracking.JdoLifecycleListener;
 import org.apache.causeway.persistence.jdo.datanucleus.changetracking.PreAndPostValueEvaluatorServiceJdo;
 import org.apache.causeway.persistence.jdo.datanucleus.config.DatanucleusSettings;
@@ -114,6 +115,7 @@
     JdoSupportServiceDefault.class,
     JdoObjectNotFoundRecognizer.class,
     PreAndPostValueEvaluatorServiceJdo.class,
+    DataNucleusEntityBatchInserter.class,
 
 })
 @EnableConfigurationProperties(DatanucleusSettings.class)
@@ -0,0 +1,269 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jdo.datanucleus.batchinsert;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+
+import org.datanucleus.ExecutionContext;
+import org.datanucleus.api.jdo.JDOPersistenceManager;
+import org.datanucleus.metadata.AbstractClassMetaData;
+import org.datanucleus.metadata.AbstractMemberMetaData;
+import org.datanucleus.metadata.FieldPersistenceModifier;
+import org.datanucleus.metadata.IdentityType;
+import org.datanucleus.metadata.ValueGenerationStrategy;
+import org.datanucleus.metadata.VersionStrategy;
+import org.datanucleus.store.rdbms.RDBMSStoreManager;
+import org.datanucleus.store.rdbms.mapping.java.JavaTypeMapping;
+import org.datanucleus.store.rdbms.table.DatastoreClass;
+import org.datanucleus.store.schema.table.SurrogateColumnType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.runtime.batchinsert.EntityBatchInserter;
+import org.apache.causeway.persistence.jdo.datanucleus.CausewayModulePersistenceJdoDatanucleus;
+import org.apache.causeway.persistence.jdo.spring.integration.PersistenceManagerFactoryUtils;
+import org.apache.causeway.persistence.jdo.spring.integration.TransactionAwarePersistenceManagerFactoryProxy;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * {@link EntityBatchInserter} for JDO entities, that uses DataNucleus' RDBMS mappings to bind the column values,
+ * hence honoring any type converters and (numeric or timestamp) version columns.
+ *
+ * <p>
+ * Supports entities with either application identity, or with datastore identity generated by an identity column.
+ * Entities that are part of an inheritance hierarchy, use a discriminator, or have members with a value generation
+ * strategy are not supported.
+ * </p>
+ *
+ * @since 2.x {@index}
+ */
+@Service
+@Named(CausewayModulePersistenceJdoDatanucleus.NAMESPACE + ".DataNucleusEntityBatchInserter")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+public class DataNucleusEntityBatchInserter implements EntityBatchInserter {
+
+    /**
+     * Number of rows per JDBC batch.
+     */
+    static final int BATCH_SIZE = 500;
+
+    @Inject private Provider<TransactionAwarePersistenceManagerFactoryProxy> pmfProvider;
+
+    /**
+     * The mappings only depend on the (store manager wide) metadata, hence are built once per entity type.
+     */
+    private final Map<Class<?>, Optional<TableMapping>> tableMappingByType = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean isSupported(final @NonNull Class<?> entityClass) {
+        var tableMapping = tableMappingByType.get(entityClass); // avoids looking up the persistence manager
+        return tableMapping != null
+                ? tableMapping.isPresent()
+                : tableMappingFor(persistenceManager().getExecutionContext(), entityClass).isPresent();
+    }
+
+    @Override
+    public <E> void insertAll(final @NonNull Class<E> entityClass, final @NonNull List<E> entities) {
+        if(entities.isEmpty()) {
+            return;
+        }
+        var pm = persistenceManager();
+        var ec = pm.getExecutionContext();
+        var tableMapping = tableMappingFor(ec, entityClass)
+                .orElseThrow(()->_Exceptions.illegalArgument("batch insert not supported for %s", entityClass.getName()));
+        var sql = tableMapping.insertStatement();
+        var jdoConnection = pm.getDataStoreConnection();
+        try {
+            var connection = (Connection) jdoConnection.getNativeConnection(); // joins the current transaction
+            try(var ps = connection.prepareStatement(sql)) {
+                int batched = 0;
+                for(var entity : entities) {
+                    tableMapping.bind(ec, ps, entity);
+                    ps.addBatch();
+                    if(++batched % BATCH_SIZE == 0) {
+                        ps.executeBatch();
+                    }
+                }
+                ps.executeBatch();
+            }
+        } catch (SQLException e) {
+            throw _Exceptions.unrecoverable(e, "failed to batch insert %d entities of type %s using '%s'",
+                    entities.size(), entityClass.getName(), sql);
+        } finally {
+            jdoConnection.close(); // hands the connection back to DataNucleus
+        }
+    }
+
+    // -- HELPER
+
+    /**
+     * The (unproxied) persistence manager bound to the current transaction.
+     */
+    private JDOPersistenceManager persistenceManager() {
+        return (JDOPersistenceManager) PersistenceManagerFactoryUtils
+                .getPersistenceManager(pmfProvider.get().getTargetPersistenceManagerFactory(), false);
+    }
+
+    private Optional<TableMapping> tableMappingFor(final ExecutionContext ec, final Class<?> entityClass) {
+        return tableMappingByType.computeIfAbsent(entityClass, __->Optional.ofNullable(createTableMapping(ec, entityClass)));
+    }
+
+    private static @Nullable TableMapping createTableMapping(final ExecutionContext ec, final Class<?> entityClass) {
+        var clr = ec.getClassLoaderResolver();
+        var cmd = ec.getMetaDataManager().getMetaDataForClass(entityClass, clr);
+        if(cmd == null
+                || !(ec.getStoreManager() instanceof RDBMSStoreManager)
+                || cmd.getPersistableSuperclass() != null
+                || cmd.getIdentityType() == IdentityType.NONDURABLE
+                || (cmd.getIdentityType() == IdentityType.DATASTORE
+                        && cmd.getDatastoreIdentityMetaData() != null
+                        && cmd.getDatastoreIdentityMetaData().getValueStrategy() != ValueGenerationStrategy.IDENTITY)) {
+            return null;
+        }
+        var table = ((RDBMSStoreManager) ec.getStoreManager()).getDatastoreClass(entityClass.getName(), clr);
+        if(table == null
+                || table.getSuperDatastoreClass() != null
+                || table.getSurrogateMapping(SurrogateColumnType.DISCRIMINATOR, false) != null) {
+            return null;
+        }
+
+        var members = new ArrayList<MemberMapping>();
+        for(int position : cmd.getAllMemberPositions()) {
+            var mmd = cmd.getMetaDataForManagedMemberAtAbsolutePosition(position);
+            if(mmd.getPersistenceModifier() != FieldPersistenceModifier.PERSISTENT) {
+                continue;
+            }
+            if(mmd.getValueStrategy() != null) {
+                return null; // value generation not supported
+            }
+            var mapping = table.getMemberMapping(mmd);
+            if(mapping == null
+                    || mapping.getNumberOfColumnMappings() == 0) {
+                continue; // eg. collections, which are stored in other tables
+            }
+            members.add(new MemberMapping(mmd, mapping));
+        }
+
+        var versionMapping = table.getSurrogateMapping(SurrogateColumnType.VERSION, false);
+        return new TableMapping(table, cmd, members, versionMapping);
+    }
+
+    @RequiredArgsConstructor
+    private static final class MemberMapping {
+        final AbstractMemberMetaData mmd;
+        final JavaTypeMapping mapping;
+
+        @SneakyThrows
+        Object valueOf(final Object entity) {
+            Member member = mmd.getMemberRepresented();
+            if(member instanceof Field) {
+                var field = (Field) member;
+                field.setAccessible(true);
+                return field.get(entity);
+            }
+            var getter = (Method) member;
+            getter.setAccessible(true);
+            return getter.invoke(entity);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class TableMapping {
+        final DatastoreClass table;
+        final AbstractClassMetaData cmd;
+        final List<MemberMapping> members;
+        final @Nullable JavaTypeMapping versionMapping;
+
+        String insertStatement() {
+            var columnNames = new ArrayList<String>();
+            members.forEach(member->addColumnNames(columnNames, member.mapping));
+            if(versionMapping != null) {
+                addColumnNames(columnNames, versionMapping);
+            }
+            return String.format("INSERT INTO %s (%s) VALUES (%s)",
+                    table.toString(),
+                    String.join(", ", columnNames),
+                    columnNames.stream()
+                        .map(__->"?")
+                        .collect(Collectors.joining(", ")));
+        }
+
+        void bind(final ExecutionContext ec, final PreparedStatement ps, final Object entity) {
+            int nextParameterIndex = 1;
+            for(var member : members) {
+                nextParameterIndex = bind(ec, ps, nextParameterIndex, member.mapping, member.valueOf(entity));
+            }
+            if(versionMapping != null) {
+                bind(ec, ps, nextParameterIndex, versionMapping, initialVersion());
+            }
+        }
+
+        private Object initialVersion() {
+            return cmd.getVersionMetaDataForTable() != null
+                    && cmd.getVersionMetaDataForTable().getStrategy() == VersionStrategy.DATE_TIME
+                    ? new Timestamp(System.currentTimeMillis())
+                    : Long.valueOf(1L);
+        }
+
+        private static int bind(
+                final ExecutionContext ec,
+                final PreparedStatement ps,
+                final int firstParameterIndex,
+                final JavaTypeMapping mapping,
+                final Object value) {
+            var parameterIndexes = new int[mapping.getNumberOfColumnMappings()];
+            for(int i = 0; i < parameterIndexes.length; i++) {
+                parameterIndexes[i] = firstParameterIndex + i;
+            }
+            mapping.setObject(ec, ps, parameterIndexes, value);
+            return firstParameterIndex + parameterIndexes.length;
+        }
+
+        private static void addColumnNames(final List<String> columnNames, final JavaTypeMapping mapping) {
+            for(int i = 0; i < mapping.getNumberOfColumnMappings(); i++) {
+                columnNames.add(mapping.getColumnMapping(i).getColumn().getIdentifier().toString());
+            }
+        }
+    }
+
+}
@@ -17,6 +17,7 @@
  *  under the License.
  */
 module org.apache.causeway.persistence.jpa.eclipselink {
+    exports org.apache.causeway.persistence.jpa.eclipselink.batchinsert;
     exports org.apache.causeway.persistence.jpa.eclipselink.inject;
     exports org.apache.causeway.persistence.jpa.eclipselink;
     exports org.apache.causeway.persistence.jpa.eclipselink.config;
@@ -31,6 +32,8 @@
     requires org.apache.causeway.applib;
     requires org.apache.causeway.commons;
     requires org.apache.causeway.core.config;
+    requires org.apache.causeway.core.runtime;
+    requires org.apache.causeway.persistence.jpa.applib;
     requires org.apache.causeway.persistence.jpa.integration;
     requires org.apache.logging.log4j;
     requires org.eclipse.persistence.core;
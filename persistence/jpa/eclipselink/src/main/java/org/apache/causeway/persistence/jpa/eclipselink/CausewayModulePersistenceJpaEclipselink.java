@@ -43,6 +43,7 @@
 import org.apache.causeway.commons.internal.base._NullSafe;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.persistence.jpa.eclipselink.batchinsert.EclipseLinkEntityBatchInserter;
 import org.apache.causeway.persistence.jpa.eclipselink.config.ElSettings;
 import org.apache.causeway.persistence.jpa.integration.CausewayModulePersistenceJpaIntegration;
 
@@ -61,12 +62,17 @@
  */
 @Configuration
 @Import({
-    CausewayModulePersistenceJpaIntegration.class
+    CausewayModulePersistenceJpaIntegration.class,
+
+    // @Service's
+    EclipseLinkEntityBatchInserter.class,
 })
 @EnableConfigurationProperties(ElSettings.class)
 @Log4j2
 public class CausewayModulePersistenceJpaEclipselink extends JpaBaseConfiguration {
 
+    public static final String NAMESPACE = "causeway.persistence.jpa";
+
     @Inject private ElSettings elSettings;
 
     protected CausewayModulePersistenceJpaEclipselink(
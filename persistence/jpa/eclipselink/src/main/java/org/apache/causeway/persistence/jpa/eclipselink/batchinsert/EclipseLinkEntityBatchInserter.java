@@ -0,0 +1,230 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.jpa.eclipselink.batchinsert;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.TimestampLockingPolicy;
+import org.eclipse.persistence.descriptors.VersionLockingPolicy;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.mappings.DatabaseMapping.WriteType;
+import org.eclipse.persistence.mappings.foundation.AbstractDirectMapping;
+import org.eclipse.persistence.sessions.CopyGroup;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.runtime.batchinsert.EntityBatchInserter;
+import org.apache.causeway.persistence.jpa.applib.services.JpaSupportService;
+import org.apache.causeway.persistence.jpa.eclipselink.CausewayModulePersistenceJpaEclipselink;
+
+import lombok.NonNull;
+
+/**
+ * {@link EntityBatchInserter} for JPA entities, that uses EclipseLink's mapping metadata to build the rows,
+ * hence honoring any JPA attribute converters, sequencing and optimistic locking (version) columns.
+ * The inserted entities are registered with the current unit of work and, once committed, put into EclipseLink's
+ * shared cache, same as entities persisted through the ORM.
+ *
+ * <p>
+ * Only supports entities mapped to a single table and not taking part in an inheritance hierarchy.
+ * </p>
+ *
+ * @since 2.x {@index}
+ */
+@Service
+@Named(CausewayModulePersistenceJpaEclipselink.NAMESPACE + ".EclipseLinkEntityBatchInserter")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+public class EclipseLinkEntityBatchInserter implements EntityBatchInserter {
+
+    /**
+     * Number of rows per JDBC batch.
+     */
+    static final int BATCH_SIZE = 500;
+
+    @Inject private Provider<JpaSupportService> jpaSupportServiceProvider;
+
+    @Override
+    public boolean isSupported(final @NonNull Class<?> entityClass) {
+        return jpaSupportServiceProvider.get().getEntityManager(entityClass)
+                .getValue()
+                .map(em->em.unwrap(UnitOfWork.class).getDescriptor(entityClass))
+                .filter(EclipseLinkEntityBatchInserter::isSupported)
+                .isPresent();
+    }
+
+    @Override
+    public <E> void insertAll(final @NonNull Class<E> entityClass, final @NonNull List<E> entities) {
+        if(entities.isEmpty()) {
+            return;
+        }
+        var entityManager = jpaSupportServiceProvider.get().getEntityManagerElseFail(entityClass);
+        var session = (AbstractSession) entityManager.unwrap(UnitOfWork.class);
+        var descriptor = session.getDescriptor(entityClass);
+        var platform = (DatabasePlatform) session.getDatasourcePlatform();
+        var connection = entityManager.unwrap(Connection.class); // joins the current transaction
+        if(connection == null) {
+            throw _Exceptions.illegalState("no transactional JDBC connection available for %s", entityClass.getName());
+        }
+
+        var versionField = descriptor.getOptimisticLockingPolicy() instanceof VersionLockingPolicy
+                ? ((VersionLockingPolicy) descriptor.getOptimisticLockingPolicy()).getWriteLockField()
+                : null;
+        var versionMapping = versionField != null
+                ? descriptor.getObjectBuilder().getMappingForField(versionField)
+                : null;
+
+        AbstractRecord firstRow = null;
+        String sql = null;
+        try {
+            java.sql.PreparedStatement ps = null;
+            try {
+                int batched = 0;
+                for(var entity : entities) {
+                    if(descriptor.usesSequenceNumbers()) {
+                        descriptor.getObjectBuilder().assignSequenceNumber(entity, session);
+                    }
+                    var row = descriptor.getObjectBuilder().buildRow(entity, session, WriteType.INSERT);
+                    if(versionField != null) {
+                        var version = initialVersion(descriptor);
+                        row.put(versionField, version);
+                        if(versionMapping instanceof AbstractDirectMapping) {
+                            // same as the ORM would, so the entity matches its row
+                            versionMapping.setAttributeValueInObject(entity,
+                                    ((AbstractDirectMapping) versionMapping).getObjectValue(version, session));
+                        }
+                    }
+                    if(firstRow == null) {
+                        firstRow = row;
+                        sql = insertStatement(descriptor, row.getFields(), platform);
+                        ps = connection.prepareStatement(sql);
+                    }
+                    int index = 1;
+                    for(var field : firstRow.getFields()) {
+                        platform.setParameterValueInDatabaseCall(row.get(field), ps, index++, session);
+                    }
+                    ps.addBatch();
+                    if(++batched % BATCH_SIZE == 0) {
+                        ps.executeBatch();
+                    }
+                }
+                ps.executeBatch();
+            } finally {
+                if(ps != null) {
+                    ps.close();
+                }
+            }
+        } catch (SQLException e) {
+            throw _Exceptions.unrecoverable(e, "failed to batch insert %d entities of type %s using '%s'",
+                    entities.size(), entityClass.getName(), sql);
+        }
+        for(var entity : entities) {
+            registerExisting((UnitOfWorkImpl) session, descriptor, entity);
+        }
+    }
+
+    /**
+     * Puts (copies of) given entities into EclipseLink's shared cache, same as EclipseLink does for entities
+     * persisted through the ORM on commit, so these are served from the cache rather than re-read.
+     */
+    @Override
+    public <E> void afterCommit(final @NonNull Class<E> entityClass, final @NonNull List<E> entities) {
+        if(entities.isEmpty()) {
+            return;
+        }
+        var session = jpaSupportServiceProvider.get().getEntityManagerElseFail(entityClass)
+                .unwrap(UnitOfWork.class)
+                .getParent();
+        if(!session.getDescriptor(entityClass).getCachePolicy().isSharedIsolation()) {
+            return;
+        }
+        var copyGroup = new CopyGroup();
+        copyGroup.setShouldResetPrimaryKey(false);
+        copyGroup.setShouldResetVersion(false);
+        var identityMapAccessor = session.getIdentityMapAccessor();
+        for(var entity : entities) {
+            identityMapAccessor.putInIdentityMap(session.copy(entity, copyGroup));
+        }
+    }
+
+    // -- HELPER
+
+    private static boolean isSupported(final ClassDescriptor descriptor) {
+        return descriptor != null
+                && descriptor.getTables().size() == 1
+                && !descriptor.hasInheritance()
+                && !descriptor.isAggregateDescriptor();
+    }
+
+    /**
+     * Registers the (now inserted) entity with the unit of work as its own working copy, as if read from the
+     * database, so that any subsequent query or lookup within the transaction returns this very instance.
+     */
+    private static void registerExisting(
+            final UnitOfWorkImpl unitOfWork,
+            final ClassDescriptor descriptor,
+            final Object entity) {
+        var objectBuilder = descriptor.getObjectBuilder();
+        var primaryKey = objectBuilder.extractPrimaryKeyFromObject(entity, unitOfWork);
+        var writeLockValue = descriptor.getOptimisticLockingPolicy() != null
+                ? descriptor.getOptimisticLockingPolicy().getWriteLockValue(entity, primaryKey, unitOfWork)
+                : null;
+        unitOfWork.getIdentityMapAccessorInstance()
+            .putInIdentityMap(entity, primaryKey, writeLockValue, System.currentTimeMillis(), descriptor);
+        unitOfWork.getCloneMapping().put(entity, objectBuilder.buildBackupClone(entity, unitOfWork));
+    }
+
+    private static Object initialVersion(final ClassDescriptor descriptor) {
+        return descriptor.getOptimisticLockingPolicy() instanceof TimestampLockingPolicy
+                ? new Timestamp(System.currentTimeMillis())
+                : Long.valueOf(1L);
+    }
+
+    private static String insertStatement(
+            final ClassDescriptor descriptor,
+            final List<DatabaseField> fields,
+            final DatabasePlatform platform) {
+        return String.format("INSERT INTO %s (%s) VALUES (%s)",
+                descriptor.getDefaultTable().getQualifiedNameDelimited(platform),
+                fields.stream()
+                    .map(field->field.getNameDelimited(platform))
+                    .collect(Collectors.joining(", ")),
+                fields.stream()
+                    .map(__->"?")
+                    .collect(Collectors.joining(", ")));
+    }
+
+}
@@ -21,6 +21,7 @@
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 import javax.annotation.Priority;
 import javax.inject.Inject;
@@ -75,6 +76,9 @@ protected Map<String, Object> createMap() {
         //jpaProps.put(PersistenceUnitProperties.LOGGING_LEVEL, SessionLog.FINER_LABEL); //debug logging
         jpaProps.put(PersistenceUnitProperties.DDL_GENERATION, PersistenceUnitProperties.CREATE_OR_EXTEND);
         jpaProps.put(PersistenceUnitProperties.CDI_BEANMANAGER, new BeanManagerForEntityListeners(serviceInjectorProvider));
+        // EclipseLink shares the session (along with its entity listeners) among factories of the same session name,
+        // hence a session per application context, so that listeners are injected with this context's services
+        jpaProps.put(PersistenceUnitProperties.SESSION_NAME, "causeway-" + UUID.randomUUID());
 
         // potentially overrides defaults from above
         getEclipselink().forEach((k, v)->jpaProps.put("eclipselink." + k, v));
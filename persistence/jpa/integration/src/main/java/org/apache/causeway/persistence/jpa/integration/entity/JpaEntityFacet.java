@@ -19,6 +19,8 @@
 package org.apache.causeway.persistence.jpa.integration.entity;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.inject.Inject;
@@ -114,6 +116,45 @@ public Optional<Object> fetchByBookmark(final @NonNull Bookmark bookmark) {
         return Optional.ofNullable(entityPojo);
     }
 
+    /**
+     * Fetches in chunks of {@value #FETCH_BY_BOOKMARKS_CHUNK_SIZE}, using an <code>IN</code> query
+     * on the entity's id attribute; falls back to fetching one by one, if the entity has no single id attribute.
+     */
+    @Override
+    public Map<Bookmark, Object> fetchByBookmarks(final @NonNull Can<Bookmark> bookmarks) {
+
+        var entityManager = getEntityManager();
+        var entityType = entityManager.getMetamodel().entity(entityClass);
+        if(!entityType.hasSingleIdAttribute()) {
+            return EntityFacet.super.fetchByBookmarks(bookmarks);
+        }
+        var idAttributeName = entityType.getId(entityType.getIdType().getJavaType()).getName();
+
+        log.debug("fetchEntities; count={}", bookmarks.size());
+
+        // requested bookmarks might differ in logical type from the fetched entities' ones (subtypes)
+        var bookmarkByIdentifier = new HashMap<String, Bookmark>(bookmarks.size());
+        bookmarks.forEach(bookmark->bookmarkByIdentifier.put(bookmark.getIdentifier(), bookmark));
+
+        var pojoByBookmark = new HashMap<Bookmark, Object>(bookmarks.size());
+        for(var chunk : bookmarks.partitionInnerBound(FETCH_BY_BOOKMARKS_CHUNK_SIZE)) {
+            var primaryKeys = chunk.map(bookmark->(Object)primaryKeyType.destring(bookmark.getIdentifier()))
+                    .toList();
+            var cb = entityManager.getCriteriaBuilder();
+            var cr = cb.createQuery(entityClass);
+            var root = cr.from(entityClass);
+            cr.select(_Casts.uncheckedCast(root))
+              .where(root.get(idAttributeName).in(primaryKeys));
+            entityManager.createQuery(cr).getResultList()
+                .forEach(pojo->identifierFor(pojo)
+                        .map(bookmarkByIdentifier::get)
+                        .ifPresent(bookmark->pojoByBookmark.put(bookmark, pojo)));
+        }
+        return pojoByBookmark;
+    }
+
+    private static final int FETCH_BY_BOOKMARKS_CHUNK_SIZE = 500;
+
     private Class<?> getPrimaryKeyType() {
         return getOrmMetadata().primaryKeyClass();
     }
@@ -100,4 +100,14 @@ public interface QueryDslSupport extends QueryFactory<DslQuery<?>> {
     <T> DslQuery<T> from(EntityPath<T> from);
     <T> DslQuery<T> from(EntityPath<T>... from);
 
+    /**
+     * Evicts all entities from the current persistence context, such that these can be garbage collected,
+     * for example while iterating over a large result set.
+     * <p>
+     * Should only be called if there are no pending changes, as these might otherwise get lost.
+     * The default implementation does nothing.
+     */
+    default void evictAll() {
+    }
+
 }
@@ -19,13 +19,21 @@
 module org.apache.causeway.persistence.querydsl.integration {
     exports org.apache.causeway.persistence.querydsl.integration;
 
+    requires org.apache.causeway.applib;
+    requires org.apache.causeway.commons;
+    requires org.apache.causeway.core.config;
     requires org.apache.causeway.core.metamodel;
     requires org.apache.causeway.persistence.querydsl.applib;
     requires org.apache.causeway.persistence.querydsl.metamodel;
 
     requires com.querydsl.core;
+    requires java.annotation;
     requires java.inject;
+    requires org.apache.logging.log4j;
+    requires spring.beans;
     requires spring.context;
+    requires spring.core;
+    requires spring.tx;
 
     requires static lombok;
 
@@ -20,6 +20,7 @@
 
 import org.apache.causeway.persistence.querydsl.applib.CausewayModulePersistenceQueryDslApplib;
 
+import org.apache.causeway.persistence.querydsl.integration.services.AutoCompleteIndexService;
 import org.apache.causeway.persistence.querydsl.metamodel.CausewayModulePersistenceQueryDslMetamodel;
 
 import org.springframework.context.annotation.Configuration;
@@ -32,6 +33,9 @@
 @Import({
         CausewayModulePersistenceQueryDslApplib.class,
         CausewayModulePersistenceQueryDslMetamodel.class,
+
+        // @Service's
+        AutoCompleteIndexService.class,
 })
 public class CausewayModulePersistenceQueryDslIntegration {
 }
@@ -0,0 +1,310 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.querydsl.integration.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.events.metamodel.MetamodelEvent;
+import org.apache.causeway.applib.services.bookmark.BookmarkService;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChange;
+import org.apache.causeway.applib.services.publishing.spi.EntityPropertyChangeSubscriber;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.causeway.core.metamodel.facets.object.autocomplete.AutoCompleteFacet;
+import org.apache.causeway.core.metamodel.facets.object.publish.entitychange.EntityChangePublishingFacet;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.object.MmUnwrapUtils;
+import org.apache.causeway.core.metamodel.services.objectlifecycle.PropertyValuePlaceholder;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.metamodel.spec.feature.MixedIn;
+import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
+import org.apache.causeway.persistence.querydsl.applib.services.support.QueryDslSupport;
+import org.apache.causeway.persistence.querydsl.metamodel.facets.AutoCompleteGeneratedDslQuery.SearchableProperty;
+import org.apache.causeway.persistence.querydsl.metamodel.facets.AutoCompleteUsingQueryDslFacet;
+import org.apache.causeway.persistence.querydsl.metamodel.index.AutoCompleteIndexProvider;
+import org.apache.causeway.persistence.querydsl.metamodel.index.TrigramIndex;
+
+import com.querydsl.core.types.dsl.PathBuilder;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Builds and maintains the {@link TrigramIndex}es, that serve the <i>QueryDSL</i> generated autocomplete
+ * in memory, if enabled via <code>causeway.persistence.querydsl.auto-complete-index.enabled</code>
+ * and <code>causeway.persistence.querydsl.auto-complete-index.single-node</code>.
+ *
+ * <p>
+ * Indexes are built on a background thread once the metamodel is fully introspected, using a streaming scan
+ * of each indexed entity type; until built, the autocomplete is served by the database.
+ * Indexes are kept current with the published {@link EntityPropertyChange}s, applied after the originating
+ * transaction has committed; changes published while an index is still being built are replayed once
+ * the scan completes.
+ * </p>
+ *
+ * <p>
+ * Indexes are node-local: changes made by other nodes or outside the framework are never seen, hence
+ * the explicit single-node setting.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+@Service
+@Named("causeway.persistence.querydsl.AutoCompleteIndexService")
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+@RequiredArgsConstructor(onConstructor_ = {@Inject})
+@Log4j2
+public class AutoCompleteIndexService
+implements AutoCompleteIndexProvider, EntityPropertyChangeSubscriber, DisposableBean {
+
+    private final CausewayConfiguration causewayConfiguration;
+    private final SpecificationLoader specificationLoader;
+    private final InteractionService interactionService;
+    private final TransactionService transactionService;
+    private final BookmarkService bookmarkService;
+    private final Provider<QueryDslSupport> queryDslSupportProvider;
+
+    /**
+     * Number of entities scanned, after which the persistence context is cleared, while building an index.
+     */
+    static final int EVICT_BATCH_SIZE = 1000;
+
+    private final Map<Class<?>, Indexed> indexedByEntityType = new ConcurrentHashMap<>();
+    private final Map<String, Indexed> indexedByLogicalTypeName = new ConcurrentHashMap<>();
+
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(runnable->{
+        var thread = new Thread(runnable, "causeway-autocomplete-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Override
+    public boolean isEnabled() {
+        var config = causewayConfiguration.getPersistence().getQuerydsl().getAutoCompleteIndex();
+        return config.isEnabled()
+                && config.isSingleNode();
+    }
+
+    // -- INDEX PROVIDER
+
+    @Override
+    public Optional<TrigramIndex> lookupIndex(final Class<?> entityType) {
+        return Optional.ofNullable(indexedByEntityType.get(entityType))
+                .filter(Indexed::isBuilt)
+                .map(Indexed::getIndex);
+    }
+
+    // -- BUILDING
+
+    @EventListener(MetamodelEvent.class)
+    @Order(PriorityPrecedence.LATE)
+    public void onMetamodelEvent(final MetamodelEvent event) {
+        if (!event.isPostMetamodel()) {
+            return;
+        }
+        if (!isEnabled()) {
+            if(causewayConfiguration.getPersistence().getQuerydsl().getAutoCompleteIndex().isEnabled()) {
+                log.warn("not building autocomplete indexes, as these are node-local: "
+                        + "requires causeway.persistence.querydsl.auto-complete-index.single-node=true");
+            }
+            return;
+        }
+        var logicalTypeNames = causewayConfiguration.getPersistence().getQuerydsl().getAutoCompleteIndex()
+                .getLogicalTypeNames();
+
+        specificationLoader.snapshotSpecifications().stream()
+            .filter(ObjectSpecification::isEntity)
+            .filter(spec->logicalTypeNames.isEmpty()
+                    || logicalTypeNames.contains(spec.getLogicalTypeName()))
+            .forEach(spec->{
+                var facet = spec.getFacet(AutoCompleteFacet.class);
+                if(!(facet instanceof AutoCompleteUsingQueryDslFacet)
+                        || ((AutoCompleteUsingQueryDslFacet)facet).getSearchableProperties().isEmpty()) {
+                    return;
+                }
+                if(!EntityChangePublishingFacet.isPublishingEnabled(spec)) {
+                    log.info("not indexing {} for autocomplete, as entity change publishing is not enabled",
+                            spec.getLogicalTypeName());
+                    return;
+                }
+                var indexed = new Indexed(spec,
+                        ((AutoCompleteUsingQueryDslFacet)facet).getSearchableProperties());
+                indexedByEntityType.put(spec.getCorrespondingClass(), indexed);
+                indexedByLogicalTypeName.put(spec.getLogicalTypeName(), indexed);
+                indexer.execute(()->build(indexed));
+            });
+    }
+
+    private void build(final Indexed indexed) {
+        var spec = indexed.getSpec();
+        try {
+            interactionService.runAnonymous(()->
+                transactionService.runWithinCurrentTransactionElseCreateNew(()->{
+                    var queryDslSupport = queryDslSupportProvider.get();
+                    var entityPath = new PathBuilder<>(spec.getCorrespondingClass(), "e");
+                    try(var iterator = queryDslSupport.selectFrom(entityPath).iterate()) {
+                        int scanned = 0;
+                        while(iterator.hasNext()) {
+                            var pojo = iterator.next();
+                            bookmarkService.bookmarkFor(pojo)
+                                .ifPresent(bookmark->indexed.getIndex().put(bookmark, valuesOf(indexed, pojo)));
+                            if(++scanned % EVICT_BATCH_SIZE == 0) {
+                                queryDslSupport.evictAll(); // the scan is read-only, don't retain the entities
+                            }
+                        }
+                    }
+                })
+                .ifFailureFail());
+        } catch (Exception e) {
+            log.warn("failed to build autocomplete index for {}, falling back to database queries",
+                    spec.getLogicalTypeName(), e);
+            indexedByEntityType.remove(spec.getCorrespondingClass());
+            indexedByLogicalTypeName.remove(spec.getLogicalTypeName());
+            return;
+        }
+        indexed.markBuilt();
+        log.info("built autocomplete index for {} ({} entries)",
+                spec.getLogicalTypeName(), indexed.getIndex().size());
+    }
+
+    private Map<String, String> valuesOf(final Indexed indexed, final Object pojo) {
+        var spec = indexed.getSpec();
+        var adapted = ManagedObject.adaptSingular(spec, pojo);
+        var values = new HashMap<String, String>();
+        indexed.getSearchableProperties().forEach(searchableProperty->
+            spec.getProperty(searchableProperty.getPropertyId(), MixedIn.EXCLUDED)
+                .map(property->property.get(adapted, InteractionInitiatedBy.PASS_THROUGH))
+                .map(MmUnwrapUtils::single)
+                .ifPresent(value->values.put(searchableProperty.getPropertyId(), value.toString())));
+        return values;
+    }
+
+    // -- MAINTENANCE
+
+    @Override
+    public void onChanging(final EntityPropertyChange entityPropertyChange) {
+        onChanging(Can.ofSingleton(entityPropertyChange));
+    }
+
+    @Override
+    public void onChanging(final Can<EntityPropertyChange> entityPropertyChanges) {
+        if(indexedByLogicalTypeName.isEmpty()) {
+            return;
+        }
+        var relevant = entityPropertyChanges
+                .filter(change->indexedByLogicalTypeName.containsKey(change.getTarget().getLogicalTypeName()));
+        if(relevant.isEmpty()) {
+            return;
+        }
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            // only once committed, changes are visible to other interactions
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    relevant.forEach(AutoCompleteIndexService.this::apply);
+                }
+            });
+        } else {
+            relevant.forEach(this::apply);
+        }
+    }
+
+    private void apply(final EntityPropertyChange change) {
+        var indexed = indexedByLogicalTypeName.get(change.getTarget().getLogicalTypeName());
+        if(indexed==null) {
+            return;
+        }
+        indexed.applyOrDefer(index->{
+            if(PropertyValuePlaceholder.DELETED.toString().equals(change.getPostValue())) {
+                index.remove(change.getTarget());
+            } else if(PropertyValuePlaceholder.UNKNOWN.toString().equals(change.getPostValue())) {
+                return; // the value could not be determined, the placeholder itself is not searchable
+            } else if(index.isSearchable(change.getPropertyId())) {
+                index.update(change.getTarget(), change.getPropertyId(), change.getPostValue());
+            }
+        });
+    }
+
+    // -- SHUTDOWN
+
+    @Override
+    public void destroy() {
+        indexer.shutdownNow();
+    }
+
+    // -- HELPER
+
+    private static final class Indexed {
+
+        @Getter private final ObjectSpecification spec;
+        @Getter private final List<SearchableProperty> searchableProperties;
+        @Getter private final TrigramIndex index;
+        @Getter private volatile boolean built;
+
+        private final List<Consumer<TrigramIndex>> pending = new ArrayList<>();
+
+        Indexed(final ObjectSpecification spec, final List<SearchableProperty> searchableProperties) {
+            this.spec = spec;
+            this.searchableProperties = searchableProperties;
+            this.index = new TrigramIndex(searchableProperties);
+        }
+
+        synchronized void applyOrDefer(final Consumer<TrigramIndex> change) {
+            if(built) {
+                change.accept(index);
+            } else {
+                pending.add(change);
+            }
+        }
+
+        synchronized void markBuilt() {
+            pending.forEach(change->change.accept(index));
+            pending.clear();
+            built = true;
+        }
+    }
+
+}
@@ -119,4 +119,9 @@ public DslQuery<?> query() {
         return DslQueryJdo.of(getQueryFactory().query());
     }
 
+    @Override
+    public void evictAll() {
+        jdoSupportService.getPersistenceManager().evictAll();
+    }
+
 }
@@ -103,4 +103,9 @@ public <T> DslQuery<T> from(EntityPath<T>... from) {
     public DslQuery<?> query() {
         return DslQueryJpa.of(getQueryFactory().query());
     }
+
+    @Override
+    public void evictAll() {
+        entityManager.clear();
+    }
 }
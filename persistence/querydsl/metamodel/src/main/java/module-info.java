@@ -19,6 +19,7 @@
 module org.apache.causeway.persistence.querydsl.metamodel {
     exports org.apache.causeway.persistence.querydsl.metamodel;
     exports org.apache.causeway.persistence.querydsl.metamodel.facets;
+    exports org.apache.causeway.persistence.querydsl.metamodel.index;
 
     requires com.querydsl.core;
     requires static lombok;
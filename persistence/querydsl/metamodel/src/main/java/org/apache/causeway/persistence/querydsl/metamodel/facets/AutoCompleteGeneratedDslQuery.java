@@ -66,7 +66,7 @@ public class AutoCompleteGeneratedDslQuery {
     @NonNull final protected Class<?> entity;
 
     @lombok.Value
-    static class SearchableProperty {
+    public static class SearchableProperty {
         @Getter
         String propertyId;
         Property.QueryDslAutoCompletePolicy queryDslAutoCompletePolicy;
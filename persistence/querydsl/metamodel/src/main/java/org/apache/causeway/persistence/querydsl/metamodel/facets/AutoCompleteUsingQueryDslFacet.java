@@ -31,6 +31,7 @@
 import org.apache.causeway.applib.annotation.DomainObject;
 import org.apache.causeway.applib.annotation.Property;
 import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.commons.internal.base._Casts;
 import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
 import org.apache.causeway.core.metamodel.facetapi.FacetAbstract;
 import org.apache.causeway.core.metamodel.facetapi.FacetHolder;
@@ -39,6 +40,8 @@
 import org.apache.causeway.core.metamodel.object.MmVisibilityUtils;
 import org.apache.causeway.core.metamodel.object.PackedManagedObject;
 import org.apache.causeway.persistence.querydsl.applib.services.support.QueryDslSupport;
+import org.apache.causeway.persistence.querydsl.metamodel.index.AutoCompleteIndexProvider;
+import org.apache.causeway.persistence.querydsl.metamodel.index.TrigramIndex;
 
 import org.springframework.lang.Nullable;
 
@@ -120,11 +123,46 @@ public <T> List<T> autoComplete(
             final String search,
             final Function<PathBuilder<T>, Predicate> additionalExpression
     ){
+        if(autoCompleteGeneratedDslQueryIfAny.isPresent()) {
+            var fromIndex = this.<T>autoCompleteUsingIndex(search, additionalExpression);
+            if(fromIndex.isPresent()) {
+                return fromIndex.get();
+            }
+        }
         return autoCompleteGeneratedDslQueryIfAny
                 .map(query -> query.autoComplete(search, additionalExpression))
                 .orElse(Collections.emptyList());
     }
 
+    /**
+     * Consults the {@link TrigramIndex} for this entity type (if any and built), unless additional predicates
+     * are in effect, which only the database query can honor.
+     */
+    private <T> Optional<List<T>> autoCompleteUsingIndex(
+            final String search,
+            final Function<PathBuilder<T>, Predicate> additionalExpression
+    ){
+        if(additionalExpression!=null
+                || autoCompletePredicateMethodIfAny.isPresent()
+                || search==null
+                || search.trim().length() < getMinLength()) {
+            return Optional.empty();
+        }
+        return lookupService(AutoCompleteIndexProvider.class)
+                .flatMap(provider->provider.lookupIndex(entity))
+                .flatMap(index->index.search(search, getLimitResults()))
+                .map(bookmarks->{
+                    var objectManager = getObjectManager();
+                    objectManager.prefetch(bookmarks); // load in bulk, rather than one by one
+                    return bookmarks.stream()
+                        .map(objectManager::loadObject)
+                        .flatMap(Optional::stream)
+                        .map(ManagedObject::getPojo)
+                        .map(pojo->_Casts.<T>uncheckedCast(pojo))
+                        .collect(Collectors.toList());
+                });
+    }
+
     public <T> List<T> executeQuery(
             final String search
     ) {
@@ -161,6 +199,10 @@ public void visitAttributes(final BiConsumer<String, Object> visitor) {
         visitor.accept("limitResults", getLimitResults());
     }
 
+    public List<AutoCompleteGeneratedDslQuery.SearchableProperty> getSearchableProperties() {
+        return Collections.unmodifiableList(searchableProperties);
+    }
+
     public void addSearchableProperty(
             final String propertyId,
             final Property.QueryDslAutoCompletePolicy queryDslAutoCompletePolicy
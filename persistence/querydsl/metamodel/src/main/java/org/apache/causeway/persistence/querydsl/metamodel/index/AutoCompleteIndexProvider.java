@@ -0,0 +1,36 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.querydsl.metamodel.index;
+
+import java.util.Optional;
+
+/**
+ * SPI to provide {@link TrigramIndex}es for entity types, consulted by the generated <i>QueryDSL</i>
+ * autocomplete before falling back to the database query.
+ *
+ * @since 2.0 {@index}
+ */
+public interface AutoCompleteIndexProvider {
+
+    /**
+     * Returns the index for given entity type, if any and if already fully built.
+     */
+    Optional<TrigramIndex> lookupIndex(Class<?> entityType);
+
+}
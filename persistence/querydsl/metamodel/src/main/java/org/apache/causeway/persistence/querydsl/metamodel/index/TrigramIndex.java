@@ -0,0 +1,263 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.querydsl.metamodel.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.persistence.querydsl.metamodel.facets.AutoCompleteGeneratedDslQuery.SearchableProperty;
+
+import lombok.NonNull;
+
+/**
+ * In-memory inverted index, that maps each trigram (3 consecutive characters, lower-cased) of the
+ * searchable property values of an entity type to the {@link Bookmark}s of those entities,
+ * whose values contain that trigram.
+ *
+ * <p>
+ * Mirrors the semantics of the generated <i>QueryDSL</i> autocomplete query, that is a
+ * <code>LIKE '%search%'</code> on any of the searchable properties (honoring their case sensitivity),
+ * ordered by those properties (ascending) and limited.
+ * Candidates are found by intersecting the posting lists of the search phrase's trigrams, then verified
+ * against the actual values.
+ * </p>
+ *
+ * <p>
+ * Search phrases shorter than a trigram or containing wildcards are not answered by the index,
+ * instead {@link #search(String, int)} returns {@link Optional#empty()}, signaling the caller to
+ * fall back to the database query.
+ * </p>
+ *
+ * @since 2.0 {@index}
+ */
+public final class TrigramIndex {
+
+    private static final int GRAM = 3;
+
+    private final List<SearchableProperty> searchableProperties;
+    private final Map<String, Integer> propertyIndexById = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Bookmark, String[]> valuesByBookmark = new HashMap<>();
+    private final Map<String, Set<Bookmark>> postings = new HashMap<>();
+
+    public TrigramIndex(final @NonNull List<SearchableProperty> searchableProperties) {
+        this.searchableProperties = List.copyOf(searchableProperties);
+        for (int i = 0; i < this.searchableProperties.size(); i++) {
+            propertyIndexById.put(this.searchableProperties.get(i).getPropertyId(), i);
+        }
+    }
+
+    public boolean isSearchable(final @Nullable String propertyId) {
+        return propertyIndexById.containsKey(propertyId);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return valuesByBookmark.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces the entry for given {@link Bookmark}, using the searchable property values
+     * (keyed by property id) from given map; properties not contained in the map are considered <code>null</code>.
+     */
+    public void put(final @NonNull Bookmark bookmark, final @NonNull Map<String, String> valuesByPropertyId) {
+        var values = new String[searchableProperties.size()];
+        valuesByPropertyId.forEach((propertyId, value)->{
+            var index = propertyIndexById.get(propertyId);
+            if(index!=null) {
+                values[index] = value;
+            }
+        });
+        lock.writeLock().lock();
+        try {
+            unindex(bookmark, valuesByBookmark.put(bookmark, values));
+            index(bookmark, values);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Updates a single searchable property value of the entry for given {@link Bookmark},
+     * creating the entry if not already present. Ignores properties that are not searchable.
+     */
+    public void update(final @NonNull Bookmark bookmark, final @NonNull String propertyId, final @Nullable String value) {
+        var index = propertyIndexById.get(propertyId);
+        if(index==null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            var oldValues = valuesByBookmark.get(bookmark);
+            var newValues = oldValues!=null
+                    ? oldValues.clone()
+                    : new String[searchableProperties.size()];
+            newValues[index] = value;
+            unindex(bookmark, oldValues);
+            valuesByBookmark.put(bookmark, newValues);
+            index(bookmark, newValues);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final @NonNull Bookmark bookmark) {
+        lock.writeLock().lock();
+        try {
+            unindex(bookmark, valuesByBookmark.remove(bookmark));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the {@link Bookmark}s of the entities, where any of the searchable properties contains given
+     * search phrase, ordered by the searchable properties' values and limited to given {@code limit};
+     * or {@link Optional#empty()} if the search phrase cannot be answered by this index.
+     */
+    public Optional<List<Bookmark>> search(final @Nullable String searchPhrase, final int limit) {
+        if(!isAnswerable(searchPhrase)) {
+            return Optional.empty();
+        }
+        var grams = trigramsOf(searchPhrase.toLowerCase(Locale.ROOT));
+        var searchLower = searchPhrase.toLowerCase(Locale.ROOT);
+
+        lock.readLock().lock();
+        try {
+            var postingLists = new ArrayList<Set<Bookmark>>(grams.size());
+            for(var gram : grams) {
+                var posting = postings.get(gram);
+                if(posting==null) {
+                    return Optional.of(List.of());
+                }
+                postingLists.add(posting);
+            }
+            // intersect, starting with the smallest posting list
+            postingLists.sort(Comparator.comparingInt(Set::size));
+            var smallest = postingLists.get(0);
+            var others = postingLists.subList(1, postingLists.size());
+
+            var matches = new ArrayList<Map.Entry<Bookmark, String[]>>();
+            for(var bookmark : smallest) {
+                if(others.stream().allMatch(posting->posting.contains(bookmark))) {
+                    var values = valuesByBookmark.get(bookmark);
+                    if(matches(values, searchPhrase, searchLower)) {
+                        matches.add(Map.entry(bookmark, values));
+                    }
+                }
+            }
+            return Optional.of(matches.stream()
+                    .sorted(Map.Entry.comparingByValue(TrigramIndex::compareValues))
+                    .limit(Math.max(0, limit))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // -- HELPER
+
+    private static boolean isAnswerable(final @Nullable String searchPhrase) {
+        return searchPhrase!=null
+                && searchPhrase.length() >= GRAM
+                // wildcards and regex patterns are left to the database
+                && searchPhrase.chars().noneMatch(c->c=='*' || c=='?' || c=='%' || c=='_')
+                && !searchPhrase.startsWith("(?i)");
+    }
+
+    private boolean matches(final String[] values, final String searchPhrase, final String searchLower) {
+        for (int i = 0; i < values.length; i++) {
+            var value = values[i];
+            if(value==null) {
+                continue;
+            }
+            var ignoreCase = searchableProperties.get(i).getQueryDslAutoCompletePolicy().isIgnoreCase();
+            if(ignoreCase
+                    ? value.toLowerCase(Locale.ROOT).contains(searchLower)
+                    : value.contains(searchPhrase)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void index(final Bookmark bookmark, final String[] values) {
+        trigramsOf(values)
+            .forEach(gram->postings.computeIfAbsent(gram, __->new HashSet<>()).add(bookmark));
+    }
+
+    private void unindex(final Bookmark bookmark, final @Nullable String[] values) {
+        if(values==null) {
+            return;
+        }
+        trigramsOf(values)
+            .forEach(gram->{
+                var posting = postings.get(gram);
+                if(posting!=null) {
+                    posting.remove(bookmark);
+                    if(posting.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            });
+    }
+
+    private static Set<String> trigramsOf(final String[] values) {
+        var grams = new HashSet<String>();
+        for(var value : values) {
+            if(value!=null) {
+                grams.addAll(trigramsOf(value.toLowerCase(Locale.ROOT)));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> trigramsOf(final String lowerCaseValue) {
+        var grams = new HashSet<String>();
+        for (int i = 0; i + GRAM <= lowerCaseValue.length(); i++) {
+            grams.add(lowerCaseValue.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static int compareValues(final String[] a, final String[] b) {
+        return Arrays.compare(a, b, Comparator.nullsLast(Comparator.<String>naturalOrder()));
+    }
+
+}
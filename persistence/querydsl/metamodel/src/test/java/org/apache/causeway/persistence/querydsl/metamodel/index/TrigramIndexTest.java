@@ -0,0 +1,83 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.persistence.querydsl.metamodel.index;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.annotation.Property;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.persistence.querydsl.metamodel.facets.AutoCompleteGeneratedDslQuery.SearchableProperty;
+
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    private final Bookmark smith = Bookmark.forLogicalTypeNameAndIdentifier("demo.Customer", "1");
+    private final Bookmark smithers = Bookmark.forLogicalTypeNameAndIdentifier("demo.Customer", "2");
+    private final Bookmark jones = Bookmark.forLogicalTypeNameAndIdentifier("demo.Customer", "3");
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex(List.of(
+                new SearchableProperty("name", Property.QueryDslAutoCompletePolicy.INCLUDE),
+                new SearchableProperty("code", Property.QueryDslAutoCompletePolicy.INCLUDE_CASE_SENSITIVE)));
+        index.put(smithers, Map.of("name", "Waylon Smithers", "code", "WS"));
+        index.put(smith, Map.of("name", "John Smith", "code", "JS"));
+        index.put(jones, Map.of("name", "Tom Jones", "code", "ABCdef"));
+    }
+
+    @Test
+    void matchesSubstring_ignoringCase_orderedByValues() {
+        assertEquals(List.of(smith, smithers), index.search("SMITH", 10).orElseThrow());
+        assertEquals(List.of(smith), index.search("smith", 1).orElseThrow());
+    }
+
+    @Test
+    void honorsCaseSensitivePolicy() {
+        assertEquals(List.of(jones), index.search("Cde", 10).orElseThrow());
+        assertEquals(List.of(), index.search("cde", 10).orElseThrow());
+    }
+
+    @Test
+    void notAnswerable_whenTooShortOrWildcarded() {
+        assertTrue(index.search("sm", 10).isEmpty());
+        assertTrue(index.search("sm*th", 10).isEmpty());
+        assertTrue(index.search("(?i)smith", 10).isEmpty());
+        assertTrue(index.search(null, 10).isEmpty());
+    }
+
+    @Test
+    void updateAndRemove_areReflected() {
+        index.update(jones, "name", "Tom Smithson");
+        assertEquals(List.of(smith, jones, smithers), index.search("mith", 10).orElseThrow());
+        assertEquals(List.of(), index.search("jones", 10).orElseThrow());
+
+        index.remove(smith);
+        assertEquals(List.of(jones, smithers), index.search("mith", 10).orElseThrow());
+        assertEquals(2, index.size());
+    }
+
+}
@@ -0,0 +1,237 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testing.fixtures.applib.dbsnapshot;
+
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * An in-memory, data-level copy of all (non-system) tables of an H2 or HSQLDB database, including the current
+ * values of its sequences, that can be restored into the same database later on.
+ *
+ * <p>
+ * The schema itself is not captured: restoring a snapshot truncates and re-populates the tables that existed when
+ * it was taken.
+ * </p>
+ *
+ * @implNote identity columns are restarted with the (restored) maximum value plus one, rather than with their
+ * exact value at the time the snapshot was taken
+ */
+@RequiredArgsConstructor(staticName = "of")
+final class DatabaseSnapshot {
+
+    @Getter private final @NonNull _SnapshotDialect dialect;
+    private final @NonNull List<TableData> tables;
+    private final @NonNull Map<String, Long> nextValueBySequence;
+
+    // -- TAKE
+
+    static DatabaseSnapshot take(final @NonNull Connection connection) throws SQLException {
+        var dialect = _SnapshotDialect.of(connection);
+        var identityColumnsByTable = identityColumnsByTable(connection, dialect);
+
+        var tables = new ArrayList<TableData>();
+        try(var rs = connection.getMetaData().getTables(null, null, "%", new String[] {"TABLE", "BASE TABLE"})) {
+            while(rs.next()) {
+                var schemaName = rs.getString("TABLE_SCHEM");
+                if(dialect.isSystemSchema(schemaName)) {
+                    continue;
+                }
+                var qualifiedName = dialect.qualify(schemaName, rs.getString("TABLE_NAME"));
+                tables.add(new TableData(
+                        qualifiedName,
+                        identityColumnsByTable.getOrDefault(qualifiedName, Collections.emptyList())));
+            }
+        }
+        for(var table : tables) {
+            table.readFrom(connection, dialect);
+        }
+
+        var nextValueBySequence = new LinkedHashMap<String, Long>();
+        try(var stmt = connection.createStatement();
+            var rs = stmt.executeQuery(dialect.selectSequences())) {
+            while(rs.next()) {
+                if(dialect.isSystemSchema(rs.getString(1))) {
+                    continue;
+                }
+                nextValueBySequence.put(dialect.qualify(rs.getString(1), rs.getString(2)), rs.getLong(3));
+            }
+        }
+
+        return DatabaseSnapshot.of(dialect, tables, nextValueBySequence);
+    }
+
+    // -- RESTORE
+
+    void restoreInto(final @NonNull Connection connection) throws SQLException {
+        final boolean autoCommitBefore = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try(var stmt = connection.createStatement()) {
+            dialect.setReferentialIntegrity(stmt, false);
+            try {
+                for(var table : tables) {
+                    stmt.execute(dialect.deleteAll(table.getQualifiedName()));
+                }
+                for(var table : tables) {
+                    table.writeTo(connection, dialect);
+                    table.restartIdentityColumns(stmt, dialect);
+                }
+                for(var entry : nextValueBySequence.entrySet()) {
+                    stmt.execute(dialect.restartSequence(entry.getKey(), entry.getValue()));
+                }
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                dialect.setReferentialIntegrity(stmt, true);
+            }
+        } finally {
+            connection.setAutoCommit(autoCommitBefore);
+        }
+    }
+
+    int getTableCount() {
+        return tables.size();
+    }
+
+    int getRowCount() {
+        return tables.stream().mapToInt(table->table.rows.size()).sum();
+    }
+
+    // -- HELPER
+
+    private static Map<String, List<String>> identityColumnsByTable(
+            final Connection connection,
+            final _SnapshotDialect dialect) throws SQLException {
+        var identityColumnsByTable = new LinkedHashMap<String, List<String>>();
+        try(var stmt = connection.createStatement();
+            var rs = stmt.executeQuery(dialect.selectIdentityColumns())) {
+            while(rs.next()) {
+                identityColumnsByTable
+                    .computeIfAbsent(dialect.qualify(rs.getString(1), rs.getString(2)), __->new ArrayList<>())
+                    .add(rs.getString(3));
+            }
+        }
+        return identityColumnsByTable;
+    }
+
+    @RequiredArgsConstructor
+    private static final class TableData {
+
+        @Getter private final String qualifiedName;
+        private final List<String> identityColumns;
+        private final List<String> columnNames = new ArrayList<>();
+        private final List<Integer> columnTypes = new ArrayList<>();
+        private final List<Object[]> rows = new ArrayList<>();
+
+        void readFrom(final Connection connection, final _SnapshotDialect dialect) throws SQLException {
+            try(var stmt = connection.createStatement();
+                var rs = stmt.executeQuery("SELECT * FROM " + qualifiedName)) {
+                var metaData = rs.getMetaData();
+                final int columnCount = metaData.getColumnCount();
+                for(int i = 1; i <= columnCount; i++) {
+                    columnNames.add(metaData.getColumnName(i));
+                    columnTypes.add(metaData.getColumnType(i));
+                }
+                while(rs.next()) {
+                    var row = new Object[columnCount];
+                    for(int i = 0; i < columnCount; i++) {
+                        row[i] = readValue(rs, i + 1);
+                    }
+                    rows.add(row);
+                }
+            }
+        }
+
+        void writeTo(final Connection connection, final _SnapshotDialect dialect) throws SQLException {
+            if(rows.isEmpty()) {
+                return;
+            }
+            var sql = String.format("INSERT INTO %s (%s)%s VALUES (%s)",
+                    qualifiedName,
+                    columnNames.stream().map(dialect::quote).collect(Collectors.joining(", ")),
+                    identityColumns.isEmpty()
+                        ? ""
+                        : " OVERRIDING SYSTEM VALUE",
+                    columnNames.stream().map(__->"?").collect(Collectors.joining(", ")));
+            try(var ps = connection.prepareStatement(sql)) {
+                for(var row : rows) {
+                    for(int i = 0; i < row.length; i++) {
+                        final int sqlType = columnTypes.get(i);
+                        if(row[i] == null) {
+                            ps.setNull(i + 1, sqlType);
+                        } else if(sqlType == Types.BLOB) {
+                            ps.setBytes(i + 1, (byte[]) row[i]);
+                        } else if(sqlType == Types.CLOB
+                                || sqlType == Types.NCLOB) {
+                            ps.setString(i + 1, (String) row[i]);
+                        } else {
+                            ps.setObject(i + 1, row[i]);
+                        }
+                    }
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        }
+
+        void restartIdentityColumns(final Statement stmt, final _SnapshotDialect dialect) throws SQLException {
+            for(var columnName : identityColumns) {
+                final int columnIndex = columnNames.indexOf(columnName);
+                final long max = rows.stream()
+                        .map(row->row[columnIndex])
+                        .filter(Number.class::isInstance)
+                        .mapToLong(value->((Number) value).longValue())
+                        .max()
+                        .orElse(0L);
+                stmt.execute(dialect.restartIdentity(qualifiedName, columnName, max + 1));
+            }
+        }
+
+        private static Object readValue(final ResultSet rs, final int columnIndex) throws SQLException {
+            var value = rs.getObject(columnIndex);
+            if(value instanceof Blob) {
+                var blob = (Blob) value;
+                return blob.getBytes(1, (int) blob.length());
+            }
+            if(value instanceof Clob) {
+                var clob = (Clob) value;
+                return clob.getSubString(1, (int) clob.length());
+            }
+            return value;
+        }
+    }
+
+}
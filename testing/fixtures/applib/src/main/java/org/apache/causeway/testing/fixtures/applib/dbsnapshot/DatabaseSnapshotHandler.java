@@ -0,0 +1,186 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testing.fixtures.applib.dbsnapshot;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.util.ClassUtils;
+
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.internal.base._Casts;
+import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.commons.internal.reflection._Annotations;
+import org.apache.causeway.persistence.jdo.applib.services.JdoSupportService;
+import org.apache.causeway.testing.fixtures.applib.fixturescripts.FixtureScript;
+import org.apache.causeway.testing.fixtures.applib.fixturescripts.FixtureScripts;
+
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * JUnit extension, registered by {@link UseDatabaseSnapshot}, that installs the fixture scripts only the first
+ * time they are requested (for the database in use), taking a {@link DatabaseSnapshot snapshot} thereafter;
+ * any subsequent test that requests the same fixture scripts has that snapshot restored instead.
+ *
+ * <p>
+ * Snapshots are held statically, so are shared by all test classes that run against the same (cached) Spring
+ * test context.  Before any fixture scripts are installed, a baseline snapshot of the (as yet unpopulated)
+ * database is taken, which is restored whenever a different set of fixture scripts is requested.
+ * </p>
+ *
+ * @since 2.x {@index}
+ */
+@Log4j2
+public class DatabaseSnapshotHandler implements BeforeEachCallback {
+
+    private static final String BASELINE = "";
+
+    private static final Map<String, DatabaseSnapshot> snapshotsByKey = _Maps.newConcurrentHashMap();
+
+    @Override
+    public void beforeEach(final ExtensionContext extensionContext) throws Exception {
+        var useDatabaseSnapshot = extensionContext.getTestClass()
+                .flatMap(testClass->_Annotations.synthesize(testClass, UseDatabaseSnapshot.class))
+                .orElse(null);
+        if(useDatabaseSnapshot == null) {
+            return;
+        }
+
+        var springContext = SpringExtension.getApplicationContext(extensionContext);
+        var dataSource = springContext.getBean(DataSource.class);
+        var jdbcUrl = jdbcUrl(dataSource);
+
+        var fixtureScriptClasses = useDatabaseSnapshot.value();
+        var key = jdbcUrl + "|" + Stream.of(fixtureScriptClasses)
+                .map(Class::getName)
+                .collect(Collectors.joining(","));
+
+        synchronized(snapshotsByKey) {
+            var snapshot = snapshotsByKey.get(key);
+            if(snapshot != null) {
+                restore(snapshot, dataSource);
+                evictSecondLevelCaches(springContext);
+                log.debug("restored database snapshot for {}", key);
+                return;
+            }
+
+            var baseline = snapshotsByKey.get(jdbcUrl + "|" + BASELINE);
+            if(baseline == null) {
+                snapshotsByKey.put(jdbcUrl + "|" + BASELINE, take(dataSource));
+            } else {
+                restore(baseline, dataSource);
+                evictSecondLevelCaches(springContext);
+            }
+
+            installFixtures(springContext, fixtureScriptClasses);
+            snapshotsByKey.put(key, take(dataSource));
+            log.info("installed fixtures and took database snapshot for {}", key);
+        }
+    }
+
+    // -- HELPER
+
+    private static void installFixtures(
+            final ApplicationContext springContext,
+            final Class<? extends FixtureScript>[] fixtureScriptClasses) {
+
+        var fixtureScripts = springContext.getBean(FixtureScripts.class);
+        var transactionService = springContext.getBean(TransactionService.class);
+        var interactionService = springContext.getBean(InteractionService.class);
+
+        var scripts = Stream.of(fixtureScriptClasses)
+                .map(fixtureScriptClass->fixtureScriptFor(springContext, fixtureScriptClass))
+                .toArray(FixtureScript[]::new);
+
+        interactionService.runAnonymous(()->
+            transactionService.runTransactional(Propagation.REQUIRES_NEW, ()->fixtureScripts.run(scripts))
+                .ifFailureFail());
+    }
+
+    @SneakyThrows
+    private static FixtureScript fixtureScriptFor(
+            final ApplicationContext springContext,
+            final Class<? extends FixtureScript> fixtureScriptClass) {
+        var bean = springContext.getBeanProvider(fixtureScriptClass).getIfAvailable();
+        return bean != null
+                ? bean
+                : _Casts.uncheckedCast(fixtureScriptClass.getDeclaredConstructor().newInstance());
+    }
+
+    @SneakyThrows
+    private static String jdbcUrl(final DataSource dataSource) {
+        try(var connection = dataSource.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+
+    private static DatabaseSnapshot take(final DataSource dataSource) {
+        try(var connection = dataSource.getConnection()) {
+            return DatabaseSnapshot.take(connection);
+        } catch (Exception e) {
+            throw _Exceptions.unrecoverable(e, "failed to take database snapshot");
+        }
+    }
+
+    private static void restore(final DatabaseSnapshot snapshot, final DataSource dataSource) {
+        try(var connection = dataSource.getConnection()) {
+            snapshot.restoreInto(connection);
+        } catch (Exception e) {
+            throw _Exceptions.unrecoverable(e, "failed to restore database snapshot");
+        }
+    }
+
+    /**
+     * Any cached entities would be stale after a restore.
+     */
+    private static void evictSecondLevelCaches(final ApplicationContext springContext) {
+        if(ClassUtils.isPresent("javax.persistence.EntityManagerFactory", null)) {
+            JpaCaches.evictAll(springContext);
+        }
+        if(ClassUtils.isPresent("javax.jdo.PersistenceManagerFactory", null)) {
+            JdoCaches.evictAll(springContext);
+        }
+    }
+
+    private static class JpaCaches {
+        static void evictAll(final ApplicationContext springContext) {
+            springContext.getBeanProvider(javax.persistence.EntityManagerFactory.class)
+                .ifAvailable(emf->emf.getCache().evictAll());
+        }
+    }
+
+    private static class JdoCaches {
+        static void evictAll(final ApplicationContext springContext) {
+            springContext.getBeanProvider(JdoSupportService.class)
+                .ifAvailable(jdoSupport->jdoSupport.getPersistenceManagerFactory().getDataStoreCache().evictAll());
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testing.fixtures.applib.dbsnapshot;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.apache.causeway.testing.fixtures.applib.fixturescripts.FixtureScript;
+
+/**
+ * Opts an integration test class in to database snapshots: the given fixture scripts are installed only once
+ * (per database and per distinct list of fixture scripts), after which the database is snapshotted; before each
+ * subsequent test the snapshot is restored, rather than re-running the fixture scripts.
+ * <p>
+ * Example:<br>
+ * <pre>
+ * &#64;UseDatabaseSnapshot({ PersonaEnumPersistAll.class })
+ * class Customer_IntegTest extends CausewayIntegrationTestAbstract {
+ *     // ...
+ * }
+ * </pre>
+ *
+ * <p>
+ * Supported for in-memory H2 and HSQLDB databases only. Tables, their rows and the current values of sequences
+ * and identity columns are snapshotted; the schema itself is expected to be unchanged between tests.
+ * </p>
+ *
+ * @see DatabaseSnapshotHandler
+ * @since 2.x {@index}
+ */
+@Inherited
+@Target({ ElementType.TYPE, ElementType.ANNOTATION_TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(DatabaseSnapshotHandler.class)
+public @interface UseDatabaseSnapshot {
+
+    /**
+     * The fixture scripts to install (in the given order) before the snapshot is taken.
+     *
+     * <p>
+     * Each is obtained from the Spring context if available as a bean, otherwise is instantiated using its
+     * no-arg constructor.
+     * </p>
+     */
+    Class<? extends FixtureScript>[] value();
+
+}
@@ -0,0 +1,101 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testing.fixtures.applib.dbsnapshot;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The database specific SQL required by {@link DatabaseSnapshot}.
+ */
+@RequiredArgsConstructor
+enum _SnapshotDialect {
+    H2(
+            "SET REFERENTIAL_INTEGRITY FALSE",
+            "SET REFERENTIAL_INTEGRITY TRUE",
+            "SELECT SEQUENCE_SCHEMA, SEQUENCE_NAME, BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES"),
+    HSQLDB(
+            "SET DATABASE REFERENTIAL INTEGRITY FALSE",
+            "SET DATABASE REFERENTIAL INTEGRITY TRUE",
+            "SELECT SEQUENCE_SCHEMA, SEQUENCE_NAME, NEXT_VALUE FROM INFORMATION_SCHEMA.SEQUENCES");
+
+    private final String disableReferentialIntegrity;
+    private final String enableReferentialIntegrity;
+    private final String selectSequences;
+
+    static _SnapshotDialect of(final @NonNull Connection connection) throws SQLException {
+        var productName = connection.getMetaData().getDatabaseProductName();
+        if("H2".equals(productName)) {
+            return H2;
+        }
+        if(productName.startsWith("HSQL")) {
+            return HSQLDB;
+        }
+        throw new IllegalStateException(String.format(
+                "database snapshots are not supported for '%s' (only for H2 and HSQLDB)", productName));
+    }
+
+    boolean isSystemSchema(final String schemaName) {
+        return "INFORMATION_SCHEMA".equalsIgnoreCase(schemaName)
+                || "SYSTEM_LOBS".equalsIgnoreCase(schemaName);
+    }
+
+    void setReferentialIntegrity(final Statement statement, final boolean enabled) throws SQLException {
+        statement.execute(enabled
+                ? enableReferentialIntegrity
+                : disableReferentialIntegrity);
+    }
+
+    /**
+     * Rather than <code>TRUNCATE TABLE</code>, which commits the current transaction
+     * (both on H2 and HSQLDB), such that a failed restore could not be rolled back.
+     */
+    String deleteAll(final String qualifiedTableName) {
+        return "DELETE FROM " + qualifiedTableName;
+    }
+
+    String selectSequences() {
+        return selectSequences;
+    }
+
+    String selectIdentityColumns() {
+        return "SELECT TABLE_SCHEMA, TABLE_NAME, COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS WHERE IS_IDENTITY = 'YES'";
+    }
+
+    String restartIdentity(final String qualifiedTableName, final String columnName, final long nextValue) {
+        return String.format("ALTER TABLE %s ALTER COLUMN %s RESTART WITH %d", qualifiedTableName, quote(columnName), nextValue);
+    }
+
+    String restartSequence(final String qualifiedSequenceName, final long nextValue) {
+        return String.format("ALTER SEQUENCE %s RESTART WITH %d", qualifiedSequenceName, nextValue);
+    }
+
+    String qualify(final String schemaName, final String objectName) {
+        return quote(schemaName) + "." + quote(objectName);
+    }
+
+    String quote(final String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+
+}
@@ -0,0 +1,45 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testing.fixtures.applib.fixturescripts;
+
+import java.util.Set;
+
+import org.apache.causeway.applib.annotation.Programmatic;
+
+/**
+ * Interface for {@link org.apache.causeway.testing.fixtures.applib.fixturescripts.FixtureScript}s to optionally implement,
+ * declaring which other fixture scripts must have completed before this one may run.
+ *
+ * <p>
+ *     Used by {@link FixtureScripts#runInParallel(FixtureScripts.PersistMode, FixtureScript...)} to determine which
+ *     of the submitted fixture scripts are independent of each other, and may therefore run concurrently.
+ *     Fixture scripts that do not implement this interface are considered to have no prerequisites.
+ * </p>
+ *
+ * @since 2.x {@index}
+ */
+public interface FixtureScriptWithPrerequisites {
+
+    /**
+     * The classes of those fixture scripts (amongst the ones submitted together with this one) that
+     * must have completed before this one may run.
+     */
+    @Programmatic
+    Set<Class<? extends FixtureScript>> getPrerequisites();
+}
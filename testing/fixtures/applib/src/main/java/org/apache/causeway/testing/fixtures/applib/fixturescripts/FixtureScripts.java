@@ -18,12 +18,18 @@
  */
 package org.apache.causeway.testing.fixtures.applib.fixturescripts;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -53,7 +59,11 @@
 import org.apache.causeway.applib.services.xactn.TransactionService;
 import org.apache.causeway.commons.functional.ThrowingRunnable;
 import org.apache.causeway.commons.internal.collections._Maps;
+import org.apache.causeway.commons.internal.concurrent._ConcurrentContext;
+import org.apache.causeway.commons.internal.concurrent._ConcurrentTask;
+import org.apache.causeway.commons.internal.concurrent._ConcurrentTaskList;
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.runtime.changetrackingmgmt.ChangeTrackingMgmt;
 import org.apache.causeway.testing.fixtures.applib.CausewayModuleTestingFixturesApplib;
 import org.apache.causeway.testing.fixtures.applib.events.FixturesInstalledEvent;
 import org.apache.causeway.testing.fixtures.applib.events.FixturesInstallingEvent;
@@ -185,6 +195,38 @@ public boolean isExecute() {
         }
     }
 
+    /**
+     * How fixture scripts run by {@link FixtureScripts#runInParallel(PersistMode, FixtureScript...)} persist their
+     * objects.
+     *
+     * @see FixtureScripts#runInBulk(FixtureScript...)
+     *
+     * @since 2.x {@index}
+     */
+    public enum PersistMode {
+        /**
+         * Objects are persisted as per usual, that is, subject to (auto-)flushing and with entity change tracking
+         * (and hence entity change publishing) in place.
+         */
+        DEFAULT,
+        /**
+         * Each fixture script is run within {@link RepositoryService#execInBulk(Callable)}, so that the transaction
+         * is not (auto-)flushed until the script has completed, and with entity change tracking (and hence entity
+         * change and entity property change publishing) suppressed.
+         *
+         * <p>
+         *     Deferring the flush allows the ORM to batch its inserts; for this to result in JDBC batching, the ORM's
+         *     batch-writing must be enabled (for EclipseLink, using the <code>eclipselink.jdbc.batch-writing</code>
+         *     configuration property).
+         * </p>
+         */
+        BULK;
+
+        public boolean isBulk() {
+            return this == BULK;
+        }
+    }
+
     // -- constructors
 
     // -- constructor, init
@@ -438,6 +480,140 @@ public void run(final FixtureScript... fixtureScriptList) {
 
     }
 
+    /**
+     * As per {@link #run(FixtureScript...)}, but using {@link PersistMode#BULK bulk} persist mode, that is,
+     * within {@link RepositoryService#execInBulk(Callable)} and with entity change tracking suppressed.
+     *
+     * <p>
+     *     Intended for seeding large amounts of reference or demo data, where neither auditing nor any other
+     *     form of entity change publishing is required.
+     * </p>
+     *
+     * @param fixtureScriptList
+     *
+     * @see #run(FixtureScript...)
+     * @see #runInParallel(PersistMode, FixtureScript...)
+     */
+    @Programmatic
+    public void runInBulk(final FixtureScript... fixtureScriptList) {
+
+        var singleScript = toSingleScript(fixtureScriptList);
+
+        ChangeTrackingMgmt.suppressChangeTracking(()->
+            interactionService.runAnonymous(()->
+                runWithinTransaction(PersistMode.BULK, singleScript)
+            )
+        );
+    }
+
+    /**
+     * As per {@link #runInParallel(PersistMode, FixtureScript...)}, using {@link PersistMode#DEFAULT default}
+     * persist mode.
+     */
+    @Programmatic
+    public void runInParallel(final FixtureScript... fixtureScriptList) {
+        runInParallel(PersistMode.DEFAULT, fixtureScriptList);
+    }
+
+    /**
+     * Runs the provided {@link FixtureScript}s concurrently, each within its own interaction and its own
+     * transaction, honouring any {@link FixtureScriptWithPrerequisites#getPrerequisites() prerequisites} declared
+     * amongst them.
+     *
+     * <p>
+     *     The fixture scripts are run in successive waves; a fixture script joins the first wave that follows all
+     *     of the waves of its prerequisites.  The fixture scripts of a wave run concurrently, and the next wave is
+     *     only started once they have all completed.  If any fixture script fails, then no further waves are started
+     *     and the failure is rethrown; but note that (since each fixture script runs in its own transaction) the
+     *     fixture scripts that did complete are <i>not</i> rolled back.
+     * </p>
+     *
+     * <p>
+     *     Only the provided (top-level) fixture scripts are run concurrently.  Any child fixture scripts they
+     *     execute (using {@link FixtureScript.ExecutionContext#executeChild(FixtureScript, FixtureScript)}) are
+     *     run sequentially, within the interaction and transaction of their parent.  To have these run concurrently
+     *     as well, provide them directly, declaring their dependencies as
+     *     {@link FixtureScriptWithPrerequisites#getPrerequisites() prerequisites} instead.
+     * </p>
+     *
+     * <p>
+     *     If there is an existing {@link org.apache.causeway.applib.services.iactn.Interaction interaction}, then its
+     *     {@link org.apache.causeway.applib.services.iactnlayer.InteractionContext} is
+     *     {@link InteractionService#propagateContext(ThrowingRunnable) propagated} to each fixture script; otherwise
+     *     they are run anonymously.
+     * </p>
+     *
+     * <p>
+     *     <b>Be aware</b> that (as for {@link #run(FixtureScript...)}), all provided fixture scripts will be executed
+     *     in their own {@link org.apache.causeway.testing.fixtures.applib.fixturescripts.FixtureScript.ExecutionContext}
+     *     and therefore run irrespective of configured {@link #getMultipleExecutionStrategy()}.
+     * </p>
+     *
+     * @param persistMode
+     * @param fixtureScriptList
+     *
+     * @see #run(FixtureScript...)
+     * @see #runInBulk(FixtureScript...)
+     */
+    @Programmatic
+    public void runInParallel(final PersistMode persistMode, final FixtureScript... fixtureScriptList) {
+
+        var waves = toWaves(fixtureScriptList);
+        var executorService = newParallelExecutorService(waves);
+        try {
+            runWaves(persistMode, waves, executorService);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private void runWaves(
+            final PersistMode persistMode,
+            final List<List<FixtureScript>> waves,
+            final ExecutorService executorService) {
+
+        for (int i = 0; i < waves.size(); i++) {
+            var taskList = _ConcurrentTaskList.named(String.format("FixtureScripts wave %d/%d", i + 1, waves.size()));
+            for (var fixtureScript : waves.get(i)) {
+                final ThrowingRunnable runnable = ()->runWithinTransaction(persistMode, fixtureScript);
+                final Runnable task = interactionService.isInInteraction()
+                        ? interactionService.propagateContext(runnable)
+                        : ()->interactionService.runAnonymous(runnable);
+                taskList.addRunnable(
+                        fixtureScript.getFriendlyName(),
+                        persistMode.isBulk()
+                            ? ()->ChangeTrackingMgmt.suppressChangeTracking(task)
+                            : task);
+            }
+            taskList.submit(_ConcurrentContext.builder().executorService(executorService));
+            taskList.await();
+
+            var failure = taskList.getTasks().stream()
+                    .map(_ConcurrentTask::getFailedWith)
+                    .filter(Objects::nonNull)
+                    .findFirst();
+            if(failure.isPresent()) {
+                throw _Exceptions.unrecoverable(failure.get(), "fixture script failed in %s", taskList.getName());
+            }
+        }
+    }
+
+    /**
+     * A dedicated pool (rather than the common pool, which is shared with the rest of the JVM), with no more threads
+     * than fixture scripts can actually run concurrently, and no more than there are processors; each thread
+     * holds on to a database connection while running its fixture script.
+     */
+    private static ExecutorService newParallelExecutorService(final List<List<FixtureScript>> waves) {
+        var largestWave = waves.stream().mapToInt(List::size).max().orElse(1);
+        var poolSize = Math.max(1, Math.min(largestWave, Runtime.getRuntime().availableProcessors()));
+        var threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(poolSize, runnable->{
+            var thread = new Thread(runnable, "causeway-fixtures-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     /**
      * Runs the provided {@link PersonaWithBuilderScript persona fixture script}s, using
      * {@link InteractionService#runAnonymous(ThrowingRunnable)} and
@@ -635,6 +811,50 @@ String titleOf(final FixtureResult fixtureResult) {
 
     // -- HELPERS - LOCAL
 
+    private void runWithinTransaction(final PersistMode persistMode, final FixtureScript fixtureScript) {
+        transactionService.callWithinCurrentTransactionElseCreateNew(()->
+            persistMode.isBulk()
+                ? repositoryService.execInBulk(()->runScript(fixtureScript, null))
+                : runScript(fixtureScript, null)
+        )
+        .ifFailureFail();
+    }
+
+    /**
+     * Partitions the provided {@link FixtureScript}s into waves, such that every fixture script appears in a later wave
+     * than all of its {@link FixtureScriptWithPrerequisites#getPrerequisites() prerequisites}.  Prerequisites that are
+     * not amongst the provided fixture scripts are ignored (assumed to have been run already).
+     */
+    static List<List<FixtureScript>> toWaves(final FixtureScript[] fixtureScriptList) {
+
+        var remaining = new ArrayList<FixtureScript>(List.of(fixtureScriptList));
+        var waves = new ArrayList<List<FixtureScript>>();
+
+        while(!remaining.isEmpty()) {
+            var wave = remaining.stream()
+                    .filter(candidate->prerequisitesOf(candidate).stream()
+                            .noneMatch(prerequisite->remaining.stream()
+                                    .filter(other->other!=candidate)
+                                    .anyMatch(prerequisite::isInstance)))
+                    .collect(Collectors.toList());
+            if(wave.isEmpty()) {
+                throw _Exceptions.illegalState("cyclic prerequisites amongst fixture scripts %s",
+                        remaining.stream()
+                            .map(FixtureScript::getFriendlyName)
+                            .collect(Collectors.toList()));
+            }
+            remaining.removeAll(wave);
+            waves.add(wave);
+        }
+        return waves;
+    }
+
+    private static Set<Class<? extends FixtureScript>> prerequisitesOf(final FixtureScript fixtureScript) {
+        return fixtureScript instanceof FixtureScriptWithPrerequisites
+                ? ((FixtureScriptWithPrerequisites) fixtureScript).getPrerequisites()
+                : Collections.emptySet();
+    }
+
     private static FixtureScript toSingleScript(final FixtureScript[] fixtureScriptList) {
 
         if (fixtureScriptList.length == 1) {
@@ -0,0 +1,153 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testing.fixtures.applib.dbsnapshot;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import lombok.SneakyThrows;
+
+class DatabaseSnapshotTest {
+
+    @Test
+    void h2() throws SQLException {
+        try(var connection = DriverManager.getConnection("jdbc:h2:mem:" + UUID.randomUUID())) {
+            assertEquals(_SnapshotDialect.H2, _SnapshotDialect.of(connection));
+            snapshotThenRestore(connection);
+        }
+    }
+
+    @Test
+    void h2_failedRestore_isRolledBack() throws SQLException {
+        try(var connection = DriverManager.getConnection("jdbc:h2:mem:" + UUID.randomUUID())) {
+            failedRestoreIsRolledBack(connection);
+        }
+    }
+
+    @Test
+    void hsqldb() throws SQLException {
+        try(var connection = DriverManager.getConnection("jdbc:hsqldb:mem:" + UUID.randomUUID(), "SA", "")) {
+            assertEquals(_SnapshotDialect.HSQLDB, _SnapshotDialect.of(connection));
+            snapshotThenRestore(connection);
+        }
+    }
+
+    @Test
+    void hsqldb_failedRestore_isRolledBack() throws SQLException {
+        try(var connection = DriverManager.getConnection("jdbc:hsqldb:mem:" + UUID.randomUUID(), "SA", "")) {
+            failedRestoreIsRolledBack(connection);
+        }
+    }
+
+    // -- HELPER
+
+    private static void snapshotThenRestore(final Connection connection) throws SQLException {
+        exec(connection,
+                "CREATE SCHEMA \"app\"",
+                "CREATE TABLE \"app\".\"Customer\" ("
+                        + "\"id\" BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH 1) PRIMARY KEY, "
+                        + "\"name\" VARCHAR(50) NOT NULL, "
+                        + "\"notes\" CLOB)",
+                "CREATE TABLE \"app\".\"Order\" ("
+                        + "\"id\" BIGINT PRIMARY KEY, "
+                        + "\"customerId\" BIGINT NOT NULL REFERENCES \"app\".\"Customer\"(\"id\"), "
+                        + "\"amount\" DECIMAL(10,2))",
+                "CREATE SEQUENCE \"app\".\"OrderSeq\" START WITH 1",
+                "INSERT INTO \"app\".\"Customer\" (\"name\", \"notes\") VALUES ('Fred', 'lorem ipsum')",
+                "INSERT INTO \"app\".\"Customer\" (\"name\", \"notes\") VALUES ('Mary', NULL)",
+                "INSERT INTO \"app\".\"Order\" VALUES (NEXT VALUE FOR \"app\".\"OrderSeq\", 1, 12.50)",
+                "INSERT INTO \"app\".\"Order\" VALUES (NEXT VALUE FOR \"app\".\"OrderSeq\", 2, NULL)");
+
+        var snapshot = DatabaseSnapshot.take(connection);
+        assertEquals(2, snapshot.getTableCount());
+        assertEquals(4, snapshot.getRowCount());
+
+        // when the database is modified
+        exec(connection,
+                "DELETE FROM \"app\".\"Order\"",
+                "UPDATE \"app\".\"Customer\" SET \"name\" = 'Bob' WHERE \"id\" = 1",
+                "INSERT INTO \"app\".\"Customer\" (\"name\") VALUES ('Sue')",
+                "INSERT INTO \"app\".\"Order\" VALUES (NEXT VALUE FOR \"app\".\"OrderSeq\", 3, 1.00)");
+
+        // then restoring brings back the original state
+        snapshot.restoreInto(connection);
+
+        assertEquals("2", query(connection, "SELECT COUNT(*) FROM \"app\".\"Customer\""));
+        assertEquals("Fred", query(connection, "SELECT \"name\" FROM \"app\".\"Customer\" WHERE \"id\" = 1"));
+        assertEquals("lorem ipsum", query(connection, "SELECT \"notes\" FROM \"app\".\"Customer\" WHERE \"id\" = 1"));
+        assertEquals("2", query(connection, "SELECT COUNT(*) FROM \"app\".\"Order\""));
+
+        // and identity columns and sequences continue where they were
+        exec(connection,
+                "INSERT INTO \"app\".\"Customer\" (\"name\") VALUES ('Joe')",
+                "INSERT INTO \"app\".\"Order\" VALUES (NEXT VALUE FOR \"app\".\"OrderSeq\", 3, 1.00)");
+        assertEquals("3", query(connection, "SELECT \"id\" FROM \"app\".\"Customer\" WHERE \"name\" = 'Joe'"));
+        assertEquals("3", query(connection, "SELECT \"customerId\" FROM \"app\".\"Order\" WHERE \"id\" = 3"));
+    }
+
+    private static void failedRestoreIsRolledBack(final Connection connection) throws SQLException {
+        exec(connection,
+                "CREATE TABLE \"Customer\" (\"id\" BIGINT PRIMARY KEY, \"name\" VARCHAR(50) NOT NULL)",
+                "INSERT INTO \"Customer\" VALUES (1, 'Fred')",
+                "INSERT INTO \"Customer\" VALUES (2, 'Mary')");
+
+        var snapshot = DatabaseSnapshot.take(connection);
+
+        // when the database is modified, such that the snapshot no longer can be written back
+        exec(connection,
+                "UPDATE \"Customer\" SET \"name\" = 'Bob' WHERE \"id\" = 1",
+                "ALTER TABLE \"Customer\" ADD CONSTRAINT \"noFred\" CHECK (\"name\" <> 'Fred')");
+
+        // then restoring fails, leaving the database as it was
+        assertThrows(SQLException.class, ()->snapshot.restoreInto(connection));
+        assertEquals("2", query(connection, "SELECT COUNT(*) FROM \"Customer\""));
+        assertEquals("Bob", query(connection, "SELECT \"name\" FROM \"Customer\" WHERE \"id\" = 1"));
+    }
+
+    @SneakyThrows
+    private static void exec(final Connection connection, final String... sqls) {
+        try(var stmt = connection.createStatement()) {
+            for(var sql : sqls) {
+                stmt.execute(sql);
+            }
+        }
+    }
+
+    @SneakyThrows
+    private static String query(final Connection connection, final String sql) {
+        try(var stmt = connection.createStatement();
+            var rs = stmt.executeQuery(sql)) {
+            rs.next();
+            var value = rs.getObject(1);
+            if(value instanceof java.sql.Clob) {
+                var clob = (java.sql.Clob) value;
+                return clob.getSubString(1, (int) clob.length());
+            }
+            return String.valueOf(value);
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.testing.fixtures.applib.fixturescripts;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FixtureScripts_toWaves_Test {
+
+    static class RefData extends FixtureScript {
+        @Override protected void execute(final ExecutionContext executionContext) {}
+    }
+
+    static class Customers extends FixtureScript implements FixtureScriptWithPrerequisites {
+        @Override protected void execute(final ExecutionContext executionContext) {}
+        @Override public Set<Class<? extends FixtureScript>> getPrerequisites() {
+            return Set.of(RefData.class);
+        }
+    }
+
+    static class Products extends FixtureScript implements FixtureScriptWithPrerequisites {
+        @Override protected void execute(final ExecutionContext executionContext) {}
+        @Override public Set<Class<? extends FixtureScript>> getPrerequisites() {
+            return Set.of(RefData.class);
+        }
+    }
+
+    static class Orders extends FixtureScript implements FixtureScriptWithPrerequisites {
+        @Override protected void execute(final ExecutionContext executionContext) {}
+        @Override public Set<Class<? extends FixtureScript>> getPrerequisites() {
+            return Set.of(Customers.class, Products.class);
+        }
+    }
+
+    static class DependsOnOrders extends FixtureScript implements FixtureScriptWithPrerequisites {
+        @Override protected void execute(final ExecutionContext executionContext) {}
+        @Override public Set<Class<? extends FixtureScript>> getPrerequisites() {
+            return Set.of(Orders.class);
+        }
+    }
+
+    @Test
+    void independentScripts_formSingleWave() {
+        var refData = new RefData();
+        var customers = new Customers();
+
+        var waves = FixtureScripts.toWaves(new FixtureScript[] {customers});
+
+        assertEquals(List.of(List.of(customers)), waves);
+
+        waves = FixtureScripts.toWaves(new FixtureScript[] {refData, new RefData()});
+        assertEquals(1, waves.size());
+        assertEquals(2, waves.get(0).size());
+    }
+
+    @Test
+    void prerequisites_areHonoured() {
+        var refData = new RefData();
+        var customers = new Customers();
+        var products = new Products();
+        var orders = new Orders();
+
+        var waves = FixtureScripts.toWaves(new FixtureScript[] {orders, products, customers, refData});
+
+        assertEquals(List.of(
+                List.of(refData),
+                List.of(products, customers),
+                List.of(orders)), waves);
+    }
+
+    @Test
+    void cyclicPrerequisites_areRejected() {
+        var orders = new Orders() {
+            @Override public Set<Class<? extends FixtureScript>> getPrerequisites() {
+                return Set.of(DependsOnOrders.class);
+            }
+        };
+
+        assertThrows(IllegalStateException.class, ()->
+            FixtureScripts.toWaves(new FixtureScript[] {orders, new DependsOnOrders()}));
+    }
+
+}
@@ -60,7 +60,18 @@ public void export(Visibility visibility, Format format, File outputDir) throws
     public void export(Visibility visibility, Format format, File outputDir, String fileNamePrefix) throws IOException {
         final File swaggerSpecFile = buildSwaggerSpecFile(outputDir, fileNamePrefix, visibility, format);
         writeSwaggerSpec(visibility, format, swaggerSpecFile);
-        swaggerService.generateSwaggerSpec(visibility, format);
+    }
+
+    /**
+     * Exports the specs for all {@link Visibility visibilities} and {@link Format formats},
+     * eg. to be packaged or published as part of the build.
+     */
+    public void exportAll(File outputDir) throws IOException {
+        for (Visibility visibility : Visibility.values()) {
+            for (Format format : Format.values()) {
+                export(visibility, format, outputDir);
+            }
+        }
     }
 
     private File buildSwaggerSpecFile(
@@ -84,6 +84,11 @@ default Can<ManagedObject> getAutoComplete(final String searchArg) {
         return getMetaModel().getAutoComplete(getOwner(), searchArg, InteractionInitiatedBy.USER);
     }
 
+    @Override
+    default Can<ManagedObject> getAutoComplete(final String searchArg, final int offset, final int limit) {
+        return getMetaModel().getAutoComplete(getOwner(), searchArg, offset, limit, InteractionInitiatedBy.USER);
+    }
+
     @Override
     default boolean whetherHidden() {
         return getPendingPropertyModel().whetherHidden();
@@ -99,6 +99,14 @@ default boolean hasObjectAutoComplete() {
     Can<ManagedObject> getChoices();
     Can<ManagedObject> getAutoComplete(final String searchArg);
 
+    /**
+     * Returns (at most) {@code limit} auto-complete choices starting at {@code offset}.
+     */
+    default Can<ManagedObject> getAutoComplete(final String searchArg, final int offset, final int limit) {
+        var choices = getAutoComplete(searchArg);
+        return choices.subCan(offset, (int) Math.min((long)offset + limit, choices.size()));
+    }
+
     default ChoiceProviderSort getChoiceProviderSort() {
         return ChoiceProviderSort.valueOf(this);
     }
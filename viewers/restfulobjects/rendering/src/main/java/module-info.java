@@ -18,6 +18,7 @@
  */
 module org.apache.causeway.viewer.restfulobjects.rendering {
     exports org.apache.causeway.viewer.restfulobjects.rendering.service.conneg;
+    exports org.apache.causeway.viewer.restfulobjects.rendering.service.snapshot;
     exports org.apache.causeway.viewer.restfulobjects.rendering.service.swagger;
     exports org.apache.causeway.viewer.restfulobjects.rendering.service.valuerender;
     exports org.apache.causeway.viewer.restfulobjects.rendering.util;
@@ -44,6 +45,7 @@
     requires org.apache.causeway.core.metamodel;
     requires org.apache.causeway.core.runtime;
     requires org.apache.causeway.schema;
+    requires org.apache.causeway.security.api;
     requires org.apache.logging.log4j;
     requires org.joda.time;
     requires spring.beans;
@@ -29,6 +29,7 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.service.conneg.ContentNegotiationServiceOrgApacheCausewayV2;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.conneg.ContentNegotiationServiceOrgApacheIsisV1;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.conneg.ContentNegotiationServiceXRoDomainType;
+import org.apache.causeway.viewer.restfulobjects.rendering.service.snapshot.RenderSnapshotCache;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.swagger.SwaggerServiceDefault;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.swagger.SwaggerServiceMenu;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.swagger.internal.ClassExcluderDefault;
@@ -59,6 +60,7 @@
         ContentNegotiationServiceOrgApacheIsisV1.class, // to intercept client requests and respond with HTTP 501 (no longer supported)
         ContentNegotiationServiceXRoDomainType.class,
         JsonValueEncoderServiceDefault.class,
+        RenderSnapshotCache.class,
         RepresentationService.class,
         SwaggerServiceDefault.class,
         SwaggerServiceMenu.class,
@@ -88,6 +88,11 @@ public boolean isEventSerialization() {
     private String memberId;
     protected final Where where;
 
+    /**
+     * If set, used instead of evaluating the member's usability.
+     */
+    private Consent usabilityIfKnown;
+
     public AbstractObjectMemberReprRenderer(
             final IResourceContext resourceContext,
             final LinkFollowSpecs linkFollower,
@@ -124,6 +129,15 @@ public AbstractObjectMemberReprRenderer<T> usingLinkTo(final ObjectAdapterLinkTo
         return this;
     }
 
+    /**
+     * Provides the (already known) usability of the member, as eg. held by a
+     * {@link org.apache.causeway.viewer.restfulobjects.rendering.service.snapshot.RenderSnapshot}.
+     */
+    public AbstractObjectMemberReprRenderer<T> usingUsability(final Consent usability) {
+        this.usabilityIfKnown = usability;
+        return this;
+    }
+
     /**
      * Indicate that this is a standalone representation.
      */
@@ -304,6 +318,9 @@ protected <F extends Facet> F getMemberSpecFacet(final Class<F> facetType) {
     }
 
     protected Consent usability() {
+        if(usabilityIfKnown!=null) {
+            return usabilityIfKnown;
+        }
         return objectMember.isUsable(objectAdapter, getInteractionInitiatedBy(), where);
     }
 
@@ -20,6 +20,7 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -33,6 +34,7 @@
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAction;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectAssociation;
 import org.apache.causeway.core.metamodel.spec.feature.ObjectFeature;
+import org.apache.causeway.core.metamodel.spec.feature.ObjectMember;
 import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
 import org.apache.causeway.core.metamodel.spec.feature.OneToOneAssociation;
 import org.apache.causeway.core.metamodel.util.Facets;
@@ -45,6 +47,8 @@
 import org.apache.causeway.viewer.restfulobjects.rendering.LinkFollowSpecs;
 import org.apache.causeway.viewer.restfulobjects.rendering.ReprRendererAbstract;
 import org.apache.causeway.viewer.restfulobjects.rendering.domaintypes.DomainTypeReprRenderer;
+import org.apache.causeway.viewer.restfulobjects.rendering.service.snapshot.RenderSnapshot;
+import org.apache.causeway.viewer.restfulobjects.rendering.service.snapshot.RenderSnapshotCache;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.valuerender.JsonValueConverter;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.valuerender.JsonValueEncoderService;
 
@@ -57,10 +61,22 @@ public static LinkBuilder newLinkToBuilder(
             final IResourceContext resourceContext,
             final Rel rel,
             final ManagedObject objectAdapter) {
+        return newLinkToBuilder(resourceContext, rel, objectAdapter, objectAdapter.getTitle());
+    }
+
+    /**
+     * Variant of {@link #newLinkToBuilder(IResourceContext, Rel, ManagedObject)} for when the title
+     * was already evaluated.
+     */
+    public static LinkBuilder newLinkToBuilder(
+            final IResourceContext resourceContext,
+            final Rel rel,
+            final ManagedObject objectAdapter,
+            final String title) {
 
         final String objectRef = ManagedObjects.stringifyElseFail(objectAdapter, "/");
         final String url = "objects/" + objectRef;
-        return LinkBuilder.newBuilder(resourceContext, rel.getName(), RepresentationType.DOMAIN_OBJECT, url).withTitle(objectAdapter.getTitle());
+        return LinkBuilder.newBuilder(resourceContext, rel.getName(), RepresentationType.DOMAIN_OBJECT, url).withTitle(title);
     }
 
     public static LinkBuilder newLinkToObjectLayoutBuilder(
@@ -285,32 +301,38 @@ private DomainObjectReprRenderer withMembers(final ManagedObject objectAdapter)
                 .streamAssociations(MixedIn.INCLUDED)
                 .collect(Collectors.toList());
 
-        addProperties(objectAdapter, appendTo, associations);
+        final MemberSnapshotting snapshotting = memberSnapshotting(objectAdapter);
+
+        addProperties(objectAdapter, appendTo, associations, snapshotting);
 
         if(!resourceContext.config().isObjectPropertyValuesOnly()) {
             if (!mode.isArgs() ) {
-                addCollections(objectAdapter, appendTo, associations);
+                addCollections(objectAdapter, appendTo, associations, snapshotting);
             }
 
             if (mode.isRegular()) {
                 final Stream<ObjectAction> actions = objectAdapter.getSpecification()
                         .streamAnyActions(MixedIn.INCLUDED);
 
-                addActions(objectAdapter, actions, appendTo);
+                addActions(objectAdapter, actions, appendTo, snapshotting);
             }
         }
+        snapshotting.complete();
         if(!mode.isUpdatePropertiesLinkArgs()) {
             representation.mapPutJsonRepresentation("members", appendTo);
         }
         return this;
     }
 
-    private void addProperties(final ManagedObject objectAdapter, final JsonRepresentation members, final List<ObjectAssociation> associations) {
+    private void addProperties(
+            final ManagedObject objectAdapter,
+            final JsonRepresentation members,
+            final List<ObjectAssociation> associations,
+            final MemberSnapshotting snapshotting) {
         for (final ObjectAssociation assoc : associations) {
 
             if (mode.checkVisibility()) {
-                final Consent visibility = assoc.isVisible(objectAdapter, getInteractionInitiatedBy(), resourceContext.getWhere());
-                if (!visibility.isAllowed()) {
+                if (!snapshotting.isVisible(assoc)) {
                     continue;
                 }
             }
@@ -324,6 +346,7 @@ private void addProperties(final ManagedObject objectAdapter, final JsonRepresen
             final ObjectPropertyReprRenderer renderer =
                     new ObjectPropertyReprRenderer(getResourceContext(), linkFollowerForProp, property.getId(), propertyRepresentation);
             renderer.with(ManagedProperty.of(objectAdapter, property, resourceContext.getWhere())).usingLinkTo(linkToBuilder);
+            snapshotting.applyUsability(property, renderer);
 
             if (mode.isArgs()) {
                 renderer.asArguments();
@@ -340,12 +363,15 @@ private void addProperties(final ManagedObject objectAdapter, final JsonRepresen
         }
     }
 
-    private void addCollections(final ManagedObject objectAdapter, final JsonRepresentation members, final List<ObjectAssociation> associations) {
+    private void addCollections(
+            final ManagedObject objectAdapter,
+            final JsonRepresentation members,
+            final List<ObjectAssociation> associations,
+            final MemberSnapshotting snapshotting) {
         for (final ObjectAssociation assoc : associations) {
 
             if (mode.checkVisibility()) {
-                final Consent visibility = assoc.isVisible(objectAdapter, getInteractionInitiatedBy(), resourceContext.getWhere());
-                if (!visibility.isAllowed()) {
+                if (!snapshotting.isVisible(assoc)) {
                     continue;
                 }
             }
@@ -365,6 +391,7 @@ private void addCollections(final ManagedObject objectAdapter, final JsonReprese
             var where = resourceContext.getWhere();
 
             renderer.with(ManagedCollection.of(objectAdapter, collection, where)).usingLinkTo(linkToBuilder);
+            snapshotting.applyUsability(collection, renderer);
             if(mode.isEventSerialization()) {
                 renderer.asEventSerialization();
             }
@@ -376,27 +403,125 @@ private void addCollections(final ManagedObject objectAdapter, final JsonReprese
     private void addActions(
             final ManagedObject objectAdapter,
             final Stream<ObjectAction> actions,
-            final JsonRepresentation members) {
+            final JsonRepresentation members,
+            final MemberSnapshotting snapshotting) {
 
         actions
-        .filter(action->{
-            final Consent visibility = action.isVisible(objectAdapter, getInteractionInitiatedBy(), resourceContext.getWhere());
-            return visibility.isAllowed();
-        })
+        .filter(snapshotting::isVisible)
         .forEach(action->{
             final LinkFollowSpecs linkFollowSpecs = getLinkFollowSpecs().follow("members["+action.getId()+"]");
-            final ObjectActionReprRenderer renderer =
-                    new ObjectActionReprRenderer(getResourceContext(), linkFollowSpecs, action.getId(),
-                            JsonRepresentation.newMap());
+            final JsonRepresentation actionRepr = snapshotting.actionRepresentation(action, linkFollowSpecs, ()->{
+                final ObjectActionReprRenderer renderer =
+                        new ObjectActionReprRenderer(getResourceContext(), linkFollowSpecs, action.getId(),
+                                JsonRepresentation.newMap());
 
-            var where = resourceContext.getWhere();
+                var where = resourceContext.getWhere();
 
-            renderer.with(ManagedAction.of(objectAdapter, action, where)).usingLinkTo(linkToBuilder);
-            members.mapPutJsonRepresentation(action.getId(), renderer.render());
+                renderer.with(ManagedAction.of(objectAdapter, action, where)).usingLinkTo(linkToBuilder);
+                return renderer.render();
+            });
+            members.mapPutJsonRepresentation(action.getId(), actionRepr);
         });
 
     }
 
+    // -- RENDER SNAPSHOT
+
+    private MemberSnapshotting memberSnapshotting(final ManagedObject objectAdapter) {
+        if(!mode.isRegular()) {
+            return new MemberSnapshotting(null, null, null);
+        }
+        final RenderSnapshotCache cache = getResourceContext().getMetaModelContext().getServiceRegistry()
+                .lookupService(RenderSnapshotCache.class)
+                .filter(RenderSnapshotCache::isEnabled)
+                .orElse(null);
+        final RenderSnapshotCache.Key key = cache!=null
+                ? cache.keyFor(objectAdapter, resourceContext.restfulUrlFor(""),
+                        resourceContext.getWhere(), getInteractionInitiatedBy()).orElse(null)
+                : null;
+        return key!=null
+                ? new MemberSnapshotting(cache, key, cache.lookup(key).orElse(null))
+                : new MemberSnapshotting(null, null, null);
+    }
+
+    /**
+     * Serves the visibility and usability of members and the representations of actions from a
+     * {@link RenderSnapshot}, if available, otherwise evaluates them, recording a new snapshot
+     * if the object is eligible for caching.
+     */
+    private final class MemberSnapshotting {
+
+        private final RenderSnapshotCache cache;
+        private final RenderSnapshotCache.Key key;
+        private final RenderSnapshot snapshot;
+        private final RenderSnapshot.Recorder recorder;
+
+        MemberSnapshotting(
+                final RenderSnapshotCache cache,
+                final RenderSnapshotCache.Key key,
+                final RenderSnapshot snapshot) {
+            this.cache = cache;
+            this.key = key;
+            this.snapshot = snapshot;
+            this.recorder = key!=null && snapshot==null
+                    ? RenderSnapshot.recorder()
+                    : null;
+        }
+
+        boolean isVisible(final ObjectMember member) {
+            if(snapshot!=null) {
+                return snapshot.isVisible(member.getId());
+            }
+            final Consent visibility = member.isVisible(objectAdapter, getInteractionInitiatedBy(), resourceContext.getWhere());
+            if(recorder!=null) {
+                recorder.visible(member.getId(), visibility.isAllowed());
+            }
+            return visibility.isAllowed();
+        }
+
+        void applyUsability(final ObjectAssociation association, final AbstractObjectMemberReprRenderer<?> renderer) {
+            if(snapshot!=null) {
+                snapshot.usability(association.getId()).ifPresent(renderer::usingUsability);
+                return;
+            }
+            if(recorder!=null
+                    && !resourceContext.config().isSuppressMemberDisabledReason()) {
+                final Consent usability = association.isUsable(objectAdapter, getInteractionInitiatedBy(), resourceContext.getWhere());
+                recorder.usability(association.getId(), usability);
+                renderer.usingUsability(usability);
+            }
+        }
+
+        JsonRepresentation actionRepresentation(
+                final ObjectAction action,
+                final LinkFollowSpecs linkFollowSpecs,
+                final Supplier<JsonRepresentation> renderer) {
+            if(!linkFollowSpecs.isTerminated()) {
+                // depends on the links followed for this request
+                if(recorder!=null) {
+                    recorder.incomplete();
+                }
+                return renderer.get();
+            }
+            if(snapshot!=null) {
+                return snapshot.actionRepresentation(action.getId())
+                        .map(JsonRepresentation::new)
+                        .orElseGet(renderer);
+            }
+            final JsonRepresentation actionRepr = renderer.get();
+            if(recorder!=null) {
+                recorder.actionRepresentation(action.getId(), actionRepr.asJsonNode());
+            }
+            return actionRepr;
+        }
+
+        void complete() {
+            if(recorder!=null) {
+                recorder.build().ifPresent(newSnapshot->cache.put(key, newSnapshot));
+            }
+        }
+    }
+
     private void addPersistLinkIfTransientAndPersistable() {
         if (ManagedObjects.isIdentifiable(objectAdapter)) {
             return;
@@ -21,11 +21,13 @@
 import java.util.List;
 
 import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.commons.collections.Can;
 import org.apache.causeway.commons.internal.collections._Lists;
 import org.apache.causeway.core.metamodel.facets.collections.CollectionFacet;
 import org.apache.causeway.core.metamodel.interactions.managed.ManagedCollection;
 import org.apache.causeway.core.metamodel.object.ManagedObjects;
 import org.apache.causeway.core.metamodel.spec.feature.OneToManyAssociation;
+import org.apache.causeway.core.metamodel.tabular.DataRowDecoration;
 import org.apache.causeway.core.metamodel.util.Facets;
 import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
 import org.apache.causeway.viewer.restfulobjects.applib.Rel;
@@ -102,10 +104,11 @@ private void addValue(final LinkFollowSpecs linkFollower) {
 
         final List<JsonRepresentation> list = _Lists.newArrayList();
 
-        CollectionFacet.streamAdapters(valueAdapter)
-        .forEach(elementAdapter->{
+        // fetches the (detached) elements in bulk, titles are then evaluated once each (memoized per bookmark)
+        var elementAdapters = Can.ofStream(CollectionFacet.streamAdapters(valueAdapter));
+        elementAdapters.zip(DataRowDecoration.decorate(elementAdapters), (elementAdapter, decoration)->{
             final LinkBuilder valueLinkBuilder = DomainObjectReprRenderer
-                    .newLinkToBuilder(resourceContext, Rel.VALUE, elementAdapter);
+                    .newLinkToBuilder(resourceContext, Rel.VALUE, elementAdapter, decoration.getTitle());
             if(eagerlyRender) {
                 var domainObjectReprRenderer =
                         new DomainObjectReprRenderer(getResourceContext(), followHref, JsonRepresentation.newMap())
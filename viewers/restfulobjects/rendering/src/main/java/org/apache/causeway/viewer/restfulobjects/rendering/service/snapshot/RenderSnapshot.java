@@ -0,0 +1,134 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.service.snapshot;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import org.apache.causeway.core.metamodel.consent.Allow;
+import org.apache.causeway.core.metamodel.consent.Consent;
+import org.apache.causeway.core.metamodel.consent.Veto;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Immutable member metadata of a rendered domain object, as held by the {@link RenderSnapshotCache}:
+ * which members are visible, the disabled reasons of its associations and the (inline) representations
+ * of its actions.
+ *
+ * @since 2.x {@index}
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RenderSnapshot {
+
+    private final Set<String> visibleMemberIds;
+    private final Map<String, Optional<String>> disabledReasons;
+    private final Map<String, JsonNode> actionRepresentations;
+
+    public boolean isVisible(final @NonNull String memberId) {
+        return visibleMemberIds.contains(memberId);
+    }
+
+    /**
+     * Returns the usability of given association, if it was recorded.
+     */
+    public Optional<Consent> usability(final @NonNull String associationId) {
+        final var disabledReason = disabledReasons.get(associationId);
+        return disabledReason!=null
+                ? Optional.of(disabledReason
+                        .<Consent>map(Veto::new)
+                        .orElse(Allow.DEFAULT))
+                : Optional.empty();
+    }
+
+    /**
+     * Returns a copy of the representation of given action, if it was recorded.
+     */
+    public Optional<JsonNode> actionRepresentation(final @NonNull String actionId) {
+        return Optional.ofNullable(actionRepresentations.get(actionId))
+                .map(JsonNode::deepCopy);
+    }
+
+    // -- RECORDING
+
+    public static Recorder recorder() {
+        return new Recorder();
+    }
+
+    /**
+     * Collects the member metadata while an object is rendered, not thread-safe.
+     */
+    public static final class Recorder {
+
+        private final Set<String> visibleMemberIds = new HashSet<>();
+        private final Map<String, Optional<String>> disabledReasons = new HashMap<>();
+        private final Map<String, JsonNode> actionRepresentations = new LinkedHashMap<>();
+        private boolean complete = true;
+
+        private Recorder() {}
+
+        public Recorder visible(final @NonNull String memberId, final boolean visible) {
+            if(visible) {
+                visibleMemberIds.add(memberId);
+            }
+            return this;
+        }
+
+        public Recorder usability(final @NonNull String associationId, final @NonNull Consent usability) {
+            disabledReasons.put(associationId, usability.getReasonAsString());
+            return this;
+        }
+
+        public Recorder actionRepresentation(final @NonNull String actionId, final @NonNull JsonNode representation) {
+            actionRepresentations.put(actionId, representation.deepCopy());
+            return this;
+        }
+
+        /**
+         * Marks the recording as not reusable, eg. because some member was rendered in a way that depends on
+         * the request (such as following its links).
+         */
+        public Recorder incomplete() {
+            complete = false;
+            return this;
+        }
+
+        /**
+         * Returns the recorded snapshot, unless it was marked {@link #incomplete()}.
+         */
+        public Optional<RenderSnapshot> build() {
+            return complete
+                    ? Optional.of(new RenderSnapshot(
+                            Collections.unmodifiableSet(new HashSet<>(visibleMemberIds)),
+                            Collections.unmodifiableMap(new HashMap<>(disabledReasons)),
+                            Collections.unmodifiableMap(new LinkedHashMap<>(actionRepresentations))))
+                    : Optional.empty();
+        }
+    }
+
+}
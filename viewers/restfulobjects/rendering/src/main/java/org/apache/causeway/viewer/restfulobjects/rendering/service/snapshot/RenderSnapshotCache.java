@@ -0,0 +1,290 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.service.snapshot;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.events.metamodel.MetamodelListener;
+import org.apache.causeway.applib.locale.UserLocale;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.security.authorization.AuthorizorRulesChangedEvent;
+import org.apache.causeway.viewer.restfulobjects.applib.CausewayModuleViewerRestfulObjectsApplib;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Bounded, time-to-live cache of {@link RenderSnapshot}s, keyed by bookmark, entity version, user, roles,
+ * locale, the base URL of the rendered links and rendering context; see <code>causeway.viewer.restfulobjects.render-snapshot-cache</code>.
+ *
+ * <p>
+ * A new entity version yields a new key, hence snapshots are never served for a modified object,
+ * while those of previous versions eventually expire or get evicted.
+ * </p>
+ *
+ * @since 2.x {@index}
+ */
+@Service
+@Named(RenderSnapshotCache.LOGICAL_TYPE_NAME)
+@Priority(PriorityPrecedence.MIDPOINT)
+@Qualifier("Default")
+public class RenderSnapshotCache implements MetamodelListener {
+
+    public static final String LOGICAL_TYPE_NAME = CausewayModuleViewerRestfulObjectsApplib.NAMESPACE + ".RenderSnapshotCache";
+
+    @Value(staticConstructor = "of")
+    public static class Statistics {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+
+        public double getHitRate() {
+            final long lookups = hits + misses;
+            return lookups > 0
+                    ? (double)hits / lookups
+                    : 0.;
+        }
+    }
+
+    /**
+     * Identifies a {@link RenderSnapshot}, obtained via {@link RenderSnapshotCache#keyFor}.
+     */
+    @Value
+    public static class Key {
+        private final Bookmark bookmark;
+        private final Object version;
+        private final String userName;
+        /** sorted once when the key is created, so is independent of the order the roles are listed in */
+        private final List<String> roleNames;
+        private final UserLocale locale;
+        private final Where where;
+        private final InteractionInitiatedBy interactionInitiatedBy;
+        /**
+         * Snapshots hold absolute hrefs, hence must not be shared among requests reaching this
+         * application via different base URLs (eg. by host name or through a proxy).
+         */
+        private final String restfulBase;
+    }
+
+    private final InteractionLayerTracker interactionLayerTracker;
+    private final boolean enabled;
+    private final int maxSize;
+    private final long timeToLiveNanos;
+    private final Set<String> nonCacheableLogicalTypeNames;
+    private final LongSupplier nanoClock;
+
+    private final Map<Key, Entry> snapshots = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Inject
+    public RenderSnapshotCache(
+            final InteractionLayerTracker interactionLayerTracker,
+            final CausewayConfiguration causewayConfiguration) {
+        this(interactionLayerTracker,
+                causewayConfiguration.getViewer().getRestfulobjects().getRenderSnapshotCache(),
+                System::nanoTime);
+    }
+
+    // package private, for testing
+    RenderSnapshotCache(
+            final InteractionLayerTracker interactionLayerTracker,
+            final CausewayConfiguration.Viewer.Restfulobjects.RenderSnapshotCache config,
+            final LongSupplier nanoClock) {
+        this.interactionLayerTracker = interactionLayerTracker;
+        this.enabled = config.isEnabled();
+        this.maxSize = Math.max(1, config.getMaxSize());
+        this.timeToLiveNanos = config.getTimeToLive().toNanos();
+        this.nonCacheableLogicalTypeNames = new HashSet<>(config.getNonCacheableLogicalTypeNames());
+        this.nanoClock = nanoClock;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the key for the member metadata of given domain object, as rendered for the current user,
+     * or empty if not eligible for caching: if disabled, if not an entity with a bookmark and version,
+     * if declared non-cacheable or if there is no current user.
+     */
+    public Optional<Key> keyFor(
+            final @NonNull ManagedObject domainObject,
+            final @NonNull String restfulBase,
+            final @NonNull Where where,
+            final @NonNull InteractionInitiatedBy interactionInitiatedBy) {
+        if(!enabled) {
+            return Optional.empty();
+        }
+        final var spec = domainObject.getSpecification();
+        if(!spec.isEntity()
+                || nonCacheableLogicalTypeNames.contains(spec.getLogicalTypeName())) {
+            return Optional.empty();
+        }
+        final var bookmark = domainObject.getBookmark().orElse(null);
+        final var version = bookmark!=null
+                ? spec.entityFacetElseFail().versionOf(domainObject.getPojo())
+                : null;
+        if(version==null) {
+            return Optional.empty();
+        }
+        return interactionLayerTracker.currentInteractionContext()
+                .filter(interactionContext->interactionContext.getUser()!=null)
+                .map(interactionContext->keyFor(bookmark, version, interactionContext, restfulBase, where, interactionInitiatedBy));
+    }
+
+    public Optional<RenderSnapshot> lookup(final @NonNull Key key) {
+        final var entry = snapshots.get(key);
+        if(entry!=null
+                && !entry.isExpired(nanoClock.getAsLong())) {
+            hits.increment();
+            return Optional.of(entry.getSnapshot());
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(final @NonNull Key key, final @NonNull RenderSnapshot snapshot) {
+        final long now = nanoClock.getAsLong();
+        snapshots.put(key, new Entry(snapshot, now + timeToLiveNanos));
+        if(snapshots.size() > maxSize) {
+            evict(now);
+        }
+    }
+
+    /**
+     * Discards all snapshots.
+     */
+    public void invalidateAll() {
+        snapshots.clear();
+    }
+
+    /**
+     * Discards the snapshots of given user.
+     */
+    public void invalidate(final String userName) {
+        snapshots.keySet().removeIf(key->Objects.equals(key.getUserName(), userName));
+    }
+
+    public Statistics getStatistics() {
+        return Statistics.of(hits.sum(), misses.sum(), evictions.sum(), snapshots.size());
+    }
+
+    // -- INVALIDATION
+
+    /**
+     * Authorization decisions are part of the member metadata.
+     */
+    @EventListener(AuthorizorRulesChangedEvent.class)
+    public void onAuthorizorRulesChanged(final AuthorizorRulesChangedEvent event) {
+        event.getUserName()
+            .ifPresentOrElse(this::invalidate, this::invalidateAll);
+    }
+
+    @Override
+    public void onMetamodelLoaded() {
+        invalidateAll();
+    }
+
+    // -- HELPER
+
+    @Value
+    private static class Entry {
+        private final RenderSnapshot snapshot;
+        private final long expiresAt;
+        boolean isExpired(final long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    private static Key keyFor(
+            final Bookmark bookmark,
+            final Object version,
+            final InteractionContext interactionContext,
+            final String restfulBase,
+            final Where where,
+            final InteractionInitiatedBy interactionInitiatedBy) {
+        final var user = interactionContext.getUser();
+        return new Key(
+                bookmark,
+                version,
+                user.getName(),
+                user.streamRoleNames()
+                    .sorted()
+                    .collect(Collectors.toUnmodifiableList()),
+                interactionContext.getLocale(),
+                where,
+                interactionInitiatedBy,
+                restfulBase);
+    }
+
+    /**
+     * Evicts expired snapshots first, then arbitrary ones, until 90% of capacity is reached.
+     * Only one thread at a time does the eviction, others just carry on.
+     */
+    private void evict(final long now) {
+        if(!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            final int sizeBefore = snapshots.size();
+            snapshots.values().removeIf(entry->entry.isExpired(now));
+            final int target = maxSize - maxSize / 10;
+            final var iterator = snapshots.keySet().iterator();
+            while(snapshots.size() > target
+                    && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+            evictions.add(Math.max(0, sizeBefore - snapshots.size()));
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+}
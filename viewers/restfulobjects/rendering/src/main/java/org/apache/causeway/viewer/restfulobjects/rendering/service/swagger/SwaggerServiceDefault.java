@@ -18,6 +18,12 @@
  */
 package org.apache.causeway.viewer.restfulobjects.rendering.service.swagger;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.PreDestroy;
 import javax.annotation.Priority;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -26,17 +32,30 @@
 import org.springframework.stereotype.Service;
 
 import org.apache.causeway.applib.annotation.PriorityPrecedence;
+import org.apache.causeway.applib.events.metamodel.MetamodelListener;
+import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.applib.services.swagger.Format;
 import org.apache.causeway.applib.services.swagger.SwaggerService;
 import org.apache.causeway.applib.services.swagger.Visibility;
 import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.config.RestEasyConfiguration;
+import org.apache.causeway.core.config.environment.CausewaySystemEnvironment;
+import org.apache.causeway.core.config.metamodel.specloader.IntrospectionMode;
 import org.apache.causeway.core.config.viewer.web.WebAppContextPath;
 import org.apache.causeway.viewer.restfulobjects.applib.CausewayModuleViewerRestfulObjectsApplib;
 import org.apache.causeway.viewer.restfulobjects.rendering.service.swagger.internal.OpenApiSpecGenerator;
 
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
 /**
  * Default implementation of {@link SwaggerService}.
+ * <p>
+ * If the meta-model is fully introspected, the generated specs are memoized per {@link Visibility} and
+ * {@link Format} (and optionally pre-rendered by a background thread owned by this service, once the meta-model
+ * has been loaded), until the meta-model is reloaded.
  *
  * @since 1.x revised for 2.0 {@index}
  */
@@ -44,7 +63,8 @@
 @Named(SwaggerServiceDefault.LOGICAL_TYPE_NAME)
 @Priority(PriorityPrecedence.MIDPOINT)
 @Qualifier("Default")
-public class SwaggerServiceDefault implements SwaggerService {
+@Log4j2
+public class SwaggerServiceDefault implements SwaggerService, MetamodelListener {
 
     /**
      * Beware this name uses camelCase rather than the usual PascalCase.
@@ -54,26 +74,115 @@ public class SwaggerServiceDefault implements SwaggerService {
 
     private final OpenApiSpecGenerator swaggerSpecGenerator;
     private final String basePath;
+    private final InteractionService interactionService;
+    private final boolean memoize;
+
+    private final Map<SpecKey, String> specs = new ConcurrentHashMap<>();
+    private final ExecutorService preRenderExecutor;
 
     @Inject
     public SwaggerServiceDefault(
             final OpenApiSpecGenerator swaggerSpecGenerator,
             final RestEasyConfiguration restEasyConfiguration,
-            final WebAppContextPath webAppContextPath) {
+            final WebAppContextPath webAppContextPath,
+            final InteractionService interactionService,
+            final CausewayConfiguration causewayConfiguration,
+            final CausewaySystemEnvironment causewaySystemEnvironment) {
 
         this.swaggerSpecGenerator = swaggerSpecGenerator;
+        this.interactionService = interactionService;
 
         var restfulPath = restEasyConfiguration.getJaxrs().getDefaultPath();
         var restfulBase = webAppContextPath.prependContextPath(restfulPath);
 
         this.basePath = _Strings.suffix(restfulBase, "/");
+
+        var swaggerConfig = causewayConfiguration.getViewer().getRestfulobjects().getSwagger();
+        this.memoize = swaggerConfig.isMemoize()
+                && IntrospectionMode.isFullIntrospect(causewayConfiguration, causewaySystemEnvironment);
+        this.preRenderExecutor = memoize && swaggerConfig.isPreRender()
+                ? Executors.newSingleThreadExecutor(runnable->{
+                        var thread = new Thread(runnable, "causeway-swagger-prerender");
+                        thread.setDaemon(true);
+                        return thread;
+                    })
+                : null;
+    }
+
+    @PreDestroy
+    public void close() {
+        if(preRenderExecutor != null) {
+            preRenderExecutor.shutdownNow();
+        }
     }
 
+    /**
+     * Returns the (possibly memoized) spec for given {@link Visibility} and {@link Format}.
+     */
     @Override
     public String generateSwaggerSpec(
-            final Visibility visibility,
-            final Format format) {
-        return swaggerSpecGenerator.generate(basePath, visibility, format);
+            final @NonNull Visibility visibility,
+            final @NonNull Format format) {
+        var key = SpecKey.of(visibility, format);
+        if(!memoize) {
+            return generate(key);
+        }
+        var spec = specs.get(key);
+        if(spec != null) {
+            return spec;
+        }
+        // generated outside of the map, so as not to block access to the other specs meanwhile;
+        // should this race with another request, the first one memoized wins
+        var generated = generate(key);
+        var previous = specs.putIfAbsent(key, generated);
+        return previous != null
+                ? previous
+                : generated;
+    }
+
+    // -- METAMODEL LIFECYCLE
+
+    @Override
+    public void onMetamodelAboutToBeLoaded() {
+        specs.clear();
+    }
+
+    @Override
+    public void onMetamodelLoaded() {
+        specs.clear();
+        if(preRenderExecutor == null) {
+            return;
+        }
+        preRenderExecutor.execute(this::preRenderAll);
+    }
+
+    // -- SPEC KEY
+
+    @Value(staticConstructor = "of")
+    static class SpecKey {
+        Visibility visibility;
+        Format format;
+    }
+
+    // -- HELPER
+
+    private String generate(final SpecKey key) {
+        return swaggerSpecGenerator.generate(basePath, key.getVisibility(), key.getFormat());
+    }
+
+    private void preRenderAll() {
+        try {
+            interactionService.runAnonymous(()->{
+                for(var visibility : Visibility.values()) {
+                    for(var format : Format.values()) {
+                        generateSwaggerSpec(visibility, format);
+                    }
+                }
+            });
+            log.info("pre-rendered {} swagger specs", specs.size());
+        } catch (Exception e) {
+            log.warn("failed to pre-render swagger specs (will render on demand instead)", e);
+        }
     }
 
 }
@@ -0,0 +1,183 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.rendering.service.snapshot;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.applib.services.iactnlayer.InteractionContext;
+import org.apache.causeway.applib.services.iactnlayer.InteractionLayerTracker;
+import org.apache.causeway.applib.services.user.UserMemento;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.consent.Allow;
+import org.apache.causeway.core.metamodel.consent.InteractionInitiatedBy;
+import org.apache.causeway.core.metamodel.consent.Veto;
+import org.apache.causeway.core.metamodel.facets.object.entity.EntityFacet;
+import org.apache.causeway.core.metamodel.object.ManagedObject;
+import org.apache.causeway.core.metamodel.spec.ObjectSpecification;
+import org.apache.causeway.core.security.authorization.AuthorizorRulesChangedEvent;
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+
+class RenderSnapshotCacheTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final AtomicReference<Object> version = new AtomicReference<>(1L);
+    private final AtomicReference<UserMemento> user = new AtomicReference<>(
+            UserMemento.ofNameAndRoleNames("sven", "admin", "user"));
+    private final AtomicReference<String> restfulBase = new AtomicReference<>("http://localhost:8080/restful/");
+
+    private CausewayConfiguration.Viewer.Restfulobjects.RenderSnapshotCache config;
+    private ManagedObject customer;
+
+    @BeforeEach
+    void setUp() {
+        config = new CausewayConfiguration.Viewer.Restfulobjects.RenderSnapshotCache();
+        config.setEnabled(true);
+        config.setTimeToLive(Duration.ofSeconds(10));
+
+        var pojo = new Object();
+        var entityFacet = mock(EntityFacet.class);
+        when(entityFacet.versionOf(pojo)).thenAnswer(__->version.get());
+        var spec = mock(ObjectSpecification.class);
+        when(spec.isEntity()).thenReturn(true);
+        when(spec.getLogicalTypeName()).thenReturn("demo.Customer");
+        when(spec.entityFacetElseFail()).thenReturn(entityFacet);
+        customer = mock(ManagedObject.class);
+        when(customer.getSpecification()).thenReturn(spec);
+        when(customer.getPojo()).thenReturn(pojo);
+        when(customer.getBookmark()).thenReturn(Optional.of(Bookmark.forLogicalTypeNameAndIdentifier("demo.Customer", "1")));
+    }
+
+    @Test
+    void snapshot_isServed_untilVersionChanges() {
+        var cache = cache();
+        var key = keyFor(cache).orElseThrow();
+        assertThat(cache.lookup(key).isPresent(), is(false));
+
+        cache.put(key, RenderSnapshot.recorder().visible("name", true).build().orElseThrow());
+        assertThat(cache.lookup(keyFor(cache).orElseThrow()).isPresent(), is(true));
+
+        version.set(2L);
+        assertThat(cache.lookup(keyFor(cache).orElseThrow()).isPresent(), is(false));
+
+        var statistics = cache.getStatistics();
+        assertThat(statistics.getHits(), is(1L));
+        assertThat(statistics.getMisses(), is(2L));
+    }
+
+    @Test
+    void key_dependsOnUserAndBaseUrlButNotOnOrderOfRoles() {
+        var cache = cache();
+        var key = keyFor(cache).orElseThrow();
+
+        user.set(UserMemento.ofNameAndRoleNames("sven", "user", "admin"));
+        assertThat(keyFor(cache).orElseThrow(), is(equalTo(key)));
+
+        user.set(UserMemento.ofNameAndRoleNames("dick", "admin", "user"));
+        assertThat(keyFor(cache).orElseThrow(), is(not(equalTo(key))));
+
+        user.set(UserMemento.ofNameAndRoleNames("sven", "admin", "user"));
+        restfulBase.set("https://example.com/restful/");
+        assertThat(keyFor(cache).orElseThrow(), is(not(equalTo(key))));
+    }
+
+    @Test
+    void ineligibleObjects_haveNoKey() {
+        config.setNonCacheableLogicalTypeNames(List.of("demo.Customer"));
+        assertThat(keyFor(cache()).isPresent(), is(false));
+
+        config.setNonCacheableLogicalTypeNames(List.of());
+        version.set(null);
+        assertThat(keyFor(cache()).isPresent(), is(false));
+
+        config.setEnabled(false);
+        version.set(1L);
+        assertThat(keyFor(cache()).isPresent(), is(false));
+    }
+
+    @Test
+    void snapshots_expire_andAreInvalidatedPerUser() {
+        var cache = cache();
+        var key = keyFor(cache).orElseThrow();
+        var snapshot = RenderSnapshot.recorder().build().orElseThrow();
+
+        cache.put(key, snapshot);
+        nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(cache.lookup(key).isPresent(), is(false));
+
+        cache.put(key, snapshot);
+        cache.onAuthorizorRulesChanged(AuthorizorRulesChangedEvent.forUser("dick"));
+        assertThat(cache.lookup(key).isPresent(), is(true));
+        cache.onAuthorizorRulesChanged(AuthorizorRulesChangedEvent.forUser("sven"));
+        assertThat(cache.lookup(key).isPresent(), is(false));
+    }
+
+    @Test
+    void recorder_capturesMemberMetadata() {
+        var actionRepr = JsonRepresentation.newMap("id", "placeOrder");
+        var snapshot = RenderSnapshot.recorder()
+                .visible("name", true)
+                .visible("secret", false)
+                .usability("name", Allow.DEFAULT)
+                .usability("email", new Veto("Verified"))
+                .actionRepresentation("placeOrder", actionRepr.asJsonNode())
+                .build()
+                .orElseThrow();
+
+        actionRepr.mapPutString("id", "modified");
+
+        assertThat(snapshot.isVisible("name"), is(true));
+        assertThat(snapshot.isVisible("secret"), is(false));
+        assertThat(snapshot.usability("name").orElseThrow().isAllowed(), is(true));
+        assertThat(snapshot.usability("email").orElseThrow().getReasonAsString(), is(Optional.of("Verified")));
+        assertThat(snapshot.usability("other").isPresent(), is(false));
+        assertThat(snapshot.actionRepresentation("placeOrder").orElseThrow().get("id").asText(), is("placeOrder"));
+
+        assertThat(RenderSnapshot.recorder().incomplete().build().isPresent(), is(false));
+    }
+
+    // -- HELPER
+
+    private RenderSnapshotCache cache() {
+        var interactionLayerTracker = mock(InteractionLayerTracker.class);
+        when(interactionLayerTracker.currentInteractionContext())
+            .thenAnswer(__->Optional.of(InteractionContext.ofUserWithSystemDefaults(user.get())));
+        return new RenderSnapshotCache(interactionLayerTracker, config, nanoTime::get);
+    }
+
+    private Optional<RenderSnapshotCache.Key> keyFor(final RenderSnapshotCache cache) {
+        return cache.keyFor(customer, restfulBase.get(), Where.OBJECT_FORMS, InteractionInitiatedBy.USER);
+    }
+
+}
@@ -51,5 +51,6 @@
     requires spring.beans;
     requires spring.context;
     requires spring.core;
+    requires spring.tx;
     requires spring.web;
 }
@@ -28,6 +28,7 @@
 import org.apache.causeway.viewer.restfulobjects.viewer.mappers.ExceptionMapperForObjectNotFound;
 import org.apache.causeway.viewer.restfulobjects.viewer.mappers.ExceptionMapperForRestfulObjectsApplication;
 import org.apache.causeway.viewer.restfulobjects.viewer.mappers.ExceptionMapperForRuntimeException;
+import org.apache.causeway.viewer.restfulobjects.viewer.resources.BatchResourceServerside;
 import org.apache.causeway.viewer.restfulobjects.viewer.resources.DomainObjectResourceServerside;
 import org.apache.causeway.viewer.restfulobjects.viewer.resources.DomainServiceResourceServerside;
 import org.apache.causeway.viewer.restfulobjects.viewer.resources.DomainTypeResourceServerside;
@@ -58,6 +59,7 @@
         DomainServiceResourceServerside.class,
         VersionResourceServerside.class,
         SwaggerSpecResource.class,
+        BatchResourceServerside.class,
 
         ExceptionMapperForRestfulObjectsApplication.class,
         ExceptionMapperForRuntimeException.class,
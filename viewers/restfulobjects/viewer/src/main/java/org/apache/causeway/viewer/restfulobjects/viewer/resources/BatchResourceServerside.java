@@ -0,0 +1,439 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import org.apache.causeway.applib.annotation.Where;
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.internal.exceptions._Exceptions;
+import org.apache.causeway.core.config.CausewayConfiguration.Viewer.Restfulobjects.Batch.TransactionMode;
+import org.apache.causeway.core.metamodel.interactions.managed.ManagedMember;
+import org.apache.causeway.core.metamodel.interactions.managed.MemberInteraction.AccessIntent;
+import org.apache.causeway.core.metamodel.interactions.managed.PropertyInteraction;
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.RepresentationType;
+import org.apache.causeway.viewer.restfulobjects.applib.RestfulMediaType;
+import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
+import org.apache.causeway.viewer.restfulobjects.rendering.ExceptionWithBody;
+import org.apache.causeway.viewer.restfulobjects.rendering.ExceptionWithHttpStatusCode;
+import org.apache.causeway.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
+import org.apache.causeway.viewer.restfulobjects.rendering.service.RepresentationService;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.RequestParams;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Executes an ordered list of property reads, property updates and action invocations
+ * within a single HTTP request, saving a client the round-trip per member.
+ * <p>
+ * The request body is of the form
+ * <code>{"transactionMode": "PER_ITEM|ALL_OR_NOTHING", "items": [{"id": ..., "method": ..., "href": ..., "arguments": {...}}, ...]}</code>,
+ * where each item uses the same link format and arguments as the corresponding regular resource.
+ * <p>
+ * The response lists a result per item, in order, each holding the item's <code>outcome</code>,
+ * <code>status</code> and <code>body</code> (being the representation the regular resource would have responded with).
+ * With {@link TransactionMode#PER_ITEM} the results are streamed as the items complete; with
+ * {@link TransactionMode#ALL_OR_NOTHING} they are written once the batch's transaction has been
+ * committed or rolled back.
+ * <p>
+ * Non-standard with respect to the RO Spec v1.0, hence only available if enabled.
+ *
+ * @see org.apache.causeway.core.config.CausewayConfiguration.Viewer.Restfulobjects.Batch
+ */
+@Component
+@Path("/batch")
+@Log4j2
+public class BatchResourceServerside
+extends ResourceAbstract {
+
+    enum Outcome {
+        /** item executed and its changes committed */
+        SUCCEEDED,
+        /** item failed, its changes rolled back */
+        FAILED,
+        /** item executed, but its changes rolled back because of a subsequent item's failure */
+        ROLLED_BACK,
+        /** item not executed because of a preceding item's failure */
+        SKIPPED
+    }
+
+    public BatchResourceServerside() {
+        super();
+        log.debug("<init>");
+    }
+
+    @POST
+    @Consumes({ MediaType.WILDCARD })
+    @Produces({ MediaType.APPLICATION_JSON, RestfulMediaType.APPLICATION_JSON_ERROR })
+    public Response batch(final InputStream body) {
+
+        var batchConfig = getConfiguration().getViewer().getRestfulobjects().getBatch();
+        if(!batchConfig.isEnabled()) {
+            throw _EndpointLogging.error(log, "POST /batch",
+                    RestfulObjectsApplicationException
+                    .createWithMessage(HttpStatusCode.NOT_IMPLEMENTED,
+                            "Batch requests are not enabled"));
+        }
+        if(!_Strings.isNullOrEmpty(httpServletRequest.getQueryString())) {
+            // would otherwise take precedence over the items' arguments
+            throw _EndpointLogging.error(log, "POST /batch",
+                    RestfulObjectsApplicationException
+                    .createWithMessage(HttpStatusCode.BAD_REQUEST,
+                            "query strings are not supported, use the items' 'arguments' instead"));
+        }
+
+        // eg. http://localhost:8080/ctx/restful/
+        final String restfulAbsoluteBase = createResourceContext(
+                ResourceDescriptor.generic(Where.ANYWHERE, RepresentationService.Intent.NOT_APPLICABLE),
+                RequestParams.ofEmptyQueryString())
+                .restfulUrlFor("");
+
+        final JsonRepresentation batchRepr = RequestParams.ofRequestBody(body).asMap();
+        final TransactionMode transactionMode = transactionModeOf(batchRepr, batchConfig.getTransactionMode());
+        final List<_BatchItem> items = itemsOf(batchRepr, restfulAbsoluteBase, batchConfig.getMaxItems());
+
+        final TransactionService transactionService = getTransactionService();
+        final StreamingOutput entity = transactionMode == TransactionMode.ALL_OR_NOTHING
+                ? out->writeResults(out, transactionMode,
+                        executeAllOrNothing(transactionService, items, this::execute))
+                : out->writeResults(out, transactionMode, items,
+                        item->executePerItem(transactionService, item, this::execute));
+
+        return _EndpointLogging.response(log, "POST /batch",
+                Response.ok(entity, MediaType.APPLICATION_JSON_TYPE).build());
+    }
+
+    // -- EXECUTION
+
+    @Value(staticConstructor = "of")
+    static class ItemResult {
+        final @NonNull _BatchItem item;
+        final @NonNull Outcome outcome;
+        final int status;
+        /** JSON representation, as rendered by the regular resource */
+        final @Nullable Object entity;
+
+        ItemResult rolledBack() {
+            return of(item, Outcome.ROLLED_BACK, status, entity);
+        }
+
+        static ItemResult succeeded(final _BatchItem item, final Response response) {
+            return of(item, Outcome.SUCCEEDED, response.getStatus(), response.getEntity());
+        }
+
+        static ItemResult failed(final _BatchItem item, final Throwable failure) {
+            return of(item, Outcome.FAILED, statusOf(failure).getStatusCode(), bodyOf(failure));
+        }
+
+        static ItemResult skipped(final _BatchItem item) {
+            return of(item, Outcome.SKIPPED, 0, null);
+        }
+    }
+
+    static ItemResult executePerItem(
+            final TransactionService transactionService,
+            final _BatchItem item,
+            final Function<_BatchItem, Response> executor) {
+        return transactionService
+                .callTransactional(Propagation.REQUIRES_NEW, ()->executor.apply(item))
+                .fold(
+                        failure->ItemResult.failed(item, failure),
+                        response->ItemResult.succeeded(item, response.orElseThrow()));
+    }
+
+    static List<ItemResult> executeAllOrNothing(
+            final TransactionService transactionService,
+            final List<_BatchItem> items,
+            final Function<_BatchItem, Response> executor) {
+        final List<ItemResult> results = new ArrayList<>(items.size());
+        transactionService
+        .callTransactional(Propagation.REQUIRES_NEW, ()->{
+            for(var item : items) {
+                try {
+                    results.add(ItemResult.succeeded(item, executor.apply(item)));
+                } catch (Exception e) {
+                    results.add(ItemResult.failed(item, e));
+                    throw e; // rolls back the entire batch
+                }
+            }
+            return null;
+        })
+        .ifFailure(failure->{
+            for(int i = 0; i < results.size(); i++) {
+                var result = results.get(i);
+                if(result.getOutcome() == Outcome.SUCCEEDED) {
+                    results.set(i, result.rolledBack());
+                }
+            }
+            if(results.isEmpty()
+                    || results.get(results.size() - 1).getOutcome() != Outcome.FAILED) {
+                // failed on commit, rather than on any particular item
+                log.warn("batch rolled back on commit", failure);
+            }
+            items.stream()
+                .skip(results.size())
+                .map(ItemResult::skipped)
+                .forEach(results::add);
+        });
+        return results;
+    }
+
+    /**
+     * Executes given item the same way as the corresponding regular resource does.
+     */
+    private Response execute(final _BatchItem item) {
+        var arguments = RequestParams.ofRequestBody(
+                new ByteArrayInputStream(item.getArguments().toString().getBytes(StandardCharsets.UTF_8)));
+
+        switch (item.getKind()) {
+        case PROPERTY_READ: {
+            var resourceContext = createResourceContext(
+                    ResourceDescriptor.of(RepresentationType.OBJECT_PROPERTY, Where.OBJECT_FORMS, RepresentationService.Intent.NOT_APPLICABLE),
+                    arguments);
+            var objectAdapter = getObjectAdapterElseThrowNotFound(item.getDomainType(), item.getInstanceId(),
+                    roEx->roEx);
+            return _DomainResourceHelper
+                    .ofObjectResource(resourceContext, objectAdapter)
+                    .propertyDetails(item.getMemberId(), ManagedMember.RepresentationMode.READ);
+        }
+        case PROPERTY_UPDATE:
+        case PROPERTY_CLEAR: {
+            var resourceContext = createResourceContext(
+                    ResourceDescriptor.generic(Where.OBJECT_FORMS, RepresentationService.Intent.NOT_APPLICABLE),
+                    RequestParams.ofEmptyQueryString());
+            var objectAdapter = getObjectAdapterElseThrowNotFound(item.getDomainType(), item.getInstanceId(),
+                    roEx->roEx);
+            PropertyInteraction.start(objectAdapter, item.getMemberId(), resourceContext.getWhere())
+            .checkVisibility()
+            .checkUsability(AccessIntent.MUTATE)
+            .modifyProperty(property->item.getKind() == _BatchItem.Kind.PROPERTY_UPDATE
+                    ? new JsonParserHelper(resourceContext, property.getElementType())
+                            .parseAsMapWithSingleValue(arguments)
+                    : null)
+            .validateElseThrow(InteractionFailureHandler::onFailure);
+            return _DomainResourceHelper
+                    .ofObjectResource(resourceContext, objectAdapter)
+                    .propertyDetails(item.getMemberId(), ManagedMember.RepresentationMode.WRITE);
+        }
+        case OBJECT_ACTION_INVOKE:
+        case SERVICE_ACTION_INVOKE: {
+            var resourceContext = createResourceContext(
+                    ResourceDescriptor.of(RepresentationType.ACTION_RESULT, Where.STANDALONE_TABLES, RepresentationService.Intent.NOT_APPLICABLE),
+                    arguments);
+            var helper = item.getKind() == _BatchItem.Kind.OBJECT_ACTION_INVOKE
+                    ? _DomainResourceHelper.ofObjectResource(resourceContext,
+                            getObjectAdapterElseThrowNotFound(item.getDomainType(), item.getInstanceId(), roEx->roEx))
+                    : _DomainResourceHelper.ofServiceResource(resourceContext, item.getDomainType());
+            var actionArguments = resourceContext.getQueryStringAsJsonRepr();
+            switch (item.getMethod()) {
+            case GET: return helper.invokeActionQueryOnly(item.getMemberId(), actionArguments);
+            case PUT: return helper.invokeActionIdempotent(item.getMemberId(), actionArguments);
+            default: return helper.invokeAction(item.getMemberId(), actionArguments);
+            }
+        }
+        default:
+            throw _Exceptions.unmatchedCase(item.getKind());
+        }
+    }
+
+    // -- REQUEST PARSING
+
+    private static TransactionMode transactionModeOf(
+            final JsonRepresentation batchRepr,
+            final TransactionMode defaultTransactionMode) {
+        if(!batchRepr.isString("transactionMode")) {
+            return defaultTransactionMode;
+        }
+        var transactionMode = batchRepr.getString("transactionMode");
+        try {
+            return TransactionMode.valueOf(transactionMode.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw _EndpointLogging.error(log, "POST /batch",
+                    RestfulObjectsApplicationException
+                    .createWithMessage(HttpStatusCode.BAD_REQUEST,
+                            "unknown transactionMode '%s'", transactionMode));
+        }
+    }
+
+    /**
+     * Parses all items up front, such that a malformed batch is rejected as a whole,
+     * before any of its items got executed.
+     */
+    private static List<_BatchItem> itemsOf(
+            final JsonRepresentation batchRepr,
+            final String restfulAbsoluteBase,
+            final int maxItems) {
+        if(!batchRepr.isArray("items")) {
+            throw _EndpointLogging.error(log, "POST /batch",
+                    RestfulObjectsApplicationException
+                    .createWithMessage(HttpStatusCode.BAD_REQUEST,
+                            "missing 'items' array"));
+        }
+        var itemsRepr = batchRepr.getArray("items");
+        if(itemsRepr.size() > maxItems) {
+            throw _EndpointLogging.error(log, "POST /batch",
+                    RestfulObjectsApplicationException
+                    .createWithMessage(HttpStatusCode.BAD_REQUEST,
+                            "batch of %d items exceeds the maximum of %d", itemsRepr.size(), maxItems));
+        }
+        var itemReprs = itemsRepr.streamArrayElements().collect(Collectors.toList());
+        final List<_BatchItem> items = new ArrayList<>(itemReprs.size());
+        for(int index = 0; index < itemReprs.size(); index++) {
+            try {
+                items.add(_BatchItem.parse(index, itemReprs.get(index), restfulAbsoluteBase));
+            } catch (RestfulObjectsApplicationException e) {
+                throw _EndpointLogging.error(log, "POST /batch", e);
+            }
+        }
+        return items;
+    }
+
+    // -- RESPONSE WRITING
+
+    @FunctionalInterface
+    interface ItemExecutor {
+        ItemResult execute(_BatchItem item);
+    }
+
+    static void writeResults(
+            final OutputStream out,
+            final TransactionMode transactionMode,
+            final List<ItemResult> results) throws IOException {
+        try(var gen = jsonGeneratorFor(out)) {
+            writeHeader(gen, transactionMode);
+            for(var result : results) {
+                writeResult(gen, result);
+            }
+            writeFooter(gen);
+        }
+    }
+
+    static void writeResults(
+            final OutputStream out,
+            final TransactionMode transactionMode,
+            final List<_BatchItem> items,
+            final ItemExecutor executor) throws IOException {
+        try(var gen = jsonGeneratorFor(out)) {
+            writeHeader(gen, transactionMode);
+            for(var item : items) {
+                writeResult(gen, executor.execute(item));
+                gen.flush(); // have the client see each result as soon as it is available
+            }
+            writeFooter(gen);
+        }
+    }
+
+    private static JsonGenerator jsonGeneratorFor(final OutputStream out) throws IOException {
+        return new JsonFactory().createGenerator(out, JsonEncoding.UTF8);
+    }
+
+    private static void writeHeader(final JsonGenerator gen, final TransactionMode transactionMode) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("transactionMode", transactionMode.name());
+        gen.writeArrayFieldStart("items");
+    }
+
+    private static void writeFooter(final JsonGenerator gen) throws IOException {
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    private static void writeResult(final JsonGenerator gen, final ItemResult result) throws IOException {
+        var item = result.getItem();
+        gen.writeStartObject();
+        gen.writeNumberField("index", item.getIndex());
+        if(item.getId() != null) {
+            gen.writeStringField("id", item.getId());
+        }
+        gen.writeStringField("method", item.getMethod().name());
+        gen.writeStringField("href", item.getHref());
+        gen.writeStringField("outcome", result.getOutcome().name());
+        if(result.getOutcome() != Outcome.SKIPPED) {
+            gen.writeNumberField("status", result.getStatus());
+        }
+        var entity = result.getEntity();
+        if(entity instanceof String
+                && !_Strings.isNullOrEmpty((String) entity)) {
+            gen.writeFieldName("body");
+            gen.writeRawValue((String) entity);
+        } else if(entity instanceof JsonRepresentation) {
+            gen.writeFieldName("body");
+            gen.writeRawValue(entity.toString());
+        }
+        gen.writeEndObject();
+    }
+
+    // -- FAILURE MAPPING
+
+    private static HttpStatusCode statusOf(final Throwable failure) {
+        return _Exceptions.streamCausalChain(failure)
+                .filter(ExceptionWithHttpStatusCode.class::isInstance)
+                .map(ExceptionWithHttpStatusCode.class::cast)
+                .map(ExceptionWithHttpStatusCode::getHttpStatusCode)
+                .findFirst()
+                .orElse(HttpStatusCode.INTERNAL_SERVER_ERROR);
+    }
+
+    private static JsonRepresentation bodyOf(final Throwable failure) {
+        var bodyIfAny = _Exceptions.streamCausalChain(failure)
+                .filter(ExceptionWithBody.class::isInstance)
+                .map(ExceptionWithBody.class::cast)
+                .map(ExceptionWithBody::getBody)
+                .filter(body->body != null)
+                .findFirst();
+        if(bodyIfAny.isPresent()) {
+            return bodyIfAny.get();
+        }
+        var body = JsonRepresentation.newMap();
+        body.mapPutInt("httpStatusCode", statusOf(failure).getStatusCode());
+        body.mapPutString("message", _Exceptions.getRootCause(failure)
+                .map(Throwable::getMessage)
+                .orElse(failure.getMessage()));
+        return body;
+    }
+
+}
@@ -19,7 +19,8 @@
 package org.apache.causeway.viewer.restfulobjects.viewer.resources;
 
 import java.util.List;
-import java.util.concurrent.Callable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
@@ -29,17 +30,20 @@
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.applib.services.swagger.Format;
 import org.apache.causeway.applib.services.swagger.SwaggerService;
 import org.apache.causeway.applib.services.swagger.Visibility;
+import org.apache.causeway.commons.internal.base._Strings;
 
-import lombok.RequiredArgsConstructor;
-
+import lombok.Value;
 import lombok.extern.log4j.Log4j2;
 
 @Component
@@ -50,6 +54,12 @@ public class SwaggerSpecResource {
     private final SwaggerService swaggerService;
     private final InteractionService interactionService;
 
+    /**
+     * The most recently served spec per visibility and format, so that its entity tags and compressed bytes are only
+     * recomputed if the {@link SwaggerService} returns a different spec (it memoizes them in production).
+     */
+    private final Map<SpecKey, _RenderedSwaggerSpec> renderedSpecs = new ConcurrentHashMap<>();
+
     @Context HttpHeaders httpHeaders;
     @Context HttpServletRequest httpServletRequest;
 
@@ -68,8 +78,8 @@ public SwaggerSpecResource(
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPrivate() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/private",
+    public Response swaggerPrivate() {
+        return _EndpointLogging.response(log, "GET /swagger/private",
                 swagger(Visibility.PRIVATE));
     }
 
@@ -79,8 +89,8 @@ public String swaggerPrivate() {
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPrototyping() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/prototyping",
+    public Response swaggerPrototyping() {
+        return _EndpointLogging.response(log, "GET /swagger/prototyping",
                 swagger(Visibility.PRIVATE_WITH_PROTOTYPING));
     }
 
@@ -90,20 +100,83 @@ public String swaggerPrototyping() {
     @Produces({
         MediaType.APPLICATION_JSON, "text/yaml"
     })
-    public String swaggerPublic() {
-        return _EndpointLogging.stringResponse(log, "GET /swagger/public",
+    public Response swaggerPublic() {
+        return _EndpointLogging.response(log, "GET /swagger/public",
                 swagger(Visibility.PUBLIC));
     }
 
     // -- HELPER
 
-    private String swagger(final Visibility visibility) {
+    @Value(staticConstructor = "of")
+    static class SpecKey {
+        Visibility visibility;
+        Format format;
+    }
+
+    private Response swagger(final Visibility visibility) {
 
         var format = deriveFrom(httpHeaders);
-        var callable = new MyCallable(swaggerService, visibility, format);
+        var mediaType = format == Format.YAML
+                ? "text/yaml"
+                : MediaType.APPLICATION_JSON;
+
+        var spec = interactionService.callAnonymous(()->
+                swaggerService.generateSwaggerSpec(visibility, format));
+        var renderedSpec = rendered(SpecKey.of(visibility, format), spec);
+        var gzip = acceptsGzip(httpHeaders);
+        // the gzip compressed representation is a different variant, hence needs its own entity tag
+        var etag = gzip
+                ? renderedSpec.getGzippedEtag()
+                : renderedSpec.getEtag();
+        var entityTag = new EntityTag(etag);
+
+        if(isMatch(httpHeaders.getHeaderString(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return Response.notModified(entityTag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        return gzip
+                ? Response.ok(renderedSpec.getGzipped(), mediaType)
+                        .tag(entityTag)
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                        .build()
+                : Response.ok(renderedSpec.getSpec(), mediaType)
+                        .tag(entityTag)
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                        .build();
+    }
+
+    private _RenderedSwaggerSpec rendered(final SpecKey key, final String spec) {
+        var renderedSpec = renderedSpecs.get(key);
+        if(renderedSpec != null
+                && renderedSpec.getSpec() == spec) { // identity suffices, as memoized specs are the same instance
+            return renderedSpec;
+        }
+        renderedSpec = _RenderedSwaggerSpec.of(spec);
+        renderedSpecs.put(key, renderedSpec);
+        return renderedSpec;
+    }
+
+    private static boolean isMatch(final @Nullable String ifNoneMatch, final String etag) {
+        if(ifNoneMatch == null) {
+            return false;
+        }
+        var quoted = "\"" + etag + "\"";
+        return _Strings.splitThenStream(ifNoneMatch, ",")
+                .map(String::trim)
+                .anyMatch(candidate->candidate.equals("*")
+                        || candidate.equals(quoted)
+                        || candidate.equals("W/" + quoted));
+    }
 
-        var spec = interactionService.callAnonymous(callable);
-        return spec;
+    private static boolean acceptsGzip(final HttpHeaders httpHeaders) {
+        var acceptEncoding = httpHeaders.getHeaderString(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null
+                && _Strings.splitThenStream(acceptEncoding.toLowerCase(), ",")
+                    .map(String::trim)
+                    .anyMatch(encoding->encoding.equals("gzip")
+                            || encoding.startsWith("gzip;") && !encoding.replace(" ", "").endsWith("q=0"));
     }
 
     private Format deriveFrom(final HttpHeaders httpHeaders) {
@@ -124,23 +197,4 @@ private Format deriveFrom(final HttpHeaders httpHeaders) {
         return Format.JSON;
     }
 
-    @RequiredArgsConstructor
-    static class MyCallable implements Callable<String> {
-
-        private final SwaggerService swaggerService;
-        private final Visibility visibility;
-        private final Format format;
-
-        @Override
-        public String call() throws Exception {
-
-//            return format==Format.YAML
-//                    ? _Strings.readFromResource(SwaggerSpecGenerator.class, "openapi-sample.yaml", StandardCharsets.UTF_8)
-//                    : _Strings.readFromResource(SwaggerSpecGenerator.class, "openapi-sample.json", StandardCharsets.UTF_8);
-
-            return swaggerService.generateSwaggerSpec(visibility, format);
-        }
-
-    }
-
 }
@@ -0,0 +1,198 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+import org.apache.causeway.commons.internal.base._Strings;
+import org.apache.causeway.commons.io.UrlUtils;
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.RestfulHttpMethod;
+import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
+import org.apache.causeway.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+/**
+ * A single entry of a batch request, as accepted by {@link BatchResourceServerside}, in the form of
+ * a link, that is <code>{"id": ..., "method": ..., "href": ..., "arguments": {...}}</code>.
+ * <p>
+ * The <code>href</code> is either relative to the restful base URI or absolute,
+ * the <code>arguments</code> use the same format as the request body of the corresponding resource.
+ */
+@Value
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+class _BatchItem {
+
+    enum Kind {
+        /** <code>GET objects/{domainType}/{instanceId}/properties/{propertyId}</code> */
+        PROPERTY_READ,
+        /** <code>PUT objects/{domainType}/{instanceId}/properties/{propertyId}</code> */
+        PROPERTY_UPDATE,
+        /** <code>DELETE objects/{domainType}/{instanceId}/properties/{propertyId}</code> */
+        PROPERTY_CLEAR,
+        /** <code>GET|PUT|POST objects/{domainType}/{instanceId}/actions/{actionId}/invoke</code> */
+        OBJECT_ACTION_INVOKE,
+        /** <code>GET|PUT|POST services/{serviceId}/actions/{actionId}/invoke</code> */
+        SERVICE_ACTION_INVOKE;
+
+        boolean isActionInvoke() {
+            return this == OBJECT_ACTION_INVOKE
+                    || this == SERVICE_ACTION_INVOKE;
+        }
+    }
+
+    private final int index;
+    private final @Nullable String id;
+    private final @NonNull RestfulHttpMethod method;
+    private final @NonNull String href;
+    private final @NonNull Kind kind;
+    /** the domain type or service id */
+    private final @NonNull String domainType;
+    private final @Nullable String instanceId;
+    private final @NonNull String memberId;
+    private final @NonNull JsonRepresentation arguments;
+
+    /**
+     * @param index - position within the batch, for error reporting
+     * @param itemRepr - the item's representation
+     * @param restfulAbsoluteBase - to relativize absolute hrefs against
+     * @throws RestfulObjectsApplicationException (400) if the item is malformed or not supported
+     */
+    static _BatchItem parse(
+            final int index,
+            final @NonNull JsonRepresentation itemRepr,
+            final @NonNull String restfulAbsoluteBase) {
+
+        if(!itemRepr.isMap()) {
+            throw badRequest(index, "not a map");
+        }
+        final String id = itemRepr.isString("id")
+                ? itemRepr.getString("id")
+                : null;
+        final RestfulHttpMethod method = parseMethod(index, itemRepr.getString("method"));
+        final String href = itemRepr.getString("href");
+        if(_Strings.isNullOrEmpty(href)) {
+            throw badRequest(index, "missing 'href'");
+        }
+        final JsonRepresentation arguments = itemRepr.mapHas("arguments")
+                ? itemRepr.getMap("arguments")
+                : JsonRepresentation.newMap();
+
+        final List<String> segments = segmentsOf(index, href, restfulAbsoluteBase);
+        final int segmentCount = segments.size();
+
+        if(segmentCount == 5
+                && segments.get(0).equals("objects")
+                && segments.get(3).equals("properties")) {
+            final Kind kind;
+            switch (method) {
+            case GET: kind = Kind.PROPERTY_READ; break;
+            case PUT: kind = Kind.PROPERTY_UPDATE; break;
+            case DELETE: kind = Kind.PROPERTY_CLEAR; break;
+            default: throw badRequest(index, "%s not supported for properties", method);
+            }
+            return new _BatchItem(index, id, method, href, kind,
+                    segments.get(1), segments.get(2), segments.get(4), arguments);
+        }
+        if(segmentCount == 6
+                && segments.get(0).equals("objects")
+                && segments.get(3).equals("actions")
+                && segments.get(5).equals("invoke")) {
+            ensureInvokeMethod(index, method);
+            return new _BatchItem(index, id, method, href, Kind.OBJECT_ACTION_INVOKE,
+                    segments.get(1), segments.get(2), segments.get(4), arguments);
+        }
+        if(segmentCount == 5
+                && segments.get(0).equals("services")
+                && segments.get(2).equals("actions")
+                && segments.get(4).equals("invoke")) {
+            ensureInvokeMethod(index, method);
+            return new _BatchItem(index, id, method, href, Kind.SERVICE_ACTION_INVOKE,
+                    segments.get(1), null, segments.get(3), arguments);
+        }
+        throw badRequest(index, "unsupported 'href' %s; expected a property or an action invocation", href);
+    }
+
+    // -- HELPER
+
+    private static RestfulHttpMethod parseMethod(final int index, final @Nullable String method) {
+        if(_Strings.isNullOrEmpty(method)) {
+            throw badRequest(index, "missing 'method'");
+        }
+        try {
+            return RestfulHttpMethod.valueOf(method.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw badRequest(index, "unknown method '%s'", method);
+        }
+    }
+
+    private static void ensureInvokeMethod(final int index, final RestfulHttpMethod method) {
+        if(method == RestfulHttpMethod.DELETE) {
+            throw badRequest(index, "%s not supported for action invocations", method);
+        }
+    }
+
+    private static List<String> segmentsOf(
+            final int index,
+            final String href,
+            final String restfulAbsoluteBase) {
+        String path = href.startsWith(restfulAbsoluteBase)
+                ? href.substring(restfulAbsoluteBase.length())
+                : href;
+        if(path.contains("?")) {
+            throw badRequest(index, "query strings are not supported, use 'arguments' instead");
+        }
+        while(path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        final String[] encodedSegments = path.split("/");
+        final List<String> segments = new ArrayList<>(encodedSegments.length);
+        for(var encodedSegment : encodedSegments) {
+            segments.add(decodeSegment(index, encodedSegment));
+        }
+        return segments;
+    }
+
+    /**
+     * Decodes given path segment the same way as JAX-RS does for {@code @PathParam}s,
+     * that is, a '+' is taken literally rather than as a space.
+     */
+    private static String decodeSegment(final int index, final String encodedSegment) {
+        try {
+            return UrlUtils.urlDecodeUtf8(encodedSegment.replace("+", "%2B"));
+        } catch (IllegalArgumentException e) {
+            throw badRequest(index, "malformed path segment '%s'", encodedSegment);
+        }
+    }
+
+    private static RestfulObjectsApplicationException badRequest(
+            final int index, final String format, final Object... args) {
+        return RestfulObjectsApplicationException
+                .createWithMessage(HttpStatusCode.BAD_REQUEST,
+                        "items[%d]: %s", index, String.format(format, args));
+    }
+
+}
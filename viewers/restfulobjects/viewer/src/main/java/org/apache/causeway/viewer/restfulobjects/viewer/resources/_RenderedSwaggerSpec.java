@@ -0,0 +1,76 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.causeway.commons.io.HashUtils;
+import org.apache.causeway.commons.io.HashUtils.HashAlgorithm;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A Swagger spec as served by the {@link SwaggerSpecResource}, along with its entity tags and
+ * gzip compressed UTF-8 bytes.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class _RenderedSwaggerSpec {
+
+    static _RenderedSwaggerSpec of(final String spec) {
+        var bytes = spec.getBytes(StandardCharsets.UTF_8);
+        var etag = HashUtils.tryDigest(HashAlgorithm.SHA256, bytes, 4 * 1024)
+                .valueAsNonNullElseFail()
+                .asHexString();
+        return new _RenderedSwaggerSpec(spec, etag, gzip(bytes));
+    }
+
+    /** the spec as generated by the SwaggerService */
+    @Getter private final String spec;
+
+    /** strong entity tag (unquoted), derived from the spec's content */
+    @Getter private final String etag;
+
+    /** the spec's UTF-8 bytes, gzip compressed */
+    private final byte[] gzipped;
+
+    byte[] getGzipped() {
+        return gzipped.clone();
+    }
+
+    /** strong entity tag (unquoted) of the {@link #getGzipped() gzip compressed} representation */
+    String getGzippedEtag() {
+        return etag + "-gzip";
+    }
+
+    private static byte[] gzip(final byte[] bytes) {
+        var out = new ByteArrayOutputStream(bytes.length / 4);
+        try(var gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // unexpected for in-memory streams
+        }
+        return out.toByteArray();
+    }
+
+}
@@ -40,6 +40,8 @@
 import javax.transaction.TransactionalException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
 
 import org.apache.causeway.applib.services.iactnlayer.InteractionService;
 import org.apache.causeway.applib.services.xactn.TransactionService;
@@ -47,6 +49,7 @@
 import org.apache.causeway.commons.internal.exceptions._Exceptions;
 import org.apache.causeway.commons.internal.factory._InstanceUtil;
 import org.apache.causeway.commons.internal.resources._Resources;
+import org.apache.causeway.core.config.CausewayConfiguration;
 import org.apache.causeway.core.metamodel.specloader.SpecificationLoader;
 import org.apache.causeway.core.metamodel.specloader.validator.MetaModelInvalidException;
 import org.apache.causeway.core.webapp.modules.templresources.TemplateResourceCachingFilter;
@@ -154,6 +157,7 @@ public class CausewayRestfulObjectsInteractionFilter implements Filter {
     @Autowired private InteractionService interactionService;
     @Autowired private SpecificationLoader specificationLoader;
     @Autowired private TransactionService transactionService;
+    @Autowired private CausewayConfiguration causewayConfiguration;
 
     private List<String> passThruList = Collections.emptyList();
 
@@ -380,8 +384,11 @@ public void doFilter(
                 interactionService.run(
                         authentication,
                         ()->{
-                            transactionService.runWithinCurrentTransactionElseCreateNew(()->
-                                chain.doFilter(request, response))
+                            (isReadOnlyTransaction(httpServletRequest)
+                                    ? transactionService.runTransactional(READ_ONLY_TRANSACTION, ()->
+                                        chain.doFilter(request, response))
+                                    : transactionService.runWithinCurrentTransactionElseCreateNew(()->
+                                        chain.doFilter(request, response)))
                             .mapFailure(e->new TransactionalException("", e))
                             .ifFailureFail();
                         });
@@ -407,6 +414,33 @@ public void doFilter(
 
     }
 
+    /**
+     * A new transaction, as the interaction's own transaction is not read-only. (When connections are obtained lazily,
+     * the latter never borrows a connection.)
+     */
+    private static final TransactionDefinition READ_ONLY_TRANSACTION = readOnlyTransactionDefinition();
+
+    private static TransactionDefinition readOnlyTransactionDefinition() {
+        var def = new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        def.setReadOnly(true);
+        return def;
+    }
+
+    /**
+     * Whether to execute given request within a read-only transaction, as in accordance with the RO Spec,
+     * <code>GET</code> and <code>HEAD</code> requests are safe (property reads, collection renders and actions
+     * with safe semantics).
+     */
+    private boolean isReadOnlyTransaction(final HttpServletRequest httpServletRequest) {
+        if(causewayConfiguration==null
+                || !causewayConfiguration.getViewer().getRestfulobjects().isReadOnlyTransactionForSafeRequests()) {
+            return false;
+        }
+        var method = httpServletRequest.getMethod();
+        return "GET".equals(method)
+                || "HEAD".equals(method);
+    }
+
     private static void ensureMetamodelIsValid(final SpecificationLoader specificationLoader) {
         // using side-effect free access to MM validation result
         var validationResult = specificationLoader.getValidationResult()
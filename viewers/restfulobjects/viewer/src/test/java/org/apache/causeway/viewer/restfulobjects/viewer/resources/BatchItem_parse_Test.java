@@ -0,0 +1,143 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.viewer.restfulobjects.applib.JsonRepresentation;
+import org.apache.causeway.viewer.restfulobjects.applib.RestfulHttpMethod;
+import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
+import org.apache.causeway.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.RequestParams;
+
+class BatchItem_parse_Test {
+
+    private static final String BASE = "http://localhost:8080/restful/";
+
+    @Test
+    void propertyRead_withAbsoluteHref() {
+        var item = parse("{\"id\":\"a\",\"method\":\"GET\",\"href\":\"" + BASE + "objects/simple.Customer/12/properties/name\"}");
+
+        assertEquals("a", item.getId());
+        assertEquals(RestfulHttpMethod.GET, item.getMethod());
+        assertEquals(_BatchItem.Kind.PROPERTY_READ, item.getKind());
+        assertEquals("simple.Customer", item.getDomainType());
+        assertEquals("12", item.getInstanceId());
+        assertEquals("name", item.getMemberId());
+        assertTrue(item.getArguments().isMap());
+        assertEquals(0, item.getArguments().size());
+    }
+
+    @Test
+    void propertyUpdate_withRelativeHref() {
+        var item = parse("{\"method\":\"put\",\"href\":\"objects/simple.Customer/12/properties/name\","
+                + "\"arguments\":{\"value\":\"Joe\"}}");
+
+        assertNull(item.getId());
+        assertEquals(_BatchItem.Kind.PROPERTY_UPDATE, item.getKind());
+        assertEquals("Joe", item.getArguments().getString("value"));
+    }
+
+    @Test
+    void propertyClear() {
+        var item = parse("{\"method\":\"DELETE\",\"href\":\"/objects/simple.Customer/12/properties/name\"}");
+
+        assertEquals(_BatchItem.Kind.PROPERTY_CLEAR, item.getKind());
+    }
+
+    @Test
+    void objectActionInvoke() {
+        var item = parse("{\"method\":\"POST\",\"href\":\"objects/simple.Customer/12/actions/placeOrder/invoke\"}");
+
+        assertEquals(_BatchItem.Kind.OBJECT_ACTION_INVOKE, item.getKind());
+        assertEquals("12", item.getInstanceId());
+        assertEquals("placeOrder", item.getMemberId());
+    }
+
+    @Test
+    void serviceActionInvoke() {
+        var item = parse("{\"method\":\"GET\",\"href\":\"services/simple.Customers/actions/listAll/invoke\"}");
+
+        assertEquals(_BatchItem.Kind.SERVICE_ACTION_INVOKE, item.getKind());
+        assertEquals("simple.Customers", item.getDomainType());
+        assertNull(item.getInstanceId());
+        assertEquals("listAll", item.getMemberId());
+    }
+
+    @Test
+    void percentEncodedSegments_areDecoded() {
+        var item = parse("{\"method\":\"GET\",\"href\":\"objects/simple.Customer/a%2Fb+c%3A1/properties/na%6De\"}");
+
+        assertEquals("simple.Customer", item.getDomainType());
+        assertEquals("a/b+c:1", item.getInstanceId());
+        assertEquals("name", item.getMemberId());
+    }
+
+    @Test
+    void whenMalformedPercentEncoding() {
+        assertBadRequest("{\"method\":\"GET\",\"href\":\"objects/simple.Customer/12%G/properties/name\"}");
+    }
+
+    @Test
+    void whenPostOnProperty() {
+        assertBadRequest("{\"method\":\"POST\",\"href\":\"objects/simple.Customer/12/properties/name\"}");
+    }
+
+    @Test
+    void whenDeleteOnAction() {
+        assertBadRequest("{\"method\":\"DELETE\",\"href\":\"services/simple.Customers/actions/listAll/invoke\"}");
+    }
+
+    @Test
+    void whenQueryString() {
+        assertBadRequest("{\"method\":\"GET\",\"href\":\"services/simple.Customers/actions/listAll/invoke?x=1\"}");
+    }
+
+    @Test
+    void whenUnsupportedHref() {
+        assertBadRequest("{\"method\":\"GET\",\"href\":\"objects/simple.Customer/12\"}");
+    }
+
+    @Test
+    void whenMissingMethod() {
+        assertBadRequest("{\"href\":\"objects/simple.Customer/12/properties/name\"}");
+    }
+
+    // -- HELPER
+
+    private static _BatchItem parse(final String json) {
+        return _BatchItem.parse(3, representationFor(json), BASE);
+    }
+
+    private static void assertBadRequest(final String json) {
+        var ex = assertThrows(RestfulObjectsApplicationException.class, ()->parse(json));
+        assertEquals(HttpStatusCode.BAD_REQUEST, ex.getHttpStatusCode());
+        assertTrue(ex.getMessage().startsWith("items[3]: "));
+    }
+
+    private static JsonRepresentation representationFor(final String json) {
+        return RequestParams.ofQueryString(json).asMap();
+    }
+
+}
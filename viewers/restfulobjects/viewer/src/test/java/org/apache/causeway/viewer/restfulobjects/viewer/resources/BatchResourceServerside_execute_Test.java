@@ -0,0 +1,210 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+import javax.ws.rs.core.Response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.transaction.annotation.Propagation;
+
+import org.apache.causeway.applib.services.xactn.TransactionService;
+import org.apache.causeway.commons.functional.Try;
+import org.apache.causeway.core.config.CausewayConfiguration.Viewer.Restfulobjects.Batch.TransactionMode;
+import org.apache.causeway.viewer.restfulobjects.applib.RestfulResponse.HttpStatusCode;
+import org.apache.causeway.viewer.restfulobjects.rendering.RestfulObjectsApplicationException;
+import org.apache.causeway.viewer.restfulobjects.rendering.util.RequestParams;
+import org.apache.causeway.viewer.restfulobjects.viewer.resources.BatchResourceServerside.ItemResult;
+import org.apache.causeway.viewer.restfulobjects.viewer.resources.BatchResourceServerside.Outcome;
+
+import lombok.SneakyThrows;
+
+/**
+ * Executes batch items against an in-memory store, whose changes only become visible
+ * once the (simulated) transaction they were made in has been committed.
+ */
+class BatchResourceServerside_execute_Test {
+
+    private static final String BASE = "http://localhost:8080/restful/";
+
+    private Map<String, String> committed;
+    private Map<String, String> pending;
+    private TransactionService transactionService;
+
+    @BeforeEach
+    void setUp() {
+        committed = new HashMap<>();
+        committed.put("1", "a");
+        committed.put("2", "b");
+        committed.put("3", "c");
+
+        transactionService = Mockito.mock(TransactionService.class);
+        Mockito.when(transactionService.callTransactional(
+                ArgumentMatchers.eq(Propagation.REQUIRES_NEW), ArgumentMatchers.<Callable<Object>>any()))
+        .thenAnswer(invocation->{
+            pending = new HashMap<>(committed);
+            Callable<?> callable = invocation.getArgument(1);
+            var result = Try.call(callable);
+            if(result.isSuccess()) {
+                committed = pending;
+            }
+            pending = null;
+            return result;
+        });
+    }
+
+    @Test
+    void perItem_commitsEachItem_independently() {
+        var items = items("x", "invalid", "z");
+
+        var results = items.stream()
+                .map(item->BatchResourceServerside.executePerItem(transactionService, item, this::update))
+                .collect(Collectors.toList());
+
+        assertOutcomes(results, Outcome.SUCCEEDED, Outcome.FAILED, Outcome.SUCCEEDED);
+        assertEquals(200, results.get(0).getStatus());
+        assertEquals(HttpStatusCode.VALIDATION_FAILED.getStatusCode(), results.get(1).getStatus());
+        assertEquals(Map.of("1", "x", "2", "b", "3", "z"), committed);
+    }
+
+    @Test
+    void allOrNothing_commitsAllItems_whenNoneFails() {
+        var results = BatchResourceServerside.executeAllOrNothing(transactionService, items("x", "y", "z"), this::update);
+
+        assertOutcomes(results, Outcome.SUCCEEDED, Outcome.SUCCEEDED, Outcome.SUCCEEDED);
+        assertEquals(Map.of("1", "x", "2", "y", "3", "z"), committed);
+    }
+
+    @Test
+    void allOrNothing_rollsBackAllItems_whenAnyFails() {
+        var results = BatchResourceServerside.executeAllOrNothing(transactionService, items("x", "invalid", "z"), this::update);
+
+        assertOutcomes(results, Outcome.ROLLED_BACK, Outcome.FAILED, Outcome.SKIPPED);
+        assertEquals(200, results.get(0).getStatus());
+        assertEquals(HttpStatusCode.VALIDATION_FAILED.getStatusCode(), results.get(1).getStatus());
+        assertEquals(Map.of("1", "a", "2", "b", "3", "c"), committed);
+    }
+
+    @Test
+    @SneakyThrows
+    void perItem_streamsEachResult_beforeExecutingTheNext() {
+        var items = items("x", "y", "z");
+        var out = new ByteArrayOutputStream();
+        var writtenBeforeExecution = new HashMap<Integer, String>();
+
+        BatchResourceServerside.writeResults(out, TransactionMode.PER_ITEM, items, item->{
+            writtenBeforeExecution.put(item.getIndex(), out.toString(StandardCharsets.UTF_8));
+            return BatchResourceServerside.executePerItem(transactionService, item, this::update);
+        });
+
+        assertTrue(writtenBeforeExecution.get(1).contains("\"href\":\"objects/simple.Customer/1/properties/name\""));
+        assertFalse(writtenBeforeExecution.get(1).contains("objects/simple.Customer/2/"));
+        assertTrue(writtenBeforeExecution.get(2).contains("\"href\":\"objects/simple.Customer/2/properties/name\""));
+
+        var batch = new ObjectMapper().readTree(out.toByteArray());
+        assertEquals("PER_ITEM", batch.get("transactionMode").asText());
+        assertEquals(3, batch.get("items").size());
+        var result = batch.get("items").get(2);
+        assertEquals(2, result.get("index").asInt());
+        assertEquals("item-2", result.get("id").asText());
+        assertEquals("PUT", result.get("method").asText());
+        assertEquals("SUCCEEDED", result.get("outcome").asText());
+        assertEquals(200, result.get("status").asInt());
+        assertEquals("z", result.get("body").get("value").asText());
+    }
+
+    @Test
+    @SneakyThrows
+    void allOrNothing_writesFailureBody_andOmitsStatusOfSkippedItems() {
+        var results = BatchResourceServerside.executeAllOrNothing(transactionService, items("invalid", "y"), this::update);
+        var out = new ByteArrayOutputStream();
+
+        BatchResourceServerside.writeResults(out, TransactionMode.ALL_OR_NOTHING, results);
+
+        var batch = new ObjectMapper().readTree(out.toByteArray());
+        assertEquals("ALL_OR_NOTHING", batch.get("transactionMode").asText());
+        JsonNode failed = batch.get("items").get(0);
+        assertEquals("FAILED", failed.get("outcome").asText());
+        assertEquals(422, failed.get("status").asInt());
+        assertEquals("invalid value", failed.get("body").get("message").asText());
+        JsonNode skipped = batch.get("items").get(1);
+        assertEquals("SKIPPED", skipped.get("outcome").asText());
+        assertFalse(skipped.has("status"));
+        assertFalse(skipped.has("body"));
+    }
+
+    // -- HELPER
+
+    /**
+     * Updates the instance addressed by given item within the current (simulated) transaction,
+     * rejecting the value 'invalid'.
+     */
+    private Response update(final _BatchItem item) {
+        var value = item.getArguments().getString("value");
+        if("invalid".equals(value)) {
+            throw RestfulObjectsApplicationException
+                .createWithMessage(HttpStatusCode.VALIDATION_FAILED, "invalid value");
+        }
+        pending.put(item.getInstanceId(), value);
+        var response = Mockito.mock(Response.class);
+        Mockito.when(response.getStatus()).thenReturn(200);
+        Mockito.when(response.getEntity()).thenReturn("{\"value\":\"" + value + "\"}");
+        return response;
+    }
+
+    /**
+     * One property update per value, addressing instances 1, 2, 3, ...
+     */
+    private static List<_BatchItem> items(final String... values) {
+        var items = new ArrayList<_BatchItem>();
+        for(int index = 0; index < values.length; index++) {
+            var json = String.format("{\"id\":\"item-%d\",\"method\":\"PUT\","
+                    + "\"href\":\"objects/simple.Customer/%d/properties/name\","
+                    + "\"arguments\":{\"value\":\"%s\"}}", index, index + 1, values[index]);
+            items.add(_BatchItem.parse(index, RequestParams.ofQueryString(json).asMap(), BASE));
+        }
+        return items;
+    }
+
+    private static void assertOutcomes(final List<ItemResult> results, final Outcome... expected) {
+        assertEquals(List.of(expected), results.stream()
+                .map(ItemResult::getOutcome)
+                .collect(Collectors.toList()));
+    }
+
+}
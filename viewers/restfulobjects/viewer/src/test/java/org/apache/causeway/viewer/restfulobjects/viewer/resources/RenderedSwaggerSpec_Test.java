@@ -0,0 +1,54 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.restfulobjects.viewer.resources;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class RenderedSwaggerSpec_Test {
+
+    @Test
+    void etag_isDerivedFromContent() {
+        var spec = _RenderedSwaggerSpec.of("{\"openapi\":\"3.0.1\"}");
+        var sameSpec = _RenderedSwaggerSpec.of("{\"openapi\":\"3.0.1\"}");
+        var otherSpec = _RenderedSwaggerSpec.of("{\"openapi\":\"3.0.2\"}");
+
+        assertThat(spec.getEtag(), is(equalTo(sameSpec.getEtag())));
+        assertThat(spec.getEtag(), is(not(equalTo(otherSpec.getEtag()))));
+        assertThat(spec.getGzippedEtag(), is(not(equalTo(spec.getEtag()))));
+    }
+
+    @Test
+    void gzipped_roundtrip() throws Exception {
+        var spec = _RenderedSwaggerSpec.of("openapi: 3.0.1\ninfo:\n  title: äöü\n");
+
+        try(var in = new GZIPInputStream(new ByteArrayInputStream(spec.getGzipped()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8), is(equalTo(spec.getSpec())));
+        }
+    }
+
+}
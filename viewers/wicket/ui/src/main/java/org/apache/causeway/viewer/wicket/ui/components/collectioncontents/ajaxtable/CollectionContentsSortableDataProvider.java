@@ -80,8 +80,14 @@ public long size() {
     @Override
     public Iterator<DataRow> iterator(final long skip, final long limit) {
         var dataTable = getDataTableModel();
-        return dataTable.getDataRowsFilteredAndSorted().getValue()
-                .iterator(Math.toIntExact(skip), Math.toIntExact(limit));
+        var dataRows = dataTable.getDataRowsFilteredAndSorted().getValue();
+        var page = dataRows.subCan(
+                Math.toIntExact(skip),
+                Math.toIntExact(Math.min(skip + limit, dataRows.size())));
+        // fetches the page's (detached) entities in bulk, such that subsequent per row
+        // evaluation of title, icon or css-class (as required) does not hit the database row by row
+        dataTable.decorate(page);
+        return page.iterator();
     }
 
     // -- HELPER
@@ -90,8 +90,7 @@ private static String cssClassForRow(final DataRow model) {
                 || ManagedObjects.isNullOrUnspecifiedOrEmpty(model.getRowElement())) {
             return null;
         }
-        var rowElement = model.getRowElement();
-        return rowElement.getSpecification().getCssClass(rowElement);
+        return model.getDecoration().getCssClass();
     }
 
 }
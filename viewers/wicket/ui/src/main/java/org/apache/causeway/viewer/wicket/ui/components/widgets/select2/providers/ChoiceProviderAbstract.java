@@ -19,6 +19,10 @@
 package org.apache.causeway.viewer.wicket.ui.components.widgets.select2.providers;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.wicket.util.string.Strings;
@@ -26,6 +30,7 @@
 
 import org.springframework.lang.Nullable;
 
+import org.apache.causeway.applib.locale.UserLocale;
 import org.apache.causeway.applib.services.i18n.TranslationContext;
 import org.apache.causeway.applib.services.placeholder.PlaceholderRenderService.PlaceholderLiteral;
 import org.apache.causeway.commons.collections.Can;
@@ -35,6 +40,8 @@
 import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoForEmpty;
 import org.apache.causeway.viewer.wicket.model.models.HasCommonContext;
 
+import lombok.RequiredArgsConstructor;
+
 public abstract class ChoiceProviderAbstract
 extends ChoiceProvider<ObjectMemento>
 implements HasCommonContext {
@@ -46,9 +53,19 @@
     protected abstract boolean isRequired();
 
     /**
-     * Get choice candidates with filtering (don't include <code>null</code>).
+     * Get (at most {@code limit}) choice candidates starting at {@code offset},
+     * with filtering (don't include <code>null</code>).
+     * <p>
+     * Both {@code offset} and {@code limit} refer to the filtered choices, so a page
+     * must only be short if there are no further choices.
+     */
+    protected abstract Can<ObjectMemento> query(@Nullable String term, int offset, int limit);
+
+    /**
+     * Translated and lower-cased titles (keyed by title), as used for filtering;
+     * lives as long as this provider is not serialized, hence spans subsequent key strokes.
      */
-    protected abstract Can<ObjectMemento> query(@Nullable String term);
+    private transient NormalizedTitles normalizedTitles;
 
     @Override
     public final String getDisplayValue(final ObjectMemento choiceMemento) {
@@ -77,15 +94,21 @@ public final void query(
             final int page,
             final org.wicketstuff.select2.Response<ObjectMemento> response) {
 
-        var mementosFiltered = query(term);
+        final int pageSize = getWicketViewerSettings().getSelect2().getPageSize();
 
-        if(isRequired()) {
-            response.addAll(mementosFiltered.toList());
+        // query one more than requested, to detect whether there are further pages
+        var mementos = query(term, page * pageSize, pageSize + 1);
+        response.setHasMore(mementos.size() > pageSize);
+        var mementosOfPage = slice(mementos, 0, pageSize);
+
+        if(isRequired()
+                || page > 0) {
+            response.addAll(mementosOfPage.toList());
             return;
         }
 
-        // else, if not mandatory, prepend null
-        var mementosIncludingNull = mementosFiltered.toArrayList();
+        // else, if not mandatory, prepend null (first page only)
+        var mementosIncludingNull = mementosOfPage.toArrayList();
         mementosIncludingNull.add(0, null);
 
         response.addAll(mementosIncludingNull);
@@ -116,19 +139,48 @@ protected final Can<ObjectMemento> filter(
             return choiceMementos;
         }
 
-        var translationContext = TranslationContext.empty();
-        var translator = getTranslationService();
+        var normalizedTitles = normalizedTitles();
         var termLower = term.toLowerCase();
 
-        return choiceMementos.filter((final ObjectMemento candidateMemento)->{
-            var title = translator.translate(translationContext, candidateMemento.getTitle());
-            return title.toLowerCase().contains(termLower);
-        });
+        return choiceMementos.filter((final ObjectMemento candidateMemento)->
+            normalizedTitles.get(candidateMemento.getTitle()).contains(termLower));
 
     }
 
+    /**
+     * Returns (at most) {@code limit} choices starting at {@code offset}.
+     */
+    protected static final Can<ObjectMemento> slice(
+            final Can<ObjectMemento> choiceMementos,
+            final int offset,
+            final int limit) {
+        return choiceMementos.subCan(offset, (int) Math.min((long)offset + limit, choiceMementos.size()));
+    }
+
     // -- HELPER
 
+    @RequiredArgsConstructor
+    private static final class NormalizedTitles {
+        private final @Nullable UserLocale userLocale;
+        private final Function<String, String> normalizer;
+        private final Map<String, String> normalizedByTitle = new HashMap<>();
+        String get(final String title) {
+            return normalizedByTitle.computeIfAbsent(title, normalizer);
+        }
+    }
+
+    private NormalizedTitles normalizedTitles() {
+        var userLocale = currentUserLocale().orElse(null);
+        if(normalizedTitles == null
+                || !Objects.equals(normalizedTitles.userLocale, userLocale)) {
+            var translationContext = TranslationContext.empty();
+            var translator = getTranslationService();
+            normalizedTitles = new NormalizedTitles(userLocale, title->
+                translator.translate(translationContext, title).toLowerCase());
+        }
+        return normalizedTitles;
+    }
+
     private @Nullable ObjectMemento mementoFromIdWithNullHandling(final String id) {
         if(ObjectMemento.NULL_ID.equals(id)) {
             return null;
@@ -48,14 +48,14 @@ protected final boolean isRequired() {
     }
 
     @Override
-    protected final Can<ObjectMemento> query(final String term) {
+    protected final Can<ObjectMemento> query(final String term, final int offset, final int limit) {
         switch(choiceProviderSort) {
         case CHOICES:
-            return super.filter(term, queryAll());
+            return slice(super.filter(term, queryAll()), offset, limit);
         case AUTO_COMPLETE:
-            return queryWithAutoComplete(term);
+            return queryWithAutoComplete(term, offset, limit);
         case OBJECT_AUTO_COMPLETE:
-            return queryWithAutoCompleteUsingObjectSpecification(term);
+            return slice(queryWithAutoCompleteUsingObjectSpecification(term), offset, limit);
         case NO_CHOICES:
         default:
             // fall through
@@ -64,7 +64,7 @@ protected final Can<ObjectMemento> query(final String term) {
     }
 
     protected abstract Can<ObjectMemento> queryAll();
-    protected abstract Can<ObjectMemento> queryWithAutoComplete(String term);
+    protected abstract Can<ObjectMemento> queryWithAutoComplete(String term, int offset, int limit);
     protected abstract Can<ObjectMemento> queryWithAutoCompleteUsingObjectSpecification(String term);
 
 }
@@ -51,7 +51,7 @@ protected Can<ObjectMemento> queryWithAutoCompleteUsingObjectSpecification(final
     }
 
     @Override
-    protected Can<ObjectMemento> queryWithAutoComplete(final String term) {
+    protected Can<ObjectMemento> queryWithAutoComplete(final String term, final int offset, final int limit) {
         var scalarModel = scalarModel();
         var pendingArgs = scalarModel.isParameter()
                 ? ((UiParameter)scalarModel).getParameterNegotiationModel().getParamValues()
@@ -70,7 +70,7 @@ protected Can<ObjectMemento> queryWithAutoComplete(final String term) {
         }
 
         return scalarModel
-                .getAutoComplete(term)
+                .getAutoComplete(term, offset, limit)
                 .map(ManagedObject::getMementoElseFail);
     }
 
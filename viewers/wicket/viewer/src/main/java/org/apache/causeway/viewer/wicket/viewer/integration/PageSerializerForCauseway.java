@@ -0,0 +1,360 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.wicket.viewer.integration;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.ThreadContext;
+import org.apache.wicket.WicketRuntimeException;
+import org.apache.wicket.core.util.lang.WicketObjects;
+import org.apache.wicket.serialize.ISerializer;
+import org.apache.wicket.serialize.java.JavaSerializer;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.id.LogicalType;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.commons.collections.Can;
+import org.apache.causeway.core.config.CausewayConfiguration;
+import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoCollection;
+import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoForEmpty;
+import org.apache.causeway.core.metamodel.objectmanager.memento.ObjectMementoForScalar;
+import org.apache.causeway.core.metamodel.objectmanager.memento.PackedBookmarks;
+import org.apache.causeway.viewer.wicket.model.models.BookmarkTreeNode;
+import org.apache.causeway.viewer.wicket.model.models.BookmarkedPagesModel;
+import org.apache.causeway.viewer.wicket.model.models.EntityCollectionModelHidden;
+import org.apache.causeway.viewer.wicket.model.models.EntityCollectionModelParented;
+import org.apache.causeway.viewer.wicket.model.models.EntityCollectionModelStandalone;
+import org.apache.causeway.viewer.wicket.model.models.ScalarParameterModel;
+import org.apache.causeway.viewer.wicket.model.models.ScalarPropertyModel;
+import org.apache.causeway.viewer.wicket.model.models.UiObjectWkt;
+import org.apache.causeway.viewer.wicket.model.models.interaction.BookmarkedObjectWkt;
+import org.apache.causeway.viewer.wicket.model.models.interaction.act.ActionInteractionWkt;
+import org.apache.causeway.viewer.wicket.model.models.interaction.act.UiParameterWkt;
+import org.apache.causeway.viewer.wicket.model.models.interaction.coll.DataRowToggleWkt;
+import org.apache.causeway.viewer.wicket.model.models.interaction.coll.DataRowWkt;
+import org.apache.causeway.viewer.wicket.model.models.interaction.coll.DataTableModelWkt;
+import org.apache.causeway.viewer.wicket.model.models.interaction.prop.PropertyInteractionWkt;
+import org.apache.causeway.viewer.wicket.model.models.interaction.prop.UiPropertyWkt;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * {@link ISerializer} for the page store, tuned to the viewer's models and mementos.
+ * <p>
+ * Based on Java serialization, but
+ * <ul>
+ * <li>writes a small integer (instead of the full class descriptor) for each of the {@link #getKnownTypes() known types},</li>
+ * <li>de-duplicates equal {@link Bookmark}s and {@link LogicalType}s within a page,
+ * so these are written only once and referenced thereafter,</li>
+ * <li>optionally compresses pages of at least a configured size.</li>
+ * </ul>
+ * Should anything go wrong when writing, falls back to Wicket's {@link JavaSerializer},
+ * which also remains in charge of reading pages it has written.
+ * <p>
+ * Pages written with a different format or set of known types (eg. by a previous deployment)
+ * cannot be read, and are treated as expired.
+ *
+ * @since 2.0
+ */
+@Log4j2
+public class PageSerializerForCauseway extends JavaSerializer {
+
+    /** first byte of any page written by this serializer; Java serialization streams start with 0xAC instead */
+    private static final byte MAGIC = 'C';
+    private static final byte FORMAT_VERSION = 1;
+    private static final byte FLAG_COMPRESSED = 1;
+
+    /**
+     * Types the viewer typically writes into its page store, each receiving the id of its list index.
+     */
+    public static final Can<Class<? extends Serializable>> DEFAULT_KNOWN_TYPES = Can.<Class<? extends Serializable>>of(
+            // applib
+            Bookmark.class,
+            LogicalType.class,
+            Identifier.class,
+            // mementos
+            ObjectMementoForScalar.class,
+            ObjectMementoForEmpty.class,
+            ObjectMementoCollection.class,
+            PackedBookmarks.class,
+            // models
+            UiObjectWkt.class,
+            BookmarkedObjectWkt.class,
+            ScalarPropertyModel.class,
+            ScalarParameterModel.class,
+            ActionInteractionWkt.class,
+            UiParameterWkt.class,
+            PropertyInteractionWkt.class,
+            UiPropertyWkt.class,
+            EntityCollectionModelParented.class,
+            EntityCollectionModelStandalone.class,
+            EntityCollectionModelHidden.class,
+            DataTableModelWkt.class,
+            DataRowWkt.class,
+            DataRowToggleWkt.class,
+            BookmarkedPagesModel.class,
+            BookmarkTreeNode.class,
+            // JDK
+            ArrayList.class,
+            HashMap.class,
+            HashSet.class,
+            LinkedHashMap.class,
+            LinkedHashSet.class,
+            TreeMap.class,
+            TreeSet.class);
+
+    private final String applicationKey;
+    @Getter private final Can<Class<? extends Serializable>> knownTypes;
+    private final Map<Class<?>, Integer> idByKnownType;
+    private final int knownTypesFingerprint;
+    private final boolean compress;
+    private final int compressionThreshold;
+
+    public PageSerializerForCauseway(
+            final @NonNull String applicationKey,
+            final @NonNull CausewayConfiguration.Viewer.Wicket.PageSerializer config) {
+        this(applicationKey, DEFAULT_KNOWN_TYPES, config.isCompress(), config.getCompressionThreshold());
+    }
+
+    public PageSerializerForCauseway(
+            final @NonNull String applicationKey,
+            final @NonNull Can<Class<? extends Serializable>> knownTypes,
+            final boolean compress,
+            final int compressionThreshold) {
+        super(applicationKey);
+        this.applicationKey = applicationKey;
+        this.knownTypes = knownTypes;
+        this.idByKnownType = new HashMap<>();
+        for(int i=0; i<knownTypes.size(); ++i) {
+            idByKnownType.put(knownTypes.getElseFail(i), i);
+        }
+        this.knownTypesFingerprint = fingerprintOf(knownTypes);
+        this.compress = compress;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    // -- SERIALIZE
+
+    @Override
+    public byte[] serialize(final Object object) {
+        try {
+            var payload = new ByteArrayOutputStream();
+            try(var oos = new CausewayObjectOutputStream(payload)) {
+                oos.writeObject(applicationKey);
+                oos.writeObject(object);
+            }
+            var compressed = compress
+                    && payload.size() >= compressionThreshold;
+
+            var out = new ByteArrayOutputStream(payload.size() + 8);
+            var header = new DataOutputStream(out);
+            header.writeByte(MAGIC);
+            header.writeByte(FORMAT_VERSION);
+            header.writeByte(compressed ? FLAG_COMPRESSED : 0);
+            header.writeInt(knownTypesFingerprint);
+            header.flush();
+            if(compressed) {
+                try(var deflater = new DeflaterOutputStream(out)) {
+                    payload.writeTo(deflater);
+                }
+            } else {
+                payload.writeTo(out);
+            }
+            return out.toByteArray();
+        } catch (Exception e) {
+            log.warn("falling back to Java serialization for {}: {}",
+                    object!=null ? object.getClass().getName() : null, e.getMessage());
+            return super.serialize(object);
+        }
+    }
+
+    // -- DESERIALIZE
+
+    @Override
+    public Object deserialize(final byte[] data) {
+        if(data.length < 7
+                || data[0] != MAGIC) {
+            return super.deserialize(data); // written by the Java serializer (fallback)
+        }
+        var previousContext = ThreadContext.get(false);
+        try {
+            var in = new DataInputStream(new ByteArrayInputStream(data));
+            in.readByte(); // magic
+            var formatVersion = in.readByte();
+            var flags = in.readByte();
+            var fingerprint = in.readInt();
+            if(formatVersion != FORMAT_VERSION
+                    || fingerprint != knownTypesFingerprint) {
+                // as if no longer in the page store, so that Wicket responds with its page expired handling
+                log.debug("discarding page serialized with an incompatible format or known types registry");
+                return null;
+            }
+            final InputStream payload = (flags & FLAG_COMPRESSED) != 0
+                    ? new InflaterInputStream(in)
+                    : in;
+            try(var ois = new CausewayObjectInputStream(payload)) {
+                var key = (String) ois.readObject();
+                if(ThreadContext.getApplication() == null) {
+                    ThreadContext.setApplication(Application.get(key));
+                }
+                return ois.readObject();
+            }
+        } catch (ClassNotFoundException | IOException e) {
+            throw new WicketRuntimeException("Could not deserialize object from byte[]", e);
+        } finally {
+            ThreadContext.restore(previousContext);
+        }
+    }
+
+    // -- FINGERPRINT
+
+    /**
+     * Covers the serialized form of each known type (its name, serialVersionUID and serializable fields),
+     * not just its name, so that pages written before any of these changed are not misread after a redeploy.
+     */
+    static int fingerprintOf(final Can<Class<? extends Serializable>> knownTypes) {
+        return knownTypes.map(PageSerializerForCauseway::signatureOf).toList().hashCode();
+    }
+
+    private static String signatureOf(final Class<? extends Serializable> type) {
+        var signature = new StringBuilder(type.getName());
+        var descriptor = ObjectStreamClass.lookup(type);
+        if(descriptor != null) {
+            signature.append('#').append(descriptor.getSerialVersionUID());
+            for(var field : descriptor.getFields()) {
+                signature.append(';').append(field.getName()).append(':')
+                    .append(field.getTypeString() != null
+                            ? field.getTypeString()
+                            : String.valueOf(field.getTypeCode()));
+            }
+        }
+        return signature.toString();
+    }
+
+    // -- OBJECT STREAMS
+
+    private static final int DESCRIPTOR_INLINE = 0;
+    private static final int DESCRIPTOR_KNOWN = 1;
+
+    private class CausewayObjectOutputStream extends ObjectOutputStream {
+
+        private final Map<Object, Object> canonicalValues = new HashMap<>();
+
+        CausewayObjectOutputStream(final OutputStream out) throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected void writeClassDescriptor(final ObjectStreamClass desc) throws IOException {
+            var id = idByKnownType.get(desc.forClass());
+            if(id != null) {
+                writeByte(DESCRIPTOR_KNOWN);
+                writeInt(id);
+            } else {
+                writeByte(DESCRIPTOR_INLINE);
+                super.writeClassDescriptor(desc);
+            }
+        }
+
+        /**
+         * Replaces equal instances by the first one written, so that Java serialization
+         * writes back-references instead of copies.
+         */
+        @Override
+        protected Object replaceObject(final Object obj) throws IOException {
+            if(obj instanceof Bookmark) {
+                var bookmark = (Bookmark) obj;
+                // Bookmark equality does not consider the hint-id
+                return bookmark.getHintId() == null
+                        ? canonicalValues.computeIfAbsent(bookmark, __->bookmark)
+                        : bookmark;
+            }
+            if(obj instanceof LogicalType) {
+                var logicalType = (LogicalType) obj;
+                var canonical = (LogicalType) canonicalValues.computeIfAbsent(logicalType, __->logicalType);
+                // LogicalType equality does only consider the corresponding class
+                return canonical.getLogicalTypeName().equals(logicalType.getLogicalTypeName())
+                        ? canonical
+                        : logicalType;
+            }
+            return obj;
+        }
+    }
+
+    private class CausewayObjectInputStream extends ObjectInputStream {
+
+        CausewayObjectInputStream(final InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            var kind = readByte();
+            if(kind == DESCRIPTOR_KNOWN) {
+                var id = readInt();
+                if(id < 0
+                        || id >= knownTypes.size()) {
+                    throw new IOException("unknown type id " + id);
+                }
+                return ObjectStreamClass.lookup(knownTypes.getElseFail(id));
+            }
+            return super.readClassDescriptor();
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return super.resolveClass(desc);
+            } catch (ClassNotFoundException e) {
+                // eg. classes not visible to the latest user defined class loader
+                var resolved = WicketObjects.resolveClass(desc.getName());
+                if(resolved == null) {
+                    throw e;
+                }
+                return resolved;
+            }
+        }
+    }
+
+}
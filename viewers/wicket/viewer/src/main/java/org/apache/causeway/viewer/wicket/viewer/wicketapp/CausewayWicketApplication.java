@@ -71,6 +71,7 @@
 import org.apache.causeway.viewer.wicket.viewer.integration.CausewayResourceSettings;
 import org.apache.causeway.viewer.wicket.viewer.integration.ConverterForObjectAdapter;
 import org.apache.causeway.viewer.wicket.viewer.integration.ConverterForObjectAdapterMemento;
+import org.apache.causeway.viewer.wicket.viewer.integration.PageSerializerForCauseway;
 import org.apache.causeway.viewer.wicket.viewer.integration.WebRequestCycleForCauseway;
 
 import lombok.Getter;
@@ -218,6 +219,8 @@ protected void init() {
 
             configureSecurity(configuration);
 
+            configurePageSerializer(configuration);
+
             filterJavascriptContributions();
 
             mountPages();
@@ -255,6 +258,17 @@ protected void configureSecurity(final CausewayConfiguration configuration) {
         setMetaData(AccountConfirmationMap.KEY, new AccountConfirmationMap(maxEntries, Duration.ofDays(1)));
     }
 
+    /**
+     * protected visibility to allow ad-hoc overriding of the page store's serializer.
+     */
+    protected void configurePageSerializer(final CausewayConfiguration configuration) {
+        var pageSerializer = configuration.getViewer().getWicket().getPageSerializer();
+        if(pageSerializer.isEnabled()) {
+            getFrameworkSettings().setSerializer(
+                    new PageSerializerForCauseway(getApplicationKey(), pageSerializer));
+        }
+    }
+
     /**
      * protected visibility to allow ad-hoc overriding of some other authentication strategy.
      */
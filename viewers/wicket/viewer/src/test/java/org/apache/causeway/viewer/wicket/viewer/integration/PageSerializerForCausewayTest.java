@@ -0,0 +1,217 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.apache.causeway.viewer.wicket.viewer.integration;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.apache.wicket.serialize.java.JavaSerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.causeway.applib.Identifier;
+import org.apache.causeway.applib.id.LogicalType;
+import org.apache.causeway.applib.services.bookmark.Bookmark;
+import org.apache.causeway.core.internaltestsupport.annotations.DisabledIfRunningWithSurefire;
+import org.apache.causeway.core.metamodel.objectmanager.memento.PackedBookmarks;
+
+import lombok.EqualsAndHashCode;
+
+class PageSerializerForCausewayTest {
+
+    static final String APPLICATION_KEY = "test";
+
+    static class Customer {}
+
+    /** not amongst the known types */
+    @EqualsAndHashCode
+    static class Row implements Serializable {
+        private static final long serialVersionUID = 1L;
+        final LogicalType logicalType;
+        final Bookmark bookmark;
+        final Map<String, Object> cells = new HashMap<>();
+        Row(final LogicalType logicalType, final Bookmark bookmark) {
+            this.logicalType = logicalType;
+            this.bookmark = bookmark;
+        }
+    }
+
+    final JavaSerializer javaSerializer = new JavaSerializer(APPLICATION_KEY);
+    final PageSerializerForCauseway serializer = new PageSerializerForCauseway(
+            APPLICATION_KEY, PageSerializerForCauseway.DEFAULT_KNOWN_TYPES, false, 0);
+    final PageSerializerForCauseway compressingSerializer = new PageSerializerForCauseway(
+            APPLICATION_KEY, PageSerializerForCauseway.DEFAULT_KNOWN_TYPES, true, 1024);
+
+    @Test
+    void roundtrip() {
+        var page = samplePage(100);
+        assertEquals(page, serializer.deserialize(serializer.serialize(page)));
+    }
+
+    @Test
+    void roundtrip_withCompression() {
+        var page = samplePage(1000);
+        assertEquals(page, compressingSerializer.deserialize(compressingSerializer.serialize(page)));
+    }
+
+    @Test
+    void readsPagesWrittenByJavaSerializer() {
+        var page = samplePage(10);
+        assertEquals(page, serializer.deserialize(javaSerializer.serialize(page)));
+    }
+
+    @Test
+    void preservesHintIds() {
+        var bookmark = Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "1");
+        var page = new ArrayList<>(List.of(bookmark, bookmark.withHintId("hint")));
+
+        @SuppressWarnings("unchecked")
+        var afterRoundtrip = (List<Bookmark>) serializer.deserialize(serializer.serialize(page));
+
+        assertEquals(null, afterRoundtrip.get(0).getHintId());
+        assertEquals("hint", afterRoundtrip.get(1).getHintId());
+    }
+
+    /**
+     * Each known type is written as its registry id, and must resolve to the same type when read back.
+     */
+    @ParameterizedTest
+    @MethodSource("knownTypes")
+    void roundtrip_ofKnownTypeDescriptor(final Class<?> knownType) {
+        var bytes = serializer.serialize(knownType);
+
+        assertEquals(knownType, serializer.deserialize(bytes));
+        assertTrue(bytes.length < javaSerializer.serialize(knownType).length,
+                ()->"not written as a known type: " + knownType.getName());
+    }
+
+    @ParameterizedTest
+    @MethodSource("knownTypeInstances")
+    void roundtrip_ofKnownTypeInstance(final Object instance) {
+        assertEquals(instance, serializer.deserialize(serializer.serialize(instance)));
+        assertEquals(instance, compressingSerializer.deserialize(compressingSerializer.serialize(instance)));
+    }
+
+    @Test
+    void pageOfDifferentKnownTypes_isTreatedAsExpired() {
+        var otherSerializer = new PageSerializerForCauseway(
+                APPLICATION_KEY, PageSerializerForCauseway.DEFAULT_KNOWN_TYPES.add(Row.class), false, 0);
+        var page = samplePage(10);
+
+        assertNull(serializer.deserialize(otherSerializer.serialize(page)));
+    }
+
+    @Test
+    void isSmallerThanJavaSerialization() {
+        var page = samplePage(1000);
+        var javaSize = javaSerializer.serialize(page).length;
+        var size = serializer.serialize(page).length;
+        var compressedSize = compressingSerializer.serialize(page).length;
+
+        assertTrue(size < javaSize, ()->String.format("%d vs java %d", size, javaSize));
+        assertTrue(compressedSize < size, ()->String.format("compressed %d vs %d", compressedSize, size));
+    }
+
+    /**
+     * Rough comparison with Java serialization, not a replacement for a proper micro benchmark;
+     * hence only run on demand.
+     */
+    @DisabledIfRunningWithSurefire
+    @Test
+    void benchmark() {
+        var page = samplePage(1000);
+        var iterations = 200;
+        for(var candidate : List.of(javaSerializer, serializer, compressingSerializer)) {
+            // warm up
+            for(int i=0; i<iterations; ++i) {
+                candidate.deserialize(candidate.serialize(page));
+            }
+            var size = 0;
+            var t0 = System.nanoTime();
+            for(int i=0; i<iterations; ++i) {
+                var bytes = candidate.serialize(page);
+                size = bytes.length;
+                assertEquals(page, candidate.deserialize(bytes));
+            }
+            var micros = (System.nanoTime() - t0) / 1000 / iterations;
+            System.out.printf("%-32s %8d bytes %8d us/roundtrip%n",
+                    candidate.getClass().getSimpleName()
+                        + (candidate == compressingSerializer ? " (compressed)" : ""),
+                    size, micros);
+        }
+    }
+
+    // -- HELPER
+
+    static Stream<Class<?>> knownTypes() {
+        return PageSerializerForCauseway.DEFAULT_KNOWN_TYPES.stream().map(type->type);
+    }
+
+    /**
+     * Instances of those known types that can be created without a meta-model.
+     */
+    static Stream<Object> knownTypeInstances() {
+        var logicalType = LogicalType.eager(Customer.class, "test.Customer");
+        var bookmark = Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "1");
+        return Stream.of(
+                bookmark,
+                bookmark.withHintId("hint"),
+                logicalType,
+                Identifier.classIdentifier(logicalType),
+                Identifier.propertyIdentifier(logicalType, "name"),
+                PackedBookmarks.pack(List.of(bookmark, Bookmark.forLogicalTypeNameAndIdentifier("test.User", "2"))),
+                new ArrayList<>(List.of(bookmark)),
+                new HashMap<>(Map.of("a", bookmark)),
+                new HashSet<>(Set.of(bookmark)),
+                new LinkedHashMap<>(Map.of("a", bookmark)),
+                new LinkedHashSet<>(Set.of(bookmark)),
+                new TreeMap<>(Map.of("a", "b")),
+                new TreeSet<>(Set.of("a", "b")));
+    }
+
+    private static ArrayList<Row> samplePage(final int rowCount) {
+        var rows = new ArrayList<Row>();
+        for(int i=0; i<rowCount; ++i) {
+            // equal but not identical instances, as when recreated per row
+            var row = new Row(
+                    LogicalType.eager(Customer.class, "test.Customer"),
+                    Bookmark.forLogicalTypeNameAndIdentifier("test.Customer", "" + (i % 50)));
+            row.cells.put("name", "Customer " + i);
+            row.cells.put("owner", Bookmark.forLogicalTypeNameAndIdentifier("test.User", "" + (i % 5)));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+}